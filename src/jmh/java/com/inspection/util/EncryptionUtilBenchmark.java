@@ -0,0 +1,95 @@
+package com.inspection.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * EncryptionUtil 복호화 벤치마크 (./gradlew jmh)
+ * - legacyDecrypt: 기존 구현처럼 호출마다 키 디코딩 + Cipher 생성/초기화
+ * - decrypt: 키/스레드별 Cipher 재사용
+ * - decryptLoop / decryptAll: 목록 화면 규모(BATCH_SIZE 건)의 건별 복호화와 일괄 복호화 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncryptionUtilBenchmark {
+
+    private static final String KEY = Base64.getEncoder().encodeToString("benchmark-key-0123456789".getBytes());
+    private static final int BATCH_SIZE = 1000;
+
+    private EncryptionUtil encryptionUtil;
+    private String encrypted;
+    private List<String> encryptedBatch;
+
+    @Setup
+    public void setUp() throws Exception {
+        encryptionUtil = new EncryptionUtil();
+        setField("encryptionKey", KEY);
+        setField("writeVersion", EncryptionUtil.VERSION_V1);
+        encryptionUtil.init();
+
+        encrypted = encryptionUtil.encrypt("010-1234-5678");
+        encryptedBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            encryptedBatch.add(encryptionUtil.encrypt(String.format("010-%04d-%04d", i / 100, i)));
+        }
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        SecretKeySpec secretKey = new SecretKeySpec(legacyKeyBytes(), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encrypted)));
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(encrypted);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void decryptLoop(Blackhole blackhole) {
+        for (String value : encryptedBatch) {
+            blackhole.consume(encryptionUtil.decrypt(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<String> decryptAll() {
+        return encryptionUtil.decryptAll(encryptedBatch);
+    }
+
+    // 기존 구현의 키 처리 (호출마다 Base64 디코딩 후 16/24/32바이트로 패딩)
+    private static byte[] legacyKeyBytes() {
+        byte[] keyBytes = Base64.getDecoder().decode(KEY);
+        int length = keyBytes.length < 16 ? 16 : keyBytes.length < 24 ? 24 : keyBytes.length < 32 ? 32 : keyBytes.length;
+        byte[] padded = new byte[length];
+        System.arraycopy(keyBytes, 0, padded, 0, keyBytes.length);
+        return padded;
+    }
+
+    private void setField(String name, Object value) throws ReflectiveOperationException {
+        Field field = EncryptionUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(encryptionUtil, value);
+    }
+}
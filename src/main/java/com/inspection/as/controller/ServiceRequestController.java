@@ -78,10 +78,11 @@ public class ServiceRequestController {
             @RequestParam(value = "requestDateEnd", required = false) 
                 @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime requestDateEnd) {
         
-        // Specification을 사용한 필터링
+        // 통합 키워드는 검색 문서로, 나머지 조건은 Specification으로 필터링
         Page<ServiceRequestDTO> page = serviceRequestService.searchServiceRequests(
+            search,
             ServiceRequestSpecification.withFilters(
-                search,
+                null,
                 companyName,
                 facilityTypeName,
                 brandName,
@@ -1,11 +1,14 @@
 package com.inspection.as.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -32,6 +35,15 @@ public class ServiceRequestImageController {
         return ResponseEntity.ok(images);
     }
     
+    /**
+     * 여러 AS 접수의 이미지 일괄 조회 (목록 화면용)
+     */
+    @PostMapping("/by-service-requests")
+    public ResponseEntity<Map<Long, List<ServiceRequestImageDTO>>> getImagesByServiceRequestIds(
+            @RequestBody List<Long> serviceRequestIds) {
+        return ResponseEntity.ok(imageService.getImagesByServiceRequestIds(serviceRequestIds));
+    }
+    
     /**
      * AS 접수 ID와 이미지 유형으로 이미지 조회
      */
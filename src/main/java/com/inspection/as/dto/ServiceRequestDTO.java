@@ -209,6 +209,26 @@ public class ServiceRequestDTO {
         }
     }
     
+    /**
+     * DTO 목록의 현재 위치 일괄 복호화 (EncryptionUtil.decryptAll 사용)
+     * 일괄 복호화에 실패하면 건별로 복호화하고, 실패한 건은 원래 값을 유지합니다.
+     */
+    public static void decryptCurrentLocations(List<ServiceRequestDTO> dtos, EncryptionUtil encryptionUtil) {
+        List<String> encrypted = dtos.stream()
+                .map(dto -> dto.currentLocation != null && !dto.currentLocation.isEmpty() ? dto.currentLocation : null)
+                .collect(Collectors.toList());
+        try {
+            List<String> decrypted = encryptionUtil.decryptAll(encrypted);
+            for (int i = 0; i < dtos.size(); i++) {
+                if (decrypted.get(i) != null) {
+                    dtos.get(i).currentLocation = decrypted.get(i);
+                }
+            }
+        } catch (Exception e) {
+            dtos.forEach(dto -> dto.decryptCurrentLocation(encryptionUtil));
+        }
+    }
+    
     /**
      * Facility에서 회사 이름 정보를 가져오는 유틸리티 메서드
      */
@@ -3,6 +3,7 @@ package com.inspection.as.dto;
 import java.time.LocalDateTime;
 
 import com.inspection.as.entity.ServiceRequestImage;
+import com.inspection.enums.ImageVariant;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +21,8 @@ public class ServiceRequestImageDTO {
     private Long imageId;
     private Long serviceRequestId;
     private String imageUrl;
+    private String thumbnailUrl;     // 목록용 썸네일 (파생본 생성 전에는 원본)
+    private String mediumUrl;        // 상세 화면용 중간 크기 (파생본 생성 전에는 원본)
     private String imageTypeCode;
     private String imageTypeName;
     private boolean active;
@@ -36,6 +39,8 @@ public class ServiceRequestImageDTO {
                 .imageId(entity.getImageId())
                 .serviceRequestId(entity.getServiceRequest().getServiceRequestId())
                 .imageUrl(entity.getImageUrl())
+                .thumbnailUrl(entity.isVariantsReady() ? ImageVariant.THUMBNAIL.pathFor(entity.getImageUrl()) : entity.getImageUrl())
+                .mediumUrl(entity.isVariantsReady() ? ImageVariant.MEDIUM.pathFor(entity.getImageUrl()) : entity.getImageUrl())
                 .imageTypeCode(entity.getImageType() != null ? entity.getImageType().getCodeId() : null)
                 .imageTypeName(entity.getImageType() != null ? entity.getImageType().getCodeName() : null)
                 .active(entity.isActive())
@@ -21,6 +21,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -31,6 +34,30 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "service_request")
+@NamedEntityGraph(
+        name = ServiceRequest.LIST_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "facility", subgraph = "facility"),
+                @NamedAttributeNode("requester"),
+                @NamedAttributeNode("manager"),
+                @NamedAttributeNode("serviceType"),
+                @NamedAttributeNode("priority"),
+                @NamedAttributeNode("status"),
+                @NamedAttributeNode("departmentType")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "facility", attributeNodes = {
+                        @NamedAttributeNode("brand"),
+                        @NamedAttributeNode("facilityType"),
+                        @NamedAttributeNode("status"),
+                        @NamedAttributeNode(value = "locationCompany", subgraph = "company"),
+                        @NamedAttributeNode(value = "ownerCompany", subgraph = "company")
+                }),
+                @NamedSubgraph(name = "company", attributeNodes = {
+                        @NamedAttributeNode("branchGroup"),
+                        @NamedAttributeNode("companyImage")
+                })
+        })
 @Getter
 @Setter
 @Builder
@@ -39,6 +66,11 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class)
 public class ServiceRequest {
     
+    /**
+     * 목록/상세 DTO 변환에 필요한 연관 엔티티(시설물, 위치/소유 회사, 지부 그룹, 코드, 사용자)를 함께 조회하는 엔티티 그래프
+     */
+    public static final String LIST_GRAPH = "ServiceRequest.list";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "service_request_id")
@@ -59,6 +59,10 @@ public class ServiceRequestImage {
     @JoinColumn(name = "upload_by", nullable = false)
     private User uploadBy;  // 업로드자
     
+    @Builder.Default
+    @Column(name = "variants_ready", nullable = false)
+    private boolean variantsReady = false;  // 썸네일/중간 크기 파생본 생성 여부
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;  // 생성일자
@@ -1,9 +1,15 @@
 package com.inspection.as.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.inspection.as.entity.ServiceRequestImage;
 
@@ -13,4 +19,25 @@ public interface ServiceRequestImageRepository extends JpaRepository<ServiceRequ
     List<ServiceRequestImage> findByServiceRequestServiceRequestIdAndActiveTrue(Long serviceRequestId);
     
     List<ServiceRequestImage> findByServiceRequestServiceRequestIdAndImageTypeCodeIdAndActiveTrue(Long serviceRequestId, String imageTypeCode);
-} 
\ No newline at end of file
+    
+    /**
+     * 여러 AS 접수의 활성 이미지 일괄 조회 (목록 화면용, 이미지 유형과 업로드자 함께 조회)
+     */
+    @Query("SELECT i FROM ServiceRequestImage i LEFT JOIN FETCH i.imageType LEFT JOIN FETCH i.uploadBy " +
+           "WHERE i.serviceRequest.serviceRequestId IN :serviceRequestIds AND i.active = true ORDER BY i.imageId")
+    List<ServiceRequestImage> findByServiceRequestIdIn(@Param("serviceRequestIds") Collection<Long> serviceRequestIds);
+    
+    /**
+     * 파생본 생성 완료 표시 (생성 중 이미지가 교체된 경우는 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ServiceRequestImage i SET i.variantsReady = true WHERE i.imageId = :imageId AND i.imageUrl = :imageUrl")
+    int markVariantsReady(@Param("imageId") Long imageId, @Param("imageUrl") String imageUrl);
+    
+    /**
+     * 파생본이 없는 이미지 (이미지ID, 이미지 경로) - 백필용, 이미지 ID 순
+     */
+    @Query("SELECT i.imageId, i.imageUrl FROM ServiceRequestImage i WHERE i.variantsReady = false AND i.imageId > :afterId ORDER BY i.imageId")
+    List<Object[]> findVariantPendingAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -7,6 +7,8 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +20,26 @@ import com.inspection.as.entity.ServiceRequest;
 @Repository
 public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long>, JpaSpecificationExecutor<ServiceRequest> {
     
+    /**
+     * 상세 조회용 단건 조회 (목록 엔티티 그래프로 연관 엔티티 함께 조회)
+     */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
+    Optional<ServiceRequest> findWithAssociationsByServiceRequestId(Long serviceRequestId);
+    
+    /**
+     * 전체 AS 접수 목록 조회 (연관 엔티티 함께 조회)
+     */
+    @Override
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
+    List<ServiceRequest> findAll();
+    
+    /**
+     * ID 목록으로 AS 접수 조회 (연관 엔티티 함께 조회)
+     */
+    @Override
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
+    List<ServiceRequest> findAllById(Iterable<Long> ids);
+    
     /**
      * 요청 번호로 AS 접수 조회
      */
@@ -26,11 +48,13 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
     /**
      * 특정 시설물의 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByFacilityFacilityId(Long facilityId);
     
     /**
      * 특정 시설물의 AS 접수 목록을 최신순(ID 내림차순)으로 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByFacilityFacilityIdOrderByServiceRequestIdDesc(Long facilityId);
     
     /**
@@ -54,11 +78,13 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
     /**
      * 특정 사용자가 요청한 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByRequesterId(Long requesterId);
     
     /**
      * 특정 관리자에게 배정된 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByManagerId(Long managerId);
     
     /**
@@ -69,21 +95,25 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
     /**
      * 완료되지 않은 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByIsCompletedFalse();
     
     /**
      * 특정 서비스 유형의 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByServiceTypeCodeId(String serviceTypeCode);
     
     /**
      * 특정 우선순위의 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByPriorityCodeId(String priorityCode);
     
     /**
      * 특정 날짜 범위 내의 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByRequestDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     /**
@@ -94,6 +124,7 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
     /**
      * 특정 날짜 범위 내에 예상 완료일인 AS 접수 목록 조회
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     List<ServiceRequest> findByExpectedCompletionDateBetweenAndIsCompletedFalse(LocalDateTime startDate, LocalDateTime endDate);
     
     /**
@@ -103,9 +134,17 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
     
     /**
      * 페이징으로 AS 접수 목록 조회
+     * 목록 DTO 변환에 필요한 연관 엔티티를 한 번의 조인으로 함께 조회합니다.
      */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
     Page<ServiceRequest> findAll(Pageable pageable);
     
+    /**
+     * 검색 조건으로 페이징된 AS 접수 목록 조회 (연관 엔티티 함께 조회)
+     */
+    @EntityGraph(ServiceRequest.LIST_GRAPH)
+    Page<ServiceRequest> findAll(Specification<ServiceRequest> spec, Pageable pageable);
+    
     /**
      * 특정 완료 여부로 페이징된 AS 접수 목록 조회
      */
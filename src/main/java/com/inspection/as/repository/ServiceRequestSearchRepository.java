@@ -0,0 +1,143 @@
+package com.inspection.as.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * AS 접수 검색 문서 저장소
+ * 접수번호, 매장명(현재/접수 시점), 시설물 유형, 브랜드, 지부 그룹, 상태, 담당부서명을
+ * 접수 건별 한 행(service_request_search_document)으로 비정규화하고
+ * MySQL FULLTEXT(ngram parser) 인덱스로 키워드 검색하여 접수 ID 목록을 반환합니다.
+ * 테이블은 Flyway 마이그레이션(V4__service_request_search_document.sql)으로 만듭니다.
+ */
+@Repository
+public class ServiceRequestSearchRepository {
+
+    // ngram_token_size 기본값 (이보다 짧은 검색어는 FULLTEXT 로 찾을 수 없음)
+    public static final int MIN_TERM_LENGTH = 2;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO service_request_search_document (service_request_id, search_text, updated_at) " +
+            "SELECT sr.service_request_id, " +
+            "CONCAT_WS(' ', sr.request_number, lc.store_name, oc.store_name, ft.code_name, br.code_name, " +
+            "bg.code_name, st.code_name, dt.code_name), NOW() " +
+            "FROM service_request sr " +
+            "JOIN facilities f ON f.facility_id = sr.facility_id " +
+            "LEFT JOIN companies lc ON lc.id = f.location_company_id " +
+            "LEFT JOIN companies oc ON oc.id = sr.original_location_company_id " +
+            "LEFT JOIN code ft ON ft.code_id = f.facility_type_code " +
+            "LEFT JOIN code br ON br.code_id = f.brand_code " +
+            "LEFT JOIN code bg ON bg.code_id = lc.branch_group_id " +
+            "LEFT JOIN code st ON st.code_id = sr.status_code " +
+            "LEFT JOIN code dt ON dt.code_id = sr.department_type_code " +
+            "WHERE %s " +
+            "ON DUPLICATE KEY UPDATE search_text = VALUES(search_text), updated_at = VALUES(updated_at)";
+
+    private static final String SEARCH_SQL =
+            "SELECT service_request_id FROM service_request_search_document " +
+            "WHERE MATCH(search_text) AGAINST (? IN BOOLEAN MODE) LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ServiceRequestSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 지정한 접수 건들의 검색 문서 생성/갱신
+     */
+    public int upsertByServiceRequestIds(Collection<Long> serviceRequestIds) {
+        if (serviceRequestIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(String.format(UPSERT_SQL, "sr.service_request_id IN (:ids)"),
+                new MapSqlParameterSource("ids", serviceRequestIds));
+    }
+
+    /**
+     * 시설물에 연결된 접수 건들의 검색 문서 갱신 (시설물 이동, 유형 변경 시)
+     */
+    public int upsertByFacilityIds(Collection<Long> facilityIds) {
+        if (facilityIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(String.format(UPSERT_SQL, "sr.facility_id IN (:ids)"),
+                new MapSqlParameterSource("ids", facilityIds));
+    }
+
+    /**
+     * 접수 ID 구간 [fromId, toId] 의 검색 문서 재생성 (전체 재색인용)
+     */
+    public int upsertRange(long fromId, long toId) {
+        return jdbcTemplate.update(String.format(UPSERT_SQL, "sr.service_request_id BETWEEN ? AND ?"), fromId, toId);
+    }
+
+    /**
+     * 원본 접수가 삭제된 검색 문서 정리
+     */
+    public int deleteOrphans() {
+        return jdbcTemplate.update(
+                "DELETE d FROM service_request_search_document d " +
+                "LEFT JOIN service_request sr ON sr.service_request_id = d.service_request_id " +
+                "WHERE sr.service_request_id IS NULL");
+    }
+
+    public void deleteByServiceRequestId(Long serviceRequestId) {
+        jdbcTemplate.update("DELETE FROM service_request_search_document WHERE service_request_id = ?", serviceRequestId);
+    }
+
+    public long countDocuments() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM service_request_search_document", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 접수 ID 최소/최대값 (재색인 구간 계산용)
+     */
+    public long[] findServiceRequestIdBounds() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(service_request_id), 0), COALESCE(MAX(service_request_id), 0) FROM service_request",
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) });
+    }
+
+    /**
+     * 키워드로 접수 ID 검색
+     * @param booleanQuery toBooleanQuery 로 만든 BOOLEAN MODE 검색식
+     * @param limit 최대 반환 건수
+     */
+    public List<Long> searchIds(String booleanQuery, int limit) {
+        return jdbcTemplate.queryForList(SEARCH_SQL, Long.class, booleanQuery, limit);
+    }
+
+    /**
+     * 공백으로 구분된 검색어를 모두 포함(AND)하는 BOOLEAN MODE 검색식으로 변환
+     * ngram 구문 검색("...")은 연속된 부분 문자열 일치이므로 기존 LIKE '%검색어%' 와 같은 결과를 냅니다.
+     * @return 사용할 수 있는 검색어가 없거나 MIN_TERM_LENGTH 보다 짧은 검색어가 있으면 null
+     */
+    public static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String term : keyword.trim().split("\\s+")) {
+            // 구문 검색 구분자와 연산자로 쓰이는 문자는 제거
+            String cleaned = term.replaceAll("[\"+\\-<>()~*@]", "");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (cleaned.length() < MIN_TERM_LENGTH) {
+                return null;
+            }
+            terms.add("+\"" + cleaned + "\"");
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
@@ -9,7 +9,10 @@ import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,6 +31,7 @@ import com.inspection.entity.Code;
 import com.inspection.entity.User;
 import com.inspection.repository.CodeRepository;
 import com.inspection.repository.UserRepository;
+import com.inspection.service.ImageVariantService;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +46,9 @@ public class ServiceRequestImageService {
     private final ServiceRequestImageRepository serviceRequestImageRepository;
     private final CodeRepository codeRepository;
     private final UserRepository userRepository;
+    private final ImageVariantService imageVariantService;
+    
+    private static final String IMAGE_URL_PREFIX = "/service-request-images/";
     
     @Value("${file.service-request-image.path:./uploads/service-request-images}")
     private String uploadDir;
@@ -76,7 +83,9 @@ public class ServiceRequestImageService {
                             .uploadBy(user)
                             .build();
                     
-                    savedImages.add(serviceRequestImageRepository.save(image));
+                    ServiceRequestImage savedImage = serviceRequestImageRepository.save(image);
+                    requestVariants(savedImage);
+                    savedImages.add(savedImage);
                 } catch (IOException e) {
                     log.error("이미지 저장 중 오류 발생: {}", e.getMessage(), e);
                     throw new RuntimeException("이미지 저장 중 오류가 발생했습니다.", e);
@@ -123,6 +132,24 @@ public class ServiceRequestImageService {
         return dateStr + "/" + fileName;
     }
     
+    /**
+     * 커밋 후 썸네일/중간 크기 파생본 생성 요청
+     */
+    public void requestVariants(ServiceRequestImage image) {
+        Long imageId = image.getImageId();
+        String imageUrl = image.getImageUrl();
+        imageVariantService.generateAfterCommit(resolveImageFile(imageUrl),
+                () -> serviceRequestImageRepository.markVariantsReady(imageId, imageUrl));
+    }
+    
+    /**
+     * 이미지 주소(/service-request-images/yyyyMMdd/파일명)로 실제 파일 경로 반환
+     */
+    public Path resolveImageFile(String imageUrl) {
+        String relativePath = imageUrl.startsWith(IMAGE_URL_PREFIX) ? imageUrl.substring(IMAGE_URL_PREFIX.length()) : imageUrl;
+        return Paths.get(uploadDir).toAbsolutePath().resolve(relativePath).normalize();
+    }
+    
     /**
      * AS 접수 ID로 이미지 조회
      */
@@ -135,6 +162,26 @@ public class ServiceRequestImageService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 여러 AS 접수의 이미지 목록 일괄 조회
+     * @return AS 접수 ID -> 이미지 목록 (이미지가 없는 접수는 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ServiceRequestImageDTO>> getImagesByServiceRequestIds(Collection<Long> serviceRequestIds) {
+        Map<Long, List<ServiceRequestImageDTO>> result = new HashMap<>();
+        if (serviceRequestIds.isEmpty()) {
+            return result;
+        }
+        for (Long serviceRequestId : serviceRequestIds) {
+            result.put(serviceRequestId, new ArrayList<>());
+        }
+        for (ServiceRequestImage image : serviceRequestImageRepository.findByServiceRequestIdIn(serviceRequestIds)) {
+            ServiceRequestImageDTO dto = ServiceRequestImageDTO.fromEntity(image);
+            result.get(dto.getServiceRequestId()).add(dto);
+        }
+        return result;
+    }
+    
     /**
      * AS 접수 ID와 이미지 유형으로 이미지 조회
      */
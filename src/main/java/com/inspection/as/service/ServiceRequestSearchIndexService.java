@@ -0,0 +1,196 @@
+package com.inspection.as.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.as.repository.ServiceRequestSearchRepository;
+import com.inspection.util.AfterCommitTasks;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AS 접수 검색 문서 관리 서비스
+ * 접수 등록/수정/상태 변경 시 커밋 이후 검색 문서를 갱신하고,
+ * 매장명/코드명 변경처럼 접수 외부에서 바뀌는 값은 야간 전체 재색인으로 반영합니다.
+ * 커밋 이후 갱신에 실패한 대상은 기록해 두었다가 주기적으로 다시 반영합니다.
+ */
+@Slf4j
+@Service
+public class ServiceRequestSearchIndexService {
+
+    // 키워드 일치 건수가 이보다 많으면 ID 목록 대신 기존 LIKE 검색으로 처리
+    public static final int MAX_KEYWORD_MATCHES = 5000;
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final ServiceRequestSearchRepository searchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 커밋 이후 갱신에 실패해 다시 반영할 대상 (접수 ID, 시설물 ID, 삭제된 접수 ID)
+    private final Set<Long> pendingServiceRequestIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingFacilityIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingRemovals = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+
+    public ServiceRequestSearchIndexService(ServiceRequestSearchRepository searchRepository,
+                                            PlatformTransactionManager transactionManager) {
+        this.searchRepository = searchRepository;
+        // 커밋 이후 콜백에서는 기존 트랜잭션에 참여할 수 없으므로 별도 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 키워드에 일치하는 접수 ID 조회
+     * @return 검색 문서로 처리할 수 없는 경우(짧은 검색어, 일치 건수 초과, 인덱스 오류) Optional.empty()
+     */
+    public Optional<List<Long>> findMatchingIds(String keyword) {
+        String booleanQuery = ServiceRequestSearchRepository.toBooleanQuery(keyword);
+        if (booleanQuery == null) {
+            return Optional.empty();
+        }
+        try {
+            List<Long> ids = searchRepository.searchIds(booleanQuery, MAX_KEYWORD_MATCHES + 1);
+            if (ids.size() > MAX_KEYWORD_MATCHES) {
+                log.debug("AS 키워드 검색 일치 건수 초과, LIKE 검색으로 처리: keyword={}", keyword);
+                return Optional.empty();
+            }
+            return Optional.of(ids);
+        } catch (DataAccessException e) {
+            log.warn("AS 검색 문서 조회 실패, LIKE 검색으로 처리: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 접수 건의 검색 문서를 현재 트랜잭션 커밋 후 갱신
+     */
+    public void refreshAfterCommit(Long serviceRequestId) {
+        runAfterCommit(() -> searchRepository.upsertByServiceRequestIds(List.of(serviceRequestId)),
+                () -> pendingServiceRequestIds.add(serviceRequestId));
+    }
+
+    /**
+     * 시설물에 연결된 접수 건들의 검색 문서를 현재 트랜잭션 커밋 후 갱신
+     */
+    public void refreshFacilitiesAfterCommit(Collection<Long> facilityIds) {
+        if (facilityIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(facilityIds);
+        runAfterCommit(() -> searchRepository.upsertByFacilityIds(ids), () -> pendingFacilityIds.addAll(ids));
+    }
+
+    /**
+     * 삭제된 접수 건의 검색 문서를 현재 트랜잭션 커밋 후 제거
+     */
+    public void removeAfterCommit(Long serviceRequestId) {
+        runAfterCommit(() -> searchRepository.deleteByServiceRequestId(serviceRequestId),
+                () -> pendingRemovals.add(serviceRequestId));
+    }
+
+    /**
+     * 전체 검색 문서 재생성
+     * 매일 새벽 3시 40분 실행 (매장명, 코드명 변경 반영 및 누락 보정)
+     */
+    @Scheduled(cron = "0 40 3 * * *")
+    public int rebuildAll() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            log.info("AS 검색 문서 재생성이 이미 진행 중입니다.");
+            return 0;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            long[] bounds = searchRepository.findServiceRequestIdBounds();
+            int total = 0;
+            if (bounds[1] > 0) {
+                for (long from = bounds[0]; from <= bounds[1]; from += REBUILD_CHUNK_SIZE) {
+                    total += searchRepository.upsertRange(from, from + REBUILD_CHUNK_SIZE - 1);
+                }
+            }
+            int removed = searchRepository.deleteOrphans();
+            log.info("AS 검색 문서 재생성 완료: 갱신 {}건, 삭제 {}건, {}ms",
+                    total, removed, System.currentTimeMillis() - startTime);
+            return total;
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+
+    /**
+     * 검색 문서가 비어 있으면(최초 배포) 기동 시 전체 생성 (기동을 막지 않도록 비동기 실행)
+     */
+    @Async("queryTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        try {
+            if (searchRepository.countDocuments() == 0) {
+                rebuildAll();
+            }
+        } catch (DataAccessException e) {
+            log.warn("AS 검색 문서 초기 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 이후 갱신에 실패한 검색 문서 재반영
+     * 1분 간격 실행 (다시 실패하면 다음 실행에서 재시도)
+     */
+    @Scheduled(fixedDelayString = "${as.search-index.retry-interval-ms:60000}")
+    public void retryFailed() {
+        List<Long> serviceRequestIds = drain(pendingServiceRequestIds);
+        List<Long> facilityIds = drain(pendingFacilityIds);
+        List<Long> removals = drain(pendingRemovals);
+        if (serviceRequestIds.isEmpty() && facilityIds.isEmpty() && removals.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!serviceRequestIds.isEmpty()) {
+                    searchRepository.upsertByServiceRequestIds(serviceRequestIds);
+                }
+                if (!facilityIds.isEmpty()) {
+                    searchRepository.upsertByFacilityIds(facilityIds);
+                }
+                removals.forEach(searchRepository::deleteByServiceRequestId);
+            });
+            log.info("AS 검색 문서 재반영 완료: 접수 {}건, 시설물 {}건, 삭제 {}건",
+                    serviceRequestIds.size(), facilityIds.size(), removals.size());
+        } catch (DataAccessException e) {
+            pendingServiceRequestIds.addAll(serviceRequestIds);
+            pendingFacilityIds.addAll(facilityIds);
+            pendingRemovals.addAll(removals);
+            log.warn("AS 검색 문서 재반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    private static List<Long> drain(Set<Long> pending) {
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        return ids;
+    }
+
+    private void runAfterCommit(Runnable task, Runnable onFailure) {
+        AfterCommitTasks.runAfterCommit(transactionTemplate, task, e -> {
+            // 업무 처리는 실패시키지 않고 재반영 대상으로 기록 (재시작으로 유실되면 야간 재색인에서 보정)
+            onFailure.run();
+            log.warn("AS 검색 문서 갱신 실패, 재반영 대상으로 기록: {}", e.getMessage());
+        });
+    }
+}
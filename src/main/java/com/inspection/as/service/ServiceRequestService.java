@@ -3,8 +3,13 @@ package com.inspection.as.service;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -13,6 +18,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.inspection.as.dto.CompleteServiceRequestDTO;
@@ -25,13 +31,16 @@ import com.inspection.as.entity.ServiceRequest;
 import com.inspection.as.entity.ServiceRequestImage;
 import com.inspection.as.repository.ServiceRequestImageRepository;
 import com.inspection.as.repository.ServiceRequestRepository;
+import com.inspection.as.specification.ServiceRequestSpecification;
 import com.inspection.entity.Code;
 import com.inspection.entity.Company;
 import com.inspection.entity.User;
 import com.inspection.facility.dto.ServiceTransactionRequest;
 import com.inspection.facility.entity.Facility;
 import com.inspection.facility.repository.FacilityRepository;
+import com.inspection.facility.repository.UpcomingDeadlineRepository;
 import com.inspection.facility.service.FacilityTransactionService;
+import com.inspection.facility.service.UpcomingDeadlineService;
 import com.inspection.repository.CodeRepository;
 import com.inspection.repository.CompanyRepository;
 import com.inspection.repository.UserRepository;
@@ -55,28 +64,24 @@ public class ServiceRequestService {
     private final FacilityTransactionService facilityTransactionService;
     private final EncryptionUtil encryptionUtil;
     private final ServiceRequestImageService imageService;
+    private final ServiceRequestSearchIndexService searchIndexService;
+    private final UpcomingDeadlineService upcomingDeadlineService;
     
     /**
      * 모든 AS 접수 조회 (지부 그룹 정보 포함)
      */
     @Transactional(readOnly = true)
     public List<ServiceRequestDTO> getAllServiceRequests() {
+        // 시설물, 회사, 지부 그룹, 코드 정보는 엔티티 그래프로 함께 조회됨
         List<ServiceRequest> serviceRequests = serviceRequestRepository.findAll();
         
-        // 각 ServiceRequest의 Facility에 지부 그룹 정보 로드
-        for (ServiceRequest sr : serviceRequests) {
-            loadFacilityBranchGroups(sr.getFacility());
-        }
-        
         List<ServiceRequestDTO> dtoList = serviceRequests.stream()
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -86,23 +91,17 @@ public class ServiceRequestService {
      */
     @Transactional(readOnly = true)
     public Page<ServiceRequestDTO> getServiceRequests(Pageable pageable) {
+        // 시설물, 회사, 지부 그룹, 코드 정보는 엔티티 그래프로 함께 조회됨
         Page<ServiceRequest> serviceRequestPage = serviceRequestRepository.findAll(pageable);
         
-        // 각 ServiceRequest의 Facility에 지부 그룹 정보 로드
-        for (ServiceRequest sr : serviceRequestPage.getContent()) {
-            loadFacilityBranchGroups(sr.getFacility());
-        }
-        
         // 먼저 DTO로 변환
         List<ServiceRequestDTO> dtoList = serviceRequestPage.getContent().stream()
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequestPage.getContent().size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequestPage.getContent().get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         // Page 객체 생성
         return new PageImpl<>(dtoList, pageable, serviceRequestPage.getTotalElements());
@@ -118,7 +117,7 @@ public class ServiceRequestService {
         ServiceRequestDTO dto = ServiceRequestDTO.fromEntity(serviceRequest);
         
         // 원래 위치 회사 정보 설정 (AS 접수 시점)
-        enrichDtoWithOriginalCompanyInfo(dto, serviceRequest);
+        enrichDtosWithOriginalCompanyInfo(List.of(dto));
         
         // 현재 위치 복호화
         dto.decryptCurrentLocation(encryptionUtil);
@@ -136,7 +135,7 @@ public class ServiceRequestService {
         ServiceRequestDTO dto = ServiceRequestDTO.fromEntityWithAll(serviceRequest);
         
         // 원래 위치 회사 정보 설정 (AS 접수 시점)
-        enrichDtoWithOriginalCompanyInfo(dto, serviceRequest);
+        enrichDtosWithOriginalCompanyInfo(List.of(dto));
         
         // 현재 위치 복호화
         dto.decryptCurrentLocation(encryptionUtil);
@@ -145,35 +144,12 @@ public class ServiceRequestService {
     }
     
     /**
-     * ID로 ServiceRequest를 조회하고 필요한 관계를 모두 초기화하는 private 메서드
-     * (지부 그룹 정보를 포함하여 필요한 모든 연관 엔티티 로드)
+     * ID로 ServiceRequest를 조회하는 private 메서드
+     * (지부 그룹 정보를 포함한 연관 엔티티는 엔티티 그래프로 함께 조회됨)
      */
     private ServiceRequest findServiceRequestById(Long id) {
-        ServiceRequest serviceRequest = serviceRequestRepository.findById(id)
+        return serviceRequestRepository.findWithAssociationsByServiceRequestId(id)
                 .orElseThrow(() -> new EntityNotFoundException("AS 접수를 찾을 수 없습니다: " + id));
-        
-        // Facility의 엔티티 관계를 필요에 따라 초기화
-        Facility facility = serviceRequest.getFacility();
-        
-        // 위치 회사가 있으면 지부 그룹 정보 초기화
-        if (facility.getLocationCompany() != null) {
-            // 회사의 지부 그룹 정보 초기화
-            if (facility.getLocationCompany().getBranchGroup() != null) {
-                facility.getLocationCompany().getBranchGroup().getCodeId();  // 지부 그룹 ID 초기화
-                facility.getLocationCompany().getBranchGroup().getCodeName(); // 지부 그룹 이름 초기화
-            }
-        }
-        
-        // 소유 회사가 있으면 지부 그룹 정보 초기화
-        if (facility.getOwnerCompany() != null) {
-            // 회사의 지부 그룹 정보 초기화
-            if (facility.getOwnerCompany().getBranchGroup() != null) {
-                facility.getOwnerCompany().getBranchGroup().getCodeId();  // 지부 그룹 ID 초기화
-                facility.getOwnerCompany().getBranchGroup().getCodeName(); // 지부 그룹 이름 초기화
-            }
-        }
-        
-        return serviceRequest;
     }
     
     /**
@@ -187,11 +163,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -201,23 +175,20 @@ public class ServiceRequestService {
      */
     @Transactional(readOnly = true)
     public List<ServiceRequestDTO> getServiceRequestsByFacilityIdOrderByLatest(Long facilityId) {
-        // 시설물 상세 정보를 로드 (지부 그룹 정보 포함)
-        Facility facility = loadFacilityWithBranchGroups(facilityId);
+        if (!facilityRepository.existsById(facilityId)) {
+            throw new EntityNotFoundException("시설물을 찾을 수 없습니다: " + facilityId);
+        }
         
+        // 시설물, 회사, 지부 그룹 정보는 엔티티 그래프로 함께 조회됨
         List<ServiceRequest> serviceRequests = serviceRequestRepository.findByFacilityFacilityIdOrderByServiceRequestIdDesc(facilityId);
         
-        // 시설물 정보를 모든 ServiceRequest에 설정 (지부 그룹 정보 포함)
-        serviceRequests.forEach(sr -> sr.setFacility(facility));
-        
         List<ServiceRequestDTO> dtoList = serviceRequests.stream()
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -233,11 +204,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -253,11 +222,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -273,11 +240,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -293,11 +258,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -313,11 +276,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -330,21 +291,35 @@ public class ServiceRequestService {
         LocalDateTime today = LocalDateTime.now();
         LocalDateTime dueDate = today.plusDays(days);
         
-        List<ServiceRequest> serviceRequests = serviceRequestRepository.findByExpectedCompletionDateBetweenAndIsCompletedFalse(today, dueDate);
+        // 기한 인덱스로 처리할 수 없으면 AS 접수 테이블 조회
+        List<ServiceRequest> serviceRequests = upcomingDeadlineService
+                .findSourceIds(UpcomingDeadlineRepository.TYPE_AS_EXPECTED, today, dueDate, null)
+                .map(this::findAllByIdInOrder)
+                .orElseGet(() -> serviceRequestRepository.findByExpectedCompletionDateBetweenAndIsCompletedFalse(today, dueDate));
         
         List<ServiceRequestDTO> dtoList = serviceRequests.stream()
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
     
+    /**
+     * ID 목록 순서대로 AS 접수 조회
+     */
+    private List<ServiceRequest> findAllByIdInOrder(List<Long> serviceRequestIds) {
+        Map<Long, ServiceRequest> serviceRequestMap = serviceRequestRepository.findAllById(serviceRequestIds).stream()
+                .collect(Collectors.toMap(ServiceRequest::getServiceRequestId, Function.identity()));
+        return serviceRequestIds.stream()
+                .map(serviceRequestMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 특정 날짜 범위 내의 AS 접수 목록 조회
      */
@@ -356,11 +331,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequests.size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequests.get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         return dtoList;
     }
@@ -430,6 +403,8 @@ public class ServiceRequestService {
                 .build();
         
         ServiceRequest savedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(savedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(savedServiceRequest.getServiceRequestId());
         
         // 이미지 업로드 처리
         if (dto.getImages() != null && !dto.getImages().isEmpty()) {
@@ -529,6 +504,8 @@ public class ServiceRequestService {
         facilityRepository.save(facility);
         
         ServiceRequest savedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(savedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(savedServiceRequest.getServiceRequestId());
         
         // DTO로 변환하여 반환
         ServiceRequestDTO resultDto = ServiceRequestDTO.fromEntity(savedServiceRequest);
@@ -619,6 +596,8 @@ public class ServiceRequestService {
         
         // 저장 및 DTO 변환
         ServiceRequest savedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(savedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(savedServiceRequest.getServiceRequestId());
         ServiceRequestDTO resultDto = ServiceRequestDTO.fromEntity(savedServiceRequest);
         
         // 회사 정보 설정 및 현재 위치 복호화
@@ -638,6 +617,8 @@ public class ServiceRequestService {
                 .orElseThrow(() -> new EntityNotFoundException("AS 접수를 찾을 수 없습니다: " + id));
         
         serviceRequestRepository.delete(serviceRequest);
+        searchIndexService.removeAfterCommit(id);
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(id);
     }
     
     /**
@@ -669,6 +650,8 @@ public class ServiceRequestService {
         facilityRepository.save(facility);
         
         ServiceRequest updatedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(updatedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(updatedServiceRequest.getServiceRequestId());
         
         // DTO로 변환하여 반환
         ServiceRequestDTO resultDto = ServiceRequestDTO.fromEntity(updatedServiceRequest);
@@ -704,6 +687,8 @@ public class ServiceRequestService {
         facilityRepository.save(facility);
         
         ServiceRequest updatedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(updatedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(updatedServiceRequest.getServiceRequestId());
         
         // DTO로 변환하여 반환
         ServiceRequestDTO resultDto = ServiceRequestDTO.fromEntity(updatedServiceRequest);
@@ -759,6 +744,8 @@ public class ServiceRequestService {
         facilityRepository.save(facility);
         
         ServiceRequest updatedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(updatedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(updatedServiceRequest.getServiceRequestId());
         
         // 시설물 복귀 트랜잭션 생성 (AS센터 -> 요청자 회사)
         try {
@@ -870,6 +857,8 @@ public class ServiceRequestService {
         facilityRepository.save(facility);
         
         ServiceRequest updatedServiceRequest = serviceRequestRepository.save(serviceRequest);
+        searchIndexService.refreshAfterCommit(updatedServiceRequest.getServiceRequestId());
+        upcomingDeadlineService.refreshServiceRequestAfterCommit(updatedServiceRequest.getServiceRequestId());
         
         // DTO로 변환하여 반환
         ServiceRequestDTO resultDto = ServiceRequestDTO.fromEntity(updatedServiceRequest);
@@ -882,6 +871,26 @@ public class ServiceRequestService {
         return resultDto;
     }
     
+    /**
+     * AS 검색 (통합 키워드는 검색 문서 FULLTEXT 인덱스로 처리)
+     * 검색 문서로 처리할 수 없는 키워드는 기존 LIKE 조건으로 검색합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<ServiceRequestDTO> searchServiceRequests(String keyword, Specification<ServiceRequest> filters, Pageable pageable) {
+        Specification<ServiceRequest> spec = Specification.where(filters);
+        if (StringUtils.hasText(keyword)) {
+            Optional<List<Long>> matchedIds = searchIndexService.findMatchingIds(keyword);
+            if (matchedIds.isEmpty()) {
+                spec = spec.and(ServiceRequestSpecification.hasKeyword(keyword));
+            } else if (matchedIds.get().isEmpty()) {
+                return Page.empty(pageable);
+            } else {
+                spec = spec.and(ServiceRequestSpecification.hasIdIn(matchedIds.get()));
+            }
+        }
+        return searchServiceRequests(spec, pageable);
+    }
+    
     /**
      * AS 검색
      */
@@ -894,11 +903,9 @@ public class ServiceRequestService {
                 .map(ServiceRequestDTO::fromEntity)
                 .collect(Collectors.toList());
         
-        // 원래 위치 회사 정보 설정 및 현재 위치 복호화
-        for (int i = 0; i < serviceRequestPage.getContent().size(); i++) {
-            enrichDtoWithOriginalCompanyInfo(dtoList.get(i), serviceRequestPage.getContent().get(i));
-            dtoList.get(i).decryptCurrentLocation(encryptionUtil);
-        }
+        // 원래 위치 회사 정보 일괄 설정 및 현재 위치 복호화
+        enrichDtosWithOriginalCompanyInfo(dtoList);
+        ServiceRequestDTO.decryptCurrentLocations(dtoList, encryptionUtil);
         
         // Page 객체 생성
         return new PageImpl<>(dtoList, pageable, serviceRequestPage.getTotalElements());
@@ -983,6 +990,7 @@ public class ServiceRequestService {
                     .build();
             
             ServiceRequestImage savedImage = serviceRequestImageRepository.save(serviceRequestImage);
+            imageService.requestVariants(savedImage);
             return ServiceRequestImageDTO.fromEntity(savedImage);
         } catch (IOException e) {
             log.error("이미지 저장 중 오류 발생: {}", e.getMessage(), e);
@@ -1013,52 +1021,34 @@ public class ServiceRequestService {
     }
     
     /**
-     * 시설물에 지부 그룹 정보를 로딩하는 유틸리티 메서드
+     * 목록 DTO의 원래 위치 회사 정보를 한 번의 조회로 일괄 설정
+     * 회사 엔티티를 로딩하면 회사 이미지(1:1)가 건별로 추가 조회되므로 필요한 컬럼만 조회합니다.
      */
-    private void loadFacilityBranchGroups(Facility facility) {
-        if (facility != null) {
-            // 위치 회사가 있으면 지부 그룹 정보 초기화
-            if (facility.getLocationCompany() != null && facility.getLocationCompany().getBranchGroup() != null) {
-                facility.getLocationCompany().getBranchGroup().getCodeId();  // 지부 그룹 ID 초기화
-                facility.getLocationCompany().getBranchGroup().getCodeName(); // 지부 그룹 이름 초기화
-            }
-            
-            // 소유 회사가 있으면 지부 그룹 정보 초기화
-            if (facility.getOwnerCompany() != null && facility.getOwnerCompany().getBranchGroup() != null) {
-                facility.getOwnerCompany().getBranchGroup().getCodeId();  // 지부 그룹 ID 초기화
-                facility.getOwnerCompany().getBranchGroup().getCodeName(); // 지부 그룹 이름 초기화
-            }
+    private void enrichDtosWithOriginalCompanyInfo(List<ServiceRequestDTO> dtoList) {
+        Set<Long> companyIds = dtoList.stream()
+                .map(ServiceRequestDTO::getOriginalLocationCompanyId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (companyIds.isEmpty()) {
+            return;
         }
-    }
-    
-    /**
-     * 시설물의 상세 정보와 지부 그룹 정보를 함께 로드하는 유틸리티 메서드
-     */
-    private Facility loadFacilityWithBranchGroups(Long facilityId) {
-        Facility facility = facilityRepository.findById(facilityId)
-                .orElseThrow(() -> new EntityNotFoundException("시설물을 찾을 수 없습니다: " + facilityId));
         
-        loadFacilityBranchGroups(facility);
+        // id -> (storeName, branchGroupId, branchGroupName)
+        Map<Long, Object[]> companies = new HashMap<>();
+        for (Object[] row : companyRepository.findStoreNameAndBranchGroupByIdIn(companyIds)) {
+            companies.put((Long) row[0], row);
+        }
         
-        return facility;
-    }
-    
-    // 새로운 메서드 추가 - 원래 위치 회사 정보 조회
-    private void enrichDtoWithOriginalCompanyInfo(ServiceRequestDTO dto, ServiceRequest serviceRequest) {
-        if (serviceRequest.getOriginalLocationCompanyId() != null) {
-            // 원래 위치 회사 정보 조회
-            Company originalCompany = companyRepository.findById(serviceRequest.getOriginalLocationCompanyId())
-                    .orElse(null);
-            
-            if (originalCompany != null) {
-                // 원래 회사명 설정
-                dto.setCompanyName(originalCompany.getStoreName());
-                
-                // 원래 지부 그룹 정보 설정
-                if (originalCompany.getBranchGroup() != null) {
-                    dto.setBranchGroupId(originalCompany.getBranchGroup().getCodeId());
-                    dto.setBranchGroupName(originalCompany.getBranchGroup().getCodeName());
-                }
+        for (ServiceRequestDTO dto : dtoList) {
+            Object[] row = dto.getOriginalLocationCompanyId() != null
+                    ? companies.get(dto.getOriginalLocationCompanyId()) : null;
+            if (row == null) {
+                continue;
+            }
+            dto.setCompanyName((String) row[1]);
+            if (row[2] != null) {
+                dto.setBranchGroupId((String) row[2]);
+                dto.setBranchGroupName((String) row[3]);
             }
         }
     }
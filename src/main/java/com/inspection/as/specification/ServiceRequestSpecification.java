@@ -2,6 +2,7 @@ package com.inspection.as.specification;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.domain.Specification;
@@ -55,6 +56,13 @@ public class ServiceRequestSpecification {
         };
     }
 
+    /**
+     * 접수 ID 목록으로 필터링 (검색 문서 키워드 검색 결과)
+     */
+    public static Specification<ServiceRequest> hasIdIn(Collection<Long> serviceRequestIds) {
+        return (root, query, criteriaBuilder) -> root.get("serviceRequestId").in(serviceRequestIds);
+    }
+
     /**
      * 매장명으로 필터링
      */
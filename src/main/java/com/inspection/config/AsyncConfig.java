@@ -49,4 +49,50 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-} 
\ No newline at end of file
+    
+    @Bean(name = "notificationTaskExecutor")
+    public Executor notificationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // 외부 게이트웨이 I/O 대기 위주 작업 (채널별 발송 속도는 NotificationDispatcher에서 제한)
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("Notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+    
+    @Bean(name = "niceTokenExecutor")
+    public Executor niceTokenExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // NICE 암호화 토큰 갱신 전용 (갱신은 한 번에 하나만 진행되므로 작게 유지, 조회용 풀과 분리)
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("NiceToken-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+    
+    @Bean(name = "imageTaskExecutor")
+    public Executor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // 원본 디코딩에 장당 수십 MB 메모리를 사용하므로 동시 처리 수를 작게 제한
+        int poolSize = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+        
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("Image-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
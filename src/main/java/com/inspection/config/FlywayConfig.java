@@ -0,0 +1,56 @@
+package com.inspection.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Flyway 설정
+ * 테이블은 JPA 스키마 갱신(ddl-auto)으로 만들어지므로, 인덱스 마이그레이션(db/migration)은
+ * 기본 동작처럼 EntityManagerFactory 이전이 아니라 그 이후에 실행합니다.
+ * 기존 운영 DB 는 이력 테이블이 없으므로 버전 0 으로 기준선을 잡고 V1 부터 적용합니다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * 자동 구성의 기동 시 마이그레이션은 건너뛰고 FlywayMigrationRunner 에서 실행
+     */
+    @Bean
+    public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+        return flyway -> { };
+    }
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineFlywayCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+
+    /**
+     * EntityManagerFactory(스키마 갱신) 초기화 이후 마이그레이션 실행
+     */
+    @Slf4j
+    @Configuration
+    @RequiredArgsConstructor
+    static class FlywayMigrationRunner {
+
+        private final Flyway flyway;
+        private final EntityManagerFactory entityManagerFactory;
+
+        @PostConstruct
+        void migrate() {
+            int applied = flyway.migrate().migrationsExecuted;
+            log.info("스키마 마이그레이션 완료: {}건 적용, 현재 버전 {}",
+                    applied, flyway.info().current() != null ? flyway.info().current().getVersion() : "-");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.inspection.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inspection.util.IdBlockAllocator;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * 대량 저장 엔티티는 BlockIdGenerator 로 insert 전에 ID 를 받으므로 saveAll 이 JDBC 배치로 묶입니다.
+ * 같은 엔티티의 insert/update 가 연속되도록 정렬하여 배치가 끊기지 않게 하며,
+ * 설정 파일에 값이 있으면 그 값을 우선합니다.
+ */
+@Configuration
+public class HibernateBatchConfig {
+
+    // ID 블록 크기와 맞춰 한 블록이 한 배치로 나가도록 함
+    private static final int JDBC_BATCH_SIZE = IdBlockAllocator.DEFAULT_BLOCK_SIZE;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", String.valueOf(JDBC_BATCH_SIZE));
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", "true");
+        };
+    }
+}
@@ -0,0 +1,289 @@
+package com.inspection.config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.util.JdbcStatementCounter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쿼리 실행 계획 점검 모드 (query-plan-check.enabled=true 일 때만 동작, 로컬/CI 용)
+ *
+ * 기동 완료 후 모든 JPA 리포지토리의 조회 메서드(파생 쿼리, @Query)를 임시 인자로 한 번씩 실행하여
+ * Hibernate 가 만든 SQL 을 JdbcStatementCounter 로 수집하고, 각 SQL 에 대해 EXPLAIN 을 실행하여 전체 테이블 스캔(type=ALL)을 보고합니다.
+ * 실행은 롤백 전용 트랜잭션 안에서 하며 @Modifying, delete/remove 메서드는 실행하지 않습니다.
+ * query-plan-check.fail-on-full-scan=true 이면 전체 스캔이 있을 때 기동을 실패시켜 배포 전에 회귀를 잡습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-plan-check.enabled", havingValue = "true")
+public class QueryPlanCheckConfig {
+
+    // EXPLAIN 에는 바인딩 값이 필요하므로 ? 를 리터럴로 치환 (문자열 '1' 은 숫자/문자 컬럼 모두 인덱스 비교 가능)
+    private static final String PARAMETER_LITERAL = "'1'";
+    private static final Pattern LIMIT_PARAMETERS = Pattern.compile("(?i)\\b(limit|offset)\\s+\\?(\\s*,\\s*\\?)?");
+
+    // 점검 모드에서만 SQL 수집기를 등록하여 운영 환경의 문장 준비 경로에는 영향을 주지 않음
+    @Bean
+    public HibernatePropertiesCustomizer queryPlanCheckStatementInspector() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new JdbcStatementCounter());
+    }
+
+    @Bean
+    public QueryPlanChecker queryPlanChecker(ApplicationContext applicationContext, JdbcTemplate jdbcTemplate,
+                                             PlatformTransactionManager transactionManager) {
+        return new QueryPlanChecker(applicationContext, jdbcTemplate, new TransactionTemplate(transactionManager));
+    }
+
+    /**
+     * 전체 스캔 발견 내역
+     */
+    public record FullScanFinding(String queryMethod, String table, Long estimatedRows, String sql) {}
+
+    @Slf4j
+    public static class QueryPlanChecker {
+
+        private final ApplicationContext applicationContext;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+
+        @Value("${query-plan-check.fail-on-full-scan:false}")
+        private boolean failOnFullScan;
+
+        // 코드성 테이블 등 전체 스캔을 허용할 테이블 (쉼표 구분)
+        @Value("${query-plan-check.ignored-tables:}")
+        private Set<String> ignoredTables;
+
+        QueryPlanChecker(ApplicationContext applicationContext, JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate) {
+            this.applicationContext = applicationContext;
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void checkOnStartup() {
+            List<FullScanFinding> findings = check();
+            if (!findings.isEmpty() && failOnFullScan) {
+                throw new IllegalStateException("전체 테이블 스캔 쿼리 " + findings.size() + "건이 발견되었습니다.");
+            }
+        }
+
+        /**
+         * 모든 리포지토리 조회 메서드의 실행 계획 점검
+         */
+        public List<FullScanFinding> check() {
+            long startTime = System.currentTimeMillis();
+            Repositories repositories = new Repositories(applicationContext);
+            List<FullScanFinding> findings = new ArrayList<>();
+            int methodCount = 0;
+            int skippedCount = 0;
+
+            for (Class<?> domainType : repositories) {
+                Object repository = repositories.getRepositoryFor(domainType).orElse(null);
+                RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+                if (repository == null) {
+                    continue;
+                }
+                for (Method method : information.getRepositoryInterface().getDeclaredMethods()) {
+                    if (!isCheckable(method)) {
+                        continue;
+                    }
+                    Object[] args = dummyArguments(method);
+                    if (args == null) {
+                        skippedCount++;
+                        continue;
+                    }
+                    methodCount++;
+                    String queryMethod = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                    for (String sql : captureSql(repository, method, args, queryMethod)) {
+                        findings.addAll(explain(queryMethod, sql));
+                    }
+                }
+            }
+
+            findings.forEach(finding -> log.warn("[실행 계획 점검] 전체 스캔: {} -> {} (예상 {}행)\n  {}",
+                    finding.queryMethod(), finding.table(), finding.estimatedRows(), finding.sql()));
+            log.info("[실행 계획 점검] 완료: 메서드 {}개 점검, {}개 건너뜀, 전체 스캔 {}건, {}ms",
+                    methodCount, skippedCount, findings.size(), System.currentTimeMillis() - startTime);
+            return findings;
+        }
+
+        private boolean isCheckable(Method method) {
+            if (method.isDefault() || method.isBridge() || Modifier.isStatic(method.getModifiers())) {
+                return false;
+            }
+            if (method.isAnnotationPresent(Modifying.class) || Stream.class.isAssignableFrom(method.getReturnType())) {
+                return false;
+            }
+            String name = method.getName();
+            return !name.startsWith("delete") && !name.startsWith("remove") && !name.startsWith("save");
+        }
+
+        private Set<String> captureSql(Object repository, Method method, Object[] args, String queryMethod) {
+            Set<String> captured = new LinkedHashSet<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    try (JdbcStatementCounter.Capture capture = JdbcStatementCounter.capture()) {
+                        try {
+                            method.invoke(repository, args);
+                        } catch (ReflectiveOperationException e) {
+                            log.debug("[실행 계획 점검] {} 실행 실패: {}", queryMethod, e.getCause() != null
+                                    ? e.getCause().getMessage() : e.getMessage());
+                        }
+                        captured.addAll(capture.getStatements());
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.debug("[실행 계획 점검] {} 트랜잭션 실패: {}", queryMethod, e.getMessage());
+            }
+            return captured;
+        }
+
+        private List<FullScanFinding> explain(String queryMethod, String sql) {
+            if (!sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                return List.of();
+            }
+            String explainableSql = toExplainableSql(sql);
+            List<FullScanFinding> findings = new ArrayList<>();
+            try {
+                for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + explainableSql)) {
+                    String table = (String) row.get("table");
+                    if (!"ALL".equals(row.get("type")) || table == null || table.startsWith("<")
+                            || ignoredTables.contains(resolveTableName(sql, table))) {
+                        continue;
+                    }
+                    Object rows = row.get("rows");
+                    findings.add(new FullScanFinding(queryMethod, table,
+                            rows instanceof Number number ? number.longValue() : null, explainableSql));
+                }
+            } catch (RuntimeException e) {
+                log.debug("[실행 계획 점검] EXPLAIN 실패: {} - {}", queryMethod, e.getMessage());
+            }
+            return findings;
+        }
+
+        /**
+         * LIMIT/OFFSET 은 숫자로, 나머지 바인딩 자리는 문자열 리터럴로 치환 (문자열 상수 안의 ? 는 유지)
+         */
+        static String toExplainableSql(String sql) {
+            Matcher matcher = LIMIT_PARAMETERS.matcher(sql);
+            StringBuilder limited = new StringBuilder();
+            while (matcher.find()) {
+                matcher.appendReplacement(limited, matcher.group(1) + (matcher.group(2) != null ? " 0, 1" : " 1"));
+            }
+            matcher.appendTail(limited);
+
+            StringBuilder result = new StringBuilder(limited.length() + 16);
+            boolean inString = false;
+            for (int i = 0; i < limited.length(); i++) {
+                char c = limited.charAt(i);
+                if (c == '\'') {
+                    inString = !inString;
+                }
+                if (c == '?' && !inString) {
+                    result.append(PARAMETER_LITERAL);
+                } else {
+                    result.append(c);
+                }
+            }
+            return result.toString();
+        }
+
+        // EXPLAIN 의 table 은 별칭이므로 원본 SQL 에서 "테이블명 별칭" 을 찾아 테이블명으로 변환
+        private static String resolveTableName(String sql, String alias) {
+            Matcher matcher = Pattern.compile("(?i)\\b(?:from|join)\\s+(\\w+)\\s+(?:as\\s+)?" + Pattern.quote(alias) + "\\b")
+                    .matcher(sql);
+            return matcher.find() ? matcher.group(1) : alias;
+        }
+
+        /**
+         * 파라미터 타입별 임시 인자 (지원하지 않는 타입이 있으면 null 을 반환하여 건너뜀)
+         */
+        private static Object[] dummyArguments(Method method) {
+            Object[] args = new Object[method.getParameterCount()];
+            for (int i = 0; i < args.length; i++) {
+                Object value = dummyValue(ResolvableType.forMethodParameter(new MethodParameter(method, i)));
+                if (value == null) {
+                    return null;
+                }
+                args[i] = value;
+            }
+            return args;
+        }
+
+        private static Object dummyValue(ResolvableType type) {
+            Class<?> raw = type.resolve(Object.class);
+            if (raw == Long.class || raw == long.class) {
+                return 1L;
+            }
+            if (raw == Integer.class || raw == int.class) {
+                return 1;
+            }
+            if (raw == String.class) {
+                return "1";
+            }
+            if (raw == Boolean.class || raw == boolean.class) {
+                return Boolean.TRUE;
+            }
+            if (raw == LocalDateTime.class) {
+                return LocalDateTime.now();
+            }
+            if (raw == LocalDate.class) {
+                return LocalDate.now();
+            }
+            if (raw.isEnum()) {
+                Object[] constants = raw.getEnumConstants();
+                return constants.length > 0 ? constants[0] : null;
+            }
+            if (Pageable.class.isAssignableFrom(raw)) {
+                return PageRequest.of(0, 1);
+            }
+            if (raw == Sort.class) {
+                return Sort.unsorted();
+            }
+            if (Collection.class.isAssignableFrom(raw)) {
+                Object element = dummyValue(type.asCollection().getGeneric(0));
+                if (element == null) {
+                    return null;
+                }
+                return Set.class.isAssignableFrom(raw) ? Set.of(element) : Arrays.asList(element);
+            }
+            return null;
+        }
+    }
+}
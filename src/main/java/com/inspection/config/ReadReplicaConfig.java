@@ -0,0 +1,163 @@
+package com.inspection.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 복제본(replica) 설정 (spring.datasource.replica.jdbc-url 이 있을 때만 동작)
+ *
+ * 주 DB(spring.datasource.*)와 복제본(spring.datasource.replica.*)을 각각 Hikari 풀로 만들고,
+ * 애플리케이션에는 ReplicaRoutingDataSource 를 LazyConnectionDataSourceProxy 로 감싸 @Primary 로 제공합니다.
+ * - @Transactional(readOnly = true) 조회(재고 현황/추이, 감가상각 요약, 계약/AS 목록, 이벤트 로그 검색)는 복제본으로
+ * - 쓰기, 트랜잭션 밖 호출, 01:00 마감 배치 등은 주 DB 로
+ * - 복제 지연이 spring.datasource.replica.max-lag-seconds 를 넘거나 상태를 확인할 수 없으면 조회도 주 DB 로 돌립니다.
+ * 풀 이름이 primary / replica 로 구분되므로 Hikari 지표(hikaricp.connections.*)가 pool 태그로 나뉘어 수집됩니다.
+ *
+ * 설정 예)
+ *   spring.datasource.replica.jdbc-url=jdbc:mysql://replica-host:3306/inspection
+ *   spring.datasource.replica.maximum-pool-size=20
+ *   spring.datasource.replica.max-lag-seconds=5
+ * username/password 를 생략하면 주 DB 와 같은 계정을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.jdbc-url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        // 바인딩 전에 주 DB 계정을 기본값으로 넣고, replica 설정이 있으면 덮어씀
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setUsername(properties.determineUsername());
+        dataSource.setPassword(properties.determinePassword());
+        dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, new JdbcTemplate(replicaDataSource),
+                meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * 복제 지연 점검
+     * 주기적으로 복제본의 Seconds_Behind_Source 를 확인하여 라우팅 사용 여부를 갱신합니다.
+     * 복제 상태가 비어 있으면(복제 설정이 없거나 RESET REPLICA 된 인스턴스) 최신 데이터라고 볼 수 없으므로
+     * 확인 불가로 보고 주 DB 를 사용합니다.
+     */
+    @Slf4j
+    public static class ReplicaLagMonitor {
+
+        // -1: 확인 불가 (복제 중지, 복제 미설정, 조회 실패)
+        private static final long UNKNOWN_LAG = -1L;
+
+        private final ReplicaRoutingDataSource routingDataSource;
+        private final JdbcTemplate replicaJdbcTemplate;
+        private final AtomicLong lagSeconds = new AtomicLong(UNKNOWN_LAG);
+
+        @Value("${spring.datasource.replica.max-lag-seconds:5}")
+        private long maxLagSeconds;
+
+        ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, JdbcTemplate replicaJdbcTemplate,
+                          MeterRegistry meterRegistry) {
+            this.routingDataSource = routingDataSource;
+            this.replicaJdbcTemplate = replicaJdbcTemplate;
+            if (meterRegistry != null) {
+                Gauge.builder("datasource.replica.lag.seconds", lagSeconds, AtomicLong::get)
+                        .description("복제본 지연(초), -1 은 확인 불가")
+                        .register(meterRegistry);
+                Gauge.builder("datasource.replica.routing.available", routingDataSource,
+                                routing -> routing.isReplicaAvailable() ? 1 : 0)
+                        .description("읽기 전용 트랜잭션의 복제본 라우팅 여부")
+                        .register(meterRegistry);
+            }
+        }
+
+        @Scheduled(initialDelay = 0, fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+        public void check() {
+            long lag = readLagSeconds();
+            lagSeconds.set(lag);
+            boolean available = lag != UNKNOWN_LAG && lag <= maxLagSeconds;
+            if (available != routingDataSource.isReplicaAvailable()) {
+                if (available) {
+                    log.info("[복제본 라우팅] 복제본 사용 재개 (지연 {}초)", lag);
+                } else {
+                    log.warn("[복제본 라우팅] 복제 지연 {}초로 기준({}초) 초과 또는 확인 불가, 조회를 주 DB 로 전환",
+                            lag, maxLagSeconds);
+                }
+            }
+            routingDataSource.setReplicaAvailable(available);
+        }
+
+        private long readLagSeconds() {
+            try {
+                return lagFrom(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS"), "Seconds_Behind_Source");
+            } catch (DataAccessException e) {
+                // MySQL 8.0.22 이전 버전
+                try {
+                    return lagFrom(replicaJdbcTemplate.queryForList("SHOW SLAVE STATUS"), "Seconds_Behind_Master");
+                } catch (DataAccessException legacyException) {
+                    log.debug("[복제본 라우팅] 복제 상태 조회 실패: {}", legacyException.getMessage());
+                    return UNKNOWN_LAG;
+                }
+            }
+        }
+
+        private static long lagFrom(List<Map<String, Object>> rows, String column) {
+            if (rows.isEmpty()) {
+                return UNKNOWN_LAG;
+            }
+            Object value = rows.get(0).get(column);
+            return value instanceof Number number ? number.longValue() : UNKNOWN_LAG;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.inspection.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 라우팅 DataSource
+ *
+ * 현재 트랜잭션이 readOnly 이고 복제본을 사용할 수 있을 때만 REPLICA, 그 외(쓰기, 트랜잭션 밖, 복제 지연 초과)는 PRIMARY 로 연결합니다.
+ * readOnly 여부는 트랜잭션 시작 이후에 정해지므로 반드시 LazyConnectionDataSourceProxy 로 감싸 실제 연결을 첫 쿼리 시점까지 미룹니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final DataSource primary;
+
+    // 복제 지연 점검 결과 (ReadReplicaConfig.ReplicaLagMonitor 가 갱신), 점검 전에는 주 DB 사용
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        this.primary = primary;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    /**
+     * 라우팅과 무관하게 주 DB 로 연결해야 하는 곳(ID 구간 예약, DDL 실행)에서 사용할 DataSource
+     * 복제본을 설정하지 않았으면 전달받은 DataSource 를 그대로 반환합니다.
+     */
+    public static DataSource primaryOf(DataSource dataSource) {
+        DataSource target = dataSource;
+        if (target instanceof LazyConnectionDataSourceProxy lazyProxy) {
+            target = lazyProxy.getTargetDataSource();
+        }
+        if (target instanceof ReplicaRoutingDataSource routing) {
+            return routing.getPrimary();
+        }
+        return dataSource;
+    }
+}
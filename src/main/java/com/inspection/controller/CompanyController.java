@@ -45,6 +45,7 @@ import com.inspection.dto.UserResponseDTO;
 import com.inspection.dto.CompanyBatchRequest;
 import com.inspection.dto.BatchResponseDTO;
 import com.inspection.dto.PageResponseDTO;
+import com.inspection.enums.ImageVariant;
 import com.inspection.service.CompanyService;
 import com.inspection.service.CompanyImageStorageService;
 import com.inspection.entity.Code;
@@ -450,7 +451,8 @@ public class CompanyController {
 
     // 이미지 파일 조회 API
     @GetMapping("/images/**")
-    public ResponseEntity<Resource> getImage(HttpServletRequest request) {
+    public ResponseEntity<Resource> getImage(HttpServletRequest request,
+            @RequestParam(value = "size", required = false) String size) {
         try {
             // 전체 경로에서 /api/companies/images/ 부분을 제외한 나머지를 파일 경로로 사용
             String requestURL = request.getRequestURL().toString();
@@ -464,7 +466,14 @@ public class CompanyController {
             filePath = URLDecoder.decode(filePath, StandardCharsets.UTF_8.name());
             
             // 이미지 파일을 Resource로 로드
-            Resource resource = companyImageStorageService.loadImageAsResource(filePath);
+            // size=thumb|medium 이면 파생본 (없으면 원본)
+            ImageVariant variant = null;
+            if ("thumb".equalsIgnoreCase(size)) {
+                variant = ImageVariant.THUMBNAIL;
+            } else if ("medium".equalsIgnoreCase(size)) {
+                variant = ImageVariant.MEDIUM;
+            }
+            Resource resource = companyImageStorageService.loadImageAsResource(filePath, variant);
             
             // 파일의 Content-Type 확인
             String contentType = Files.probeContentType(resource.getFile().toPath());
@@ -18,8 +18,12 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.inspection.dto.ContractDTO;
+import com.inspection.dto.ContractListItemDTO;
+import com.inspection.dto.KeysetPageDTO;
 import com.inspection.dto.CreateContractRequest;
 import com.inspection.dto.ParticipantDetailDTO;
+import com.inspection.dto.ParticipantDTO;
+import com.inspection.dto.SignatureFanoutJobDTO;
 import com.inspection.entity.Contract;
 import com.inspection.entity.ContractParticipant;
 import com.inspection.entity.ParticipantTemplateMapping;
@@ -28,9 +32,12 @@ import com.inspection.entity.ParticipantDocument;
 import com.inspection.entity.User;
 import com.inspection.service.ContractService;
 import com.inspection.service.ParticipantDocumentService;
+import com.inspection.service.SignatureFanoutService;
 import com.inspection.dto.PhoneVerificationRequest;
 import com.inspection.dto.ErrorResponse;
 import com.inspection.util.EncryptionUtil;
+
+import jakarta.persistence.EntityNotFoundException;
 import com.inspection.repository.ParticipantTemplateMappingRepository;
 import com.inspection.repository.ContractParticipantRepository;
 import com.inspection.repository.ContractRepository;
@@ -65,6 +72,7 @@ public class ContractController {
     private final EncryptionUtil encryptionUtil;
     private final ParticipantDocumentService participantDocumentService;
     private final UserRepository userRepository;
+    private final SignatureFanoutService signatureFanoutService;
     
     @Value("${frontend.base-url}")
     private String frontendBaseUrl;
@@ -153,6 +161,67 @@ public class ContractController {
         }
     }
     
+    /**
+     * 서명 요청 일괄 발송 API
+     * 서명 대기 참여자 전원의 토큰 생성과 발송 등록을 백그라운드 작업으로 시작하고 작업 상태를 즉시 반환합니다.
+     */
+    @PostMapping("/{contractId}/signature-requests")
+    public ResponseEntity<?> startSignatureFanout(
+        @PathVariable Long contractId,
+        @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        try {
+            Long requestedBy = null;
+            if (userDetails != null) {
+                requestedBy = userRepository.findByUserId(userDetails.getUsername())
+                    .map(User::getId)
+                    .orElse(null);
+            }
+            
+            SignatureFanoutJobDTO job = signatureFanoutService.startFanout(contractId, requestedBy);
+            if ("FAILED".equals(job.getStatus())) {
+                // 작업 큐 초과로 시작하지 못함
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(job);
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error starting signature fan-out: contractId={}", contractId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse("서명 요청 일괄 발송 시작 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 서명 요청 일괄 발송 작업 상태 조회 API (참여자별 진행 상태 포함)
+     */
+    @GetMapping("/signature-requests/{jobId}")
+    public ResponseEntity<?> getSignatureFanoutJob(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(signatureFanoutService.getJob(jobId));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
+    /**
+     * 전화번호 또는 이메일로 참여자 검색 (블라인드 인덱스 완전 일치)
+     */
+    @GetMapping("/participants/search")
+    public ResponseEntity<?> searchParticipants(
+            @RequestParam(required = false) String phoneNumber,
+            @RequestParam(required = false) String email) {
+        try {
+            List<ParticipantDTO> participants = contractService.searchParticipants(phoneNumber, email);
+            return ResponseEntity.ok(participants);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
     @GetMapping("/{contractId}/participants/{participantId}")
     public ResponseEntity<ParticipantDetailDTO> getParticipantDetail(
         @PathVariable Long contractId,
@@ -714,6 +783,31 @@ public class ContractController {
         }
     }
 
+    /**
+     * 계약 목록 조회 API - 키셋 페이징
+     * 목록 표시 컬럼만 조회하며, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달하여 요청합니다.
+     * @param status 계약 상태 필터링 (all: 전체, active: 활성화, inactive: 만료됨)
+     */
+    @GetMapping("/list")
+    public ResponseEntity<?> getContractListPage(
+            @RequestParam(value = "status", defaultValue = "active") String status,
+            @RequestParam(required = false) String statusCodeId,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            KeysetPageDTO<ContractListItemDTO> page = contractService.getContractListPage(
+                status, statusCodeId, companyId, keyword, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            log.error("계약 목록 조회 중 오류", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 계약 목록 조회 API - 수탁자 정보 포함
      * 계약 목록과 함께 연결된 수탁자 정보를 한 번에 반환합니다.
@@ -17,12 +17,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.inspection.dto.CompanyLogDTO;
+import com.inspection.dto.ContractEventDailyCountDTO;
 import com.inspection.dto.ContractEventLogDTO;
 import com.inspection.dto.ContractLogDTO;
 import com.inspection.entity.ContractEventLog;
 import com.inspection.repository.ContractEventLogRepository;
 import com.inspection.repository.CodeRepository;
 import com.inspection.service.ContractEventLogService;
+import com.inspection.service.ContractEventStatsService;
 import com.inspection.service.ContractLogService;
 
 import lombok.RequiredArgsConstructor;
@@ -40,6 +42,7 @@ public class ContractEventLogController {
     private final ContractEventLogRepository eventLogRepository;
     private final ContractEventLogService eventLogService;
     private final ContractLogService contractLogService;
+    private final ContractEventStatsService eventStatsService;
     
     /**
      * 회사 목록 조회 API (이력 관리용)
@@ -146,6 +149,7 @@ public class ContractEventLogController {
      * @param eventTypeCodeId 이벤트 타입 코드 ID (선택)
      * @param startDate 시작 날짜 (선택)
      * @param endDate 종료 날짜 (선택)
+     * @param includeArchived 보관(파티션 삭제)된 기간도 보관 파일에서 함께 조회할지 여부 (기본 false)
      * @return 조건에 맞는 이벤트 로그 목록
      */
     @GetMapping("/search")
@@ -154,7 +158,8 @@ public class ContractEventLogController {
             @RequestParam(required = false) Long participantId,
             @RequestParam(required = false) String eventTypeCodeId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
@@ -163,7 +168,7 @@ public class ContractEventLogController {
                 contractId, participantId, eventTypeCodeId, startDateTime, endDateTime);
         
         List<ContractEventLogDTO> logs = eventLogService.searchEventLogs(
-                contractId, participantId, eventTypeCodeId, startDateTime, endDateTime);
+                contractId, participantId, eventTypeCodeId, startDateTime, endDateTime, includeArchived);
         
         return ResponseEntity.ok(logs);
     }
@@ -178,4 +183,35 @@ public class ContractEventLogController {
         Map<String, Long> statistics = eventLogService.getEventTypeStatistics();
         return ResponseEntity.ok(statistics);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 일별 이벤트 건수 조회 (일별 집계 기준, 최대 366일)
+     * @param startDate 시작 날짜 (yyyy-MM-dd 형식)
+     * @param endDate 종료 날짜 (yyyy-MM-dd 형식)
+     * @param eventTypeCodeId 이벤트 타입 코드 ID (선택)
+     * @param actorId 액터 ID (선택)
+     * @return 일자/이벤트 타입/액터별 건수
+     */
+    @GetMapping("/statistics/daily")
+    public ResponseEntity<List<ContractEventDailyCountDTO>> getDailyEventCounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String eventTypeCodeId,
+            @RequestParam(required = false) String actorId) {
+        log.info("일별 이벤트 건수 조회: {} ~ {}, 이벤트 타입: {}, 액터: {}", startDate, endDate, eventTypeCodeId, actorId);
+        return ResponseEntity.ok(eventStatsService.getDailyCounts(startDate, endDate, eventTypeCodeId, actorId));
+    }
+    
+    /**
+     * 기간 내 이벤트 타입별 건수 조회 (일별 집계 기준, 최대 366일)
+     * @return 이벤트 타입 코드 ID 별 건수
+     */
+    @GetMapping("/statistics/event-types/period")
+    public ResponseEntity<Map<String, Long>> getEventTypeTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String actorId) {
+        log.info("기간 {} ~ {} 이벤트 타입별 건수 조회 (액터: {})", startDate, endDate, actorId);
+        return ResponseEntity.ok(eventStatsService.getEventTypeTotals(startDate, endDate, actorId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 계약 이벤트 일별 집계 DTO (일자, 이벤트 타입, 액터별 건수)
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractEventDailyCountDTO {
+
+    private LocalDate eventDate;
+    private String eventTypeCodeId;
+    private String eventTypeName;
+    private String actorId;           // 액터가 없는 이벤트는 null
+    private Long eventCount;
+}
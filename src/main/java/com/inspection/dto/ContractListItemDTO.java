@@ -0,0 +1,27 @@
+package com.inspection.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계약 목록 화면용 프로젝션
+ * 목록에 표시하는 컬럼만 조회하며, 엔티티/연관관계를 로딩하지 않습니다.
+ */
+public record ContractListItemDTO(
+        Long id,
+        String contractNumber,
+        String title,
+        String statusCodeId,
+        String statusName,
+        String contractTypeName,
+        Long companyId,
+        String storeName,
+        String trustee,
+        Integer progressRate,
+        LocalDate startDate,
+        LocalDate expiryDate,
+        LocalDate insuranceEndDate,
+        LocalDateTime createdAt,
+        String createdBy,
+        boolean active) {
+}
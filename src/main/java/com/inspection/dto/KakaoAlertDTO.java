@@ -13,4 +13,7 @@ public class KakaoAlertDTO {
     private String message;
     private String cpId;
     private LocalDateTime sentAt;
+    private String deliveryStatus;
+    private Integer attemptCount;
+    private String failureReason;
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.inspection.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 키셋(커서) 페이징 응답 DTO
+ * 전체 건수/페이지 수를 계산하지 않으며, 다음 페이지는 nextCursor 로 요청합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageDTO<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;  // 마지막 행 기준 커서 (다음 페이지 없으면 null)
+}
@@ -0,0 +1,40 @@
+package com.inspection.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 서명 요청 일괄 발송 작업 상태
+ */
+@Getter @Setter
+public class SignatureFanoutJobDTO {
+    private String jobId;
+    private Long contractId;
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private int totalCount;         // 대상 참여자 수
+    private int queuedCount;        // 발송 등록 건수
+    private int sentCount;          // 발송 완료 건수
+    private int failedCount;        // 등록/발송 실패 건수
+    private int skippedCount;       // 건너뜀 (서명 완료, 연락처 없음 등)
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private List<ParticipantProgress> participants = new ArrayList<>();
+
+    /**
+     * 참여자별 진행 상태
+     */
+    @Getter @Setter
+    public static class ParticipantProgress {
+        private Long participantId;
+        private String name;
+        private String channel;     // EMAIL, SMS, KAKAO
+        private String status;      // WAITING, SKIPPED, PENDING, SENDING, SENT, FAILED
+        private Integer attemptCount;
+        private String message;
+    }
+}
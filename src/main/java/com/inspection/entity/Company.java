@@ -12,7 +12,12 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "companies")
+@Table(name = "companies", indexes = {
+    @Index(name = "idx_companies_business_number_bidx", columnList = "business_number_bidx"),
+    @Index(name = "idx_companies_phone_number_bidx", columnList = "phone_number_bidx"),
+    @Index(name = "idx_companies_store_tel_number_bidx", columnList = "store_tel_number_bidx"),
+    @Index(name = "idx_companies_email_bidx", columnList = "email_bidx")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter @Setter
 public class Company {
@@ -78,6 +83,19 @@ public class Company {
     @Column(length = 500)            // 길이를 255에서 500으로 증가 (암호화 후 길이 고려)
     private String address;          // 주소 (경상남도 창원~~)
     
+    // 암호화 필드 검색용 블라인드 인덱스 (BlindIndexUtil.exact, 정규화한 평문의 HMAC)
+    @Column(length = 32)
+    private String businessNumberBidx;
+    
+    @Column(length = 32)
+    private String phoneNumberBidx;
+    
+    @Column(length = 32)
+    private String storeTelNumberBidx;
+    
+    @Column(length = 32)
+    private String emailBidx;
+    
     @Column(length = 100)
     private String businessType;     // 업태 (도소매,서비스)
     
@@ -2,11 +2,15 @@ package com.inspection.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.inspection.util.BlockIdGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -21,9 +25,14 @@ import lombok.Setter;
 @NoArgsConstructor
 public class ContractEventLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "contract_event_log_id_block")
+    @GenericGenerator(name = "contract_event_log_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "contract_event_log"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "id")
+    })
     private Long id;
     
+    // 외래 키는 월 파티션 변환 시(LogPartitionJdbcRepository.convertToPartitioned) 삭제됨
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contract_id")
     private Contract contract;
@@ -11,6 +11,10 @@ import com.inspection.enums.NotificationType;
 import com.inspection.util.EncryptionUtil;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_contract_participant_email_bidx", columnList = "email_bidx"),
+    @Index(name = "idx_contract_participant_phone_number_bidx", columnList = "phone_number_bidx")
+})
 @Getter @Setter
 @NoArgsConstructor
 public class ContractParticipant {
@@ -22,6 +26,13 @@ public class ContractParticipant {
     private String email;                   // 이메일
     private String phoneNumber;             // 전화번호
     
+    // 암호화 필드 검색용 블라인드 인덱스 (BlindIndexUtil.exact)
+    @Column(length = 32)
+    private String emailBidx;
+    
+    @Column(length = 32)
+    private String phoneNumberBidx;
+    
     @Enumerated(EnumType.STRING)
     private NotificationType notifyType;    // 발송방법 (EMAIL, SMS, KAKAO)
     
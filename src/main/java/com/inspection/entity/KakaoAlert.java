@@ -1,5 +1,7 @@
 package com.inspection.entity;
 
+import com.inspection.enums.NotificationStatus;
+
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -26,5 +28,16 @@ public class KakaoAlert {
     private String cpId;  // 알림톡 번호 (CPID)
 
     @Column(nullable = false)
-    private LocalDateTime sentAt;  // 발송 시간
+    private LocalDateTime sentAt;  // 발송 시간 (실패 시 마지막 시도 시간)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private NotificationStatus deliveryStatus;  // 발송 결과 (SENT/FAILED)
+
+    private Integer attemptCount;  // 발송 시도 횟수
+
+    @Column(length = 1000)
+    private String failureReason;  // 실패 사유
+
+    private Long outboxId;  // 발송 아웃박스 ID
 } 
\ No newline at end of file
@@ -24,6 +24,7 @@ import lombok.Setter;
 /**
  * NICE 본인인증 이력 관리 엔티티
  * 개인정보는 저장하지 않고 인증 메타데이터와 CI만 저장
+ * 외래 키는 월 파티션 변환 시(LogPartitionJdbcRepository.convertToPartitioned) 삭제되며, 조회 인덱스는 V2 마이그레이션으로 관리
  */
 @Entity
 @Table(name = "nice_authentication_log")
@@ -6,12 +6,16 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.inspection.util.BlockIdGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -28,7 +32,11 @@ import lombok.Setter;
 @NoArgsConstructor
 public class ParticipantPdfField {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "participant_pdf_field_id_block")
+    @GenericGenerator(name = "participant_pdf_field_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "participant_pdf_fields"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "id")
+    })
     private Long id;
 
     @ManyToOne
@@ -1,6 +1,10 @@
 package com.inspection.entity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,6 +13,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +25,11 @@ import lombok.Setter;
  * 참여자 토큰 정보를 저장하는 엔터티
  */
 @Entity
-@Table(name = "participant_tokens")
+@Table(name = "participant_tokens", indexes = {
+    @Index(name = "uk_participant_tokens_token_hash", columnList = "token_hash", unique = true),
+    @Index(name = "idx_participant_tokens_participant", columnList = "participant_id, token_type, is_active"),
+    @Index(name = "idx_participant_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,6 +47,10 @@ public class ParticipantToken {
     @Column(name = "token_value", length = 1000, nullable = false)
     private String tokenValue;
     
+    // 토큰 값의 SHA-256 (hex 64자), 조회는 긴 JWT 문자열 대신 이 컬럼의 유니크 인덱스로 처리
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+    
     @Column(name = "token_type", nullable = false)
     @Enumerated(EnumType.STRING)
     private TokenType tokenType;
@@ -67,5 +80,20 @@ public class ParticipantToken {
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
         this.isActive = true;
+        if (this.tokenHash == null && this.tokenValue != null) {
+            this.tokenHash = hash(this.tokenValue);
+        }
+    }
+    
+    /**
+     * 토큰 값의 SHA-256 hex 문자열
+     */
+    public static String hash(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.inspection.enums;
+
+import lombok.Getter;
+
+/**
+ * 업로드 이미지 파생본 종류
+ * 파생본은 원본과 같은 디렉토리에 "원본파일명_접미사.jpg" 로 저장됩니다.
+ */
+@Getter
+public enum ImageVariant {
+    THUMBNAIL("thumb", 320),    // 목록/썸네일
+    MEDIUM("medium", 1280);     // 상세 화면
+
+    private final String suffix;
+    private final int maxSize;  // 긴 변 기준 최대 픽셀
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 원본 경로(파일명, 상대경로, URL)에 대응하는 파생본 경로
+     * 예: /service-request-images/20250101/abc.png -> /service-request-images/20250101/abc_thumb.jpg
+     */
+    public String pathFor(String originalPath) {
+        if (originalPath == null) {
+            return null;
+        }
+        int slash = originalPath.lastIndexOf('/');
+        int dot = originalPath.lastIndexOf('.');
+        String base = dot > slash ? originalPath.substring(0, dot) : originalPath;
+        return base + "_" + suffix + ".jpg";
+    }
+
+    /**
+     * 파생본 파일 여부 (백필 시 원본만 대상으로 하기 위함)
+     */
+    public static boolean isVariantFileName(String fileName) {
+        for (ImageVariant variant : values()) {
+            if (fileName.endsWith("_" + variant.suffix + ".jpg")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.inspection.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum NotificationStatus {
+    PENDING("발송 대기"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    FAILED("발송 실패");
+    
+    private final String description;
+    
+    NotificationStatus(String description) {
+        this.description = description;
+    }
+}
@@ -1,10 +1,14 @@
 package com.inspection.facility.controller;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,11 +18,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.inspection.facility.dto.CreateDepreciationDTO;
 import com.inspection.facility.dto.DepreciationDTO;
+import com.inspection.facility.dto.DepreciationProjectionDTO;
+import com.inspection.facility.dto.DepreciationProjectionRequest;
 import com.inspection.facility.dto.DepreciationSummaryDTO;
 import com.inspection.facility.dto.UpdateDepreciationDTO;
+import com.inspection.facility.service.DepreciationBatchService;
+import com.inspection.facility.service.DepreciationProjectionService;
 import com.inspection.facility.service.DepreciationService;
 
 import jakarta.validation.Valid;
@@ -32,6 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 public class DepreciationController {
     
     private final DepreciationService depreciationService;
+    private final DepreciationBatchService depreciationBatchService;
+    private final DepreciationProjectionService depreciationProjectionService;
     
     /**
      * 모든 감가상각 이력 조회
@@ -154,4 +165,41 @@ public class DepreciationController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(results);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 모든 시설물에 대한 월별 감가상각 일괄 처리 (청크 단위 배치)
+     * 처리 결과 목록 대신 처리 건수와 처리량을 반환하며, 실패한 시설물은 다시 호출하면 이어서 처리됩니다.
+     */
+    @PostMapping("/process/monthly/batch")
+    public ResponseEntity<Map<String, Object>> processMonthlyDepreciationBatch() {
+        Map<String, Object> result = depreciationBatchService.processMonthlyDepreciation();
+
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * 감가상각 예상 스케줄 조회 (월별 감가상각액 및 장부가액)
+     */
+    @PostMapping("/projection")
+    public ResponseEntity<DepreciationProjectionDTO> getDepreciationProjection(
+            @RequestBody DepreciationProjectionRequest request) {
+        return ResponseEntity.ok(depreciationProjectionService.project(request));
+    }
+    
+    /**
+     * 감가상각 예상 스케줄 CSV 다운로드 (시설물/월 단위 행)
+     */
+    @PostMapping("/projection/csv")
+    public ResponseEntity<StreamingResponseBody> downloadDepreciationProjectionCsv(
+            @RequestBody DepreciationProjectionRequest request) {
+        // 응답 출력 전에 요청 값 검증
+        depreciationProjectionService.resolveHorizonMonths(request.getHorizonMonths());
+        String fileName = "depreciation_projection_" + YearMonth.now() + ".csv";
+        
+        StreamingResponseBody body = outputStream -> depreciationProjectionService.writeCsv(request, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+}
@@ -1,5 +1,8 @@
 package com.inspection.facility.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.inspection.facility.dto.FacilityImageDTO;
 import com.inspection.facility.service.FacilityImageService;
+import com.inspection.facility.service.FacilityQrCodeService;
 import com.inspection.facility.service.FacilityTransactionImageService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,6 +39,7 @@ public class FacilityImageController {
 
     private final FacilityImageService facilityImageService;
     private final FacilityTransactionImageService imageService;
+    private final FacilityQrCodeService facilityQrCodeService;
     
     /**
      * 시설물 이미지 목록 조회
@@ -198,6 +203,51 @@ public class FacilityImageController {
         return ResponseEntity.ok(qrCodeImage);
     }
 
+    /**
+     * 시설물 QR 코드 이미지 조회 (저장 없이 바로 렌더링)
+     * 존재하지 않는 시설물은 렌더링/캐시하지 않고 404 를 반환합니다.
+     * @param format png(기본) 또는 svg
+     */
+    @GetMapping("/qrcode/facility/{facilityId}")
+    public ResponseEntity<byte[]> getQrCode(
+            @PathVariable Long facilityId,
+            @RequestParam(defaultValue = "png") String format) {
+        if (!facilityQrCodeService.exists(facilityId)) {
+            return ResponseEntity.notFound().build();
+        }
+        if ("svg".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("image/svg+xml"))
+                    .body(facilityQrCodeService.getSvg(facilityId).getBytes(StandardCharsets.UTF_8));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .body(facilityQrCodeService.getPng(facilityId));
+    }
+    
+    /**
+     * 시설물 QR 코드 일괄 출력
+     * @param format zip(기본, 시설물별 PNG) 또는 pdf(A4 라벨)
+     */
+    @PostMapping("/qrcode/bulk")
+    public ResponseEntity<byte[]> downloadQrCodes(
+            @RequestBody List<Long> facilityIds,
+            @RequestParam(defaultValue = "zip") String format) {
+        log.info("시설물 QR 코드 일괄 출력 요청: {}건, 형식: {}", facilityIds.size(), format);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        
+        if ("pdf".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"QR_labels_" + timestamp + ".pdf\"")
+                    .body(facilityQrCodeService.createLabelPdf(facilityIds));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"QR_codes_" + timestamp + ".zip\"")
+                .body(facilityQrCodeService.createZip(facilityIds));
+    }
+    
     @GetMapping("/facility-transaction/{fileName:.+}")
     public ResponseEntity<Resource> getTransactionImage(@PathVariable String fileName) {
         log.info("이미지 파일 요청: {}", fileName);
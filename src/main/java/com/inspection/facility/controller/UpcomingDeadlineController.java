@@ -0,0 +1,69 @@
+package com.inspection.facility.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inspection.facility.dto.UpcomingDeadlineDTO;
+import com.inspection.facility.service.UpcomingDeadlineService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기한 현황 컨트롤러
+ * 대여 반납 예정일, 보증 만료일, AS 수리 예정일을 기한 인덱스에서 조회하는 대시보드용 REST API를 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/deadlines")
+@RequiredArgsConstructor
+public class UpcomingDeadlineController {
+
+    private final UpcomingDeadlineService upcomingDeadlineService;
+
+    /**
+     * 기한 목록 조회 (기한일 순)
+     * @param type RENTAL_DUE, WARRANTY_END, AS_EXPECTED
+     * @param from 시작 일시 (생략 시 기한 경과 건 포함)
+     * @param to 종료 일시 (생략 시 현재 시점, 즉 기한 경과 건만)
+     */
+    @GetMapping
+    public ResponseEntity<List<UpcomingDeadlineDTO>> getDeadlines(
+            @RequestParam String type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(defaultValue = "500") int limit) {
+        LocalDateTime toDate = to != null ? to : LocalDateTime.now();
+        return ResponseEntity.ok(upcomingDeadlineService.getDeadlines(type, from, toDate, companyId, limit));
+    }
+
+    /**
+     * 유형별 기한 현황 (기한 경과 건수, days 일 이내 예정 건수)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getSummary(
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(upcomingDeadlineService.getSummary(companyId, days));
+    }
+
+    /**
+     * 기한 인덱스 전체 재생성
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        log.info("기한 인덱스 재생성 요청");
+        int count = upcomingDeadlineService.rebuildAll();
+        return ResponseEntity.ok(Map.of("deadlineCount", count));
+    }
+}
@@ -0,0 +1,57 @@
+package com.inspection.facility.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 감가상각 예상 스케줄 조회 결과
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepreciationProjectionDTO {
+    
+    private Integer facilityCount;
+    private Integer horizonMonths;
+    private String startMonth;                    // 예상 시작 월 (yyyy-MM)
+    private List<MonthlyValue> portfolio;         // 월별 전체 합계
+    private List<FacilitySchedule> facilities;    // 시설물별 스케줄 (대상이 많으면 생략, CSV 사용)
+    
+    /**
+     * 시설물별 감가상각 예상 스케줄
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacilitySchedule {
+        private Long facilityId;
+        private String managementNumber;
+        private String depreciationMethodCode;
+        private BigDecimal currentValue;          // 현재 장부가액
+        private List<MonthlyValue> schedule;
+    }
+    
+    /**
+     * 월별 감가상각액 및 월말 장부가액
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlyValue {
+        private String yearMonth;                 // yyyy-MM
+        private BigDecimal depreciationAmount;
+        private BigDecimal bookValue;
+    }
+}
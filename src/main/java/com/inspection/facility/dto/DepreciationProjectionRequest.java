@@ -0,0 +1,21 @@
+package com.inspection.facility.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 감가상각 예상 스케줄 조회 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepreciationProjectionRequest {
+    
+    private List<Long> facilityIds;   // 대상 시설물 ID 목록 (비어 있으면 전체 감가상각 대상 시설물)
+    private Integer horizonMonths;    // 예상 기간 (개월, 기본 60)
+}
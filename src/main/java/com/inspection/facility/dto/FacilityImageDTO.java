@@ -15,6 +15,8 @@ public class FacilityImageDTO {
     
     private Long imageId;
     private String imageUrl;
+    private String thumbnailUrl;     // 목록용 썸네일 (파생본 생성 전에는 원본)
+    private String mediumUrl;        // 상세 화면용 중간 크기 (파생본 생성 전에는 원본)
     private String imageTypeCode;
     private String imageTypeName;
     private Long facilityId;
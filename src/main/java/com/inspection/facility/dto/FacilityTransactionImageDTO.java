@@ -2,6 +2,7 @@ package com.inspection.facility.dto;
 
 import java.time.LocalDateTime;
 
+import com.inspection.enums.ImageVariant;
 import com.inspection.facility.entity.FacilityTransactionImage;
 
 import lombok.AllArgsConstructor;
@@ -18,6 +19,8 @@ public class FacilityTransactionImageDTO {
     private Long imageId;
     private Long transactionId;
     private String imageUrl;
+    private String thumbnailUrl;     // 목록용 썸네일 (파생본 생성 전에는 원본)
+    private String mediumUrl;        // 상세 화면용 중간 크기 (파생본 생성 전에는 원본)
     private String imageTypeCode;
     private String imageTypeName;
     private boolean active;
@@ -31,6 +34,8 @@ public class FacilityTransactionImageDTO {
                 .imageId(image.getImageId())
                 .transactionId(image.getTransaction().getTransactionId())
                 .imageUrl(image.getImageUrl())
+                .thumbnailUrl(image.isVariantsReady() ? ImageVariant.THUMBNAIL.pathFor(image.getImageUrl()) : image.getImageUrl())
+                .mediumUrl(image.isVariantsReady() ? ImageVariant.MEDIUM.pathFor(image.getImageUrl()) : image.getImageUrl())
                 .imageTypeCode(image.getImageType() != null ? image.getImageType().getCodeId() : null)
                 .imageTypeName(image.getImageType() != null ? image.getImageType().getCodeName() : null)
                 .active(image.isActive())
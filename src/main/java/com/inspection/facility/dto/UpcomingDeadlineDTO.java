@@ -0,0 +1,27 @@
+package com.inspection.facility.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 기한 인덱스 항목 DTO (대여 반납 예정, 보증 만료, AS 수리 예정)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpcomingDeadlineDTO {
+    
+    private String deadlineType;      // RENTAL_DUE, WARRANTY_END, AS_EXPECTED
+    private Long sourceId;            // 대여 트랜잭션 ID / 시설물 ID / AS 접수 ID
+    private Long facilityId;
+    private Long companyId;           // 위치 회사 (대여: 대여받는 회사)
+    private Long ownerCompanyId;      // 소유 회사 (대여: 대여해준 회사)
+    private LocalDateTime dueDate;
+}
@@ -7,16 +7,19 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.inspection.entity.Code;
 import com.inspection.entity.Company;
 import com.inspection.entity.User;
+import com.inspection.util.BlockIdGenerator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -39,7 +42,11 @@ import lombok.Setter;
 public class DailyInventoryClosing {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "daily_inventory_closing_id_block")
+    @GenericGenerator(name = "daily_inventory_closing_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "daily_inventory_closings"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "id")
+    })
     private Long id;
     
     @Column(nullable = false)
@@ -6,15 +6,18 @@ import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.inspection.entity.Code;
 import com.inspection.entity.User;
+import com.inspection.util.BlockIdGenerator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -36,7 +39,11 @@ import lombok.Setter;
 public class Depreciation {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "depreciation_id_block")
+    @GenericGenerator(name = "depreciation_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "facility_depreciation"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "depreciation_id")
+    })
     @Column(name = "depreciation_id")
     private Long depreciationId;  // 감가상각 고유 번호
     
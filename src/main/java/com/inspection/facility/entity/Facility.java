@@ -7,15 +7,18 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.inspection.entity.Code;
 import com.inspection.entity.Company;
+import com.inspection.util.BlockIdGenerator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -30,7 +33,11 @@ import lombok.Setter;
 public class Facility {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "facility_id_block")
+    @GenericGenerator(name = "facility_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "facilities"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "facility_id")
+    })
     @Column(name = "facility_id")
     private Long facilityId; // 시설물번호 (PK)
     
@@ -56,6 +56,10 @@ public class FacilityTransactionImage {
     
     private String uploadBy;  // 업로드자
     
+    @Builder.Default
+    @Column(name = "variants_ready", nullable = false)
+    private boolean variantsReady = false;  // 썸네일/중간 크기 파생본 생성 여부
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;  // 생성일자
@@ -0,0 +1,89 @@
+package com.inspection.facility.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.facility.entity.Depreciation;
+import com.inspection.util.IdBlockAllocator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 감가상각 JDBC 배치 저장소
+ * 월 감가상각 일괄 처리 시 감가상각 이력 insert 와 시설물 장부가액 update 를 JDBC 배치로 처리합니다.
+ * 감가상각 ID 는 JPA 저장(BlockIdGenerator)과 같은 IdBlockAllocator 구간에서 받습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DepreciationJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_DEPRECIATION_SQL =
+            "INSERT INTO facility_depreciation (depreciation_id, facility_id, depreciation_date, previous_value, depreciation_amount, " +
+            "current_value, depreciation_type_code, depreciation_method_code, fiscal_year, fiscal_month, " +
+            "created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_CURRENT_VALUE_SQL =
+            "UPDATE facilities SET current_value = ?, last_valuation_date = ?, updated_at = ? WHERE facility_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    /**
+     * 감가상각 이력 일괄 insert (ID 가 없는 항목은 예약한 구간에서 채번하여 엔티티에도 설정)
+     */
+    public void insertDepreciations(List<Depreciation> depreciations) {
+        long missingIds = depreciations.stream().filter(depreciation -> depreciation.getDepreciationId() == null).count();
+        if (missingIds > 0) {
+            long nextId = idBlockAllocator.reserveRange("facility_depreciation", "depreciation_id", (int) missingIds);
+            for (Depreciation depreciation : depreciations) {
+                if (depreciation.getDepreciationId() == null) {
+                    depreciation.setDepreciationId(nextId++);
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_DEPRECIATION_SQL, depreciations, BATCH_SIZE, (ps, depreciation) -> {
+            ps.setLong(1, depreciation.getDepreciationId());
+            ps.setLong(2, depreciation.getFacility().getFacilityId());
+            ps.setTimestamp(3, Timestamp.valueOf(depreciation.getDepreciationDate()));
+            ps.setDouble(4, depreciation.getPreviousValue());
+            ps.setDouble(5, depreciation.getDepreciationAmount());
+            ps.setDouble(6, depreciation.getCurrentValue());
+            ps.setString(7, depreciation.getDepreciationType().getCodeId());
+            ps.setString(8, depreciation.getDepreciationMethod().getCodeId());
+            ps.setInt(9, depreciation.getFiscalYear());
+            ps.setInt(10, depreciation.getFiscalMonth());
+            ps.setTimestamp(11, Timestamp.valueOf(depreciation.getCreatedAt()));
+            if (depreciation.getCreatedBy() != null) {
+                ps.setLong(12, depreciation.getCreatedBy().getId());
+            } else {
+                ps.setNull(12, Types.BIGINT);
+            }
+        });
+    }
+
+    /**
+     * 감가상각 후 시설물 장부가액 일괄 update
+     * @param newCurrentValues 시설물 ID -> 새 장부가액
+     */
+    public void updateFacilityCurrentValues(Map<Long, BigDecimal> newCurrentValues, LocalDateTime valuationDate) {
+        Timestamp valuationTimestamp = Timestamp.valueOf(valuationDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_CURRENT_VALUE_SQL, new ArrayList<>(newCurrentValues.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setTimestamp(2, valuationTimestamp);
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, entry.getKey());
+                });
+    }
+}
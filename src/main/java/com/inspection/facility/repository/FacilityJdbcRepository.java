@@ -0,0 +1,137 @@
+package com.inspection.facility.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.entity.Code;
+import com.inspection.entity.Company;
+import com.inspection.facility.entity.Facility;
+import com.inspection.facility.entity.FacilityTransaction;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시설물/시설물 트랜잭션 JDBC 배치 insert 저장소
+ * 대량 등록 시 엔티티를 한 건씩 persist 하지 않고 JDBC 배치로 저장합니다.
+ * ID는 호출 측에서 IdBlockAllocator로 미리 예약하여 설정해야 합니다.
+ * (MySQL에서는 rewriteBatchedStatements=true 설정 시 multi-row insert로 전송됩니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacilityJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_FACILITY_SQL =
+            "INSERT INTO facilities (facility_id, management_number, brand_code, facility_type_code, serial_number, " +
+            "installation_date, acquisition_cost, installation_type_code, useful_life_months, status_code, " +
+            "current_value, depreciation_method_code, last_valuation_date, warranty_end_date, " +
+            "location_company_id, owner_company_id, created_by, created_at, updated_at, is_active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO facility_transactions (transaction_id, batch_id, facility_id, transaction_type_code, " +
+            "transaction_date, from_company_id, to_company_id, notes, status_before_code, status_after_code, " +
+            "performed_by, transaction_ref, is_cancelled, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시설물 일괄 insert
+     */
+    public void insertFacilities(List<Facility> facilities) {
+        jdbcTemplate.batchUpdate(INSERT_FACILITY_SQL, facilities, BATCH_SIZE, (ps, facility) -> {
+            ps.setLong(1, facility.getFacilityId());
+            ps.setString(2, facility.getManagementNumber());
+            setCode(ps, 3, facility.getBrand());
+            setCode(ps, 4, facility.getFacilityType());
+            ps.setString(5, facility.getSerialNumber());
+            setTimestamp(ps, 6, facility.getInstallationDate());
+            ps.setBigDecimal(7, facility.getAcquisitionCost());
+            setCode(ps, 8, facility.getInstallationType());
+            if (facility.getUsefulLifeMonths() != null) {
+                ps.setInt(9, facility.getUsefulLifeMonths());
+            } else {
+                ps.setNull(9, Types.INTEGER);
+            }
+            setCode(ps, 10, facility.getStatus());
+            ps.setBigDecimal(11, facility.getCurrentValue());
+            setCode(ps, 12, facility.getDepreciationMethod());
+            setTimestamp(ps, 13, facility.getLastValuationDate());
+            setTimestamp(ps, 14, facility.getWarrantyEndDate());
+            setCompany(ps, 15, facility.getLocationCompany());
+            setCompany(ps, 16, facility.getOwnerCompany());
+            ps.setString(17, facility.getCreatedBy());
+            setTimestamp(ps, 18, facility.getCreatedAt());
+            setTimestamp(ps, 19, facility.getUpdatedAt());
+            ps.setBoolean(20, facility.isActive());
+        });
+    }
+
+    /**
+     * 시설물 트랜잭션 일괄 insert
+     */
+    public void insertTransactions(List<FacilityTransaction> transactions) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactions, BATCH_SIZE, (ps, transaction) -> {
+            ps.setLong(1, transaction.getTransactionId());
+            ps.setString(2, transaction.getBatchId());
+            ps.setLong(3, transaction.getFacility().getFacilityId());
+            setCode(ps, 4, transaction.getTransactionType());
+            setTimestamp(ps, 5, transaction.getTransactionDate());
+            setCompany(ps, 6, transaction.getFromCompany());
+            setCompany(ps, 7, transaction.getToCompany());
+            ps.setString(8, transaction.getNotes());
+            setCode(ps, 9, transaction.getStatusBefore());
+            setCode(ps, 10, transaction.getStatusAfter());
+            ps.setLong(11, transaction.getPerformedBy().getId());
+            ps.setString(12, transaction.getTransactionRef());
+            ps.setBoolean(13, Boolean.TRUE.equals(transaction.getIsCancelled()));
+            setTimestamp(ps, 14, transaction.getCreatedAt());
+            setTimestamp(ps, 15, transaction.getUpdatedAt());
+        });
+    }
+
+    /**
+     * 시설물 상태 일괄 변경 (각 시설물 엔티티의 현재 상태/수정일시로 갱신)
+     */
+    public void updateStatuses(List<Facility> facilities) {
+        jdbcTemplate.batchUpdate("UPDATE facilities SET status_code = ?, updated_at = ? WHERE facility_id = ?",
+                facilities, BATCH_SIZE, (ps, facility) -> {
+                    setCode(ps, 1, facility.getStatus());
+                    setTimestamp(ps, 2, facility.getUpdatedAt());
+                    ps.setLong(3, facility.getFacilityId());
+                });
+    }
+
+    private void setCode(PreparedStatement ps, int index, Code code) throws SQLException {
+        if (code != null) {
+            ps.setString(index, code.getCodeId());
+        } else {
+            ps.setNull(index, Types.VARCHAR);
+        }
+    }
+
+    private void setCompany(PreparedStatement ps, int index, Company company) throws SQLException {
+        if (company != null) {
+            ps.setLong(index, company.getId());
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime dateTime) throws SQLException {
+        if (dateTime != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(dateTime));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+}
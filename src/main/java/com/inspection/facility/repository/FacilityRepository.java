@@ -1,6 +1,8 @@
 package com.inspection.facility.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +58,10 @@ public interface FacilityRepository extends JpaRepository<Facility, Long>, JpaSp
     // 관리번호 존재 여부 확인
     boolean existsByManagementNumber(String managementNumber);
     
+    // 접두사로 시작하는 관리번호 목록 조회 (대량 등록 시 관리번호 일괄 예약용)
+    @Query("SELECT f.managementNumber FROM Facility f WHERE f.managementNumber LIKE CONCAT(:prefix, '%')")
+    List<String> findManagementNumbersByPrefix(@Param("prefix") String prefix);
+    
     // 설치일 범위별 시설물 조회
     List<Facility> findByInstallationDateBetween(LocalDateTime startDate, LocalDateTime endDate);
     
@@ -128,6 +134,66 @@ public interface FacilityRepository extends JpaRepository<Facility, Long>, JpaSp
            "AND f.usefulLifeMonths > 0") // 내용연수가 설정됨
     List<Facility> findFacilitiesForDepreciation(@Param("processedIds") List<Long> processedFacilityIds);
     
+    /**
+     * 월 감가상각 일괄 처리 대상 조회 (시설물 ID 순 청크)
+     * 해당 회계연도/월에 이미 감가상각된 시설물은 제외하므로 중단 후 재실행하면 남은 시설물부터 처리됩니다.
+     * @return [facilityId, 감가상각 방법 코드, 취득원가, 현재 가치, 내용연수(월)]
+     */
+    @Query("SELECT f.facilityId, f.depreciationMethod.codeId, f.acquisitionCost, f.currentValue, f.usefulLifeMonths " +
+           "FROM Facility f WHERE f.facilityId > :afterId " +
+           "AND f.status.codeId != '002003_0003' " + // 폐기 상태가 아님
+           "AND f.currentValue > :minimumValue " +
+           "AND f.acquisitionCost IS NOT NULL " +
+           "AND f.depreciationMethod IS NOT NULL " +
+           "AND f.usefulLifeMonths > 0 " +
+           "AND NOT EXISTS (SELECT 1 FROM Depreciation d WHERE d.facility.facilityId = f.facilityId " +
+           "AND d.fiscalYear = :fiscalYear AND d.fiscalMonth = :fiscalMonth) " +
+           "ORDER BY f.facilityId")
+    List<Object[]> findDepreciationTargetsAfter(
+            @Param("afterId") Long afterId,
+            @Param("fiscalYear") Integer fiscalYear,
+            @Param("fiscalMonth") Integer fiscalMonth,
+            @Param("minimumValue") BigDecimal minimumValue,
+            Pageable pageable);
+    
+    /**
+     * 감가상각 예상 스케줄 계산용 시설물 정보 조회 (지정 시설물)
+     * @return [facilityId, 관리번호, 감가상각 방법 코드, 취득원가, 현재 가치, 내용연수(월), 수정일시]
+     */
+    @Query("SELECT f.facilityId, f.managementNumber, f.depreciationMethod.codeId, f.acquisitionCost, " +
+           "f.currentValue, f.usefulLifeMonths, f.updatedAt FROM Facility f " +
+           "WHERE f.facilityId IN :facilityIds " +
+           "AND f.status.codeId != '002003_0003' " + // 폐기 상태가 아님
+           "AND f.acquisitionCost IS NOT NULL AND f.currentValue IS NOT NULL " +
+           "AND f.usefulLifeMonths > 0 " +
+           "ORDER BY f.facilityId")
+    List<Object[]> findDepreciationProjectionRowsByIdIn(@Param("facilityIds") Collection<Long> facilityIds);
+    
+    /**
+     * 감가상각 예상 스케줄 계산용 시설물 정보 조회 (전체 감가상각 대상, 시설물 ID 순 청크)
+     * @return [facilityId, 관리번호, 감가상각 방법 코드, 취득원가, 현재 가치, 내용연수(월), 수정일시]
+     */
+    @Query("SELECT f.facilityId, f.managementNumber, f.depreciationMethod.codeId, f.acquisitionCost, " +
+           "f.currentValue, f.usefulLifeMonths, f.updatedAt FROM Facility f " +
+           "WHERE f.facilityId > :afterId " +
+           "AND f.status.codeId != '002003_0003' " + // 폐기 상태가 아님
+           "AND f.acquisitionCost IS NOT NULL AND f.currentValue IS NOT NULL " +
+           "AND f.usefulLifeMonths > 0 " +
+           "ORDER BY f.facilityId")
+    List<Object[]> findDepreciationProjectionRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    /**
+     * QR 라벨 출력용 시설물 정보 일괄 조회
+     * @return [facilityId, managementNumber, 현재 위치 매장명]
+     */
+    @Query("SELECT f.facilityId, f.managementNumber, lc.storeName FROM Facility f " +
+           "LEFT JOIN f.locationCompany lc WHERE f.facilityId IN :facilityIds")
+    List<Object[]> findQrLabelInfoByIdIn(@Param("facilityIds") Collection<Long> facilityIds);
+    
+    // 존재하는 시설물 ID 일괄 확인 (전표 일괄 등록 검증용)
+    @Query("SELECT f.facilityId FROM Facility f WHERE f.facilityId IN :facilityIds")
+    List<Long> findExistingIds(@Param("facilityIds") Collection<Long> facilityIds);
+    
     // 특정 날짜 범위와 시설물 타입별 생성된 시설물 수 카운트
     int countByFacilityType_CodeIdAndCreatedAtBetween(String facilityTypeCode, LocalDateTime startDate, LocalDateTime endDate);
     
@@ -1,9 +1,15 @@
 package com.inspection.facility.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.inspection.facility.entity.FacilityTransactionImage;
 
@@ -12,5 +18,26 @@ public interface FacilityTransactionImageRepository extends JpaRepository<Facili
     
     List<FacilityTransactionImage> findByTransactionTransactionIdAndActiveTrue(Long transactionId);
     
+    /**
+     * 여러 트랜잭션의 활성 이미지 일괄 조회 (목록 화면용, 이미지 유형 함께 조회)
+     */
+    @Query("SELECT i FROM FacilityTransactionImage i LEFT JOIN FETCH i.imageType " +
+           "WHERE i.transaction.transactionId IN :transactionIds AND i.active = true ORDER BY i.imageId")
+    List<FacilityTransactionImage> findByTransactionIdIn(@Param("transactionIds") Collection<Long> transactionIds);
+    
     void deleteByTransactionTransactionId(Long transactionId);
+    
+    /**
+     * 파생본 생성 완료 표시 (생성 중 이미지가 교체된 경우는 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE FacilityTransactionImage i SET i.variantsReady = true WHERE i.imageId = :imageId AND i.imageUrl = :imageUrl")
+    int markVariantsReady(@Param("imageId") Long imageId, @Param("imageUrl") String imageUrl);
+    
+    /**
+     * 파생본이 없는 이미지 (이미지ID, 이미지 경로) - 백필용, 이미지 ID 순
+     */
+    @Query("SELECT i.imageId, i.imageUrl FROM FacilityTransactionImage i WHERE i.variantsReady = false AND i.imageId > :afterId ORDER BY i.imageId")
+    List<Object[]> findVariantPendingAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
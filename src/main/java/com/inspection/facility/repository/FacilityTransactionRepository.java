@@ -1,6 +1,7 @@
 package com.inspection.facility.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -350,4 +351,8 @@ public interface FacilityTransactionRepository extends JpaRepository<FacilityTra
             @Param("facilityTypes") List<String> facilityTypes,
             @Param("lastClosingTime") LocalDateTime lastClosingTime,
             @Param("currentProcessingTime") LocalDateTime currentProcessingTime);
-} 
\ No newline at end of file
+    
+    // 존재하는 트랜잭션 ID 일괄 확인 (전표 일괄 등록 검증용)
+    @Query("SELECT t.transactionId FROM FacilityTransaction t WHERE t.transactionId IN :transactionIds")
+    List<Long> findExistingIds(@Param("transactionIds") Collection<Long> transactionIds);
+}
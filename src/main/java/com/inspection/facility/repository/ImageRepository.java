@@ -2,10 +2,13 @@ package com.inspection.facility.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.inspection.facility.entity.Image;
 
@@ -30,14 +33,28 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     /**
      * 특정 이미지 타입의 활성화된 이미지 목록 조회
      */
-    @Query("SELECT i FROM Image i WHERE i.imageType.codeId = :imageTypeCode AND i.active = true")
+    @Query("SELECT i FROM Image i JOIN FETCH i.imageType WHERE i.imageType.codeId = :imageTypeCode AND i.active = true")
     List<Image> findByImageTypeCodeIdAndActiveTrue(@Param("imageTypeCode") String imageTypeCode);
     
     /**
      * 특정 시설물 ID 목록과 이미지 타입에 해당하는 활성화된 이미지 목록 조회
      */
-    @Query("SELECT i FROM Image i WHERE i.facility.facilityId IN :facilityIds AND i.imageType.codeId = :imageTypeCode AND i.active = true")
+    @Query("SELECT i FROM Image i JOIN FETCH i.imageType WHERE i.facility.facilityId IN :facilityIds AND i.imageType.codeId = :imageTypeCode AND i.active = true")
     List<Image> findByFacilityIdInAndImageTypeCodeAndActiveTrue(
             @Param("facilityIds") List<Long> facilityIds,
             @Param("imageTypeCode") String imageTypeCode);
-} 
\ No newline at end of file
+    
+    /**
+     * 파생본 생성 완료 표시 (생성 중 이미지가 교체된 경우는 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.variantsReady = true WHERE i.imageId = :imageId AND i.imageUrl = :imageUrl")
+    int markVariantsReady(@Param("imageId") Long imageId, @Param("imageUrl") String imageUrl);
+    
+    /**
+     * 파생본이 없는 이미지 (이미지ID, 이미지 경로) - 백필용, 이미지 ID 순
+     */
+    @Query("SELECT i.imageId, i.imageUrl FROM Image i WHERE i.variantsReady = false AND i.imageId > :afterId ORDER BY i.imageId")
+    List<Object[]> findVariantPendingAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
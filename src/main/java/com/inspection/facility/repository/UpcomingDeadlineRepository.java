@@ -0,0 +1,233 @@
+package com.inspection.facility.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.config.ReplicaRoutingDataSource;
+import com.inspection.facility.dto.UpcomingDeadlineDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기한 인덱스 저장소
+ * 대여 반납 예정일, 보증 만료일, AS 수리 예정일을 원본 테이블에서 뽑아
+ * upcoming_deadlines 테이블에 (유형, 원본 ID) 당 한 행으로 보관하고 기한일/회사 인덱스로 범위 조회합니다.
+ * 반납/완료되어 더 이상 기한이 없는 원본은 행이 제거됩니다.
+ */
+@Slf4j
+@Repository
+public class UpcomingDeadlineRepository {
+
+    public static final String TYPE_RENTAL_DUE = "RENTAL_DUE";        // 대여 반납 예정일 (원본: 대여 트랜잭션)
+    public static final String TYPE_WARRANTY_END = "WARRANTY_END";    // 보증 만료일 (원본: 시설물)
+    public static final String TYPE_AS_EXPECTED = "AS_EXPECTED";      // AS 수리 예정일 (원본: AS 접수)
+
+    private static final String RENTAL_TYPE_CODE = "002011_0004";     // 트랜잭션 유형: 임대
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS upcoming_deadlines (" +
+            "deadline_type VARCHAR(20) NOT NULL, " +
+            "source_id BIGINT NOT NULL, " +
+            "facility_id BIGINT NOT NULL, " +
+            "company_id BIGINT NULL, " +
+            "owner_company_id BIGINT NULL, " +
+            "due_date DATETIME NOT NULL, " +
+            "updated_at DATETIME NOT NULL, " +
+            "PRIMARY KEY (deadline_type, source_id), " +
+            "KEY idx_deadline_type_due (deadline_type, due_date), " +
+            "KEY idx_deadline_company_due (company_id, deadline_type, due_date), " +
+            "KEY idx_deadline_owner_due (owner_company_id, deadline_type, due_date), " +
+            "KEY idx_deadline_facility (facility_id)" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO upcoming_deadlines (deadline_type, source_id, facility_id, company_id, owner_company_id, " +
+            "due_date, updated_at) ";
+
+    private static final String INSERT_SUFFIX =
+            " ON DUPLICATE KEY UPDATE facility_id = VALUES(facility_id), company_id = VALUES(company_id), " +
+            "owner_company_id = VALUES(owner_company_id), due_date = VALUES(due_date), updated_at = VALUES(updated_at)";
+
+    // 반납되지 않은(연관 반납 트랜잭션/실제 반납일 없음) 취소되지 않은 대여, 회사 = 대여받는 회사 / 소유 = 대여해준 회사
+    private static final String SELECT_RENTALS_SQL =
+            "SELECT '" + TYPE_RENTAL_DUE + "', t.transaction_id, t.facility_id, t.to_company_id, t.from_company_id, " +
+            "t.expected_return_date, NOW() FROM facility_transactions t " +
+            "WHERE t.transaction_type_code = '" + RENTAL_TYPE_CODE + "' " +
+            "AND t.related_transaction_id IS NULL AND t.actual_return_date IS NULL " +
+            "AND t.expected_return_date IS NOT NULL AND t.is_cancelled = 0";
+
+    private static final String SELECT_WARRANTIES_SQL =
+            "SELECT '" + TYPE_WARRANTY_END + "', f.facility_id, f.facility_id, f.location_company_id, f.owner_company_id, " +
+            "f.warranty_end_date, NOW() FROM facilities f " +
+            "WHERE f.warranty_end_date IS NOT NULL";
+
+    private static final String SELECT_SERVICE_REQUESTS_SQL =
+            "SELECT '" + TYPE_AS_EXPECTED + "', sr.service_request_id, sr.facility_id, f.location_company_id, " +
+            "f.owner_company_id, sr.expected_completion_date, NOW() FROM service_request sr " +
+            "JOIN facilities f ON f.facility_id = sr.facility_id " +
+            "WHERE sr.is_completed = 0 AND sr.expected_completion_date IS NOT NULL";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT deadline_type, source_id, facility_id, company_id, owner_company_id, due_date FROM upcoming_deadlines ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile boolean tableReady = false;
+
+    public UpcomingDeadlineRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 시설물 관련 기한 전체(대여, 보증, AS) 재계산 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int refreshByFacilityIds(Collection<Long> facilityIds) {
+        if (facilityIds.isEmpty()) {
+            return 0;
+        }
+        ensureTable();
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", facilityIds);
+        namedParameterJdbcTemplate.update("DELETE FROM upcoming_deadlines WHERE facility_id IN (:ids)", params);
+
+        int count = 0;
+        count += namedParameterJdbcTemplate.update(
+                INSERT_PREFIX + SELECT_RENTALS_SQL + " AND t.facility_id IN (:ids)" + INSERT_SUFFIX, params);
+        count += namedParameterJdbcTemplate.update(
+                INSERT_PREFIX + SELECT_WARRANTIES_SQL + " AND f.facility_id IN (:ids)" + INSERT_SUFFIX, params);
+        count += namedParameterJdbcTemplate.update(
+                INSERT_PREFIX + SELECT_SERVICE_REQUESTS_SQL + " AND sr.facility_id IN (:ids)" + INSERT_SUFFIX, params);
+        return count;
+    }
+
+    /**
+     * AS 접수 건의 수리 예정일 재계산 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int refreshByServiceRequestIds(Collection<Long> serviceRequestIds) {
+        if (serviceRequestIds.isEmpty()) {
+            return 0;
+        }
+        ensureTable();
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", serviceRequestIds);
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM upcoming_deadlines WHERE deadline_type = '" + TYPE_AS_EXPECTED + "' AND source_id IN (:ids)",
+                params);
+        return namedParameterJdbcTemplate.update(
+                INSERT_PREFIX + SELECT_SERVICE_REQUESTS_SQL + " AND sr.service_request_id IN (:ids)" + INSERT_SUFFIX,
+                params);
+    }
+
+    /**
+     * 전체 재생성 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int rebuildAll() {
+        ensureTable();
+        jdbcTemplate.update("DELETE FROM upcoming_deadlines");
+        int count = 0;
+        count += jdbcTemplate.update(INSERT_PREFIX + SELECT_RENTALS_SQL);
+        count += jdbcTemplate.update(INSERT_PREFIX + SELECT_WARRANTIES_SQL);
+        count += jdbcTemplate.update(INSERT_PREFIX + SELECT_SERVICE_REQUESTS_SQL);
+        return count;
+    }
+
+    public long countAll() {
+        ensureTable();
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM upcoming_deadlines", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 기한일 범위 조회 (기한일 순)
+     * @param deadlineType 기한 유형
+     * @param from 시작 일시 (포함), null 이면 처음부터
+     * @param to 종료 일시 (포함)
+     * @param companyId 회사 ID (위치/대여받는 회사 또는 소유/대여해준 회사), null 이면 전체
+     */
+    public List<UpcomingDeadlineDTO> findByDueDate(String deadlineType, LocalDateTime from, LocalDateTime to,
+                                                   Long companyId, int limit) {
+        ensureTable();
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append("WHERE deadline_type = ? AND due_date <= ?");
+        List<Object> args = new ArrayList<>();
+        args.add(deadlineType);
+        args.add(Timestamp.valueOf(to));
+        if (from != null) {
+            sql.append(" AND due_date >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        // 회사 조건은 있을 때만 붙여 (company_id, deadline_type, due_date) 인덱스를 사용
+        if (companyId != null) {
+            sql.append(" AND (company_id = ? OR owner_company_id = ?)");
+            args.add(companyId);
+            args.add(companyId);
+        }
+        sql.append(" ORDER BY due_date, source_id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> UpcomingDeadlineDTO.builder()
+                .deadlineType(rs.getString(1))
+                .sourceId(rs.getLong(2))
+                .facilityId(rs.getLong(3))
+                .companyId(rs.getObject(4, Long.class))
+                .ownerCompanyId(rs.getObject(5, Long.class))
+                .dueDate(rs.getTimestamp(6).toLocalDateTime())
+                .build(), args.toArray());
+    }
+
+    /**
+     * 유형별 건수 (기한 경과 건수, 기준 시점부터 종료 일시까지의 예정 건수)
+     * @return [deadline_type, overdue_count, upcoming_count]
+     */
+    public List<Object[]> countByType(LocalDateTime now, LocalDateTime to, Long companyId) {
+        ensureTable();
+        StringBuilder sql = new StringBuilder(
+                "SELECT deadline_type, SUM(due_date < ?), SUM(due_date >= ? AND due_date <= ?) " +
+                "FROM upcoming_deadlines WHERE due_date <= ?");
+        List<Object> args = new ArrayList<>();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp toTs = Timestamp.valueOf(to);
+        args.add(nowTs);
+        args.add(nowTs);
+        args.add(toTs);
+        args.add(toTs);
+        if (companyId != null) {
+            sql.append(" AND (company_id = ? OR owner_company_id = ?)");
+            args.add(companyId);
+            args.add(companyId);
+        }
+        sql.append(" GROUP BY deadline_type");
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new Object[] { rs.getString(1), rs.getLong(2), rs.getLong(3) }, args.toArray());
+    }
+
+    private void ensureTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (this) {
+            if (tableReady) {
+                return;
+            }
+            // DDL 은 MySQL 에서 암묵적 커밋을 일으키므로 갱신 트랜잭션과 분리된 커넥션에서 실행
+            try (Connection connection = ReplicaRoutingDataSource.primaryOf(jdbcTemplate.getDataSource()).getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE_SQL);
+                tableReady = true;
+                log.info("기한 인덱스 테이블 확인 완료");
+            } catch (SQLException e) {
+                throw new IllegalStateException("upcoming_deadlines 테이블 초기화 중 오류가 발생했습니다", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.inspection.facility.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.entity.Code;
+import com.inspection.entity.User;
+import com.inspection.facility.entity.Depreciation;
+import com.inspection.facility.repository.DepreciationJdbcRepository;
+import com.inspection.facility.repository.FacilityRepository;
+import com.inspection.finance.service.VoucherService;
+import com.inspection.repository.CodeRepository;
+import com.inspection.repository.NamedLockJdbcRepository;
+import com.inspection.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 감가상각 일괄 처리 서비스
+ *
+ * 대상 시설물을 엔티티 대신 프로젝션으로 시설물 ID 순 청크(CHUNK_SIZE) 단위로 읽고,
+ * 청크별 트랜잭션에서 감가상각 이력 insert, 장부가액 update, 감가상각 전표 생성을 JDBC 배치로 처리합니다.
+ * 이미 처리된 시설물은 조회 대상에서 빠지므로 청크 처리에 실패하거나 중간에 중단되어도
+ * 다시 실행하면 남은 시설물만 처리됩니다.
+ * 청크 트랜잭션이 실패하면(전표 한 건 오류 등) 청크 전체가 롤백되므로, 해당 청크는 시설물별 트랜잭션으로 다시 처리하여
+ * 실패한 시설물만 남깁니다.
+ * 여러 인스턴스에서 동시에 실행되지 않도록 DB 이름 잠금(GET_LOCK)을 잡은 동안에만 실행합니다.
+ * 처리 건수와 소요 시간은 facility.depreciation.batch.* 메트릭으로 기록됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepreciationBatchService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String RUN_LOCK = "facility_depreciation_monthly";
+
+    private final FacilityRepository facilityRepository;
+    private final DepreciationJdbcRepository depreciationJdbcRepository;
+    private final NamedLockJdbcRepository namedLockRepository;
+    private final CodeRepository codeRepository;
+    private final UserRepository userRepository;
+    private final VoucherService voucherService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 현재 월 감가상각 일괄 처리
+     */
+    public Map<String, Object> processMonthlyDepreciation() {
+        return processMonthlyDepreciation(LocalDateTime.now());
+    }
+
+    /**
+     * 월 감가상각 일괄 처리
+     * @param depreciationDate 감가상각 일자 (회계연도/월 기준)
+     * @return 처리 결과 (처리/실패 건수, 총 감가상각액, 소요 시간, 초당 처리 건수)
+     */
+    public Map<String, Object> processMonthlyDepreciation(LocalDateTime depreciationDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("월 감가상각 일괄 처리가 이미 실행 중입니다.");
+        }
+        try {
+            AtomicReference<Map<String, Object>> result = new AtomicReference<>();
+            boolean ran = namedLockRepository.runWithNamedLock(RUN_LOCK,
+                    () -> result.set(runMonthlyDepreciation(depreciationDate)));
+            if (!ran) {
+                throw new IllegalStateException("월 감가상각 일괄 처리가 다른 서버에서 실행 중입니다.");
+            }
+            return result.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 월 감가상각 일괄 처리 본체 (이름 잠금을 잡은 상태에서 실행)
+     */
+    private Map<String, Object> runMonthlyDepreciation(LocalDateTime depreciationDate) {
+        YearMonth fiscalYearMonth = YearMonth.from(depreciationDate);
+        log.info("월 감가상각 일괄 처리 시작: {}", fiscalYearMonth);
+
+        Map<String, Object> result = new HashMap<>();
+        int processedCount = 0;
+        int failedCount = 0;
+        int chunkCount = 0;
+        int retriedChunkCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        long startTime = System.nanoTime();
+        String outcome = "success";
+
+        try {
+            User createdBy = getCurrentUser();
+            long lastId = 0L;
+
+            while (true) {
+                // 대상 조회는 청크 트랜잭션 밖에서 수행하여 실패한 청크도 건너뛰고 다음 청크로 진행
+                List<Object[]> rows = facilityRepository.findDepreciationTargetsAfter(
+                        lastId, fiscalYearMonth.getYear(), fiscalYearMonth.getMonthValue(),
+                        DepreciationService.MINIMUM_VALUE, PageRequest.of(0, CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+                chunkCount++;
+
+                try {
+                    ChunkResult chunkResult = transactionTemplate.execute(
+                            status -> processChunk(rows, depreciationDate, fiscalYearMonth, createdBy));
+                    processedCount += chunkResult.processed;
+                    totalAmount = totalAmount.add(chunkResult.totalAmount);
+                } catch (RuntimeException e) {
+                    // 청크 전체가 롤백되었으므로 시설물별 트랜잭션으로 다시 처리하여 실패한 건만 남김
+                    retriedChunkCount++;
+                    log.warn("월 감가상각 청크 처리 실패 (시설물 ID {} ~ {}), 시설물별로 다시 처리합니다: {}",
+                            rows.get(0)[0], lastId, e.getMessage());
+                    for (Object[] row : rows) {
+                        try {
+                            ChunkResult rowResult = transactionTemplate.execute(
+                                    status -> processChunk(List.<Object[]>of(row), depreciationDate, fiscalYearMonth, createdBy));
+                            processedCount += rowResult.processed;
+                            totalAmount = totalAmount.add(rowResult.totalAmount);
+                        } catch (RuntimeException rowException) {
+                            failedCount++;
+                            log.error("월 감가상각 처리 실패 (시설물 ID {}), 재실행 시 다시 처리됩니다: {}",
+                                    row[0], rowException.getMessage(), rowException);
+                        }
+                    }
+                }
+            }
+
+            if (failedCount > 0) {
+                outcome = "partial";
+            }
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startTime;
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            double perSecond = elapsedNanos > 0 ? processedCount * 1_000_000_000.0 / elapsedNanos : 0.0;
+
+            result.put("status", outcome);
+            result.put("fiscalYear", fiscalYearMonth.getYear());
+            result.put("fiscalMonth", fiscalYearMonth.getMonthValue());
+            result.put("processedCount", processedCount);
+            result.put("failedCount", failedCount);
+            result.put("chunkCount", chunkCount);
+            result.put("retriedChunkCount", retriedChunkCount);
+            result.put("totalDepreciationAmount", totalAmount);
+            result.put("durationMs", durationMs);
+            result.put("facilitiesPerSecond", Math.round(perSecond * 10) / 10.0);
+
+            meterRegistry.timer("facility.depreciation.batch.duration", "result", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("facility.depreciation.batch.processed").increment(processedCount);
+            meterRegistry.counter("facility.depreciation.batch.failed").increment(failedCount);
+
+            log.info("월 감가상각 일괄 처리 완료: {}, 처리 {}건, 실패 {}건 ({}개 청크 중 {}개 시설물별 재처리), 총액 {}, {}ms ({}건/초)",
+                    fiscalYearMonth, processedCount, failedCount, chunkCount, retriedChunkCount,
+                    totalAmount, durationMs, result.get("facilitiesPerSecond"));
+        }
+
+        return result;
+    }
+
+    /**
+     * 청크 하나의 감가상각 계산 및 저장 (청크 트랜잭션 안에서 실행)
+     * @param rows [facilityId, 감가상각 방법 코드, 취득원가, 현재 가치, 내용연수(월)]
+     */
+    private ChunkResult processChunk(List<Object[]> rows, LocalDateTime depreciationDate,
+                                     YearMonth fiscalYearMonth, User createdBy) {
+        Code depreciationType = codeRepository.getReferenceById(DepreciationService.DEPRECIATION_TYPE_MONTHLY);
+        Map<String, Code> methodCodes = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Depreciation> depreciations = new ArrayList<>(rows.size());
+        Map<Long, BigDecimal> newCurrentValues = new LinkedHashMap<>();
+        Map<Long, BigDecimal> amountsByFacilityId = new LinkedHashMap<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (Object[] row : rows) {
+            Long facilityId = (Long) row[0];
+            String methodCode = (String) row[1];
+            BigDecimal acquisitionCost = (BigDecimal) row[2];
+            BigDecimal currentValue = (BigDecimal) row[3];
+            Integer usefulLifeMonths = (Integer) row[4];
+
+            BigDecimal amount = DepreciationService.calculateMonthlyDepreciation(
+                    methodCode, acquisitionCost, currentValue, usefulLifeMonths);
+            if (amount == null || amount.signum() <= 0) {
+                continue;
+            }
+            BigDecimal newCurrentValue = currentValue.subtract(amount);
+
+            Depreciation depreciation = new Depreciation();
+            depreciation.setFacility(facilityRepository.getReferenceById(facilityId));
+            depreciation.setDepreciationDate(depreciationDate);
+            depreciation.setPreviousValue(currentValue.doubleValue());
+            depreciation.setDepreciationAmount(amount.doubleValue());
+            depreciation.setCurrentValue(newCurrentValue.doubleValue());
+            depreciation.setDepreciationType(depreciationType);
+            depreciation.setDepreciationMethod(methodCodes.computeIfAbsent(methodCode, codeRepository::getReferenceById));
+            depreciation.setFiscalYear(fiscalYearMonth.getYear());
+            depreciation.setFiscalMonth(fiscalYearMonth.getMonthValue());
+            depreciation.setCreatedAt(now);
+            depreciation.setCreatedBy(createdBy);
+
+            depreciations.add(depreciation);
+            newCurrentValues.put(facilityId, newCurrentValue);
+            amountsByFacilityId.put(facilityId, amount);
+            totalAmount = totalAmount.add(amount);
+        }
+
+        if (depreciations.isEmpty()) {
+            return new ChunkResult(0, BigDecimal.ZERO);
+        }
+
+        depreciationJdbcRepository.insertDepreciations(depreciations);
+        depreciationJdbcRepository.updateFacilityCurrentValues(newCurrentValues, depreciationDate);
+        voucherService.createDepreciationVouchers(amountsByFacilityId, depreciationDate);
+
+        return new ChunkResult(depreciations.size(), totalAmount.setScale(2, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * 현재 사용자 조회 (일괄 처리 시작 시 한 번만 조회)
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() &&
+            !"anonymousUser".equals(authentication.getPrincipal())) {
+            return userRepository.findByUserId(authentication.getName()).orElse(null);
+        }
+        return null;
+    }
+
+    private static class ChunkResult {
+        private final int processed;
+        private final BigDecimal totalAmount;
+
+        ChunkResult(int processed, BigDecimal totalAmount) {
+            this.processed = processed;
+            this.totalAmount = totalAmount;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package com.inspection.facility.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.inspection.facility.dto.DepreciationProjectionDTO;
+import com.inspection.facility.dto.DepreciationProjectionDTO.FacilitySchedule;
+import com.inspection.facility.dto.DepreciationProjectionDTO.MonthlyValue;
+import com.inspection.facility.dto.DepreciationProjectionRequest;
+import com.inspection.facility.repository.DepreciationRepository;
+import com.inspection.facility.repository.FacilityRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감가상각 예상 스케줄 계산 서비스
+ *
+ * 시설물별 현재 장부가액에서 월 감가상각(DepreciationService 와 같은 정액법/정률법 규칙, 최소 유지 가치 1000원)을
+ * 반복 적용하여 지정한 기간의 월별 감가상각액과 장부가액을 계산합니다.
+ * 금액은 전(1/100원) 단위 long 으로 계산하며 BigDecimal 계산과 같은 반올림(HALF_UP) 결과를 내고,
+ * long 범위를 넘을 수 있는 금액만 BigDecimal 로 계산합니다.
+ * 시설물별 스케줄은 ForkJoinPool 에서 병렬로 계산하고 (시설물, 평가 버전) 단위로 메모리에 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepreciationProjectionService {
+
+    public static final int DEFAULT_HORIZON_MONTHS = 60;
+    public static final int MAX_HORIZON_MONTHS = 600;
+
+    // 이보다 많은 시설물은 JSON 응답에 시설물별 스케줄을 넣지 않음 (CSV 사용)
+    private static final int MAX_DETAIL_FACILITIES = 1000;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int PARALLEL_THRESHOLD = 128;
+    private static final int MAX_CACHED_SCHEDULES = 10_000;
+
+    private static final long MINIMUM_VALUE_CENTS = DepreciationService.MINIMUM_VALUE.movePointRight(2).longValueExact();
+    private static final long[] NO_DEPRECIATION = new long[0];
+
+    private final FacilityRepository facilityRepository;
+    private final DepreciationRepository depreciationRepository;
+
+    // (시설물, 평가 버전) -> 최소 유지 가치에 도달할 때까지의 월별 감가상각액 (전 단위, 최대 MAX_HORIZON_MONTHS 개월)
+    private final Map<ScheduleKey, long[]> scheduleCache = Collections.synchronizedMap(
+            new LinkedHashMap<ScheduleKey, long[]>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ScheduleKey, long[]> eldest) {
+                    return size() > MAX_CACHED_SCHEDULES;
+                }
+            });
+
+    /**
+     * 감가상각 예상 스케줄 조회
+     * 월별 전체 합계는 항상 포함하고, 시설물별 스케줄은 대상이 MAX_DETAIL_FACILITIES 이하일 때만 포함합니다.
+     */
+    public DepreciationProjectionDTO project(DepreciationProjectionRequest request) {
+        int horizonMonths = resolveHorizonMonths(request.getHorizonMonths());
+        YearMonth startMonth = YearMonth.now();
+        Set<Long> processedThisMonth = findProcessedFacilityIds(startMonth);
+
+        long[] totalAmounts = new long[horizonMonths];
+        long[] totalBookValues = new long[horizonMonths];
+        List<FacilitySchedule> details = new ArrayList<>();
+        int[] facilityCount = { 0 };
+
+        forEachChunk(request.getFacilityIds(), rows -> {
+            ProjectedFacility[] projected = projectChunk(rows, processedThisMonth, horizonMonths);
+            for (ProjectedFacility facility : projected) {
+                long bookValue = facility.currentValueCents();
+                for (int m = 0; m < horizonMonths; m++) {
+                    bookValue -= facility.amounts()[m];
+                    totalAmounts[m] += facility.amounts()[m];
+                    totalBookValues[m] += bookValue;
+                }
+                // 한도를 한 건 넘을 때까지만 모아 초과 여부를 판단
+                if (details.size() <= MAX_DETAIL_FACILITIES) {
+                    details.add(toFacilitySchedule(facility, startMonth));
+                }
+            }
+            facilityCount[0] += projected.length;
+        });
+
+        List<MonthlyValue> portfolio = new ArrayList<>(horizonMonths);
+        for (int m = 0; m < horizonMonths; m++) {
+            portfolio.add(toMonthlyValue(startMonth.plusMonths(m), totalAmounts[m], totalBookValues[m]));
+        }
+
+        return DepreciationProjectionDTO.builder()
+                .facilityCount(facilityCount[0])
+                .horizonMonths(horizonMonths)
+                .startMonth(startMonth.toString())
+                .portfolio(portfolio)
+                .facilities(details.size() <= MAX_DETAIL_FACILITIES ? details : null)
+                .build();
+    }
+
+    /**
+     * 감가상각 예상 스케줄 CSV 출력 (시설물/월 단위 행)
+     * 시설물을 청크 단위로 읽어 계산하고 바로 출력하므로 대상이 많아도 메모리에 모두 올리지 않습니다.
+     */
+    public void writeCsv(DepreciationProjectionRequest request, OutputStream outputStream) throws IOException {
+        int horizonMonths = resolveHorizonMonths(request.getHorizonMonths());
+        YearMonth startMonth = YearMonth.now();
+        Set<Long> processedThisMonth = findProcessedFacilityIds(startMonth);
+
+        String[] monthLabels = new String[horizonMonths];
+        for (int m = 0; m < horizonMonths; m++) {
+            monthLabels[m] = startMonth.plusMonths(m).toString();
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+        // 엑셀에서 한글이 깨지지 않도록 BOM 출력
+        writer.write('\uFEFF');
+        writer.write("facility_id,management_number,depreciation_method_code,year_month,depreciation_amount,book_value\n");
+
+        try {
+            forEachChunk(request.getFacilityIds(), rows -> {
+                try {
+                    for (ProjectedFacility facility : projectChunk(rows, processedThisMonth, horizonMonths)) {
+                        String prefix = facility.facilityId() + "," + csvValue(facility.managementNumber()) + ","
+                                + csvValue(facility.depreciationMethodCode()) + ",";
+                        long bookValue = facility.currentValueCents();
+                        for (int m = 0; m < horizonMonths; m++) {
+                            long amount = facility.amounts()[m];
+                            bookValue -= amount;
+                            writer.write(prefix);
+                            writer.write(monthLabels[m]);
+                            writer.write(',');
+                            writer.write(BigDecimal.valueOf(amount, 2).toPlainString());
+                            writer.write(',');
+                            writer.write(BigDecimal.valueOf(bookValue, 2).toPlainString());
+                            writer.write('\n');
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new CsvWriteException(e);
+                }
+            });
+        } catch (CsvWriteException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * 예상 기간 검증 (기본 DEFAULT_HORIZON_MONTHS, 최대 MAX_HORIZON_MONTHS)
+     */
+    public int resolveHorizonMonths(Integer horizonMonths) {
+        if (horizonMonths == null) {
+            return DEFAULT_HORIZON_MONTHS;
+        }
+        if (horizonMonths < 1 || horizonMonths > MAX_HORIZON_MONTHS) {
+            throw new IllegalArgumentException("예상 기간은 1 ~ " + MAX_HORIZON_MONTHS + "개월 사이여야 합니다.");
+        }
+        return horizonMonths;
+    }
+
+    /**
+     * 지정 시설물은 LOAD_CHUNK_SIZE 단위로, 전체 대상은 시설물 ID 순 청크로 조회
+     */
+    private void forEachChunk(List<Long> facilityIds, Consumer<List<Object[]>> chunkConsumer) {
+        if (facilityIds != null && !facilityIds.isEmpty()) {
+            List<Long> ids = facilityIds.stream().distinct().toList();
+            for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+                List<Object[]> rows = facilityRepository.findDepreciationProjectionRowsByIdIn(
+                        ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size())));
+                if (!rows.isEmpty()) {
+                    chunkConsumer.accept(rows);
+                }
+            }
+            return;
+        }
+
+        long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = facilityRepository.findDepreciationProjectionRowsAfter(
+                    lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            chunkConsumer.accept(rows);
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    /**
+     * 이번 달 감가상각이 이미 처리된 시설물 (이번 달 감가상각액 0, 다음 달부터 계산)
+     */
+    private Set<Long> findProcessedFacilityIds(YearMonth month) {
+        return new HashSet<>(depreciationRepository.findFacilityIdsByFiscalYearAndFiscalMonth(
+                month.getYear(), month.getMonthValue()));
+    }
+
+    /**
+     * 청크 내 시설물 스케줄 병렬 계산
+     * @param rows [facilityId, 관리번호, 감가상각 방법 코드, 취득원가, 현재 가치, 내용연수(월), 수정일시]
+     */
+    private ProjectedFacility[] projectChunk(List<Object[]> rows, Set<Long> processedThisMonth, int horizonMonths) {
+        ProjectedFacility[] result = new ProjectedFacility[rows.size()];
+        ForkJoinPool.commonPool().invoke(new ProjectionTask(rows, result, 0, rows.size(), processedThisMonth, horizonMonths));
+        return result;
+    }
+
+    private ProjectedFacility projectFacility(Object[] row, Set<Long> processedThisMonth, int horizonMonths) {
+        Long facilityId = (Long) row[0];
+        String methodCode = (String) row[2];
+        BigDecimal acquisitionCost = (BigDecimal) row[3];
+        BigDecimal currentValue = (BigDecimal) row[4];
+        Integer usefulLifeMonths = (Integer) row[5];
+        LocalDateTime updatedAt = (LocalDateTime) row[6];
+
+        long currentValueCents = currentValue.movePointRight(2).longValue();
+        // 계산은 캐시 잠금 밖에서 수행 (병렬 계산 중 다른 스레드가 대기하지 않도록)
+        ScheduleKey key = new ScheduleKey(facilityId, updatedAt, currentValue.stripTrailingZeros());
+        long[] schedule = scheduleCache.get(key);
+        if (schedule == null) {
+            schedule = computeSchedule(methodCode, acquisitionCost, currentValue, usefulLifeMonths);
+            scheduleCache.put(key, schedule);
+        }
+
+        // 이번 달 처리가 끝난 시설물은 다음 달부터 감가상각
+        int offset = processedThisMonth.contains(facilityId) ? 1 : 0;
+        long[] amounts = new long[horizonMonths];
+        int length = Math.min(schedule.length, horizonMonths - offset);
+        if (length > 0) {
+            System.arraycopy(schedule, 0, amounts, offset, length);
+        }
+        return new ProjectedFacility(facilityId, (String) row[1], methodCode, currentValueCents, amounts);
+    }
+
+    /**
+     * 최소 유지 가치에 도달할 때까지의 월별 감가상각액 계산 (전 단위)
+     * long 계산 중 범위를 넘거나 소수점 셋째 자리 이하 금액이 있으면 BigDecimal 로 계산합니다.
+     */
+    static long[] computeSchedule(String methodCode, BigDecimal acquisitionCost, BigDecimal currentValue,
+                                  Integer usefulLifeMonths) {
+        if (methodCode == null) {
+            return NO_DEPRECIATION;
+        }
+        try {
+            return computeScheduleInCents(methodCode, acquisitionCost.movePointRight(2).longValueExact(),
+                    currentValue.movePointRight(2).longValueExact(), usefulLifeMonths);
+        } catch (ArithmeticException e) {
+            return computeScheduleWithBigDecimal(methodCode, acquisitionCost, currentValue, usefulLifeMonths);
+        }
+    }
+
+    /**
+     * DepreciationService.calculateMonthlyDepreciation 과 같은 규칙의 long 계산
+     * 정액법: 취득원가 / 내용연수 (소수점 둘째 자리 HALF_UP)
+     * 정률법: 현재 가치 x round(24 / 내용연수, 4) (소수점 둘째 자리 HALF_UP)
+     */
+    private static long[] computeScheduleInCents(String methodCode, long acquisitionCents, long valueCents,
+                                                 int usefulLifeMonths) {
+        if (acquisitionCents < 0) {
+            throw new ArithmeticException("음수 취득원가는 BigDecimal 로 계산");
+        }
+        long months2 = 2L * usefulLifeMonths;
+        boolean decliningBalance = DepreciationService.DEPRECIATION_METHOD_DECLINING_BALANCE.equals(methodCode);
+        long straightLineAmount = (Math.multiplyExact(acquisitionCents, 2L) + usefulLifeMonths) / months2;
+        long rate = (480_000L + usefulLifeMonths) / months2;  // 상각률 x 10000
+
+        long[] buffer = new long[MAX_HORIZON_MONTHS];
+        int count = 0;
+        long value = valueCents;
+        while (count < MAX_HORIZON_MONTHS && value > MINIMUM_VALUE_CENTS) {
+            long amount = decliningBalance
+                    ? Math.addExact(Math.multiplyExact(Math.multiplyExact(value, rate), 2L), 10_000L) / 20_000L
+                    : straightLineAmount;
+            if (value - amount < MINIMUM_VALUE_CENTS) {
+                amount = value - MINIMUM_VALUE_CENTS;
+            }
+            if (amount <= 0) {
+                break;
+            }
+            buffer[count++] = amount;
+            value -= amount;
+        }
+        return count == 0 ? NO_DEPRECIATION : Arrays.copyOf(buffer, count);
+    }
+
+    private static long[] computeScheduleWithBigDecimal(String methodCode, BigDecimal acquisitionCost,
+                                                        BigDecimal currentValue, Integer usefulLifeMonths) {
+        long[] buffer = new long[MAX_HORIZON_MONTHS];
+        int count = 0;
+        BigDecimal value = currentValue;
+        while (count < MAX_HORIZON_MONTHS) {
+            BigDecimal amount = DepreciationService.calculateMonthlyDepreciation(
+                    methodCode, acquisitionCost, value, usefulLifeMonths);
+            if (amount == null || amount.signum() <= 0) {
+                break;
+            }
+            buffer[count++] = amount.movePointRight(2).longValue();
+            value = value.subtract(amount);
+        }
+        return count == 0 ? NO_DEPRECIATION : Arrays.copyOf(buffer, count);
+    }
+
+    private FacilitySchedule toFacilitySchedule(ProjectedFacility facility, YearMonth startMonth) {
+        List<MonthlyValue> schedule = new ArrayList<>(facility.amounts().length);
+        long bookValue = facility.currentValueCents();
+        for (int m = 0; m < facility.amounts().length; m++) {
+            bookValue -= facility.amounts()[m];
+            schedule.add(toMonthlyValue(startMonth.plusMonths(m), facility.amounts()[m], bookValue));
+        }
+        return FacilitySchedule.builder()
+                .facilityId(facility.facilityId())
+                .managementNumber(facility.managementNumber())
+                .depreciationMethodCode(facility.depreciationMethodCode())
+                .currentValue(BigDecimal.valueOf(facility.currentValueCents(), 2))
+                .schedule(schedule)
+                .build();
+    }
+
+    private MonthlyValue toMonthlyValue(YearMonth month, long amountCents, long bookValueCents) {
+        return MonthlyValue.builder()
+                .yearMonth(month.toString())
+                .depreciationAmount(BigDecimal.valueOf(amountCents, 2))
+                .bookValue(BigDecimal.valueOf(bookValueCents, 2))
+                .build();
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * 스케줄 캐시 키
+     * 장부가액이 바뀌거나 시설물 정보(감가상각 방법, 내용연수 등)가 수정되면 새 키가 됩니다.
+     */
+    private record ScheduleKey(Long facilityId, LocalDateTime updatedAt, BigDecimal currentValue) {
+    }
+
+    private record ProjectedFacility(Long facilityId, String managementNumber, String depreciationMethodCode,
+                                     long currentValueCents, long[] amounts) {
+    }
+
+    /**
+     * 시설물 목록을 PARALLEL_THRESHOLD 이하로 나누어 병렬 계산
+     */
+    private class ProjectionTask extends RecursiveAction {
+
+        private final List<Object[]> rows;
+        private final ProjectedFacility[] result;
+        private final int from;
+        private final int to;
+        private final Set<Long> processedThisMonth;
+        private final int horizonMonths;
+
+        ProjectionTask(List<Object[]> rows, ProjectedFacility[] result, int from, int to,
+                       Set<Long> processedThisMonth, int horizonMonths) {
+            this.rows = rows;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.processedThisMonth = processedThisMonth;
+            this.horizonMonths = horizonMonths;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    result[i] = projectFacility(rows.get(i), processedThisMonth, horizonMonths);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ProjectionTask(rows, result, from, middle, processedThisMonth, horizonMonths),
+                      new ProjectionTask(rows, result, middle, to, processedThisMonth, horizonMonths));
+        }
+    }
+
+    /**
+     * 청크 처리 람다 안에서 발생한 IOException 전달용
+     */
+    private static class CsvWriteException extends RuntimeException {
+        CsvWriteException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
@@ -46,11 +46,14 @@ public class DepreciationService {
     
     // 감가상각 유형 코드
     private static final String DEPRECIATION_TYPE_DAILY = "002009_0001";   // 일마감
-    private static final String DEPRECIATION_TYPE_MONTHLY = "002009_0002"; // 월마감
+    public static final String DEPRECIATION_TYPE_MONTHLY = "002009_0002"; // 월마감
     
     // 감가상각 방법 코드
-    private static final String DEPRECIATION_METHOD_STRAIGHT_LINE = "002006_0001"; // 정액법
-    private static final String DEPRECIATION_METHOD_DECLINING_BALANCE = "002006_0002"; // 정률법
+    public static final String DEPRECIATION_METHOD_STRAIGHT_LINE = "002006_0001"; // 정액법
+    public static final String DEPRECIATION_METHOD_DECLINING_BALANCE = "002006_0002"; // 정률법
+    
+    // 최소 유지 가치 (1000원)
+    public static final BigDecimal MINIMUM_VALUE = BigDecimal.valueOf(1000);
 
     /**
      * 시설물의 감가상각 기록 조회
@@ -209,24 +212,14 @@ public class DepreciationService {
             return null;
         }
         
-        // 최소 유지 가치 설정 (1000원)
-        BigDecimal minimumValue = BigDecimal.valueOf(1000);
-        
-        // 현재 가치가 이미 최소값(1000원) 이하면 더 이상 감가상각할 필요 없음
-        if (currentValue.compareTo(minimumValue) <= 0) {
-            return null;
-        }
-        
-        // 감가상각액 계산
-        BigDecimal depreciationAmount = calculateDepreciationAmount(
+        // 감가상각액 계산 (현재 가치가 이미 최소값 이하면 더 이상 감가상각할 필요 없음)
+        BigDecimal depreciationAmount = calculateMonthlyDepreciation(
                 facility.getDepreciationMethod().getCodeId(),
                 acquisitionCost,
                 currentValue,
                 facility.getUsefulLifeMonths());
-        
-        // 감가상각 후 가치가 최소값(1000원) 미만이 되면, 최소값까지만 감가상각
-        if (currentValue.subtract(depreciationAmount).compareTo(minimumValue) < 0) {
-            depreciationAmount = currentValue.subtract(minimumValue);
+        if (depreciationAmount == null) {
+            return null;
         }
         
         // 새 장부가액 계산
@@ -271,10 +264,31 @@ public class DepreciationService {
         return DepreciationDTO.fromEntity(savedDepreciation);
     }
     
+    /**
+     * 월 감가상각액 계산 (최소 유지 가치 적용)
+     * 단건 처리와 일괄 처리(DepreciationBatchService)가 같은 계산을 사용합니다.
+     * @return 감가상각액, 현재 가치가 최소 유지 가치 이하라 상각할 금액이 없으면 null
+     */
+    public static BigDecimal calculateMonthlyDepreciation(String depreciationMethodCode, BigDecimal acquisitionCost,
+            BigDecimal currentValue, Integer usefulLifeMonths) {
+        if (currentValue.compareTo(MINIMUM_VALUE) <= 0) {
+            return null;
+        }
+        
+        BigDecimal depreciationAmount = calculateDepreciationAmount(
+                depreciationMethodCode, acquisitionCost, currentValue, usefulLifeMonths);
+        
+        // 감가상각 후 가치가 최소값(1000원) 미만이 되면, 최소값까지만 감가상각
+        if (currentValue.subtract(depreciationAmount).compareTo(MINIMUM_VALUE) < 0) {
+            depreciationAmount = currentValue.subtract(MINIMUM_VALUE);
+        }
+        return depreciationAmount;
+    }
+    
     /**
      * 감가상각액 계산
      */
-    private BigDecimal calculateDepreciationAmount(String depreciationMethodCode, BigDecimal acquisitionCost, 
+    private static BigDecimal calculateDepreciationAmount(String depreciationMethodCode, BigDecimal acquisitionCost, 
             BigDecimal currentValue, Integer usefulLifeMonths) {
         
         // 정액법 (월 단위 균등 상각)
@@ -1,10 +1,6 @@
 package com.inspection.facility.service;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.net.URLConnection;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -21,19 +17,23 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
 
 import com.inspection.entity.Code;
+import com.inspection.enums.ImageVariant;
 import com.inspection.facility.dto.FacilityImageDTO;
 import com.inspection.facility.entity.Facility;
 import com.inspection.facility.entity.Image;
 import com.inspection.facility.repository.FacilityRepository;
 import com.inspection.facility.repository.ImageRepository;
 import com.inspection.repository.CodeRepository;
+import com.inspection.service.ImageVariantService;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityNotFoundException;
@@ -48,6 +48,8 @@ public class FacilityImageService {
     private final ImageRepository imageRepository;
     private final FacilityRepository facilityRepository;
     private final CodeRepository codeRepository;
+    private final ImageVariantService imageVariantService;
+    private final FacilityQrCodeService facilityQrCodeService;
     
     @Value("${file.facility-image.path}")
     private String uploadPath;
@@ -74,8 +76,9 @@ public class FacilityImageService {
             throw new EntityNotFoundException("시설물을 찾을 수 없습니다: " + facilityId);
         }
         
+        String viewUriPrefix = viewUriPrefix();
         return imageRepository.findByFacilityFacilityIdAndActiveTrue(facilityId).stream()
-                .map(this::convertToDTO)
+                .map(image -> convertToDTO(image, viewUriPrefix))
                 .collect(Collectors.toList());
     }
     
@@ -134,6 +137,7 @@ public class FacilityImageService {
             .build();
         
         Image savedImage = imageRepository.save(image);
+        requestVariants(savedImage);
 
         return convertToDTO(savedImage);
     }
@@ -161,6 +165,7 @@ public class FacilityImageService {
             // 새 파일 저장
             String fileName = storeFile(file);
             image.setImageUrl(fileName);
+            image.setVariantsReady(false);
         }
         
         // 수정자 정보 업데이트
@@ -169,6 +174,9 @@ public class FacilityImageService {
         }
         
         Image updatedImage = imageRepository.save(image);
+        if (!updatedImage.isVariantsReady()) {
+            requestVariants(updatedImage);
+        }
 
         return convertToDTO(updatedImage);
     }
@@ -243,6 +251,7 @@ public class FacilityImageService {
     private boolean deleteFileFromDisk(String filename) {
         try {
             Path filePath = this.storageLocation.resolve(filename);
+            imageVariantService.deleteVariants(filePath);
             return Files.deleteIfExists(filePath);
         } catch (IOException ex) {
             log.error("시설물 이미지 파일 삭제 실패: {}", filename, ex);
@@ -250,6 +259,23 @@ public class FacilityImageService {
         }
     }
     
+    /**
+     * 커밋 후 썸네일/중간 크기 파생본 생성 요청
+     */
+    private void requestVariants(Image image) {
+        Long imageId = image.getImageId();
+        String imageUrl = image.getImageUrl();
+        imageVariantService.generateAfterCommit(resolveImageFile(imageUrl),
+                () -> imageRepository.markVariantsReady(imageId, imageUrl));
+    }
+    
+    /**
+     * 저장된 이미지 파일명으로 실제 파일 경로 반환
+     */
+    public Path resolveImageFile(String fileName) {
+        return this.storageLocation.resolve(fileName).normalize();
+    }
+    
     /**
      * 파일 확장자 추출
      */
@@ -265,14 +291,28 @@ public class FacilityImageService {
      * Entity -> DTO 변환
      */
     private FacilityImageDTO convertToDTO(Image image) {
-        String fileDownloadUri = ServletUriComponentsBuilder.fromCurrentContextPath()
-                .path("/api/facility-images/view/")
-                .path(image.getImageUrl())
-                .toUriString();
+        return convertToDTO(image, viewUriPrefix());
+    }
+    
+    /**
+     * Entity -> DTO 변환 (목록 변환 시 미리 만든 조회 URL prefix 사용)
+     */
+    private FacilityImageDTO convertToDTO(Image image, String viewUriPrefix) {
+        String fileDownloadUri = viewUriPrefix + UriUtils.encodePath(image.getImageUrl(), StandardCharsets.UTF_8);
+        
+        // 파생본이 아직 없으면 원본 주소 사용
+        String thumbnailUri = fileDownloadUri;
+        String mediumUri = fileDownloadUri;
+        if (image.isVariantsReady()) {
+            thumbnailUri = viewUriPrefix + UriUtils.encodePath(ImageVariant.THUMBNAIL.pathFor(image.getImageUrl()), StandardCharsets.UTF_8);
+            mediumUri = viewUriPrefix + UriUtils.encodePath(ImageVariant.MEDIUM.pathFor(image.getImageUrl()), StandardCharsets.UTF_8);
+        }
         
         return FacilityImageDTO.builder()
                 .imageId(image.getImageId())
                 .imageUrl(fileDownloadUri)
+                .thumbnailUrl(thumbnailUri)
+                .mediumUrl(mediumUri)
                 .imageTypeCode(image.getImageType() != null ? image.getImageType().getCodeId() : null)
                 .imageTypeName(image.getImageType() != null ? image.getImageType().getCodeName() : null)
                 .facilityId(image.getFacility() != null ? image.getFacility().getFacilityId() : null)
@@ -283,6 +323,15 @@ public class FacilityImageService {
                 .build();
     }
     
+    /**
+     * 시설물 이미지 조회 URL prefix (예: http://host/context/api/facility-images/view/)
+     */
+    private String viewUriPrefix() {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/facility-images/view/")
+                .toUriString();
+    }
+    
     /**
      * 모든 시설물의 정면 이미지만 조회 (썸네일용)
      */
@@ -298,8 +347,9 @@ public class FacilityImageService {
         // 활성화된 모든 시설물 정면 이미지 조회
         List<Image> frontImages = imageRepository.findByImageTypeCodeIdAndActiveTrue(frontImageTypeCode);
         
+        String viewUriPrefix = viewUriPrefix();
         return frontImages.stream()
-                .map(this::convertToDTO)
+                .map(image -> convertToDTO(image, viewUriPrefix))
                 .collect(Collectors.toList());
     }
     
@@ -317,16 +367,35 @@ public class FacilityImageService {
         
         // 시설물 ID를 키로, 이미지 정보를 값으로 하는 맵 생성
         Map<Long, FacilityImageDTO> result = new HashMap<>();
+        String viewUriPrefix = viewUriPrefix();
         for (Image image : frontImages) {
             Long facilityId = image.getFacility().getFacilityId();
             if (!result.containsKey(facilityId)) {
-                result.put(facilityId, convertToDTO(image));
+                result.put(facilityId, convertToDTO(image, viewUriPrefix));
             }
         }
         
         return result;
     }
     
+    /**
+     * 여러 시설물의 QR 코드를 비동기로 생성 (대량 등록 후 커밋 시점에 호출)
+     * 개별 실패는 로그만 남기고 다음 시설물을 계속 처리합니다.
+     */
+    @Async("queryTaskExecutor")
+    public void generateQrCodesAsync(List<Long> facilityIds) {
+        int successCount = 0;
+        for (Long facilityId : facilityIds) {
+            try {
+                generateAndSaveQrCode(facilityId);
+                successCount++;
+            } catch (Exception e) {
+                log.error("시설물 QR 코드 생성 중 오류 발생: {}, 시설물 ID: {}", e.getMessage(), facilityId);
+            }
+        }
+        log.info("시설물 QR 코드 일괄 생성 완료: {}/{}건", successCount, facilityIds.size());
+    }
+    
     /**
      * 시설물 QR 코드 이미지 생성 및 저장
      */
@@ -353,18 +422,8 @@ public class FacilityImageService {
                 return convertToDTO(existingQrCodes.get(0));
             }
             
-            // QR 코드 URL 생성 (상세 페이지 URL)
-            String facilityDetailUrl = "https://tirebank.jebee.net//facility-detail/" + facilityId;
-            String encodedUrl = URLEncoder.encode(facilityDetailUrl, StandardCharsets.UTF_8.toString());
-            String qrApiUrl = "https://quickchart.io/qr?text=" + encodedUrl;
-            
-            log.debug("QR 코드 API URL: {}", qrApiUrl);
-            
-            // QR 이미지 다운로드
-            URL url = new URL(qrApiUrl);
-            URLConnection connection = url.openConnection();
-            connection.setConnectTimeout(5000);
-            connection.setReadTimeout(5000);
+            // QR 코드 이미지 생성 (서버에서 직접 인코딩, 캐시 사용)
+            byte[] qrPng = facilityQrCodeService.getPng(facilityId);
             
             // 현재 날짜 및 시간을 한국식 형식으로 변환 (예: 20230801_153045)
             String dateTimeFormat = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
@@ -383,9 +442,7 @@ public class FacilityImageService {
             Path targetLocation = this.storageLocation.resolve(fileName);
             
             // 이미지 저장
-            try (InputStream inputStream = connection.getInputStream()) {
-                Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
-            }
+            Files.write(targetLocation, qrPng);
             
             log.info("QR 코드 이미지가 저장되었습니다: {}", targetLocation);
             
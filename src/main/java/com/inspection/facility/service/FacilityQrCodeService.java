@@ -0,0 +1,444 @@
+package com.inspection.facility.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.imageio.ImageIO;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.inspection.facility.repository.FacilityRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시설물 QR 코드 생성 서비스
+ * 외부 QR API 호출 없이 서버에서 직접 인코딩하여 PNG/SVG 로 렌더링하고,
+ * PNG 는 "시설물ID_상세URL해시.png" 로 디스크에 캐시하여 같은 시설물은 다시 그리지 않습니다.
+ * 대량 출력은 queryTaskExecutor 에서 병렬로 렌더링한 뒤 ZIP 또는 라벨 PDF 로 묶습니다.
+ */
+@Slf4j
+@Service
+public class FacilityQrCodeService {
+
+    // 대량 출력 1회 최대 시설물 수
+    public static final int MAX_BULK_SIZE = 5000;
+
+    private static final int PNG_TARGET_SIZE = 300;     // PNG 한 변 목표 픽셀 (모듈 단위 정수배로 맞춤)
+    private static final int QUIET_ZONE_MODULES = 2;    // QR 주변 여백 (모듈 수)
+    private static final int BULK_PARTITION_SIZE = 100; // 병렬 렌더링 작업 단위
+    // PDFBox 2 는 CFF 기반 OTF 를 Type0 폰트로 임베드할 수 없으므로 리소스 중 유일한 TrueType 폰트 사용
+    private static final String FONT_PATH = "/fonts/nanum-gothic/NanumGothicLight.ttf";
+
+    // A4 라벨 배치 (3열 x 5행, 단위 pt)
+    private static final int LABEL_COLUMNS = 3;
+    private static final int LABEL_ROWS = 5;
+    private static final float PAGE_MARGIN = 28f;
+    private static final float LABEL_QR_SIZE = 110f;
+    private static final float TITLE_FONT_SIZE = 10f;
+    private static final float SUBTITLE_FONT_SIZE = 8f;
+
+    private final FacilityRepository facilityRepository;
+    private final Executor queryTaskExecutor;
+
+    @Value("${facility.qr.detail-url-prefix:https://tirebank.jebee.net//facility-detail/}")
+    private String detailUrlPrefix;
+
+    @Value("${file.facility-image.path}")
+    private String uploadPath;
+
+    private Path cacheLocation;
+
+    public FacilityQrCodeService(FacilityRepository facilityRepository,
+                                 @Qualifier("queryTaskExecutor") Executor queryTaskExecutor) {
+        this.facilityRepository = facilityRepository;
+        this.queryTaskExecutor = queryTaskExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            this.cacheLocation = Paths.get(uploadPath).toAbsolutePath().normalize().resolve("qr-cache");
+            Files.createDirectories(this.cacheLocation);
+        } catch (IOException e) {
+            throw new RuntimeException("QR 코드 캐시 디렉토리를 생성할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * QR 코드에 담을 시설물 상세 페이지 URL
+     */
+    public String detailUrl(Long facilityId) {
+        return detailUrlPrefix + facilityId;
+    }
+
+    /**
+     * 시설물 존재 여부 (단건 조회 시 없는 ID 의 QR 코드가 캐시에 쌓이지 않도록 먼저 확인)
+     */
+    public boolean exists(Long facilityId) {
+        return facilityId != null && facilityRepository.existsById(facilityId);
+    }
+
+    /**
+     * 시설물 QR 코드 PNG (캐시에 있으면 캐시 사용)
+     * 시설물 존재 여부는 확인하지 않으므로 호출 측에서 확인된 ID 만 전달해야 합니다.
+     */
+    public byte[] getPng(Long facilityId) {
+        String content = detailUrl(facilityId);
+        Path cached = cacheLocation.resolve(facilityId + "_" + shortHash(content) + ".png");
+        if (Files.isRegularFile(cached)) {
+            try {
+                return Files.readAllBytes(cached);
+            } catch (IOException e) {
+                log.warn("QR 코드 캐시 읽기 실패, 다시 생성합니다: {}, {}", cached, e.getMessage());
+            }
+        }
+
+        byte[] png = renderPng(content);
+        try {
+            // 임시 파일에 쓴 뒤 이동하여 동시 요청이 부분적으로 쓰인 파일을 읽지 않도록 함
+            Path temp = Files.createTempFile(cacheLocation, facilityId + "_", ".tmp");
+            Files.write(temp, png);
+            Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("QR 코드 캐시 저장 실패: {}, {}", cached, e.getMessage());
+        }
+        return png;
+    }
+
+    /**
+     * 시설물 QR 코드 SVG (벡터이므로 캐시하지 않음)
+     */
+    public String getSvg(Long facilityId) {
+        BitMatrix matrix = encode(detailUrl(facilityId));
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+
+        StringBuilder path = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                // 한 행에서 연속된 검은 모듈은 하나의 사각형으로 묶음
+                int start = x;
+                while (x < width && matrix.get(x, y)) {
+                    x++;
+                }
+                int run = x - start;
+                path.append('M').append(start).append(',').append(y)
+                    .append('h').append(run).append("v1h-").append(run).append('z');
+            }
+        }
+
+        return "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 " + width + " " + height + "\" "
+                + "shape-rendering=\"crispEdges\">"
+                + "<rect width=\"100%\" height=\"100%\" fill=\"#ffffff\"/>"
+                + "<path fill=\"#000000\" d=\"" + path + "\"/></svg>";
+    }
+
+    /**
+     * 여러 시설물의 QR 코드 PNG 를 병렬로 생성
+     * @return 요청 순서를 유지한 시설물 ID -> PNG
+     */
+    public Map<Long, byte[]> getPngs(List<Long> facilityIds) {
+        List<CompletableFuture<Map<Long, byte[]>>> futures = new ArrayList<>();
+        for (int from = 0; from < facilityIds.size(); from += BULK_PARTITION_SIZE) {
+            List<Long> partition = facilityIds.subList(from, Math.min(from + BULK_PARTITION_SIZE, facilityIds.size()));
+            futures.add(renderPartitionAsync(partition));
+        }
+
+        Map<Long, byte[]> result = new LinkedHashMap<>();
+        try {
+            for (CompletableFuture<Map<Long, byte[]>> future : futures) {
+                result.putAll(future.join());
+            }
+        } catch (CompletionException e) {
+            throw new RuntimeException("QR 코드 일괄 생성 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause());
+        }
+        return result;
+    }
+
+    /**
+     * 시설물 QR 코드 PNG 묶음 ZIP 생성
+     * 파일명은 "QR_관리번호.png" (관리번호가 없으면 "QR_ID시설물ID.png")
+     */
+    public byte[] createZip(List<Long> facilityIds) {
+        List<Long> requestedIds = validateBulkIds(facilityIds);
+        Map<Long, String[]> labels = loadLabels(requestedIds);
+        Map<Long, byte[]> pngs = getPngs(existingIds(requestedIds, labels));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            // PNG 는 이미 압축된 형식이므로 재압축하지 않음
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            Set<String> usedNames = new HashSet<>();
+            for (Map.Entry<Long, byte[]> entry : pngs.entrySet()) {
+                String baseName = "QR_" + toFileNamePart(entry.getKey(), labels.get(entry.getKey()));
+                String fileName = usedNames.add(baseName) ? baseName + ".png" : baseName + "_" + entry.getKey() + ".png";
+                zip.putNextEntry(new ZipEntry(fileName));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("QR 코드 ZIP 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        log.info("QR 코드 ZIP 생성 완료: {}건, {} bytes", pngs.size(), out.size());
+        return out.toByteArray();
+    }
+
+    /**
+     * 시설물 QR 코드 라벨 PDF 생성 (A4, 페이지당 3열 x 5행)
+     * 각 라벨에는 QR 코드와 관리번호, 현재 위치 매장명을 출력합니다.
+     */
+    public byte[] createLabelPdf(List<Long> facilityIds) {
+        List<Long> requestedIds = validateBulkIds(facilityIds);
+        Map<Long, String[]> labels = loadLabels(requestedIds);
+        Map<Long, byte[]> pngs = getPngs(existingIds(requestedIds, labels));
+
+        try (PDDocument document = new PDDocument();
+             InputStream fontStream = getClass().getResourceAsStream(FONT_PATH)) {
+            if (fontStream == null) {
+                throw new IOException("폰트 파일을 찾을 수 없습니다: " + FONT_PATH);
+            }
+            // 폰트는 문서당 한 번만 로드 (사용한 글자만 서브셋으로 포함)
+            PDType0Font font = PDType0Font.load(document, fontStream);
+
+            PDRectangle pageSize = PDRectangle.A4;
+            float cellWidth = (pageSize.getWidth() - PAGE_MARGIN * 2) / LABEL_COLUMNS;
+            float cellHeight = (pageSize.getHeight() - PAGE_MARGIN * 2) / LABEL_ROWS;
+            int labelsPerPage = LABEL_COLUMNS * LABEL_ROWS;
+
+            List<Map.Entry<Long, byte[]>> entries = new ArrayList<>(pngs.entrySet());
+            for (int pageStart = 0; pageStart < entries.size(); pageStart += labelsPerPage) {
+                PDPage page = new PDPage(pageSize);
+                document.addPage(page);
+
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    int pageEnd = Math.min(pageStart + labelsPerPage, entries.size());
+                    for (int i = pageStart; i < pageEnd; i++) {
+                        int slot = i - pageStart;
+                        float cellX = PAGE_MARGIN + (slot % LABEL_COLUMNS) * cellWidth;
+                        float cellTop = pageSize.getHeight() - PAGE_MARGIN - (slot / LABEL_COLUMNS) * cellHeight;
+
+                        Long facilityId = entries.get(i).getKey();
+                        String[] label = labels.get(facilityId);
+                        BufferedImage qrImage = ImageIO.read(new ByteArrayInputStream(entries.get(i).getValue()));
+                        PDImageXObject image = LosslessFactory.createFromImage(document, qrImage);
+
+                        float qrX = cellX + (cellWidth - LABEL_QR_SIZE) / 2;
+                        float qrY = cellTop - 10f - LABEL_QR_SIZE;
+                        content.drawImage(image, qrX, qrY, LABEL_QR_SIZE, LABEL_QR_SIZE);
+
+                        String title = label != null && label[0] != null && !label[0].isBlank() ? label[0] : "ID " + facilityId;
+                        String subtitle = label != null ? label[1] : null;
+                        drawCenteredText(content, font, TITLE_FONT_SIZE, title, cellX, cellWidth, qrY - 14f);
+                        drawCenteredText(content, font, SUBTITLE_FONT_SIZE, subtitle, cellX, cellWidth, qrY - 27f);
+                    }
+                }
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            log.info("QR 코드 라벨 PDF 생성 완료: {}건, {}페이지", entries.size(), document.getNumberOfPages());
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("QR 코드 라벨 PDF 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private CompletableFuture<Map<Long, byte[]>> renderPartitionAsync(List<Long> partition) {
+        try {
+            return CompletableFuture.supplyAsync(() -> renderPartition(partition), queryTaskExecutor);
+        } catch (TaskRejectedException e) {
+            // 작업 큐가 가득 찬 경우 요청 스레드에서 직접 생성
+            return CompletableFuture.completedFuture(renderPartition(partition));
+        }
+    }
+
+    private Map<Long, byte[]> renderPartition(List<Long> partition) {
+        Map<Long, byte[]> result = new LinkedHashMap<>();
+        for (Long facilityId : partition) {
+            result.put(facilityId, getPng(facilityId));
+        }
+        return result;
+    }
+
+    private byte[] renderPng(String content) {
+        BitMatrix matrix = encode(content);
+        int modules = matrix.getWidth();
+        // 모듈 경계가 흐려지지 않도록 정수배로만 확대
+        int scale = Math.max(1, PNG_TARGET_SIZE / modules);
+        int size = modules * scale;
+
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_BYTE_BINARY);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.setColor(Color.BLACK);
+            for (int y = 0; y < modules; y++) {
+                for (int x = 0; x < modules; x++) {
+                    if (matrix.get(x, y)) {
+                        g.fillRect(x * scale, y * scale, scale, scale);
+                    }
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new RuntimeException("QR 코드 PNG 변환 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * QR 코드 인코딩 (모듈당 1픽셀, 여백 포함)
+     */
+    private BitMatrix encode(String content) {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+        hints.put(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
+        hints.put(EncodeHintType.MARGIN, QUIET_ZONE_MODULES);
+        try {
+            return new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, 0, 0, hints);
+        } catch (WriterException e) {
+            throw new RuntimeException("QR 코드 인코딩 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Long> validateBulkIds(List<Long> facilityIds) {
+        if (facilityIds == null || facilityIds.isEmpty()) {
+            throw new IllegalArgumentException("QR 코드를 생성할 시설물 ID 목록이 비어 있습니다.");
+        }
+        List<Long> ids = facilityIds.stream().filter(id -> id != null).distinct().toList();
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("QR 코드는 한 번에 최대 " + MAX_BULK_SIZE + "건까지 생성할 수 있습니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 존재하는 시설물 ID 만 요청 순서대로 반환
+     */
+    private List<Long> existingIds(List<Long> requestedIds, Map<Long, String[]> labels) {
+        List<Long> ids = requestedIds.stream().filter(labels::containsKey).toList();
+        if (ids.isEmpty()) {
+            throw new EntityNotFoundException("QR 코드를 생성할 시설물을 찾을 수 없습니다.");
+        }
+        if (ids.size() < requestedIds.size()) {
+            log.warn("존재하지 않는 시설물 {}건은 QR 코드 출력에서 제외합니다.", requestedIds.size() - ids.size());
+        }
+        return ids;
+    }
+
+    /**
+     * @return 시설물 ID -> [관리번호, 현재 위치 매장명]
+     */
+    private Map<Long, String[]> loadLabels(List<Long> facilityIds) {
+        Map<Long, String[]> labels = new HashMap<>();
+        for (Object[] row : facilityRepository.findQrLabelInfoByIdIn(facilityIds)) {
+            labels.put((Long) row[0], new String[] { (String) row[1], (String) row[2] });
+        }
+        return labels;
+    }
+
+    private String toFileNamePart(Long facilityId, String[] label) {
+        String managementNumber = label != null ? label[0] : null;
+        if (managementNumber == null || managementNumber.isEmpty()) {
+            return "ID" + facilityId;
+        }
+        // 관리번호에 있을 수 있는 특수문자 제거 (파일명에 사용 불가한 문자 제거)
+        return managementNumber.replaceAll("[\\\\/:*?\"<>|]", "_");
+    }
+
+    private void drawCenteredText(PDPageContentStream content, PDType0Font font, float fontSize,
+                                  String text, float cellX, float cellWidth, float baseline) throws IOException {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        float maxWidth = cellWidth - 8f;
+        try {
+            String fitted = text;
+            while (fitted.length() > 1 && font.getStringWidth(fitted) / 1000 * fontSize > maxWidth) {
+                fitted = fitted.substring(0, fitted.length() - 1);
+            }
+            if (!fitted.equals(text)) {
+                fitted = fitted.substring(0, Math.max(1, fitted.length() - 2)) + "..";
+            }
+            float textWidth = font.getStringWidth(fitted) / 1000 * fontSize;
+            content.beginText();
+            content.setFont(font, fontSize);
+            content.newLineAtOffset(cellX + (cellWidth - textWidth) / 2, baseline);
+            content.showText(fitted);
+            content.endText();
+        } catch (IllegalArgumentException e) {
+            // 폰트에 없는 문자가 포함된 경우 해당 문구만 생략
+            log.warn("QR 라벨 문구 출력 실패: {}, {}", text, e.getMessage());
+        }
+    }
+
+    private static String shortHash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
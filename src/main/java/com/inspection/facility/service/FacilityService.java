@@ -1,13 +1,15 @@
 package com.inspection.facility.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.dao.DataIntegrityViolationException;
@@ -20,10 +22,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 import com.inspection.as.entity.ServiceRequest;
 import com.inspection.as.repository.ServiceRequestRepository;
+import com.inspection.as.service.ServiceRequestSearchIndexService;
 import com.inspection.entity.Code;
 import com.inspection.entity.Company;
 import com.inspection.facility.dto.FacilityBatchCreateRequest;
@@ -33,11 +38,14 @@ import com.inspection.facility.dto.FacilitySearchRequest;
 import com.inspection.facility.dto.FacilityUpdateRequest;
 import com.inspection.facility.dto.InboundTransactionRequest;
 import com.inspection.facility.entity.Facility;
+import com.inspection.facility.repository.FacilityJdbcRepository;
 import com.inspection.facility.repository.FacilityRepository;
+import com.inspection.facility.repository.UpcomingDeadlineRepository;
 import com.inspection.facility.specification.FacilitySpecification;
 import com.inspection.repository.CodeRepository;
 import com.inspection.repository.CompanyRepository;
 import com.inspection.util.EncryptionUtil;
+import com.inspection.util.IdBlockAllocator;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.Predicate;
@@ -49,6 +57,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FacilityService {
 
+    // 관리번호 일련번호 세그먼트 이름 접두사 (id_blocks.segment_name, 관리번호 접두사와 합쳐 최대 64자)
+    private static final String MANAGEMENT_NUMBER_SEGMENT_PREFIX = "facility_mgmt_no:";
+    
     private final FacilityRepository facilityRepository;
     private final CodeRepository codeRepository;
     private final CompanyRepository companyRepository;
@@ -56,6 +67,10 @@ public class FacilityService {
     private final FacilityTransactionService facilityTransactionService;
     private final FacilityImageService facilityImageService;
     private final EncryptionUtil encryptionUtil;
+    private final FacilityJdbcRepository facilityJdbcRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final ServiceRequestSearchIndexService serviceRequestSearchIndexService;
+    private final UpcomingDeadlineService upcomingDeadlineService;
     
     /**
      * 모든 시설물 조회
@@ -199,7 +214,12 @@ public class FacilityService {
      */
     @Transactional(readOnly = true)
     public List<FacilityDTO> getWarrantyExpiringFacilities(LocalDateTime startDate, LocalDateTime endDate) {
-        return facilityRepository.findByWarrantyEndDateBetween(startDate, endDate).stream()
+        // 기한 인덱스로 처리할 수 없으면 시설물 테이블 조회
+        List<Facility> facilities = upcomingDeadlineService
+                .findSourceIds(UpcomingDeadlineRepository.TYPE_WARRANTY_END, startDate, endDate, null)
+                .map(this::findAllByIdInOrder)
+                .orElseGet(() -> facilityRepository.findByWarrantyEndDateBetween(startDate, endDate));
+        return facilities.stream()
                 .map(FacilityDTO::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -209,11 +229,27 @@ public class FacilityService {
      */
     @Transactional(readOnly = true)
     public List<FacilityDTO> getWarrantyExpiringFacilities(LocalDateTime startDate, LocalDateTime endDate, Long companyId) {
-        return facilityRepository.findWarrantyExpiring(startDate, endDate, companyId).stream()
+        List<Facility> facilities = upcomingDeadlineService
+                .findSourceIds(UpcomingDeadlineRepository.TYPE_WARRANTY_END, startDate, endDate, companyId)
+                .map(this::findAllByIdInOrder)
+                .orElseGet(() -> facilityRepository.findWarrantyExpiring(startDate, endDate, companyId));
+        return facilities.stream()
                 .map(FacilityDTO::fromEntity)
                 .collect(Collectors.toList());
     }
     
+    /**
+     * ID 목록 순서대로 시설물 조회
+     */
+    private List<Facility> findAllByIdInOrder(List<Long> facilityIds) {
+        Map<Long, Facility> facilityMap = facilityRepository.findAllById(facilityIds).stream()
+                .collect(Collectors.toMap(Facility::getFacilityId, Function.identity()));
+        return facilityIds.stream()
+                .map(facilityMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 통합 검색 - 여러 조건으로 시설물 검색
      * companyId가 제공되면 해당 위치 회사(locationCompany)의 시설물만 반환합니다.
@@ -350,6 +386,7 @@ public class FacilityService {
         }
         
         Facility savedFacility = facilityRepository.save(facility);
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(savedFacility.getFacilityId()));
         
         // 입고 트랜잭션 자동 생성
         try {
@@ -386,38 +423,55 @@ public class FacilityService {
      * 관리번호 자동 생성
      * 형식: [시설물타입약자(2자리)]-[생성일(YYYYMMDD)]-[일련번호(3자리)]
      * 예) 리프트 -> RE-20250424-001
-     * 동시성 문제를 고려하여 구현 (synchronized + 트랜잭션 격리 수준 활용)
+     * 대량 등록과 같은 일련번호 행을 잠가 예약하므로 여러 인스턴스에서 동시에 생성해도 번호가 겹치지 않습니다.
      */
-    @Transactional(isolation = org.springframework.transaction.annotation.Isolation.SERIALIZABLE)
-    private synchronized String generateManagementNumber(String facilityTypeCode) {
-        // 현재 날짜 형식 YYYYMMDD
-        String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        
-        // 시설물 타입 코드에 따른 약자 매핑
-        String typePrefix = getFacilityTypePrefix(facilityTypeCode);
-        
-        // 오늘 생성된 해당 타입의 시설물 수를 조회하여 일련번호 생성
-        // 락을 획득하여 동시 접근 방지
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59).withNano(999999999);
-        
-        // count + 1 값을 가져오기 위해 데이터베이스 쿼리 실행
-        int count = facilityRepository.countByFacilityType_CodeIdAndCreatedAtBetween(facilityTypeCode, startOfDay, endOfDay);
-        
-        // 일련번호 형식: 001, 002, ...
-        String sequenceNumber = String.format("%03d", count + 1);
+    private String generateManagementNumber(String facilityTypeCode) {
+        return reserveManagementNumbers(facilityTypeCode, null, 1).get(0);
+    }
+    
+    /**
+     * 관리번호 일괄 예약 (대량 등록용)
+     * 접두사별 일련번호 행(id_blocks)을 잠가 count개 구간을 예약하므로 인스턴스 간 동시 등록에도 번호가 겹치지 않습니다.
+     * - 사용자 지정 접두사: [접두사]-[일련번호(3자리)]
+     * - 자동 생성: [시설물타입약자]-[생성일(YYYYMMDD)]-[일련번호(3자리)]
+     * 일련번호 행이 없으면(해당 접두사 첫 예약) 기존 관리번호의 마지막 일련번호 다음부터 시작합니다.
+     * 예약은 즉시 커밋되어 등록이 롤백되면 해당 번호는 비게 됩니다.
+     */
+    private List<String> reserveManagementNumbers(String facilityTypeCode, String customPrefix, int count) {
+        String prefix;
+        if (customPrefix != null && !customPrefix.isBlank()) {
+            prefix = customPrefix + "-";
+        } else {
+            String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            prefix = getFacilityTypePrefix(facilityTypeCode) + "-" + dateStr + "-";
+        }
         
-        // 관리번호 형식: [시설물타입약자]-[생성일]-[일련번호]
-        String managementNumber = String.format("%s-%s-%s", typePrefix, dateStr, sequenceNumber);
+        long sequence = idBlockAllocator.reserveSequence(MANAGEMENT_NUMBER_SEGMENT_PREFIX + prefix, count,
+                () -> findLastManagementSequence(prefix) + 1);
         
-        // 이미 존재하는지 확인하고, 존재하면 번호 증가
-        while (facilityRepository.existsByManagementNumber(managementNumber)) {
-            count++;
-            sequenceNumber = String.format("%03d", count + 1);
-            managementNumber = String.format("%s-%s-%s", typePrefix, dateStr, sequenceNumber);
+        List<String> managementNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            managementNumbers.add(String.format("%s%03d", prefix, sequence + i));
         }
-        
-        return managementNumber;
+        return managementNumbers;
+    }
+    
+    /**
+     * 접두사로 시작하는 기존 관리번호 중 마지막 일련번호 (없으면 0)
+     * 접두사 뒤가 숫자가 아닌 관리번호(직접 입력 등)는 제외합니다.
+     */
+    private long findLastManagementSequence(String prefix) {
+        long last = 0L;
+        for (String managementNumber : facilityRepository.findManagementNumbersByPrefix(prefix)) {
+            if (managementNumber == null || !managementNumber.startsWith(prefix)) {
+                continue;
+            }
+            String suffix = managementNumber.substring(prefix.length());
+            if (!suffix.isEmpty() && suffix.length() < 19 && suffix.chars().allMatch(Character::isDigit)) {
+                last = Math.max(last, Long.parseLong(suffix));
+            }
+        }
+        return last;
     }
     
     /**
@@ -448,6 +502,32 @@ public class FacilityService {
      * 기존에 모델번호 필드가 포함되었으나 해당 필드 제거로 인해 형식 변경
      */
     private String generateSerialNumber(String facilityTypeCode, Long ownerCompanyId) {
+        // 소유 회사 점번 (3자리) 가져오기
+        Company ownerCompany = null;
+        if (ownerCompanyId != null) {
+            ownerCompany = companyRepository.findById(ownerCompanyId).orElse(null);
+        }
+        
+        return buildSerialNumber(facilityTypeCode, resolveStoreNumber(ownerCompany));
+    }
+    
+    /**
+     * 시리얼 번호용 소유 회사 점번 (없으면 "000")
+     */
+    private String resolveStoreNumber(Company ownerCompany) {
+        if (ownerCompany != null) {
+            String companyStoreNumber = ownerCompany.getStoreNumber();
+            if (companyStoreNumber != null && !companyStoreNumber.isEmpty()) {
+                return companyStoreNumber;
+            }
+        }
+        return "000";
+    }
+    
+    /**
+     * 이미 조회된 점번으로 시리얼 번호 생성
+     */
+    private String buildSerialNumber(String facilityTypeCode, String storeNumber) {
         // 현재 날짜 형식 YYMMDD
         String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
         
@@ -460,18 +540,6 @@ public class FacilityService {
             }
         }
         
-        // 소유 회사 점번 (3자리) 가져오기
-        String storeNumber = "000";
-        if (ownerCompanyId != null) {
-            Optional<Company> ownerCompanyOpt = companyRepository.findById(ownerCompanyId);
-            if (ownerCompanyOpt.isPresent()) {
-                String companyStoreNumber = ownerCompanyOpt.get().getStoreNumber();
-                if (companyStoreNumber != null && !companyStoreNumber.isEmpty()) {
-                    storeNumber = companyStoreNumber;
-                }
-            }
-        }
-        
         // 고유한 식별자 생성 (UUID의 처음 8자리만 사용)
         String uniqueId = UUID.randomUUID().toString().substring(0, 8);
         
@@ -599,6 +667,11 @@ public class FacilityService {
         // 저장 및 변환하여 반환
         Facility updatedFacility = facilityRepository.save(facility);
         
+        // 매장/유형/브랜드 변경을 AS 검색 문서에 반영
+        serviceRequestSearchIndexService.refreshFacilitiesAfterCommit(List.of(facilityId));
+        // 보증 만료일/위치 회사 변경을 기한 인덱스에 반영
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(facilityId));
+        
         return convertToDTO(updatedFacility);
     }
     
@@ -612,6 +685,7 @@ public class FacilityService {
         }
         
         facilityRepository.deleteById(facilityId);
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(facilityId));
     }
     
     /**
@@ -826,8 +900,6 @@ public class FacilityService {
         
         // 관리번호 접두사는 이제 선택적
         
-        List<FacilityDTO> createdFacilities = new ArrayList<>();
-        
         // 위치 회사 찾기
         Company locationCompany = null;
         if (request.getLocationCompanyId() != null) {
@@ -888,11 +960,25 @@ public class FacilityService {
         
         // 모든 트랜잭션에 사용할 공통 배치 ID 생성
         String batchId = UUID.randomUUID().toString();
-        log.info("시설물 배치 생성 시작: 배치 ID={}, 수량={}", batchId, request.getQuantity());
-        
-        // 요청된 수량만큼 시설물 생성
-        for (int i = 0; i < request.getQuantity(); i++) {
+        int quantity = request.getQuantity();
+        long startTime = System.currentTimeMillis();
+        log.info("시설물 배치 생성 시작: 배치 ID={}, 수량={}", batchId, quantity);
+        
+        // 시리얼/관리번호/ID를 수량만큼 한 번에 준비 (시설물별 조회 없이 재사용)
+        String storeNumber = resolveStoreNumber(ownerCompany);
+        List<String> managementNumbers = reserveManagementNumbers(
+                request.getFacilityTypeCode(), request.getManagementNumberPrefix(), quantity);
+        long firstFacilityId = idBlockAllocator.reserveRange("facilities", "facility_id", quantity);
+        
+        // 현재 가치는 취득가액으로 설정 (특별히 지정된 경우 제외)
+        BigDecimal currentValue = request.getCurrentValue() != null ? 
+                request.getCurrentValue() : request.getAcquisitionCost();
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<Facility> facilities = new ArrayList<>(quantity);
+        for (int i = 0; i < quantity; i++) {
             Facility facility = new Facility();
+            facility.setFacilityId(firstFacilityId + i);
             
             // 기본 정보 설정
             facility.setBrand(brand);
@@ -908,79 +994,101 @@ public class FacilityService {
             facility.setOwnerCompany(ownerCompany);
             
             facility.setCreatedBy(userId);
+            facility.setCreatedAt(now);
+            facility.setUpdatedAt(now);
             
             // 시리얼 번호 자동 생성 (각 시설물마다 고유한 시리얼 생성)
-            String serialNumber = generateSerialNumber(request.getFacilityTypeCode(), request.getOwnerCompanyId());
-            facility.setSerialNumber(serialNumber);
-            
-            // 관리 번호 설정 (사용자 지정 접두사 또는 자동 생성)
-            String managementNumber;
-            if (request.getManagementNumberPrefix() != null && !request.getManagementNumberPrefix().isBlank()) {
-                // 사용자 지정 접두사 사용 (중복 방지를 위한 로직 추가)
-                String prefix = request.getManagementNumberPrefix();
-                managementNumber = String.format("%s-%03d", prefix, (i + 1));
-                
-                // 중복 검사 및 처리
-                int suffix = i + 1;
-                while (facilityRepository.existsByManagementNumber(managementNumber)) {
-                    suffix++;
-                    managementNumber = String.format("%s-%03d", prefix, suffix);
-                }
-            } else {
-                // 자동 생성된 형식 사용
-                managementNumber = generateManagementNumber(request.getFacilityTypeCode());
-            }
-            facility.setManagementNumber(managementNumber);
+            facility.setSerialNumber(buildSerialNumber(request.getFacilityTypeCode(), storeNumber));
+            facility.setManagementNumber(managementNumbers.get(i));
+            facility.setCurrentValue(currentValue);
             
-            // 현재 가치는 취득가액으로 설정 (특별히 지정된 경우 제외)
-            if (request.getCurrentValue() != null) {
-                facility.setCurrentValue(request.getCurrentValue());
-            } else {
-                facility.setCurrentValue(request.getAcquisitionCost());
-            }
-            
-            // 마지막 가치 평가일 설정
+            // 마지막 가치 평가일 / 보증 만료일 설정
             facility.setLastValuationDate(request.getLastValuationDate());
-            
-            // 보증 만료일 설정
             facility.setWarrantyEndDate(warrantyEndDate);
             
-            // 저장 및 결과 목록에 추가
-            Facility savedFacility = facilityRepository.save(facility);
-            createdFacilities.add(convertToDTO(savedFacility));
-            
-            
-            // 입고 트랜잭션 자동 생성
-            try {
-                if (request.getLocationCompanyId() != null) {
-                    InboundTransactionRequest transactionRequest = new InboundTransactionRequest();
-                    transactionRequest.setFacilityId(savedFacility.getFacilityId());
-                    transactionRequest.setToCompanyId(request.getLocationCompanyId());
-                    transactionRequest.setStatusAfterCode(request.getStatusCode());
-                    transactionRequest.setNotes("시설물 생성 - 최초 등록");
-                    transactionRequest.setBatchId(batchId); // 공통 배치 ID 설정
-                    
-                    facilityTransactionService.processInbound(transactionRequest);
+            facilities.add(facility);
+        }
+        
+        // 시설물 일괄 저장 (JDBC 배치)
+        facilityJdbcRepository.insertFacilities(facilities);
+        
+        // 입고 트랜잭션 및 등록 전표 일괄 생성
+        if (locationCompany != null) {
+            facilityTransactionService.processInboundBulk(facilities, locationCompany, batchId, "시설물 생성 - 최초 등록",
+                    request.getStatusCode());
+        }
+        
+        // QR 코드는 커밋 이후 비동기로 생성 (외부 API 호출이 등록 트랜잭션을 붙잡지 않도록)
+        List<Long> facilityIds = facilities.stream()
+                .map(Facility::getFacilityId)
+                .collect(Collectors.toList());
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(facilityIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    facilityImageService.generateQrCodesAsync(facilityIds);
                 }
-            } catch (Exception e) {
-                log.error("시설물 입고 트랜잭션 생성 중 오류 발생: {}, 시설물 ID: {}", e.getMessage(), savedFacility.getFacilityId(), e);
-                // 트랜잭션 생성 실패가 시설물 생성 자체를 실패시키지는 않도록 예외 처리
-            }
-            
-            // QR 코드 생성 추가
-            try {
-                facilityImageService.generateAndSaveQrCode(savedFacility.getFacilityId());
-                log.info("시설물 ID {}에 대한 QR 코드가 생성되었습니다. 순번: {}/{}", 
-                        savedFacility.getFacilityId(), (i + 1), request.getQuantity());
-            } catch (Exception e) {
-                log.error("시설물 QR 코드 생성 중 오류 발생: {}, 시설물 ID: {}", e.getMessage(), savedFacility.getFacilityId(), e);
-                // QR 코드 생성 실패가 시설물 생성 자체를 실패시키지는 않도록 예외 처리
-            }
+            });
+        } else {
+            facilityImageService.generateQrCodesAsync(facilityIds);
         }
-
-        log.info("시설물 배치 생성 완료. 총 {}개 생성됨, 배치 ID: {}", createdFacilities.size(), batchId);
+        
+        // 신규 시설물이므로 AS 이력 조회 없이 DTO 변환 (위치 회사 주소는 한 번만 복호화)
+        String locationAddress = decryptLocationAddress(locationCompany);
+        List<FacilityDTO> createdFacilities = facilities.stream()
+                .map(facility -> convertToNewFacilityDTO(facility, locationAddress))
+                .collect(Collectors.toList());
+        
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startTime);
+        log.info("시설물 배치 생성 완료. 총 {}개 생성됨, 배치 ID: {}, 소요시간: {}ms, 처리량: {}건/초", 
+                createdFacilities.size(), batchId, elapsedMillis, 
+                String.format("%.1f", createdFacilities.size() * 1000.0 / elapsedMillis));
         return createdFacilities;
     }
+    
+    /**
+     * 위치 회사 주소 복호화 (실패 시 원본 값)
+     */
+    private String decryptLocationAddress(Company locationCompany) {
+        if (locationCompany == null) {
+            return null;
+        }
+        if (locationCompany.getAddress() == null || locationCompany.getAddress().isEmpty()) {
+            return locationCompany.getAddress();
+        }
+        try {
+            return encryptionUtil.decrypt(locationCompany.getAddress());
+        } catch (Exception e) {
+            log.error("위치 회사 주소 복호화 중 오류 발생: {}", e.getMessage(), e);
+            return locationCompany.getAddress();
+        }
+    }
+    
+    /**
+     * 신규 등록 시설물 DTO 변환 (AS 요청 이력이 없으므로 조회 생략)
+     */
+    private FacilityDTO convertToNewFacilityDTO(Facility facility, String decryptedLocationAddress) {
+        FacilityDTO dto = FacilityDTO.fromEntity(facility);
+        
+        if (facility.getLocationCompany() != null) {
+            Company locationCompany = facility.getLocationCompany();
+            dto.setLocationCompanyId(locationCompany.getId());
+            dto.setLocationStoreNumber(locationCompany.getStoreNumber());
+            dto.setLocationStoreName(locationCompany.getStoreName());
+            dto.setLocationAddress(decryptedLocationAddress);
+        }
+        
+        if (facility.getOwnerCompany() != null) {
+            Company ownerCompany = facility.getOwnerCompany();
+            dto.setOwnerCompanyId(ownerCompany.getId());
+            dto.setOwnerStoreNumber(ownerCompany.getStoreNumber());
+            dto.setOwnerStoreName(ownerCompany.getStoreName());
+        }
+        
+        dto.setHasActiveServiceRequest(false);
+        return dto;
+    }
 
     /**
      * 시설물 유형에 해당하는 브랜드 코드 목록 조회
@@ -1076,6 +1184,7 @@ public class FacilityService {
         }
         
         Facility updatedFacility = facilityRepository.save(facility);
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(facilityId));
         return convertToDTO(updatedFacility);
     }
 } 
\ No newline at end of file
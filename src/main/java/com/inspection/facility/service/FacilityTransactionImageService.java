@@ -7,7 +7,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +30,7 @@ import com.inspection.facility.entity.FacilityTransactionImage;
 import com.inspection.facility.repository.FacilityTransactionImageRepository;
 import com.inspection.facility.repository.FacilityTransactionRepository;
 import com.inspection.repository.CodeRepository;
+import com.inspection.service.ImageVariantService;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +44,7 @@ public class FacilityTransactionImageService {
     private final FacilityTransactionRepository transactionRepository;
     private final FacilityTransactionImageRepository transactionImageRepository;
     private final CodeRepository codeRepository;
+    private final ImageVariantService imageVariantService;
     
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
@@ -54,6 +60,26 @@ public class FacilityTransactionImageService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 여러 트랜잭션의 이미지 목록 일괄 조회
+     * @return 트랜잭션 ID -> 이미지 목록 (이미지가 없는 트랜잭션은 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<FacilityTransactionImageDTO>> getTransactionImagesByTransactionIds(Collection<Long> transactionIds) {
+        Map<Long, List<FacilityTransactionImageDTO>> result = new HashMap<>();
+        if (transactionIds.isEmpty()) {
+            return result;
+        }
+        for (Long transactionId : transactionIds) {
+            result.put(transactionId, new ArrayList<>());
+        }
+        for (FacilityTransactionImage image : transactionImageRepository.findByTransactionIdIn(transactionIds)) {
+            FacilityTransactionImageDTO dto = FacilityTransactionImageDTO.fromEntity(image);
+            result.get(dto.getTransactionId()).add(dto);
+        }
+        return result;
+    }
+    
     /**
      * 트랜잭션 이미지 상세 조회
      */
@@ -110,6 +136,7 @@ public class FacilityTransactionImageService {
                     .build();
             
             FacilityTransactionImage savedImage = transactionImageRepository.save(image);
+            requestVariants(savedImage);
             
             return FacilityTransactionImageDTO.fromEntity(savedImage);
         } catch (IOException e) {
@@ -143,6 +170,7 @@ public class FacilityTransactionImageService {
                     String existingFilename = existingImageUrl.substring(existingImageUrl.lastIndexOf("/") + 1);
                     Path existingFilePath = Paths.get(uploadDir + "/facility-transaction/" + existingFilename);
                     Files.deleteIfExists(existingFilePath);
+                    imageVariantService.deleteVariants(existingFilePath);
                 }
                 
                 // 새 파일 저장
@@ -162,6 +190,7 @@ public class FacilityTransactionImageService {
                 
                 // 이미지 URL 업데이트
                 image.setImageUrl("/facility-transaction/" + newFilename);
+                image.setVariantsReady(false);
             }
             
             // 업데이트 정보 설정
@@ -171,6 +200,9 @@ public class FacilityTransactionImageService {
             
             // 저장 및 반환
             FacilityTransactionImage updatedImage = transactionImageRepository.save(image);
+            if (!updatedImage.isVariantsReady()) {
+                requestVariants(updatedImage);
+            }
             return FacilityTransactionImageDTO.fromEntity(updatedImage);
         } catch (IOException e) {
             log.error("트랜잭션 이미지 수정 중 오류 발생", e);
@@ -194,6 +226,7 @@ public class FacilityTransactionImageService {
                 String filename = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
                 Path filePath = Paths.get(uploadDir + "/facility-transaction/" + filename);
                 Files.deleteIfExists(filePath);
+                imageVariantService.deleteVariants(filePath);
             }
             
             // 이미지 엔티티 삭제
@@ -219,6 +252,7 @@ public class FacilityTransactionImageService {
                     String filename = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
                     Path filePath = Paths.get(uploadDir + "/facility-transaction/" + filename);
                     Files.deleteIfExists(filePath);
+                    imageVariantService.deleteVariants(filePath);
                 }
             } catch (IOException e) {
                 log.error("트랜잭션 이미지 파일 삭제 중 오류 발생: {}", e.getMessage());
@@ -229,6 +263,24 @@ public class FacilityTransactionImageService {
         transactionImageRepository.deleteByTransactionTransactionId(transactionId);
     }
     
+    /**
+     * 커밋 후 썸네일/중간 크기 파생본 생성 요청
+     */
+    private void requestVariants(FacilityTransactionImage image) {
+        Long imageId = image.getImageId();
+        String imageUrl = image.getImageUrl();
+        imageVariantService.generateAfterCommit(resolveImageFile(imageUrl),
+                () -> transactionImageRepository.markVariantsReady(imageId, imageUrl));
+    }
+    
+    /**
+     * 이미지 주소(/facility-transaction/파일명)로 실제 파일 경로 반환
+     */
+    public Path resolveImageFile(String imageUrl) {
+        String filename = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
+        return Paths.get(uploadDir + "/facility-transaction/" + filename).toAbsolutePath().normalize();
+    }
+    
     /**
      * 이미지 파일 로드
      */
@@ -3,6 +3,7 @@ package com.inspection.facility.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.inspection.as.entity.ServiceRequest;
 import com.inspection.as.repository.ServiceRequestRepository;
+import com.inspection.as.service.ServiceRequestSearchIndexService;
 import com.inspection.entity.Code;
 import com.inspection.entity.Company;
 import com.inspection.entity.User;
@@ -31,12 +33,14 @@ import com.inspection.facility.dto.FacilityTransactionWithImagesDTO;
 import com.inspection.facility.dto.TransactionUpdateDTO;
 import com.inspection.facility.entity.Facility;
 import com.inspection.facility.entity.FacilityTransaction;
+import com.inspection.facility.repository.FacilityJdbcRepository;
 import com.inspection.facility.repository.FacilityRepository;
 import com.inspection.facility.repository.FacilityTransactionRepository;
 import com.inspection.finance.service.VoucherService;
 import com.inspection.repository.CodeRepository;
 import com.inspection.repository.CompanyRepository;
 import com.inspection.repository.UserRepository;
+import com.inspection.util.IdBlockAllocator;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -56,6 +60,10 @@ public class FacilityTransactionService {
     private final ServiceRequestRepository serviceRequestRepository;
     private final VoucherService voucherService;
     private final FacilityTransactionImageService transactionImageService;
+    private final FacilityJdbcRepository facilityJdbcRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final ServiceRequestSearchIndexService serviceRequestSearchIndexService;
+    private final UpcomingDeadlineService upcomingDeadlineService;
     
     // 트랜잭션 유형 코드 상수 추가
     public static final String TRANSACTION_TYPE_INBOUND = "002011_0001";     // 입고
@@ -115,14 +123,20 @@ public class FacilityTransactionService {
     public Page<FacilityTransactionWithImagesDTO> getTransactionsWithImagesWithPaging(Pageable pageable) {
         Page<FacilityTransaction> transactionPage = transactionRepository.findAllByOrderByCreatedAtDesc(pageable);
         
+        // 페이지 내 트랜잭션 이미지를 한 번에 조회
+        List<Long> transactionIds = transactionPage.getContent().stream()
+                .map(FacilityTransaction::getTransactionId)
+                .collect(Collectors.toList());
+        Map<Long, List<FacilityTransactionImageDTO>> imagesByTransaction =
+                transactionImageService.getTransactionImagesByTransactionIds(transactionIds);
+        
         List<FacilityTransactionWithImagesDTO> dtoList = transactionPage.getContent().stream()
                 .map(transaction -> {
                     // 트랜잭션 DTO 변환
                     FacilityTransactionDTO transactionDTO = FacilityTransactionDTO.fromEntity(transaction);
                     
-                    // 해당 트랜잭션의 이미지 목록 조회
-                    List<FacilityTransactionImageDTO> images = 
-                            transactionImageService.getTransactionImages(transaction.getTransactionId());
+                    // 해당 트랜잭션의 이미지 목록
+                    List<FacilityTransactionImageDTO> images = imagesByTransaction.get(transaction.getTransactionId());
                     
                     // 트랜잭션과 이미지를 합친 DTO 생성
                     return FacilityTransactionWithImagesDTO.builder()
@@ -320,11 +334,15 @@ public class FacilityTransactionService {
         // 시설물 위치 회사 업데이트 (필요한 경우)
         if (toCompany != null) {
             facility.setLocationCompany(toCompany);
+            serviceRequestSearchIndexService.refreshFacilitiesAfterCommit(List.of(facility.getFacilityId()));
         }
         
         // 변경된 시설물 저장
         facilityRepository.save(facility);
         
+        // 대여 반납 예정일, 위치 회사 변경을 기한 인덱스에 반영
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(facility.getFacilityId()));
+        
         // 트랜잭션 유형에 따른 전표 자동 생성
         try {
             createVoucherForTransaction(savedTransaction);
@@ -585,11 +603,12 @@ public class FacilityTransactionService {
      */
     @Transactional
     public void deleteTransaction(Long transactionId) {
-        if (!transactionRepository.existsById(transactionId)) {
-            throw new EntityNotFoundException("트랜잭션을 찾을 수 없습니다: " + transactionId);
-        }
+        FacilityTransaction transaction = transactionRepository.findById(transactionId)
+                .orElseThrow(() -> new EntityNotFoundException("트랜잭션을 찾을 수 없습니다: " + transactionId));
+        Long facilityId = transaction.getFacility().getFacilityId();
         
-        transactionRepository.deleteById(transactionId);
+        transactionRepository.delete(transaction);
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(facilityId));
 
     }
 
@@ -622,6 +641,86 @@ public class FacilityTransactionService {
         return result;
     }
     
+    /**
+     * 대량 입고 트랜잭션 처리 (시설물 대량 등록용)
+     * 신규 등록된 시설물들의 입고 트랜잭션과 등록 전표를 JDBC 배치로 일괄 생성합니다.
+     * 시설물의 위치는 등록 시점에 이미 설정되어 있으므로 갱신하지 않고, 상태는 입고 후 상태와 다른 시설물만 갱신합니다.
+     * 전체가 하나의 트랜잭션으로 처리되므로 한 건이라도 실패하면(전표 검증, 번호 예약 등) 호출 측 시설물 등록까지 모두 롤백됩니다.
+     * @param facilities 신규 등록된 시설물 목록 (ID 할당 완료)
+     * @param toCompany 입고 회사
+     * @param batchId 공통 배치 ID
+     * @param notes 비고
+     * @param statusAfterCode 입고 후 상태 코드 (null 이면 processInbound 와 같이 사용중)
+     * @return 생성된 트랜잭션 수
+     */
+    @Transactional
+    public int processInboundBulk(List<Facility> facilities, Company toCompany, String batchId, String notes,
+                                  String statusAfterCode) {
+        if (facilities.isEmpty()) {
+            return 0;
+        }
+        
+        Code transactionType = codeRepository.findById(TRANSACTION_TYPE_INBOUND)
+                .orElseThrow(() -> new EntityNotFoundException("트랜잭션 유형 코드를 찾을 수 없습니다: " + TRANSACTION_TYPE_INBOUND));
+        String resolvedStatusCode = statusAfterCode != null ? statusAfterCode : STATUS_NORMAL;  // 기본 상태는 사용중
+        Code statusAfter = codeRepository.findById(resolvedStatusCode)
+                .orElseThrow(() -> new EntityNotFoundException("상태 코드를 찾을 수 없습니다: " + resolvedStatusCode));
+        
+        // 현재 로그인한 사용자 정보를 이용해 수행자 설정 (processInbound 와 같이 인증되지 않은 요청은 거부)
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || 
+            "anonymousUser".equals(authentication.getPrincipal())) {
+            throw new IllegalStateException("인증된 사용자만 트랜잭션을 생성할 수 있습니다.");
+        }
+        String userId = authentication.getName();
+        User performer = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        
+        long firstTransactionId = idBlockAllocator.reserveRange(
+                "facility_transactions", "transaction_id", facilities.size());
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<FacilityTransaction> transactions = new ArrayList<>(facilities.size());
+        List<Facility> statusChanged = new ArrayList<>();
+        for (int i = 0; i < facilities.size(); i++) {
+            Facility facility = facilities.get(i);
+            Code statusBefore = facility.getStatus();
+            
+            FacilityTransaction transaction = new FacilityTransaction();
+            transaction.setTransactionId(firstTransactionId + i);
+            transaction.setFacility(facility);
+            transaction.setTransactionType(transactionType);
+            transaction.setTransactionDate(now);
+            transaction.setToCompany(toCompany);
+            transaction.setNotes(notes);
+            transaction.setStatusBefore(statusBefore);
+            transaction.setStatusAfter(statusAfter);
+            transaction.setPerformedBy(performer);
+            transaction.setBatchId(batchId);
+            transaction.setIsCancelled(false);
+            transaction.setCreatedAt(now);
+            transaction.setUpdatedAt(now);
+            transactions.add(transaction);
+            
+            if (statusBefore == null || !statusAfter.getCodeId().equals(statusBefore.getCodeId())) {
+                facility.setStatus(statusAfter);
+                facility.setUpdatedAt(now);
+                statusChanged.add(facility);
+            }
+        }
+        
+        facilityJdbcRepository.insertTransactions(transactions);
+        if (!statusChanged.isEmpty()) {
+            facilityJdbcRepository.updateStatuses(statusChanged);
+        }
+        
+        // 입고 트랜잭션 - 자산 취득 전표 일괄 생성
+        voucherService.createFacilityRegistrationVouchers(transactions);
+        
+        log.info("대량 입고 트랜잭션 생성 완료: {}건, 배치ID={}", transactions.size(), batchId);
+        return transactions.size();
+    }
+    
     /**
      * 출고 트랜잭션 처리 (한 회사에서 다른 회사로 출고)
      */
@@ -758,6 +857,7 @@ public class FacilityTransactionService {
         
         // 5. 수정 시간 및 기타 정보 업데이트
         transaction.setUpdatedAt(LocalDateTime.now());
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(transaction.getFacility().getFacilityId()));
         
         // 6. 저장 및 결과 반환
         return transactionRepository.save(transaction);
@@ -959,6 +1059,8 @@ public class FacilityTransactionService {
         
         // 시설물 변경사항 저장
         facilityRepository.save(facility);
+        serviceRequestSearchIndexService.refreshFacilitiesAfterCommit(List.of(facility.getFacilityId()));
+        upcomingDeadlineService.refreshFacilitiesAfterCommit(List.of(facility.getFacilityId()));
         
         // 트랜잭션 저장 및 결과 반환
         FacilityTransaction savedTransaction = transactionRepository.save(transaction);
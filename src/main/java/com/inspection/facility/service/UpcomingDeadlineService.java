@@ -0,0 +1,163 @@
+package com.inspection.facility.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.facility.dto.UpcomingDeadlineDTO;
+import com.inspection.facility.repository.UpcomingDeadlineRepository;
+import com.inspection.util.AfterCommitTasks;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기한 인덱스 서비스
+ * 대여/시설물/AS 접수 변경 시 커밋 이후 해당 원본의 기한 행만 다시 계산하고,
+ * 누락 보정을 위해 매일 새벽 전체를 재생성합니다.
+ * 보증 만료 예정 시설물, 수리 예정 AS 조회와 대시보드 기한 현황은 원본 테이블 대신 이 인덱스의 범위 조회를 사용합니다.
+ */
+@Slf4j
+@Service
+public class UpcomingDeadlineService {
+
+    public static final int MAX_RESULTS = 5000;
+
+    private static final List<String> DEADLINE_TYPES = List.of(
+            UpcomingDeadlineRepository.TYPE_RENTAL_DUE,
+            UpcomingDeadlineRepository.TYPE_WARRANTY_END,
+            UpcomingDeadlineRepository.TYPE_AS_EXPECTED);
+
+    private final UpcomingDeadlineRepository deadlineRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 최초 생성이 끝나기 전에는 원본 테이블 조회로 처리
+    private volatile boolean ready = false;
+
+    public UpcomingDeadlineService(UpcomingDeadlineRepository deadlineRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.deadlineRepository = deadlineRepository;
+        // 커밋 이후 콜백에서도 삭제/재삽입이 한 단위로 반영되도록 별도 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기한일 범위의 원본 ID 조회 (기한일 순)
+     * @return 인덱스로 처리할 수 없는 경우(생성 전, 결과 건수 초과, 조회 오류) Optional.empty()
+     */
+    public Optional<List<Long>> findSourceIds(String deadlineType, LocalDateTime from, LocalDateTime to, Long companyId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        try {
+            List<UpcomingDeadlineDTO> deadlines = deadlineRepository.findByDueDate(
+                    deadlineType, from, to, companyId, MAX_RESULTS + 1);
+            if (deadlines.size() > MAX_RESULTS) {
+                log.debug("기한 인덱스 조회 건수 초과, 원본 조회로 처리: type={}", deadlineType);
+                return Optional.empty();
+            }
+            return Optional.of(deadlines.stream().map(UpcomingDeadlineDTO::getSourceId).toList());
+        } catch (DataAccessException e) {
+            log.warn("기한 인덱스 조회 실패, 원본 조회로 처리: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 기한 목록 조회 (대시보드)
+     * @param from 시작 일시, null 이면 기한 경과 건 포함
+     * @param to 종료 일시
+     */
+    public List<UpcomingDeadlineDTO> getDeadlines(String deadlineType, LocalDateTime from, LocalDateTime to,
+                                                  Long companyId, int limit) {
+        if (!DEADLINE_TYPES.contains(deadlineType)) {
+            throw new IllegalArgumentException("지원하지 않는 기한 유형입니다: " + deadlineType);
+        }
+        if (limit <= 0 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("조회 건수는 1 ~ " + MAX_RESULTS + " 사이여야 합니다.");
+        }
+        return deadlineRepository.findByDueDate(deadlineType, from, to, companyId, limit);
+    }
+
+    /**
+     * 유형별 기한 현황 (기한 경과 건수, days 일 이내 예정 건수)
+     */
+    public Map<String, Object> getSummary(Long companyId, int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("일수는 0 이상이어야 합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (String type : DEADLINE_TYPES) {
+            summary.put(type, Map.of("overdue", 0L, "upcoming", 0L));
+        }
+        for (Object[] row : deadlineRepository.countByType(now, now.plusDays(days), companyId)) {
+            summary.put((String) row[0], Map.of("overdue", row[1], "upcoming", row[2]));
+        }
+        return summary;
+    }
+
+    /**
+     * 시설물들의 기한(대여, 보증, AS)을 현재 트랜잭션 커밋 후 갱신
+     */
+    public void refreshFacilitiesAfterCommit(Collection<Long> facilityIds) {
+        if (facilityIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(facilityIds);
+        runAfterCommit(() -> deadlineRepository.refreshByFacilityIds(ids));
+    }
+
+    /**
+     * AS 접수 건의 수리 예정일을 현재 트랜잭션 커밋 후 갱신 (완료/삭제 시 제거)
+     */
+    public void refreshServiceRequestAfterCommit(Long serviceRequestId) {
+        runAfterCommit(() -> deadlineRepository.refreshByServiceRequestIds(List.of(serviceRequestId)));
+    }
+
+    /**
+     * 기한 인덱스 전체 재생성
+     * 매일 새벽 4시 10분 실행 (누락/불일치 보정)
+     */
+    @Scheduled(cron = "0 10 4 * * *")
+    public int rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        Integer count = transactionTemplate.execute(status -> deadlineRepository.rebuildAll());
+        ready = true;
+        log.info("기한 인덱스 재생성 완료: {}건, {}ms", count, System.currentTimeMillis() - startTime);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 기한 인덱스가 비어 있으면(최초 배포) 기동 시 전체 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        try {
+            if (deadlineRepository.countAll() == 0) {
+                rebuildAll();
+            }
+            ready = true;
+        } catch (DataAccessException e) {
+            log.warn("기한 인덱스 초기 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        // 다음 재생성에서 보정되므로 업무 처리는 실패시키지 않음
+        AfterCommitTasks.runAfterCommit(transactionTemplate, task,
+                e -> log.warn("기한 인덱스 갱신 실패: {}", e.getMessage()));
+    }
+}
@@ -0,0 +1,65 @@
+package com.inspection.finance.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inspection.finance.dto.AccountHistoryDTO;
+import com.inspection.finance.dto.TrialBalanceDTO;
+import com.inspection.finance.service.AccountLedgerService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계정 원장 컨트롤러
+ * 계정/연월별 누계로 시산표와 계정 이력을 조회하는 REST API를 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/ledger")
+@RequiredArgsConstructor
+public class AccountLedgerController {
+
+    private final AccountLedgerService accountLedgerService;
+    
+    /**
+     * 합계 시산표 조회
+     * @param from 시작 연월 (yyyyMM, 생략 시 처음부터)
+     * @param to 종료 연월 (yyyyMM, 생략 시 마지막까지)
+     */
+    @GetMapping("/trial-balance")
+    public ResponseEntity<TrialBalanceDTO> getTrialBalance(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        log.info("시산표 조회 요청: {} ~ {}", from, to);
+        return ResponseEntity.ok(accountLedgerService.getTrialBalance(from, to));
+    }
+    
+    /**
+     * 계정별 월 이력 조회
+     */
+    @GetMapping("/accounts/{accountCode}/history")
+    public ResponseEntity<AccountHistoryDTO> getAccountHistory(
+            @PathVariable String accountCode,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        log.info("계정 이력 조회 요청: {}, {} ~ {}", accountCode, from, to);
+        return ResponseEntity.ok(accountLedgerService.getAccountHistory(accountCode, from, to));
+    }
+    
+    /**
+     * 전표 항목 전체로 계정 원장 누계 재계산
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        log.info("계정 원장 재계산 요청");
+        return ResponseEntity.ok(accountLedgerService.rebuild());
+    }
+}
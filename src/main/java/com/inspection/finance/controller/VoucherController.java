@@ -1,24 +1,30 @@
 package com.inspection.finance.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.inspection.finance.dto.BulkVoucherResultDTO;
 import com.inspection.finance.dto.VoucherDTO;
 import com.inspection.finance.dto.VoucherItemDTO;
 import com.inspection.finance.entity.VoucherItem;
 import com.inspection.finance.repository.VoucherItemRepository;
+import com.inspection.finance.service.VoucherBulkPostingService;
 import com.inspection.finance.service.VoucherService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,6 +40,7 @@ public class VoucherController {
 
     private final VoucherService voucherService;
     private final VoucherItemRepository voucherItemRepository;
+    private final VoucherBulkPostingService voucherBulkPostingService;
     
     /**
      * 전표 ID로 전표 조회
@@ -164,4 +171,17 @@ public class VoucherController {
         
         return ResponseEntity.ok(itemDTOs);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 전표 일괄 등록 (NDJSON, 한 줄에 전표 하나)
+     * 건별 성공/실패 결과를 입력 줄 번호와 함께 반환합니다.
+     */
+    @PostMapping(value = "/bulk", consumes = { "application/x-ndjson", MediaType.TEXT_PLAIN_VALUE })
+    public ResponseEntity<BulkVoucherResultDTO> postVouchersInBulk(HttpServletRequest request) throws IOException {
+        log.info("전표 일괄 등록 요청");
+        
+        BulkVoucherResultDTO result = voucherBulkPostingService.postNdjson(request.getInputStream());
+        
+        return ResponseEntity.ok(result);
+    }
+}
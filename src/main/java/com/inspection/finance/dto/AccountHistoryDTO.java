@@ -0,0 +1,27 @@
+package com.inspection.finance.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 계정별 월 이력 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountHistoryDTO {
+    
+    private String accountCode;
+    private String accountName;
+    private BigDecimal openingBalance;       // 기초 잔액 (시작 연월 이전 차변 - 대변)
+    private List<AccountLedgerDTO> months;   // 월별 합계 및 누적 잔액
+    private BigDecimal closingBalance;       // 기말 잔액
+}
@@ -0,0 +1,28 @@
+package com.inspection.finance.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 계정 원장 DTO (계정별 기간 합계 또는 월별 합계)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountLedgerDTO {
+    
+    private String accountCode;
+    private String accountName;
+    private String period;             // 연월 (yyyyMM), 기간 합계인 경우 null
+    private BigDecimal debitTotal;     // 차변 합계
+    private BigDecimal creditTotal;    // 대변 합계
+    private BigDecimal balance;        // 차변 - 대변 (계정 이력 조회 시 누적 잔액)
+    private Long itemCount;            // 전표 항목 수
+}
@@ -0,0 +1,41 @@
+package com.inspection.finance.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 전표 일괄 등록 결과 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkVoucherResultDTO {
+    
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<RecordResult> results;   // 입력 순서대로의 건별 결과
+    
+    /**
+     * 건별 처리 결과
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordResult {
+        private int line;                 // 입력 줄 번호 (1부터)
+        private boolean success;
+        private Long voucherId;
+        private String voucherNumber;
+        private String message;           // 실패 사유
+    }
+}
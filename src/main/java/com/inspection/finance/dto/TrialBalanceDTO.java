@@ -0,0 +1,28 @@
+package com.inspection.finance.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 합계 시산표 DTO
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrialBalanceDTO {
+    
+    private String fromPeriod;               // 시작 연월 (yyyyMM), 전체 기간이면 null
+    private String toPeriod;                 // 종료 연월 (yyyyMM), 전체 기간이면 null
+    private List<AccountLedgerDTO> accounts; // 계정별 합계
+    private BigDecimal debitTotal;           // 차변 총계
+    private BigDecimal creditTotal;          // 대변 총계
+    private boolean balanced;                // 차변 총계 = 대변 총계 여부
+}
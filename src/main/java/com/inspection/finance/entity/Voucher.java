@@ -8,9 +8,13 @@ import java.util.List;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.inspection.entity.Code;
 import com.inspection.facility.entity.Facility;
 import com.inspection.facility.entity.FacilityTransaction;
+import com.inspection.util.BlockIdGenerator;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -18,7 +22,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -38,7 +41,11 @@ import lombok.Setter;
 public class Voucher {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "voucher_id_block")
+    @GenericGenerator(name = "voucher_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "vouchers"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "voucher_id")
+    })
     @Column(name = "voucher_id")
     private Long voucherId;  // 전표 ID (PK)
     
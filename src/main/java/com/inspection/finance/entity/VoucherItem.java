@@ -2,11 +2,15 @@ package com.inspection.finance.entity;
 
 import java.math.BigDecimal;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.inspection.util.BlockIdGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +28,11 @@ import lombok.Setter;
 public class VoucherItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "voucher_item_id_block")
+    @GenericGenerator(name = "voucher_item_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "voucher_items"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "item_id")
+    })
     @Column(name = "item_id")
     private Long itemId;  // 항목 ID (PK)
     
@@ -0,0 +1,207 @@
+package com.inspection.finance.repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.config.ReplicaRoutingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계정별 월 합계(원장) 저장소
+ * 전표 항목의 차변/대변 금액을 (계정코드, 연월) 단위 누계로 account_ledger_monthly 테이블에 보관합니다.
+ * 누계 가산과 전체 재계산은 account_ledger_lock 의 한 행으로 직렬화합니다.
+ * (가산은 공유 잠금이라 서로 막지 않고, 재계산은 배타 잠금으로 진행 중인 가산이 끝나길 기다린 뒤 새 가산을 막음)
+ */
+@Slf4j
+@Repository
+public class AccountLedgerRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS account_ledger_monthly (" +
+            "account_code VARCHAR(20) NOT NULL, " +
+            "period CHAR(6) NOT NULL, " +
+            "account_name VARCHAR(100) NOT NULL, " +
+            "debit_total DECIMAL(19,2) NOT NULL DEFAULT 0, " +
+            "credit_total DECIMAL(19,2) NOT NULL DEFAULT 0, " +
+            "item_count BIGINT NOT NULL DEFAULT 0, " +
+            "updated_at DATETIME NOT NULL, " +
+            "PRIMARY KEY (account_code, period), " +
+            "KEY idx_account_ledger_period (period)" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4";
+
+    private static final String CREATE_LOCK_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS account_ledger_lock (id TINYINT NOT NULL PRIMARY KEY) ENGINE=InnoDB";
+
+    private static final String INSERT_LOCK_ROW_SQL = "INSERT IGNORE INTO account_ledger_lock (id) VALUES (1)";
+
+    private static final String ADD_TOTALS_SQL =
+            "INSERT INTO account_ledger_monthly (account_code, period, account_name, debit_total, credit_total, " +
+            "item_count, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE account_name = VALUES(account_name), " +
+            "debit_total = debit_total + VALUES(debit_total), " +
+            "credit_total = credit_total + VALUES(credit_total), " +
+            "item_count = item_count + VALUES(item_count), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String INSERT_TOTALS_SQL =
+            "INSERT INTO account_ledger_monthly (account_code, period, account_name, debit_total, credit_total, " +
+            "item_count, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // 재계산용 전표 항목 조회 (연월 순으로 읽지 않아도 되므로 정렬하지 않음)
+    private static final String STREAM_ITEMS_SQL =
+            "SELECT vi.account_code, vi.account_name, DATE_FORMAT(v.transaction_date, '%Y%m') AS period, " +
+            "vi.is_debit, vi.amount FROM voucher_items vi JOIN vouchers v ON v.voucher_id = vi.voucher_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean tableReady = false;
+
+    public AccountLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 계정/연월별 합계 가산 (전표 생성 시)
+     * 여러 트랜잭션이 같은 행을 갱신할 때 교착 상태가 생기지 않도록 호출 측에서 키 순서로 정렬해 전달해야 합니다.
+     * 재계산과 겹치지 않도록 원장 잠금 행을 공유 잠금으로 잡으며, 잠금은 호출 측 트랜잭션이 끝날 때 풀립니다.
+     */
+    public void addTotals(List<MonthlyTotal> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        ensureTable();
+        jdbcTemplate.queryForList("SELECT id FROM account_ledger_lock WHERE id = 1 LOCK IN SHARE MODE", Integer.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ADD_TOTALS_SQL, totals, BATCH_SIZE, (ps, total) -> setTotal(ps, total, now));
+    }
+
+    /**
+     * 원장 잠금 행을 배타 잠금 (재계산 시, 호출 측 트랜잭션 안에서 실행)
+     * 진행 중인 누계 가산 트랜잭션이 모두 끝날 때까지 기다리고, 트랜잭션이 끝날 때까지 새 가산을 막습니다.
+     */
+    public void lockExclusive() {
+        ensureTable();
+        jdbcTemplate.queryForList("SELECT id FROM account_ledger_lock WHERE id = 1 FOR UPDATE", Integer.class);
+    }
+
+    /**
+     * 전체 합계를 주어진 값으로 교체 (재계산 시, lockExclusive 와 같은 트랜잭션 안에서 실행)
+     */
+    public void replaceAll(Collection<MonthlyTotal> totals) {
+        ensureTable();
+        jdbcTemplate.update("DELETE FROM account_ledger_monthly");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TOTALS_SQL, totals, BATCH_SIZE, (ps, total) -> setTotal(ps, total, now));
+    }
+
+    /**
+     * 전체 전표 항목을 스트리밍으로 조회 (MySQL 에서는 fetchSize=Integer.MIN_VALUE 로 한 행씩 전송)
+     * 콜백 인자: account_code, account_name, period, is_debit, amount
+     */
+    public void streamVoucherItems(RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STREAM_ITEMS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * 기간 내 계정별 합계 (시산표)
+     * @param fromPeriod 시작 연월(yyyyMM, 포함), null 이면 처음부터
+     * @param toPeriod 종료 연월(yyyyMM, 포함), null 이면 마지막까지
+     */
+    public List<MonthlyTotal> sumByAccount(String fromPeriod, String toPeriod) {
+        ensureTable();
+        return jdbcTemplate.query(
+                "SELECT account_code, MAX(account_name), SUM(debit_total), SUM(credit_total), SUM(item_count) " +
+                "FROM account_ledger_monthly " +
+                "WHERE (? IS NULL OR period >= ?) AND (? IS NULL OR period <= ?) " +
+                "GROUP BY account_code ORDER BY account_code",
+                (rs, rowNum) -> new MonthlyTotal(rs.getString(1), null, rs.getString(2),
+                        rs.getBigDecimal(3), rs.getBigDecimal(4), rs.getLong(5)),
+                fromPeriod, fromPeriod, toPeriod, toPeriod);
+    }
+
+    /**
+     * 계정의 월별 합계 (연월 순)
+     */
+    public List<MonthlyTotal> findByAccountCode(String accountCode, String fromPeriod, String toPeriod) {
+        ensureTable();
+        return jdbcTemplate.query(
+                "SELECT account_code, period, account_name, debit_total, credit_total, item_count " +
+                "FROM account_ledger_monthly WHERE account_code = ? " +
+                "AND (? IS NULL OR period >= ?) AND (? IS NULL OR period <= ?) ORDER BY period",
+                (rs, rowNum) -> new MonthlyTotal(rs.getString(1), rs.getString(2), rs.getString(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getLong(6)),
+                accountCode, fromPeriod, fromPeriod, toPeriod, toPeriod);
+    }
+
+    /**
+     * 계정의 기초 잔액 (fromPeriod 이전 차변 합계 - 대변 합계)
+     */
+    public BigDecimal sumBalanceBefore(String accountCode, String fromPeriod) {
+        ensureTable();
+        BigDecimal balance = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(debit_total - credit_total), 0) FROM account_ledger_monthly " +
+                "WHERE account_code = ? AND period < ?",
+                BigDecimal.class, accountCode, fromPeriod);
+        return balance != null ? balance : BigDecimal.ZERO;
+    }
+
+    private void setTotal(PreparedStatement ps, MonthlyTotal total, Timestamp now) throws SQLException {
+        ps.setString(1, total.accountCode());
+        ps.setString(2, total.period());
+        ps.setString(3, total.accountName());
+        ps.setBigDecimal(4, total.debitTotal());
+        ps.setBigDecimal(5, total.creditTotal());
+        ps.setLong(6, total.itemCount());
+        ps.setTimestamp(7, now);
+    }
+
+    private void ensureTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (this) {
+            if (tableReady) {
+                return;
+            }
+            // DDL 은 MySQL 에서 암묵적 커밋을 일으키므로 전표 생성 트랜잭션과 분리된 커넥션에서 실행
+            try (Connection connection = ReplicaRoutingDataSource.primaryOf(jdbcTemplate.getDataSource()).getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE_SQL);
+                statement.execute(CREATE_LOCK_TABLE_SQL);
+                statement.execute(INSERT_LOCK_ROW_SQL);
+                tableReady = true;
+                log.info("계정 원장 합계 테이블 확인 완료");
+            } catch (SQLException e) {
+                throw new IllegalStateException("account_ledger_monthly 테이블 초기화 중 오류가 발생했습니다", e);
+            }
+        }
+    }
+
+    /**
+     * 계정/연월별 합계
+     * @param period 연월(yyyyMM), 기간 합계 조회 시에는 null
+     */
+    public record MonthlyTotal(String accountCode, String period, String accountName,
+                               BigDecimal debitTotal, BigDecimal creditTotal, long itemCount) {
+    }
+}
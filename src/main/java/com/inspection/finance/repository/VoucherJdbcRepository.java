@@ -0,0 +1,79 @@
+package com.inspection.finance.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.finance.entity.Voucher;
+import com.inspection.finance.entity.VoucherItem;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전표/전표 항목 JDBC 배치 insert 저장소
+ * 전표와 항목의 ID는 호출 측에서 IdBlockAllocator로 미리 예약하여 설정해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoucherJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_VOUCHER_SQL =
+            "INSERT INTO vouchers (voucher_id, voucher_number, voucher_type_code, transaction_date, description, " +
+            "facility_id, facility_transaction_id, total_amount, created_by, created_at, is_auto_generated) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_VOUCHER_ITEM_SQL =
+            "INSERT INTO voucher_items (item_id, voucher_id, account_code, account_name, is_debit, amount, " +
+            "description, line_number) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전표 및 전표 항목 일괄 insert
+     */
+    public void insertVouchers(List<Voucher> vouchers) {
+        jdbcTemplate.batchUpdate(INSERT_VOUCHER_SQL, vouchers, BATCH_SIZE, (ps, voucher) -> {
+            ps.setLong(1, voucher.getVoucherId());
+            ps.setString(2, voucher.getVoucherNumber());
+            ps.setString(3, voucher.getVoucherType().getCodeId());
+            ps.setTimestamp(4, Timestamp.valueOf(voucher.getTransactionDate()));
+            ps.setString(5, voucher.getDescription());
+            if (voucher.getFacility() != null) {
+                ps.setLong(6, voucher.getFacility().getFacilityId());
+            } else {
+                ps.setNull(6, Types.BIGINT);
+            }
+            if (voucher.getFacilityTransaction() != null) {
+                ps.setLong(7, voucher.getFacilityTransaction().getTransactionId());
+            } else {
+                ps.setNull(7, Types.BIGINT);
+            }
+            ps.setBigDecimal(8, voucher.getTotalAmount());
+            ps.setString(9, voucher.getCreatedBy());
+            ps.setTimestamp(10, Timestamp.valueOf(voucher.getCreatedAt()));
+            ps.setBoolean(11, voucher.isAutoGenerated());
+        });
+
+        List<VoucherItem> items = new ArrayList<>();
+        for (Voucher voucher : vouchers) {
+            items.addAll(voucher.getItems());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_VOUCHER_ITEM_SQL, items, BATCH_SIZE, (ps, item) -> {
+            ps.setLong(1, item.getItemId());
+            ps.setLong(2, item.getVoucher().getVoucherId());
+            ps.setString(3, item.getAccountCode());
+            ps.setString(4, item.getAccountName());
+            ps.setBoolean(5, item.isDebit());
+            ps.setBigDecimal(6, item.getAmount());
+            ps.setString(7, item.getDescription());
+            ps.setInt(8, item.getLineNumber());
+        });
+    }
+}
@@ -0,0 +1,229 @@
+package com.inspection.finance.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.finance.dto.AccountHistoryDTO;
+import com.inspection.finance.dto.AccountLedgerDTO;
+import com.inspection.finance.dto.TrialBalanceDTO;
+import com.inspection.finance.entity.Voucher;
+import com.inspection.finance.entity.VoucherItem;
+import com.inspection.finance.repository.AccountLedgerRepository;
+import com.inspection.finance.repository.AccountLedgerRepository.MonthlyTotal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계정 원장 서비스
+ * 전표 생성 시 같은 트랜잭션에서 (계정코드, 연월) 단위 차변/대변 누계를 가산하고,
+ * 시산표와 계정별 월 이력은 전표 항목 대신 누계 테이블에서 조회합니다.
+ * 누계가 전표 항목과 어긋난 경우를 대비해 매일 새벽 전표 항목 전체를 스트리밍으로 읽어 다시 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountLedgerService {
+
+    private static final DateTimeFormatter PERIOD_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final AccountLedgerRepository accountLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    /**
+     * 전표 항목을 계정 원장 누계에 반영 (전표 생성 트랜잭션 안에서 호출)
+     */
+    public void applyVouchers(Collection<Voucher> vouchers) {
+        // 키 순서(TreeMap)로 갱신하여 동시 전표 생성 간 교착 상태 방지
+        Map<String, MutableTotal> totals = new TreeMap<>();
+        for (Voucher voucher : vouchers) {
+            String period = voucher.getTransactionDate().format(PERIOD_FORMATTER);
+            for (VoucherItem item : voucher.getItems()) {
+                totals.computeIfAbsent(item.getAccountCode() + "|" + period,
+                        key -> new MutableTotal(item.getAccountCode(), period))
+                      .add(item.getAccountName(), item.isDebit(), item.getAmount());
+            }
+        }
+
+        List<MonthlyTotal> rows = new ArrayList<>(totals.size());
+        totals.values().forEach(total -> rows.add(total.toMonthlyTotal()));
+        accountLedgerRepository.addTotals(rows);
+    }
+
+    public void applyVoucher(Voucher voucher) {
+        applyVouchers(List.of(voucher));
+    }
+
+    /**
+     * 합계 시산표 조회
+     * @param fromPeriod 시작 연월(yyyyMM), null 이면 처음부터
+     * @param toPeriod 종료 연월(yyyyMM), null 이면 마지막까지
+     */
+    public TrialBalanceDTO getTrialBalance(String fromPeriod, String toPeriod) {
+        validatePeriod(fromPeriod);
+        validatePeriod(toPeriod);
+
+        List<AccountLedgerDTO> accounts = new ArrayList<>();
+        BigDecimal debitTotal = BigDecimal.ZERO;
+        BigDecimal creditTotal = BigDecimal.ZERO;
+        for (MonthlyTotal total : accountLedgerRepository.sumByAccount(fromPeriod, toPeriod)) {
+            accounts.add(toDTO(total, total.debitTotal().subtract(total.creditTotal())));
+            debitTotal = debitTotal.add(total.debitTotal());
+            creditTotal = creditTotal.add(total.creditTotal());
+        }
+
+        return TrialBalanceDTO.builder()
+                .fromPeriod(fromPeriod)
+                .toPeriod(toPeriod)
+                .accounts(accounts)
+                .debitTotal(debitTotal)
+                .creditTotal(creditTotal)
+                .balanced(debitTotal.compareTo(creditTotal) == 0)
+                .build();
+    }
+
+    /**
+     * 계정별 월 이력 조회 (월별 합계와 누적 잔액)
+     */
+    public AccountHistoryDTO getAccountHistory(String accountCode, String fromPeriod, String toPeriod) {
+        validatePeriod(fromPeriod);
+        validatePeriod(toPeriod);
+
+        BigDecimal openingBalance = fromPeriod != null
+                ? accountLedgerRepository.sumBalanceBefore(accountCode, fromPeriod)
+                : BigDecimal.ZERO;
+
+        List<AccountLedgerDTO> months = new ArrayList<>();
+        String accountName = null;
+        BigDecimal balance = openingBalance;
+        for (MonthlyTotal total : accountLedgerRepository.findByAccountCode(accountCode, fromPeriod, toPeriod)) {
+            balance = balance.add(total.debitTotal()).subtract(total.creditTotal());
+            months.add(toDTO(total, balance));
+            accountName = total.accountName();
+        }
+
+        return AccountHistoryDTO.builder()
+                .accountCode(accountCode)
+                .accountName(accountName)
+                .openingBalance(openingBalance)
+                .months(months)
+                .closingBalance(balance)
+                .build();
+    }
+
+    /**
+     * 전표 항목 전체로 계정 원장 누계 재계산
+     * 매일 새벽 4시 30분 실행 (누계 누락/불일치 보정)
+     * 원장 잠금을 배타로 잡은 한 트랜잭션에서 전표 항목 조회와 누계 교체를 함께 실행하므로,
+     * 재계산 중에는 전표 생성의 누계 가산이 대기하고 조회 이후 커밋된 전표의 가산이 교체로 지워지지 않습니다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public Map<String, Object> rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("계정 원장 재계산이 이미 실행 중입니다.");
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            Map<String, MutableTotal> totals = new HashMap<>();
+            long[] itemCount = { 0 };
+            List<MonthlyTotal> rows = new ArrayList<>();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                // 잠금 이후의 첫 조회에서 읽기 시점이 정해지므로 잠금 전에 커밋된 전표는 모두 포함됨
+                accountLedgerRepository.lockExclusive();
+
+                // 전표 항목은 한 행씩 읽어 (계정, 연월) 누계에만 더하므로 메모리에 항목 전체를 올리지 않음
+                accountLedgerRepository.streamVoucherItems(rs -> {
+                    String accountCode = rs.getString(1);
+                    String period = rs.getString(3);
+                    totals.computeIfAbsent(accountCode + "|" + period, key -> new MutableTotal(accountCode, period))
+                          .add(rs.getString(2), rs.getBoolean(4), rs.getBigDecimal(5));
+                    itemCount[0]++;
+                });
+
+                totals.values().forEach(total -> rows.add(total.toMonthlyTotal()));
+                accountLedgerRepository.replaceAll(rows);
+            });
+
+            long durationMs = System.currentTimeMillis() - startTime;
+            log.info("계정 원장 재계산 완료: 전표 항목 {}건, 누계 {}건, {}ms", itemCount[0], rows.size(), durationMs);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("itemCount", itemCount[0]);
+            result.put("ledgerRowCount", rows.size());
+            result.put("durationMs", durationMs);
+            return result;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private AccountLedgerDTO toDTO(MonthlyTotal total, BigDecimal balance) {
+        return AccountLedgerDTO.builder()
+                .accountCode(total.accountCode())
+                .accountName(total.accountName())
+                .period(total.period())
+                .debitTotal(total.debitTotal())
+                .creditTotal(total.creditTotal())
+                .balance(balance)
+                .itemCount(total.itemCount())
+                .build();
+    }
+
+    private void validatePeriod(String period) {
+        if (period == null) {
+            return;
+        }
+        try {
+            YearMonth.parse(period, PERIOD_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("연월은 yyyyMM 형식이어야 합니다: " + period);
+        }
+    }
+
+    /**
+     * 계정/연월별 누계 집계용
+     */
+    private static class MutableTotal {
+        private final String accountCode;
+        private final String period;
+        private String accountName;
+        private BigDecimal debit = BigDecimal.ZERO;
+        private BigDecimal credit = BigDecimal.ZERO;
+        private long count;
+
+        MutableTotal(String accountCode, String period) {
+            this.accountCode = accountCode;
+            this.period = period;
+        }
+
+        void add(String name, boolean isDebit, BigDecimal amount) {
+            this.accountName = name;
+            if (isDebit) {
+                debit = debit.add(amount);
+            } else {
+                credit = credit.add(amount);
+            }
+            count++;
+        }
+
+        MonthlyTotal toMonthlyTotal() {
+            return new MonthlyTotal(accountCode, period, accountName, debit, credit, count);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.inspection.finance.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.entity.Code;
+import com.inspection.facility.repository.FacilityRepository;
+import com.inspection.facility.repository.FacilityTransactionRepository;
+import com.inspection.finance.dto.BulkVoucherResultDTO;
+import com.inspection.finance.dto.BulkVoucherResultDTO.RecordResult;
+import com.inspection.finance.dto.CreateVoucherRequest;
+import com.inspection.finance.dto.CreateVoucherRequest.CreateVoucherItemRequest;
+import com.inspection.finance.entity.Voucher;
+import com.inspection.finance.entity.VoucherItem;
+import com.inspection.finance.repository.VoucherJdbcRepository;
+import com.inspection.repository.CodeRepository;
+import com.inspection.util.IdBlockAllocator;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전표 일괄 등록 서비스
+ *
+ * NDJSON(한 줄에 CreateVoucherRequest 하나)을 읽어 CHUNK_SIZE 건씩 처리합니다.
+ * 청크마다 전표 유형 코드/시설물/시설물 트랜잭션을 IN 조회로 한 번에 확인하고 건별로 차변/대변 합계를 검증한 뒤,
+ * 검증을 통과한 전표만 전표번호/ID 구간을 예약하여 JDBC 배치로 저장합니다.
+ * 청크는 각자의 트랜잭션으로 커밋되며, 건별 결과로 어떤 줄이 등록되었는지 반환합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoucherBulkPostingService {
+
+    public static final int MAX_RECORDS = 20_000;
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CodeRepository codeRepository;
+    private final FacilityRepository facilityRepository;
+    private final FacilityTransactionRepository facilityTransactionRepository;
+    private final VoucherService voucherService;
+    private final VoucherJdbcRepository voucherJdbcRepository;
+    private final AccountLedgerService accountLedgerService;
+    private final IdBlockAllocator idBlockAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * NDJSON 전표 일괄 등록
+     * 빈 줄은 건너뛰며, MAX_RECORDS 를 넘으면 더 읽지 않고 나머지 전체를 실패 한 건으로 반환합니다.
+     */
+    public BulkVoucherResultDTO postNdjson(InputStream inputStream) throws IOException {
+        long startTime = System.currentTimeMillis();
+        String userId = voucherService.getCurrentUserId();
+        List<RecordResult> results = new ArrayList<>();
+        List<ParsedRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+        int recordCount = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                recordCount++;
+                if (recordCount > MAX_RECORDS) {
+                    // 결과 목록이 업로드 크기만큼 커지지 않도록 초과분은 읽지 않음
+                    results.add(failure(lineNumber, "한 번에 최대 " + MAX_RECORDS + "건까지 등록할 수 있습니다. "
+                            + lineNumber + "번째 줄부터는 처리하지 않았습니다."));
+                    break;
+                }
+
+                try {
+                    CreateVoucherRequest request = objectMapper.readValue(line, CreateVoucherRequest.class);
+                    if (request == null) {
+                        // "null" 한 줄은 JSON 으로는 올바르지만 전표가 아님
+                        results.add(failure(lineNumber, "전표 정보가 비어 있습니다."));
+                    } else {
+                        chunk.add(new ParsedRecord(lineNumber, request));
+                    }
+                } catch (JsonProcessingException e) {
+                    results.add(failure(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage()));
+                }
+
+                if (chunk.size() >= CHUNK_SIZE) {
+                    results.addAll(processChunk(chunk, userId));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(processChunk(chunk, userId));
+        }
+
+        results.sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+        int successCount = (int) results.stream().filter(RecordResult::isSuccess).count();
+        log.info("전표 일괄 등록 완료: 전체 {}건, 성공 {}건, 실패 {}건, {}ms",
+                results.size(), successCount, results.size() - successCount, System.currentTimeMillis() - startTime);
+
+        return BulkVoucherResultDTO.builder()
+                .totalCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 청크 검증 및 저장
+     */
+    private List<RecordResult> processChunk(List<ParsedRecord> chunk, String userId) {
+        List<RecordResult> results = new ArrayList<>(chunk.size());
+
+        // 참조 코드/시설물/트랜잭션 일괄 조회
+        Set<String> typeCodes = chunk.stream().map(r -> r.request.getVoucherTypeCode())
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> facilityIds = chunk.stream().map(r -> r.request.getFacilityId())
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> transactionIds = chunk.stream().map(r -> r.request.getFacilityTransactionId())
+                .filter(Objects::nonNull).collect(Collectors.toSet());
+
+        Map<String, Code> voucherTypes = new HashMap<>();
+        codeRepository.findAllById(typeCodes).forEach(code -> voucherTypes.put(code.getCodeId(), code));
+        Set<Long> existingFacilityIds = facilityIds.isEmpty()
+                ? Set.of() : new HashSet<>(facilityRepository.findExistingIds(facilityIds));
+        Set<Long> existingTransactionIds = transactionIds.isEmpty()
+                ? Set.of() : new HashSet<>(facilityTransactionRepository.findExistingIds(transactionIds));
+
+        List<ParsedRecord> valid = new ArrayList<>(chunk.size());
+        for (ParsedRecord record : chunk) {
+            String error = validate(record.request, voucherTypes, existingFacilityIds, existingTransactionIds);
+            if (error != null) {
+                results.add(failure(record.lineNumber, error));
+            } else {
+                valid.add(record);
+            }
+        }
+        if (valid.isEmpty()) {
+            return results;
+        }
+
+        try {
+            List<Voucher> vouchers = transactionTemplate.execute(status -> saveVouchers(valid, voucherTypes, userId));
+            for (int i = 0; i < valid.size(); i++) {
+                Voucher voucher = vouchers.get(i);
+                results.add(RecordResult.builder()
+                        .line(valid.get(i).lineNumber)
+                        .success(true)
+                        .voucherId(voucher.getVoucherId())
+                        .voucherNumber(voucher.getVoucherNumber())
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            log.error("전표 일괄 등록 청크 저장 실패 ({}건): {}", valid.size(), e.getMessage(), e);
+            for (ParsedRecord record : valid) {
+                results.add(failure(record.lineNumber, "저장 중 오류가 발생했습니다: " + e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 건별 검증 (CreateVoucherRequest 제약 조건, 참조 존재 여부, 차변/대변 합계)
+     * @return 오류 메시지, 통과하면 null
+     */
+    private String validate(CreateVoucherRequest request, Map<String, Code> voucherTypes,
+                            Set<Long> existingFacilityIds, Set<Long> existingTransactionIds) {
+        Set<ConstraintViolation<CreateVoucherRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+        }
+        if (!voucherTypes.containsKey(request.getVoucherTypeCode())) {
+            return "전표 유형 코드를 찾을 수 없습니다: " + request.getVoucherTypeCode();
+        }
+        if (request.getFacilityId() != null && !existingFacilityIds.contains(request.getFacilityId())) {
+            return "시설물을 찾을 수 없습니다: " + request.getFacilityId();
+        }
+        if (request.getFacilityTransactionId() != null
+                && !existingTransactionIds.contains(request.getFacilityTransactionId())) {
+            return "시설물 트랜잭션을 찾을 수 없습니다: " + request.getFacilityTransactionId();
+        }
+
+        if (request.getItems().contains(null)) {
+            return "전표 항목에 빈 값이 있습니다.";
+        }
+
+        BigDecimal debitSum = BigDecimal.ZERO;
+        BigDecimal creditSum = BigDecimal.ZERO;
+        for (CreateVoucherItemRequest item : request.getItems()) {
+            if (Boolean.TRUE.equals(item.getIsDebit())) {
+                debitSum = debitSum.add(item.getAmount());
+            } else {
+                creditSum = creditSum.add(item.getAmount());
+            }
+        }
+        if (debitSum.compareTo(creditSum) != 0) {
+            return "차변 합계와 대변 합계가 일치하지 않습니다. 차변: " + debitSum + ", 대변: " + creditSum;
+        }
+        return null;
+    }
+
+    /**
+     * 검증된 전표 저장 (청크 트랜잭션 안에서 실행)
+     * 전표번호는 유형별로, 전표/항목 ID는 청크 전체로 구간 예약합니다.
+     */
+    private List<Voucher> saveVouchers(List<ParsedRecord> records, Map<String, Code> voucherTypes, String userId) {
+        Map<String, Integer> countByType = new LinkedHashMap<>();
+        int itemCount = 0;
+        for (ParsedRecord record : records) {
+            countByType.merge(record.request.getVoucherTypeCode(), 1, Integer::sum);
+            itemCount += record.request.getItems().size();
+        }
+
+        Map<String, List<String>> numbersByType = new HashMap<>();
+        countByType.forEach((type, count) -> numbersByType.put(type, voucherService.reserveVoucherNumbers(type, count)));
+        Map<String, Integer> numberCursor = new HashMap<>();
+
+        long nextVoucherId = idBlockAllocator.reserveRange("vouchers", "voucher_id", records.size());
+        long nextItemId = idBlockAllocator.reserveRange("voucher_items", "item_id", itemCount);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Voucher> vouchers = new ArrayList<>(records.size());
+        for (ParsedRecord record : records) {
+            CreateVoucherRequest request = record.request;
+            String type = request.getVoucherTypeCode();
+            int cursor = numberCursor.merge(type, 1, Integer::sum) - 1;
+
+            Voucher voucher = new Voucher();
+            voucher.setVoucherId(nextVoucherId++);
+            voucher.setVoucherNumber(numbersByType.get(type).get(cursor));
+            voucher.setVoucherType(voucherTypes.get(type));
+            voucher.setTransactionDate(request.getTransactionDate());
+            voucher.setDescription(request.getDescription());
+            if (request.getFacilityId() != null) {
+                voucher.setFacility(facilityRepository.getReferenceById(request.getFacilityId()));
+            }
+            if (request.getFacilityTransactionId() != null) {
+                voucher.setFacilityTransaction(
+                        facilityTransactionRepository.getReferenceById(request.getFacilityTransactionId()));
+            }
+            voucher.setTotalAmount(request.getTotalAmount());
+            voucher.setCreatedBy(userId);
+            voucher.setCreatedAt(now);
+            voucher.setAutoGenerated(false);  // 수동 생성
+
+            for (CreateVoucherItemRequest itemRequest : request.getItems()) {
+                VoucherItem item = new VoucherItem();
+                item.setItemId(nextItemId++);
+                item.setAccountCode(itemRequest.getAccountCode());
+                item.setAccountName(itemRequest.getAccountName());
+                item.setDebit(itemRequest.getIsDebit());
+                item.setAmount(itemRequest.getAmount());
+                item.setDescription(itemRequest.getDescription());
+                // 라인번호 설정 (제공되지 않은 경우 자동 할당)
+                item.setLineNumber(itemRequest.getLineNumber() != null ?
+                        itemRequest.getLineNumber() : voucher.getItems().size() + 1);
+                voucher.addItem(item);
+            }
+            vouchers.add(voucher);
+        }
+
+        voucherJdbcRepository.insertVouchers(vouchers);
+        accountLedgerService.applyVouchers(vouchers);
+        return vouchers;
+    }
+
+    private RecordResult failure(int lineNumber, String message) {
+        return RecordResult.builder()
+                .line(lineNumber)
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+    private static class ParsedRecord {
+        private final int lineNumber;
+        private final CreateVoucherRequest request;
+
+        ParsedRecord(int lineNumber, CreateVoucherRequest request) {
+            this.lineNumber = lineNumber;
+            this.request = request;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.inspection.finance.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
@@ -28,8 +30,10 @@ import com.inspection.finance.dto.VoucherDTO;
 import com.inspection.finance.entity.Voucher;
 import com.inspection.finance.entity.VoucherItem;
 import com.inspection.finance.repository.VoucherItemRepository;
+import com.inspection.finance.repository.VoucherJdbcRepository;
 import com.inspection.finance.repository.VoucherRepository;
 import com.inspection.repository.CodeRepository;
+import com.inspection.util.IdBlockAllocator;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -45,9 +49,15 @@ public class VoucherService {
     private final CodeRepository codeRepository;
     private final FacilityRepository facilityRepository;
     private final FacilityTransactionRepository facilityTransactionRepository;
+    private final VoucherJdbcRepository voucherJdbcRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final AccountLedgerService accountLedgerService;
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
     
+    // 전표번호 일련번호 세그먼트 이름 접두어 (id_blocks.segment_name = 접두어 + "PUR-250101")
+    private static final String VOUCHER_NUMBER_SEGMENT_PREFIX = "voucher_number:";
+    
     /**
      * 전표 생성
      */
@@ -111,6 +121,7 @@ public class VoucherService {
         
         // 전표 저장
         Voucher savedVoucher = voucherRepository.save(voucher);
+        accountLedgerService.applyVoucher(savedVoucher);
         log.info("전표가 생성되었습니다. 전표번호: {}, ID: {}", voucherNumber, savedVoucher.getVoucherId());
         
         return VoucherDTO.fromEntity(savedVoucher);
@@ -120,51 +131,67 @@ public class VoucherService {
      * 전표번호 생성 (전표 유형 약어 + 날짜(YYMMDD) + 5자리 랜덤숫자)
      */
     private String generateVoucherNumber(String voucherTypeCode) {
-        // 전표 유형 약어 설정
-        String prefix;
+        return reserveVoucherNumbers(voucherTypeCode, 1).get(0);
+    }
+    
+    /**
+     * 전표번호 구간 예약 (대량 전표 생성용)
+     * (유형, 날짜)별 일련번호 행(id_blocks)을 잠가 count개 구간을 예약하므로 동시 생성 간 번호가 겹치지 않습니다.
+     * 예약은 즉시 커밋되어 전표 생성이 롤백되면 해당 번호는 비게 됩니다.
+     */
+    public List<String> reserveVoucherNumbers(String voucherTypeCode, int count) {
+        // 현재 날짜 포맷 (YYMMDD)
+        String dateStr = LocalDateTime.now().format(DATE_FORMATTER);
+        String searchPrefix = getVoucherNumberPrefix(voucherTypeCode) + "-" + dateStr;
+        
+        // 일련번호 행이 없으면(해당 유형/날짜 첫 예약) 기존 전표의 마지막 번호 다음부터 시작
+        long sequence = idBlockAllocator.reserveSequence(VOUCHER_NUMBER_SEGMENT_PREFIX + searchPrefix, count,
+                () -> findLastSequence(searchPrefix) + 1);
+        
+        // 최종 전표번호 생성
+        List<String> voucherNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            voucherNumbers.add(String.format("%s-%05d", searchPrefix, sequence + i));
+        }
+        return voucherNumbers;
+    }
+    
+    /**
+     * 동일 유형 및 날짜의 마지막 전표 일련번호 (없으면 0)
+     */
+    private long findLastSequence(String searchPrefix) {
+        List<String> lastNumbers = voucherRepository.findLatestVoucherNumberByPrefix(
+                searchPrefix, PageRequest.of(0, 1));
+        if (lastNumbers.isEmpty()) {
+            return 0L;
+        }
+        String lastNumber = lastNumbers.get(0);
+        try {
+            return Long.parseLong(lastNumber.substring(lastNumber.lastIndexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            // 파싱 실패 시 1부터 시작
+            return 0L;
+        }
+    }
+    
+    /**
+     * 전표 유형 약어
+     */
+    private String getVoucherNumberPrefix(String voucherTypeCode) {
         switch (voucherTypeCode) {
             case "002012_0001":  // 매입전표
-                prefix = "PUR";
-                break;
+                return "PUR";
             case "002012_0002":  // 감가상각전표
-                prefix = "DEP";
-                break;
+                return "DEP";
             case "002012_0003":  // 폐기전표
-                prefix = "DIS";
-                break;
+                return "DIS";
             case "002012_0004":  // 매출전표
-                prefix = "SAL";
-                break;
+                return "SAL";
             case "002012_0005":  // 이동전표
-                prefix = "MOV";
-                break;
+                return "MOV";
             default:
-                prefix = "ETC";
-                break;
-        }
-        
-        // 현재 날짜 포맷 (YYMMDD)
-        String dateStr = LocalDateTime.now().format(DATE_FORMATTER);
-        
-        // 동일 유형 및 날짜의 마지막 번호 확인
-        String searchPrefix = prefix + "-" + dateStr;
-        List<String> lastNumbers = voucherRepository.findLatestVoucherNumberByPrefix(
-                searchPrefix, PageRequest.of(0, 1));
-        
-        int sequence = 1;
-        if (!lastNumbers.isEmpty()) {
-            String lastNumber = lastNumbers.get(0);
-            String seqPart = lastNumber.substring(lastNumber.lastIndexOf('-') + 1);
-            try {
-                sequence = Integer.parseInt(seqPart) + 1;
-            } catch (NumberFormatException e) {
-                // 파싱 실패 시 1부터 시작
-                sequence = 1;
-            }
+                return "ETC";
         }
-        
-        // 최종 전표번호 생성
-        return String.format("%s-%s-%05d", prefix, dateStr, sequence);
     }
     
     /**
@@ -190,9 +217,9 @@ public class VoucherService {
     }
     
     /**
-     * 현재 사용자 ID 가져오기
+     * 현재 사용자 ID 가져오기 (전표 일괄 등록에서도 사용)
      */
-    private String getCurrentUserId() {
+    String getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && !"anonymousUser".equals(authentication.getPrincipal())) {
             return authentication.getName();
@@ -333,12 +360,86 @@ public class VoucherService {
         
         // 전표 저장
         Voucher savedVoucher = voucherRepository.save(voucher);
+        accountLedgerService.applyVoucher(savedVoucher);
         log.info("시설물 등록 전표가 자동 생성되었습니다. 전표번호: {}, ID: {}, 시설물: {}", 
                 voucherNumber, savedVoucher.getVoucherId(), facility.getSerialNumber());
         
         return VoucherDTO.fromEntity(savedVoucher);
     }
     
+    /**
+     * 시설물 대량 등록 시 등록 전표 일괄 생성
+     * 전표번호와 ID를 구간 단위로 예약한 뒤 전표/항목을 JDBC 배치로 저장합니다.
+     * @param transactions 입고 트랜잭션 목록 (시설물, 수행자 정보 포함)
+     * @return 생성된 전표 수
+     */
+    @Transactional
+    public int createFacilityRegistrationVouchers(List<FacilityTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        
+        // 전표 유형 코드 (매입전표)
+        Code voucherType = codeRepository.findById("002012_0001")
+                .orElseThrow(() -> new EntityNotFoundException("전표 유형 코드를 찾을 수 없습니다: 002012_0001"));
+        
+        int count = transactions.size();
+        List<String> voucherNumbers = reserveVoucherNumbers("002012_0001", count);
+        long firstVoucherId = idBlockAllocator.reserveRange("vouchers", "voucher_id", count);
+        long firstItemId = idBlockAllocator.reserveRange("voucher_items", "item_id", count * 2);
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<Voucher> vouchers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FacilityTransaction transaction = transactions.get(i);
+            Facility facility = transaction.getFacility();
+            
+            Voucher voucher = new Voucher();
+            voucher.setVoucherId(firstVoucherId + i);
+            voucher.setVoucherNumber(voucherNumbers.get(i));
+            voucher.setVoucherType(voucherType);
+            voucher.setTransactionDate(transaction.getTransactionDate());
+            voucher.setDescription(" 시설물 등록");
+            voucher.setFacility(facility);
+            voucher.setFacilityTransaction(transaction);
+            voucher.setTotalAmount(facility.getAcquisitionCost());
+            voucher.setCreatedBy(transaction.getPerformedBy().getUserId());
+            voucher.setCreatedAt(now);
+            voucher.setAutoGenerated(true);  // 자동 생성
+            
+            // 차변 (유형자산 증가)
+            VoucherItem debitItem = new VoucherItem();
+            debitItem.setItemId(firstItemId + (i * 2L));
+            debitItem.setAccountCode("101");  // 유형자산 계정코드
+            debitItem.setAccountName("유형자산");
+            debitItem.setDebit(true);
+            debitItem.setAmount(facility.getAcquisitionCost());
+            debitItem.setDescription("시설물 자산 취득");
+            debitItem.setLineNumber(1);
+            
+            // 대변 (현금 감소)
+            VoucherItem creditItem = new VoucherItem();
+            creditItem.setItemId(firstItemId + (i * 2L) + 1);
+            creditItem.setAccountCode("103");  // 현금 계정코드
+            creditItem.setAccountName("현금");
+            creditItem.setDebit(false);
+            creditItem.setAmount(facility.getAcquisitionCost());
+            creditItem.setDescription("시설물 구매 대금");
+            creditItem.setLineNumber(2);
+            
+            voucher.addItem(debitItem);
+            voucher.addItem(creditItem);
+            vouchers.add(voucher);
+        }
+        
+        voucherJdbcRepository.insertVouchers(vouchers);
+        accountLedgerService.applyVouchers(vouchers);
+        log.info("시설물 등록 전표 {}건이 일괄 생성되었습니다. 전표번호: {} ~ {}", 
+                count, voucherNumbers.get(0), voucherNumbers.get(count - 1));
+        
+        return count;
+    }
+    
     /**
      * 감가상각 전표 자동 생성
      */
@@ -388,12 +489,87 @@ public class VoucherService {
         
         // 전표 저장
         Voucher savedVoucher = voucherRepository.save(voucher);
+        accountLedgerService.applyVoucher(savedVoucher);
         log.info("감가상각 전표가 자동 생성되었습니다. 전표번호: {}, ID: {}, 시설물: {}", 
                 voucherNumber, savedVoucher.getVoucherId(), facility.getSerialNumber());
         
         return VoucherDTO.fromEntity(savedVoucher);
     }
     
+    /**
+     * 월 감가상각 일괄 처리 시 감가상각 전표 일괄 생성
+     * 전표번호와 ID를 구간 단위로 예약한 뒤 전표/항목을 JDBC 배치로 저장합니다.
+     * @param amountsByFacilityId 시설물 ID -> 감가상각액
+     * @return 생성된 전표 수
+     */
+    @Transactional
+    public int createDepreciationVouchers(Map<Long, BigDecimal> amountsByFacilityId, LocalDateTime transactionDate) {
+        if (amountsByFacilityId.isEmpty()) {
+            return 0;
+        }
+        
+        // 전표 유형 코드 (감가상각 전표)
+        Code voucherType = codeRepository.findById("002012_0002")
+                .orElseThrow(() -> new EntityNotFoundException("전표 유형 코드를 찾을 수 없습니다: 002012_0002"));
+        
+        int count = amountsByFacilityId.size();
+        List<String> voucherNumbers = reserveVoucherNumbers("002012_0002", count);
+        long firstVoucherId = idBlockAllocator.reserveRange("vouchers", "voucher_id", count);
+        long firstItemId = idBlockAllocator.reserveRange("voucher_items", "item_id", count * 2);
+        String userId = getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<Voucher> vouchers = new ArrayList<>(count);
+        int i = 0;
+        for (Map.Entry<Long, BigDecimal> entry : amountsByFacilityId.entrySet()) {
+            BigDecimal depreciationAmount = entry.getValue();
+            
+            Voucher voucher = new Voucher();
+            voucher.setVoucherId(firstVoucherId + i);
+            voucher.setVoucherNumber(voucherNumbers.get(i));
+            voucher.setVoucherType(voucherType);
+            voucher.setTransactionDate(transactionDate);
+            voucher.setDescription(" 시설물 감가상각");
+            voucher.setFacility(facilityRepository.getReferenceById(entry.getKey()));
+            voucher.setTotalAmount(depreciationAmount);
+            voucher.setCreatedBy(userId);
+            voucher.setCreatedAt(now);
+            voucher.setAutoGenerated(true);  // 자동 생성
+            
+            // 차변 (감가상각비 증가)
+            VoucherItem debitItem = new VoucherItem();
+            debitItem.setItemId(firstItemId + (i * 2L));
+            debitItem.setAccountCode("501");  // 감가상각비 계정코드
+            debitItem.setAccountName("감가상각비");
+            debitItem.setDebit(true);
+            debitItem.setAmount(depreciationAmount);
+            debitItem.setDescription(" 시설물 감가상각비");
+            debitItem.setLineNumber(1);
+            
+            // 대변 (감가상각누계액 증가)
+            VoucherItem creditItem = new VoucherItem();
+            creditItem.setItemId(firstItemId + (i * 2L) + 1);
+            creditItem.setAccountCode("102");  // 감가상각누계액 계정코드
+            creditItem.setAccountName("감가상각누계액");
+            creditItem.setDebit(false);
+            creditItem.setAmount(depreciationAmount);
+            creditItem.setDescription(" 시설물 감가상각누계액");
+            creditItem.setLineNumber(2);
+            
+            voucher.addItem(debitItem);
+            voucher.addItem(creditItem);
+            vouchers.add(voucher);
+            i++;
+        }
+        
+        voucherJdbcRepository.insertVouchers(vouchers);
+        accountLedgerService.applyVouchers(vouchers);
+        log.info("감가상각 전표 {}건이 일괄 생성되었습니다. 전표번호: {} ~ {}", 
+                count, voucherNumbers.get(0), voucherNumbers.get(count - 1));
+        
+        return count;
+    }
+    
     /**
      * 시설물 폐기 전표 자동 생성
      */
@@ -460,6 +636,7 @@ public class VoucherService {
         
         // 전표 저장
         Voucher savedVoucher = voucherRepository.save(voucher);
+        accountLedgerService.applyVoucher(savedVoucher);
         log.info("시설물 폐기 전표가 자동 생성되었습니다. 전표번호: {}, ID: {}, 시설물: {}", 
                 voucherNumber, savedVoucher.getVoucherId(), facility.getSerialNumber());
         
@@ -9,6 +9,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -73,4 +74,17 @@ public class NiceRedisConfig {
         
         return redisTemplate;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * NICE 본인인증 세션 저장소 전용 Redis 템플릿 설정
+     * 문자열 키와 NiceSessionStore 가 직접 직렬화한 바이트 값을 사용
+     */
+    @Bean(name = "niceSessionRedisTemplate")
+    public RedisTemplate<String, byte[]> niceSessionRedisTemplate() {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(niceRedisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+}
@@ -1,23 +1,12 @@
 package com.inspection.nice.service;
 
-import java.io.UnsupportedEncodingException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
-import java.util.Collections;
 import java.util.Random;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,8 +16,7 @@ import com.inspection.nice.dto.NiceCertificationResponseDto;
 import com.inspection.nice.dto.NiceCertificationResultDto;
 import com.inspection.nice.dto.NiceSessionDto;
 import com.inspection.nice.util.NiceCryptoUtil;
-import com.inspection.nice.util.NiceUtil;
-import com.inspection.nice.util.RedisUtil;
+import com.inspection.nice.util.NiceSessionStore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,11 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class NiceCertificationService {
 
-    private final NiceUtil niceUtil;
-    private final NiceAuthService niceAuthService;
+    private final NiceCryptoTokenManager cryptoTokenManager;
     private final NiceCryptoUtil cryptoUtil;
-    private final RedisUtil redisUtil;
-    private final RestTemplate restTemplate;
+    private final NiceSessionStore sessionStore;
     private final ObjectMapper objectMapper;
     
     // 세션 만료 시간 (설정 파일에서 읽어옴, 기본값 15분)
@@ -59,78 +45,7 @@ public class NiceCertificationService {
      * @return 암호화 토큰 요청 정보와 응답 정보를 포함하는 객체
      */
     public TokenRequestInfo requestCryptoToken() {
-        log.info("===== 암호화 토큰 요청 시작 =====");
-        
-        try {
-            // 1. 액세스 토큰 가져오기
-            String accessToken = niceAuthService.getAccessTokenValue();
-            log.info("[1] 액세스 토큰 획득 완료: {}", accessToken);
-            
-            // 2. 요청 타임스탬프 및 요청번호 생성
-            String reqDtim = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-            String reqNo = "REQ" + reqDtim + String.format("%04d", new Random().nextInt(10000));
-            log.info("[2] 생성된 요청 정보: req_dtim={}, req_no={}", reqDtim, reqNo);
-            
-            // 3. 요청 URL 및 헤더 설정
-            String url = niceUtil.getApiUrl() + "/digital/niceid/api/v1.0/common/crypto/token";
-            
-            // 4. 타임스탬프 생성
-            long timestamp = System.currentTimeMillis() / 1000;
-            
-            // 5. 인증 헤더 생성 (bearer + Base64(access_token:timestamp:client_id))
-            String auth = accessToken + ":" + timestamp + ":" + niceUtil.getClientId();
-            String base64Auth = Base64.getEncoder().encodeToString(auth.getBytes("UTF-8"));
-            String authHeader = "bearer " + base64Auth;
-            log.info("[3] 인증 헤더 생성 완료 (Base64 인코딩)");
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-            headers.set("Authorization", authHeader);
-            headers.set("productID", niceUtil.getProductId());
-            
-            // 6. 요청 바디 생성 - NICE API 가이드에 맞게 중첩 JSON 형식으로 구성
-            // dataHeader와 dataBody 구조 정확히 구성
-            ObjectNode dataHeaderNode = objectMapper.createObjectNode();
-            dataHeaderNode.put("CNTY_CD", "ko");
-            
-            // dataBody의 모든 필드를 명시적으로 문자열 값으로 설정
-            ObjectNode dataBodyNode = objectMapper.createObjectNode();
-            dataBodyNode.put("req_dtim", reqDtim);  // 문자열 값 설정
-            dataBodyNode.put("req_no", reqNo);      // 문자열 값 설정
-            dataBodyNode.put("enc_mode", "1");      // 문자열 값 설정
-            
-            // 전체 요청 구조 구성
-            ObjectNode requestNode = objectMapper.createObjectNode();
-            requestNode.set("dataHeader", dataHeaderNode);
-            requestNode.set("dataBody", dataBodyNode);
-            
-            String requestJson = objectMapper.writeValueAsString(requestNode);
-            log.info("[4] 요청 JSON: {}", requestJson);
-            
-            // 7. API 호출
-            HttpEntity<String> requestEntity = new HttpEntity<>(requestJson, headers);
-            log.info("[5] NICE API 호출 시작: URL={}", url);
-            ResponseEntity<String> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                requestEntity,
-                String.class
-            );
-            
-            // 8. 응답 처리 및 반환
-            log.info("[6] 암호화 토큰 요청 성공: 상태코드={}", response.getStatusCodeValue());
-            log.info("[7] 응답 본문: {}", response.getBody());
-            
-            // 요청 정보와 응답 정보를 모두 포함하는 객체 반환
-            TokenRequestInfo result = new TokenRequestInfo(reqDtim, reqNo, response.getBody());
-            log.info("===== 암호화 토큰 요청 완료 =====");
-            return result;
-            
-        } catch (Exception e) {
-            log.error("===== 암호화 토큰 요청 중 오류 발생 =====", e);
-            throw new RuntimeException("암호화 토큰 요청 오류: " + e.getMessage(), e);
-        }
+        return cryptoTokenManager.requestToken();
     }
     
     /**
@@ -143,48 +58,35 @@ public class NiceCertificationService {
         log.info("===== NICE 표준창 호출 준비 시작 =====");
         
         try {
-            // 1. 암호화 토큰 요청 (이미 토큰 발급 단계를 포함)
-            log.info("[1-2] 기관 토큰 발급 및 암호화 토큰 요청");
-            TokenRequestInfo tokenRequestInfo = requestCryptoToken();
-            String tokenResponse = tokenRequestInfo.getTokenResponse();
-            String reqDtim = tokenRequestInfo.getReqDtim();
-            String reqNo = tokenRequestInfo.getReqNo();
-            
-            log.info("[2] 암호화 토큰 응답: {}", tokenResponse);
+            // 1. 암호화 토큰 조회 (유효기간 동안 재사용, 만료가 가까우면 백그라운드 갱신)
+            NiceCryptoTokenManager.CryptoTokenKey cryptoToken = cryptoTokenManager.getToken();
+            String tokenVersionId = cryptoToken.tokenVersionId();
+            String tokenVal = cryptoToken.tokenVal();
+            String siteCode = cryptoToken.siteCode();
+            String reqDtim = cryptoToken.reqDtim();
+            String reqNo = cryptoToken.reqNo();
             
-            // 2. 토큰 정보 추출
-            CryptoTokenInfo tokenInfo = extractCryptoTokenInfo(tokenResponse, reqDtim, reqNo);
-            String tokenVersionId = tokenInfo.getTokenVersionId();
-            String tokenVal = tokenInfo.getTokenVal();
-            String siteCode = tokenInfo.getSiteCode();
+            // 본인인증 요청번호는 토큰을 공유하는 요청마다 새로 생성 (세션 ID 및 콜백 검증에 사용)
+            String requestNo = cryptoTokenManager.newRequestNo();
             
             log.info("[2-1] 암호화 토큰 주요 정보: token_version_id={}, token_val={}, site_code={}", 
                     tokenVersionId, tokenVal, siteCode);
-            log.info("[2-2] 요청 정보: req_dtim={}, req_no={}", reqDtim, reqNo);
-            
-            // NICE 검증용 1단계: reqNo + reqDtim + tokenVal 조합 값 로그 (순서 변경)
-            // trim() 제거: 정확한 원본 값 유지
-            String originalString = reqDtim + reqNo + tokenVal;
-            log.info("[3] original String 생성: {}", originalString);
-            
-            // 3-4. NICE 가이드에 맞게 수정: original String을 직접 SHA-256 해싱
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(originalString.getBytes("EUC-KR"));
-            String hashBase64 = Base64.getEncoder().encodeToString(hashBytes);
-            log.info("[4] SHA-256 해싱 결과 (result value): {}", hashBase64);
-            
-            // 대칭키, IV, HMAC 키 생성 - NICE 설명에 맞춰 추출
-            String key = hashBase64.substring(0, 16);  // 앞에서부터 16바이트(문자)
-            String iv = hashBase64.substring(hashBase64.length() - 16);  // 뒤에서부터 16바이트(문자)
-            String hmacKey = hashBase64.substring(0, 32);  // 앞에서부터 32바이트(문자)
-            log.info("[5] 생성된 키 값들:");
+            log.info("[2-2] 토큰 요청 정보: req_dtim={}, req_no={}, 본인인증 요청번호={}", reqDtim, reqNo, requestNo);
+            
+            // 3-5. 대칭키, IV, HMAC 키 - 토큰 발급 시 SHA-256(req_dtim + req_no + token_val) 에서 한 번 유도한 값 사용
+            String originalString = cryptoToken.originalString();
+            String hashBase64 = cryptoToken.hashBase64();
+            String key = cryptoToken.key();
+            String iv = cryptoToken.iv();
+            String hmacKey = cryptoToken.hmacKey();
+            log.info("[5] 토큰 키 값들:");
             log.info("   - key (대칭키, 앞 16바이트): {}", key);
             log.info("   - iv (초기화벡터, 뒤 16바이트): {}", iv);
             log.info("   - hmacKey (무결성 키, 앞 32바이트): {}", hmacKey);
             
             // 6. 요청 데이터 구성
             ObjectNode plainDataNode = objectMapper.createObjectNode();
-            plainDataNode.put("requestno", reqNo);
+            plainDataNode.put("requestno", requestNo);
             plainDataNode.put("returnurl", requestDto.getReturnUrl());
             plainDataNode.put("sitecode", siteCode);
             
@@ -213,7 +115,7 @@ public class NiceCertificationService {
             
             // 9. 세션에 저장할 정보를 Redis에 저장
             NiceSessionDto sessionDto = NiceSessionDto.builder()
-                    .sessionId(reqNo)  // 요청번호를 세션ID로 사용
+                    .sessionId(requestNo)  // 본인인증 요청번호를 세션ID로 사용
                     .symmetricKey(key)
                     .iv(iv)
                     .tokenVersionId(tokenVersionId)
@@ -228,11 +130,11 @@ public class NiceCertificationService {
                     .build();
             
             // Redis에 세션 저장 (만료 시간 설정)
-            redisUtil.setDataExpire(reqNo, sessionDto, sessionExpireSeconds);
+            sessionStore.save(requestNo, sessionDto, sessionExpireSeconds);
             
             // 10. 응답 DTO 구성
             NiceCertificationResponseDto responseDto = NiceCertificationResponseDto.builder()
-                    .requestNo(reqNo)
+                    .requestNo(requestNo)
                     .tokenVersionId(tokenVersionId)
                     .encData(encData)
                     .integrityValue(integrityValue)
@@ -247,7 +149,7 @@ public class NiceCertificationService {
             log.info("   - token_version_id: {}", tokenVersionId);
             log.info("   - enc_data 길이: {}", encData.length());
             log.info("   - integrity_value 길이: {}", integrityValue.length());
-            log.info("[10] 표준창 호출 준비 완료: requestNo={}", reqNo);
+            log.info("[10] 표준창 호출 준비 완료: requestNo={}", requestNo);
             log.info("===== NICE 표준창 호출 준비 완료 =====");
             
             return responseDto;
@@ -278,7 +180,7 @@ public class NiceCertificationService {
                 tokenVersionId, integrityValue, encData.length());
         
         try {
-            // 1. 세션 정보 조회
+            // 1. 세션 정보 조회 (검증을 모두 통과한 뒤에만 삭제하므로 위조/잘못된 콜백이 세션을 지우지 못함)
             NiceSessionDto sessionDto = getSessionInfo(requestNo);
             log.info("[1] 세션 정보 조회 완료: sessionId={}", sessionDto.getSessionId());
             
@@ -311,11 +213,18 @@ public class NiceCertificationService {
             // 4. 암호화된 데이터 복호화
             log.info("[4] 암호화 데이터 복호화 시작: key={}, iv={}", 
                     sessionDto.getSymmetricKey(), sessionDto.getIv());
-            String decryptedData = cryptoUtil.decrypt(
-                encData, 
-                sessionDto.getSymmetricKey(), 
-                sessionDto.getIv()
-            );
+            String decryptedData;
+            try {
+                decryptedData = cryptoUtil.decrypt(
+                    encData, 
+                    sessionDto.getSymmetricKey(), 
+                    sessionDto.getIv()
+                );
+            } catch (Exception e) {
+                // 무결성 검증을 통과했는데 복호화에 실패하면 보관 중인 토큰의 유도 키가 NICE 와 맞지 않는 것이므로 토큰을 새로 발급
+                cryptoTokenManager.invalidate(tokenVersionId);
+                throw e;
+            }
             log.info("[4-1] 복호화된 데이터: {}", decryptedData);
             
             // 5. JSON 파싱
@@ -331,6 +240,12 @@ public class NiceCertificationService {
                 throw new RuntimeException("요청 번호가 일치하지 않습니다.");
             }
             
+            // 6-1. 검증 통과 후 세션 소비 (같은 요청번호의 콜백이 중복/동시에 들어와도 삭제에 성공한 하나만 처리)
+            if (sessionStore.consume(requestNo) == null) {
+                log.warn("이미 처리되었거나 만료된 세션: requestNo={}", requestNo);
+                throw new RuntimeException("본인인증 결과가 이미 처리되었거나 세션이 만료되었습니다.");
+            }
+            
             // 7. 본인인증 결과 DTO 구성
             NiceCertificationResultDto resultDto = NiceCertificationResultDto.builder()
                     .requestNo(resultNode.path("requestno").asText())
@@ -351,9 +266,6 @@ public class NiceCertificationService {
                     .receiveData(resultNode.path("receivedata").asText())
                     .build();
             
-            // 8. 사용이 완료된 세션 정보 삭제
-            redisUtil.deleteData(requestNo);
-            
             log.info("[6] 본인인증 결과 처리 완료: name={}, birthDate={}, ci={}", 
                     resultDto.getName(), resultDto.getBirthDate(), resultDto.getCi());
             log.info("===== 본인인증 결과 처리 완료 =====");
@@ -397,7 +309,7 @@ public class NiceCertificationService {
                     .build();
             
             // 5. Redis에 세션 저장 (만료 시간 설정)
-            redisUtil.setDataExpire(sessionId, sessionDto, sessionExpireSeconds);
+            sessionStore.save(sessionId, sessionDto, sessionExpireSeconds);
             log.info("본인인증 세션 생성 완료: sessionId={}", sessionId);
             
             return sessionId;
@@ -415,29 +327,12 @@ public class NiceCertificationService {
      */
     public NiceSessionDto getSessionInfo(String sessionId) {
         try {
-            Object sessionData = redisUtil.getData(sessionId);
-            if (sessionData == null) {
+            NiceSessionDto sessionDto = sessionStore.find(sessionId);
+            if (sessionDto == null) {
                 log.warn("세션 정보가 없거나 만료됨: sessionId={}", sessionId);
                 throw new RuntimeException("본인인증 세션이 만료되었습니다. 다시 시도해주세요. (세션 유효시간: " + (sessionExpireSeconds / 60) + "분)");
             }
-            
-            // Redis에서 조회한 데이터를 NiceSessionDto로 변환
-            if (sessionData instanceof NiceSessionDto) {
-                return (NiceSessionDto) sessionData;
-            } else if (sessionData instanceof java.util.LinkedHashMap) {
-                // LinkedHashMap인 경우 ObjectMapper의 convertValue를 사용하여 변환 (더 효율적)
-                try {
-                    NiceSessionDto sessionDto = objectMapper.convertValue(sessionData, NiceSessionDto.class);
-                    log.info("LinkedHashMap을 NiceSessionDto로 변환 완료: sessionId={}", sessionId);
-                    return sessionDto;
-                } catch (Exception conversionError) {
-                    log.error("LinkedHashMap 변환 중 오류: {}", conversionError.getMessage());
-                    throw new RuntimeException("세션 데이터 변환 실패", conversionError);
-                }
-            } else {
-                log.error("세션 데이터 형식 오류: {}", sessionData.getClass().getName());
-                throw new RuntimeException("세션 데이터 형식이 올바르지 않습니다.");
-            }
+            return sessionDto;
         } catch (Exception e) {
             log.error("세션 정보 조회 중 오류 발생", e);
             throw new RuntimeException("세션 정보 조회 실패: " + e.getMessage(), e);
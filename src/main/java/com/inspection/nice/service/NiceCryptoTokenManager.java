@@ -0,0 +1,268 @@
+package com.inspection.nice.service;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.inspection.nice.service.NiceCertificationService.TokenRequestInfo;
+import com.inspection.nice.util.NiceUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NICE 암호화 토큰 관리자
+ * 암호화 토큰은 유효기간(period) 동안 여러 본인인증 요청에서 함께 쓸 수 있으므로,
+ * 토큰과 토큰에서 유도한 대칭키/IV/HMAC 키를 만료 직전까지 메모리에 보관합니다.
+ * 갱신 시점이 지나면 현재 토큰을 그대로 쓰면서 백그라운드로 갱신하고,
+ * 동시에 들어온 요청은 진행 중인 하나의 갱신 결과를 함께 기다립니다(single-flight).
+ * 갱신은 전용 실행기(niceTokenExecutor)에서 수행하고, 요청 스레드는 정해진 시간까지만 기다립니다.
+ */
+@Slf4j
+@Service
+public class NiceCryptoTokenManager {
+
+    private static final DateTimeFormatter REQ_DTIM_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private final NiceUtil niceUtil;
+    private final NiceAuthService niceAuthService;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor refreshExecutor;
+
+    // 응답에 유효기간(period)이 없을 때 사용할 토큰 유효기간
+    @Value("${nice.crypto-token.default-period-seconds:3600}")
+    private long defaultPeriodSeconds;
+
+    // 만료까지 이 시간보다 적게 남으면 갱신 (표준창 호출 후 결과 콜백까지 토큰이 유효하도록 세션 유효시간과 맞춤)
+    @Value("${nice.crypto-token.refresh-before-seconds:900}")
+    private long refreshBeforeSeconds;
+
+    // 토큰이 없을 때 요청 스레드가 갱신 완료를 기다리는 최대 시간
+    @Value("${nice.crypto-token.wait-timeout-seconds:10}")
+    private long waitTimeoutSeconds;
+
+    private volatile CryptoTokenKey current;
+
+    // 진행 중인 갱신 (없으면 null), this 로 동기화
+    private CompletableFuture<CryptoTokenKey> inFlight;
+
+    public NiceCryptoTokenManager(NiceUtil niceUtil, NiceAuthService niceAuthService, RestTemplate restTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Qualifier("niceTokenExecutor") Executor refreshExecutor) {
+        this.niceUtil = niceUtil;
+        this.niceAuthService = niceAuthService;
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 암호화 토큰 및 유도 키 정보
+     * key/iv/hmacKey 는 SHA-256(reqDtim + reqNo + tokenVal) 의 Base64 값에서 잘라낸 문자열입니다.
+     */
+    public record CryptoTokenKey(String tokenVersionId, String tokenVal, String siteCode,
+                                 String reqDtim, String reqNo, String originalString, String hashBase64,
+                                 String key, String iv, String hmacKey,
+                                 long refreshAtMillis, long expiresAtMillis) {}
+
+    /**
+     * 사용 가능한 암호화 토큰을 반환합니다.
+     * 갱신 시점이 지났지만 아직 만료 전이면 현재 토큰을 반환하고 백그라운드 갱신을 시작하며,
+     * 토큰이 없거나 만료되었으면 진행 중인(또는 새로 시작한) 갱신이 끝날 때까지 최대 wait-timeout-seconds 동안 기다립니다.
+     *
+     * @return 암호화 토큰 및 유도 키 정보
+     * @throws RuntimeException 갱신 실패 또는 대기 시간 초과
+     */
+    public CryptoTokenKey getToken() {
+        CryptoTokenKey token = current;
+        long now = System.currentTimeMillis();
+        if (token != null && now < token.refreshAtMillis()) {
+            return token;
+        }
+        if (token != null && now < token.expiresAtMillis()) {
+            refresh();
+            return token;
+        }
+        try {
+            return refresh().get(waitTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof RuntimeException runtime ? runtime
+                    : new RuntimeException("암호화 토큰 갱신 오류: " + cause.getMessage(), cause);
+        } catch (TimeoutException e) {
+            // 갱신은 계속 진행되며, 완료되면 다음 요청부터 사용
+            throw new RuntimeException("암호화 토큰 갱신 대기 시간(" + waitTimeoutSeconds + "초)을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("암호화 토큰 갱신 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 보관 중인 토큰이 주어진 버전이면 버립니다. (NICE 결과를 해당 토큰의 유도 키로 복호화하지 못한 경우 다음 요청부터 새로 발급)
+     * 이미 새 토큰으로 바뀌었으면 그대로 둡니다.
+     */
+    public synchronized void invalidate(String tokenVersionId) {
+        CryptoTokenKey token = current;
+        if (token != null && token.tokenVersionId().equals(tokenVersionId)) {
+            current = null;
+            log.warn("암호화 토큰 폐기: token_version_id={}", tokenVersionId);
+        }
+    }
+
+    /**
+     * 본인인증 요청마다 사용할 요청번호를 생성합니다. (토큰 요청번호와 별개)
+     */
+    public String newRequestNo() {
+        return "REQ" + LocalDateTime.now().format(REQ_DTIM_FORMAT)
+                + String.format("%06d", ThreadLocalRandom.current().nextInt(1_000_000));
+    }
+
+    /**
+     * 진행 중인 갱신이 있으면 그 결과를, 없으면 새 갱신을 시작해 반환합니다.
+     */
+    private synchronized CompletableFuture<CryptoTokenKey> refresh() {
+        if (inFlight != null && !inFlight.isDone()) {
+            return inFlight;
+        }
+        // 기다리는 쪽이 결과를 받을 때는 current 반영까지 끝나 있도록 whenComplete 이후의 future 를 공유
+        CompletableFuture<CryptoTokenKey> future = CompletableFuture.supplyAsync(this::issue, refreshExecutor)
+                .whenComplete((token, error) -> {
+                    synchronized (this) {
+                        if (token != null) {
+                            current = token;
+                        } else {
+                            log.error("암호화 토큰 갱신 실패: {}", error.getMessage());
+                        }
+                        inFlight = null;
+                    }
+                });
+        inFlight = future;
+        return future;
+    }
+
+    private CryptoTokenKey issue() {
+        long startTime = System.currentTimeMillis();
+        TokenRequestInfo requestInfo = requestToken();
+        try {
+            JsonNode dataBody = objectMapper.readTree(requestInfo.getTokenResponse()).path("dataBody");
+            String tokenVersionId = dataBody.path("token_version_id").asText();
+            String tokenVal = dataBody.path("token_val").asText();
+            String siteCode = dataBody.path("site_code").asText();
+            if (tokenVersionId.isEmpty() || tokenVal.isEmpty()) {
+                throw new RuntimeException("암호화 토큰 응답에 token_version_id/token_val 이 없습니다.");
+            }
+            long periodSeconds = dataBody.path("period").asLong(0);
+            if (periodSeconds <= 0) {
+                periodSeconds = defaultPeriodSeconds;
+            }
+
+            String originalString = requestInfo.getReqDtim() + requestInfo.getReqNo() + tokenVal;
+            byte[] hashBytes = MessageDigest.getInstance("SHA-256").digest(originalString.getBytes(EUC_KR));
+            String hashBase64 = Base64.getEncoder().encodeToString(hashBytes);
+
+            // 갱신 여유가 유효기간보다 길면 유효기간의 절반이 지났을 때 갱신
+            long refreshBeforeMillis = Math.min(refreshBeforeSeconds, periodSeconds / 2) * 1000;
+            long expiresAtMillis = startTime + periodSeconds * 1000;
+            CryptoTokenKey token = new CryptoTokenKey(tokenVersionId, tokenVal, siteCode,
+                    requestInfo.getReqDtim(), requestInfo.getReqNo(), originalString, hashBase64,
+                    hashBase64.substring(0, 16), hashBase64.substring(hashBase64.length() - 16),
+                    hashBase64.substring(0, 32), expiresAtMillis - refreshBeforeMillis, expiresAtMillis);
+            log.info("암호화 토큰 갱신 완료: token_version_id={}, 유효기간={}초, {}ms",
+                    tokenVersionId, periodSeconds, System.currentTimeMillis() - startTime);
+            return token;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("암호화 토큰 응답 처리 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * NICE 암호화 토큰 API 를 호출합니다. (캐시를 거치지 않음)
+     *
+     * @return 암호화 토큰 요청 정보와 응답 정보를 포함하는 객체
+     */
+    public TokenRequestInfo requestToken() {
+        log.info("===== 암호화 토큰 요청 시작 =====");
+
+        try {
+            // 1. 액세스 토큰 가져오기
+            String accessToken = niceAuthService.getAccessTokenValue();
+
+            // 2. 요청 타임스탬프 및 요청번호 생성
+            String reqDtim = LocalDateTime.now().format(REQ_DTIM_FORMAT);
+            String reqNo = "REQ" + reqDtim + String.format("%04d", ThreadLocalRandom.current().nextInt(10000));
+            log.info("[1] 생성된 요청 정보: req_dtim={}, req_no={}", reqDtim, reqNo);
+
+            String url = niceUtil.getApiUrl() + "/digital/niceid/api/v1.0/common/crypto/token";
+
+            // 3. 인증 헤더 생성 (bearer + Base64(access_token:timestamp:client_id))
+            long timestamp = System.currentTimeMillis() / 1000;
+            String auth = accessToken + ":" + timestamp + ":" + niceUtil.getClientId();
+            String authHeader = "bearer " + Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+            headers.set("Authorization", authHeader);
+            headers.set("productID", niceUtil.getProductId());
+
+            // 4. 요청 바디 생성 - NICE API 가이드에 맞게 dataHeader / dataBody 중첩 구조
+            ObjectNode dataHeaderNode = objectMapper.createObjectNode();
+            dataHeaderNode.put("CNTY_CD", "ko");
+
+            ObjectNode dataBodyNode = objectMapper.createObjectNode();
+            dataBodyNode.put("req_dtim", reqDtim);
+            dataBodyNode.put("req_no", reqNo);
+            dataBodyNode.put("enc_mode", "1");
+
+            ObjectNode requestNode = objectMapper.createObjectNode();
+            requestNode.set("dataHeader", dataHeaderNode);
+            requestNode.set("dataBody", dataBodyNode);
+
+            String requestJson = objectMapper.writeValueAsString(requestNode);
+            log.info("[2] 요청 JSON: {}", requestJson);
+
+            // 5. API 호출
+            HttpEntity<String> requestEntity = new HttpEntity<>(requestJson, headers);
+            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
+
+            log.info("[3] 암호화 토큰 요청 성공: 상태코드={}", response.getStatusCode().value());
+            log.info("[4] 응답 본문: {}", response.getBody());
+            log.info("===== 암호화 토큰 요청 완료 =====");
+            return new TokenRequestInfo(reqDtim, reqNo, response.getBody());
+
+        } catch (Exception e) {
+            log.error("===== 암호화 토큰 요청 중 오류 발생 =====", e);
+            throw new RuntimeException("암호화 토큰 요청 오류: " + e.getMessage(), e);
+        }
+    }
+}
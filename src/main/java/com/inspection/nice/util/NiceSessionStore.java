@@ -0,0 +1,252 @@
+package com.inspection.nice.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import com.inspection.nice.dto.NiceSessionDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * NICE 본인인증 세션 저장소
+ * 표준창 호출 준비 시 저장한 세션을 인증 결과 콜백에서 한 번만 꺼내 쓰도록(GETDEL) 관리합니다.
+ * 값은 JSON 대신 버전 바이트 + 필드 순서 고정의 바이너리로 직렬화하고,
+ * 준비 → 콜백 사이의 짧은 구간을 위해 같은 인스턴스에 로컬 캐시(near-cache)를 둡니다.
+ * 로컬 캐시는 조회 보조 용도이며, 소비(consume)의 성공 여부는 항상 Redis 의 삭제 결과로 판단합니다.
+ */
+@Slf4j
+@Component
+public class NiceSessionStore {
+
+    // 기존 RedisUtil(JSON) 키와 섞이지 않도록 별도 접두어 사용
+    private static final String KEY_PREFIX = "NICE_SESSION:";
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int MAX_NEAR_CACHE_ENTRIES = 1_000;
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${nice.session.near-cache-seconds:120}")
+    private long nearCacheSeconds;
+
+    // Redis 6.2 미만 서버는 GETDEL 을 지원하지 않으므로 최초 실패 시 MULTI/EXEC(GET + DEL)로 전환
+    private volatile boolean getDelSupported = true;
+
+    // 세션 ID -> (세션, 만료 시각 ms), 접근 순서 기준으로 오래된 항목부터 제거
+    private final Map<String, CachedSession> nearCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedSession>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedSession> eldest) {
+                    return size() > MAX_NEAR_CACHE_ENTRIES;
+                }
+            });
+
+    private record CachedSession(NiceSessionDto session, long expiresAtMillis) {}
+
+    public NiceSessionStore(@Qualifier("niceSessionRedisTemplate") RedisTemplate<String, byte[]> redisTemplate,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 세션 저장 (SET EX 한 번)
+     *
+     * @param sessionId 세션 ID
+     * @param session 세션 정보
+     * @param expireSeconds 만료 시간(초)
+     */
+    public void save(String sessionId, NiceSessionDto session, long expireSeconds) {
+        byte[] value = serialize(session);
+        record("save", () -> {
+            redisTemplate.opsForValue().set(KEY_PREFIX + sessionId, value, Duration.ofSeconds(expireSeconds));
+            return Boolean.TRUE;
+        });
+        long localSeconds = Math.min(expireSeconds, nearCacheSeconds);
+        if (localSeconds > 0) {
+            nearCache.put(sessionId, new CachedSession(session, System.currentTimeMillis() + localSeconds * 1000));
+        }
+        log.debug("NICE 세션 저장: sessionId={}, 크기={}바이트, 만료={}초", sessionId, value.length, expireSeconds);
+    }
+
+    /**
+     * 세션 조회 (삭제하지 않음)
+     *
+     * @return 세션 정보 (없거나 만료되었으면 null)
+     */
+    public NiceSessionDto find(String sessionId) {
+        NiceSessionDto cached = findLocal(sessionId);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] value = record("get", () -> redisTemplate.opsForValue().get(KEY_PREFIX + sessionId));
+        return value != null ? deserialize(value) : null;
+    }
+
+    /**
+     * 세션을 꺼내면서 삭제 (한 세션은 한 번만 소비됨)
+     * 로컬 캐시에 있으면 DEL 결과(삭제된 키 수)로, 없으면 GETDEL 로 소비 여부를 판단하므로
+     * 여러 인스턴스에서 같은 콜백이 동시에 처리되어도 하나만 세션을 얻습니다.
+     *
+     * @return 세션 정보 (없거나 만료 또는 이미 소비되었으면 null)
+     */
+    public NiceSessionDto consume(String sessionId) {
+        String key = KEY_PREFIX + sessionId;
+        NiceSessionDto cached = findLocal(sessionId);
+        nearCache.remove(sessionId);
+        if (cached != null) {
+            Boolean deleted = record("delete", () -> redisTemplate.delete(key));
+            return Boolean.TRUE.equals(deleted) ? cached : null;
+        }
+        byte[] value = record("consume", () -> getAndDelete(key));
+        return value != null ? deserialize(value) : null;
+    }
+
+    /**
+     * 세션 삭제
+     */
+    public void delete(String sessionId) {
+        nearCache.remove(sessionId);
+        record("delete", () -> redisTemplate.delete(KEY_PREFIX + sessionId));
+    }
+
+    private NiceSessionDto findLocal(String sessionId) {
+        CachedSession cached = nearCache.get(sessionId);
+        if (cached != null && cached.expiresAtMillis() < System.currentTimeMillis()) {
+            nearCache.remove(sessionId);
+            cached = null;
+        }
+        meterRegistry.counter("nice.session.near_cache", "result", cached != null ? "hit" : "miss").increment();
+        return cached != null ? cached.session() : null;
+    }
+
+    private byte[] getAndDelete(String key) {
+        if (getDelSupported) {
+            try {
+                return redisTemplate.opsForValue().getAndDelete(key);
+            } catch (RedisSystemException | InvalidDataAccessApiUsageException e) {
+                String message = String.valueOf(e.getMostSpecificCause().getMessage());
+                if (!message.toLowerCase().contains("unknown command")) {
+                    throw e;
+                }
+                getDelSupported = false;
+                log.warn("Redis GETDEL 미지원, MULTI/EXEC(GET + DEL)로 전환: {}", e.getMessage());
+            }
+        }
+        List<Object> results = redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                ops.multi();
+                ops.opsForValue().get(key);
+                ops.delete(key);
+                return ops.exec();
+            }
+        });
+        return results != null && !results.isEmpty() ? (byte[]) results.get(0) : null;
+    }
+
+    private <T> T record(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            result = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("nice.session.redis", "op", operation, "result", result));
+        }
+    }
+
+    /**
+     * 바이너리 직렬화: 버전(1바이트) + 문자열 필드(존재 여부 1바이트 + UTF)를 고정 순서로 기록
+     * 필드를 추가할 때는 뒤에 덧붙이고 FORMAT_VERSION 을 올립니다.
+     */
+    static byte[] serialize(NiceSessionDto session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, session.getSessionId());
+            writeString(out, session.getSymmetricKey());
+            writeString(out, session.getIv());
+            writeString(out, session.getTokenVersionId());
+            writeString(out, session.getTokenVal());
+            writeString(out, session.getSiteCode());
+            writeString(out, session.getReqDtim());
+            writeString(out, session.getReqNo());
+            writeString(out, session.getOriginalString());
+            writeString(out, session.getHashBase64());
+            writeString(out, session.getHmacKey());
+            writeString(out, session.getCreatedAtStr());
+        } catch (IOException e) {
+            throw new IllegalStateException("NICE 세션 직렬화 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static NiceSessionDto deserialize(byte[] value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 NICE 세션 형식 버전입니다: " + version);
+            }
+            NiceSessionDto session = new NiceSessionDto();
+            session.setSessionId(readString(in));
+            session.setSymmetricKey(readString(in));
+            session.setIv(readString(in));
+            session.setTokenVersionId(readString(in));
+            session.setTokenVal(readString(in));
+            session.setSiteCode(readString(in));
+            session.setReqDtim(readString(in));
+            session.setReqNo(readString(in));
+            session.setOriginalString(readString(in));
+            session.setHashBase64(readString(in));
+            session.setHmacKey(readString(in));
+            String createdAtStr = readString(in);
+            session.setCreatedAtStr(createdAtStr);
+            session.setCreatedAt(createdAtStr != null ? LocalDateTime.parse(createdAtStr, CREATED_AT_FORMAT) : null);
+            return session;
+        } catch (IOException e) {
+            throw new IllegalStateException("NICE 세션 역직렬화 실패", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.inspection.notification.client;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * EON 문자/알림톡 게이트웨이 클라이언트
+ * 메시지마다 HttpURLConnection을 새로 여는 대신 커넥션 풀을 가진 OkHttpClient 하나를 공유합니다.
+ * 게이트웨이 주소는 eon.api-url 로 변경할 수 있어 로컬 스텁 게이트웨이로 대체해 테스트할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class EonGatewayClient {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+    private static final MediaType FORM_URLENCODED = MediaType.parse("application/x-www-form-urlencoded; charset=EUC-KR");
+
+    private final OkHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiUrl;
+    private final String licenseKey;
+
+    public EonGatewayClient(
+            ObjectMapper objectMapper,
+            @Value("${eon.api-url:http://blue3.eonmail.co.kr:8081/weom/servlet/api.EONASP6}") String apiUrl,
+            @Value("${eon.license-key}") String licenseKey,
+            @Value("${eon.connect-timeout-seconds:5}") long connectTimeoutSeconds,
+            @Value("${eon.read-timeout-seconds:15}") long readTimeoutSeconds,
+            @Value("${eon.max-idle-connections:10}") int maxIdleConnections) {
+        this.objectMapper = objectMapper;
+        this.apiUrl = apiUrl;
+        this.licenseKey = licenseKey;
+        this.httpClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+                .connectTimeout(connectTimeoutSeconds, TimeUnit.SECONDS)
+                .readTimeout(readTimeoutSeconds, TimeUnit.SECONDS)
+                .writeTimeout(readTimeoutSeconds, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    /**
+     * EON API 호출 (파라미터는 EUC-KR로 URL 인코딩하여 전송)
+     * @param params EON 요청 파라미터 (STYPE, DESTPHONE, MSG 등)
+     * @return 발송 결과
+     * @throws IOException 네트워크 오류 또는 HTTP 오류 응답
+     */
+    public EonResult send(Map<String, String> params) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            String value = entry.getValue() != null ? entry.getValue() : "";
+            body.append(entry.getKey()).append('=').append(URLEncoder.encode(value, EUC_KR));
+        }
+
+        Request request = new Request.Builder()
+                .url(apiUrl)
+                .header("eon_licencekey", licenseKey)
+                .post(RequestBody.create(body.toString().getBytes(EUC_KR), FORM_URLENCODED))
+                .build();
+
+        try (Response response = httpClient.newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            String responseText = responseBody != null ? new String(responseBody.bytes(), EUC_KR) : "";
+            if (!response.isSuccessful()) {
+                throw new IOException("EON API 호출 실패: HTTP " + response.code());
+            }
+            return parseResult(responseText);
+        }
+    }
+
+    /**
+     * 응답 해석
+     * JSON 응답(RESULTCODE/CPID)이면 결과 코드를 확인하고, 그 외 응답은 HTTP 200이면 성공으로 간주합니다.
+     */
+    private EonResult parseResult(String responseText) {
+        if (responseText.contains("RESULTCODE")) {
+            try {
+                JsonNode root = objectMapper.readTree(responseText);
+                String resultCode = root.path("RESULTCODE").asText();
+                String cpId = root.hasNonNull("CPID") ? root.get("CPID").asText() : null;
+                return new EonResult("200".equals(resultCode), resultCode, cpId, responseText);
+            } catch (IOException e) {
+                log.warn("EON 응답 파싱 실패: {}", responseText);
+            }
+        }
+        return new EonResult(true, null, null, responseText);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    /**
+     * EON 발송 결과
+     */
+    public record EonResult(boolean success, String resultCode, String cpId, String rawResponse) {
+    }
+}
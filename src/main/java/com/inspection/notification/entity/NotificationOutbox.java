@@ -0,0 +1,108 @@
+package com.inspection.notification.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.inspection.enums.NotificationStatus;
+import com.inspection.enums.NotificationType;
+import com.inspection.util.BlockIdGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 알림 발송 아웃박스 엔티티
+ * SMS/알림톡/이메일 발송 요청을 업무 트랜잭션과 함께 저장하고,
+ * NotificationDispatcher가 커밋 이후 비동기로 발송합니다.
+ * 수신자와 본문은 개인정보(연락처, PDF 암호 등)를 포함할 수 있어 암호화하여 저장합니다.
+ */
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status,next_attempt_at"),
+        @Index(name = "idx_outbox_reference", columnList = "reference_type,reference_id")
+    }
+)
+@EntityListeners(AuditingEntityListener.class)
+@Getter @Setter
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(generator = "notification_outbox_id_block")
+    @GenericGenerator(name = "notification_outbox_id_block", type = BlockIdGenerator.class, parameters = {
+            @Parameter(name = BlockIdGenerator.TABLE_PARAM, value = "notification_outbox"),
+            @Parameter(name = BlockIdGenerator.ID_COLUMN_PARAM, value = "outbox_id")
+    })
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel", nullable = false, length = 20)
+    private NotificationType channel;  // 발송 채널 (EMAIL, SMS, KAKAO)
+
+    @Column(name = "recipient", nullable = false, length = 500)
+    private String recipient;  // 수신자 (전화번호/이메일, 암호화)
+
+    @Column(name = "subject", length = 300)
+    private String subject;  // 제목 (이메일/알림톡)
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;  // 본문 (EON 파라미터 JSON 또는 HTML, 암호화)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NotificationStatus status = NotificationStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount = 0;  // 발송 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;  // 다음 발송 시도 시각
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;  // 선점한 발송 워커의 토큰 (다른 워커가 다시 선점하면 이전 워커는 발송하지 않음)
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;  // 선점 만료 시각 (이후에만 대기 상태로 되돌림)
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;  // 마지막 오류 메시지
+
+    @Column(name = "provider_message_id", length = 100)
+    private String providerMessageId;  // 게이트웨이 메시지 ID (알림톡 CPID 등)
+
+    @Column(name = "reference_type", length = 50)
+    private String referenceType;  // 발송 원인 유형 (예: PARTICIPANT)
+
+    @Column(name = "reference_id")
+    private Long referenceId;  // 발송 원인 ID
+
+    @Column(name = "requested_by")
+    private Long requestedBy;  // 요청 사용자 ID (알림톡 이력 기록용)
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;  // 발송 완료 시각
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,106 @@
+package com.inspection.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.inspection.enums.NotificationStatus;
+import com.inspection.notification.entity.NotificationOutbox;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 발송 시각이 도래한 대기 건의 ID, 채널 조회 (오래된 순)
+     * @return [outboxId, channel] 목록
+     */
+    @Query("SELECT o.id, o.channel FROM NotificationOutbox o " +
+           "WHERE o.status = com.inspection.enums.NotificationStatus.PENDING AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.nextAttemptAt")
+    List<Object[]> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 대기 건 선점 (PENDING -> SENDING)
+     * 여러 인스턴스/워커가 같은 건을 중복 발송하지 않도록 조건부 업데이트로 처리하고,
+     * 선점 토큰과 만료 시각을 함께 기록합니다.
+     * @return 선점 성공 시 1
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = com.inspection.enums.NotificationStatus.SENDING, " +
+           "o.claimToken = :claimToken, o.leaseUntil = :leaseUntil, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = com.inspection.enums.NotificationStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("claimToken") String claimToken,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * 선점 만료 시각이 지난 발송 중 건을 대기 상태로 되돌림 (워커 비정상 종료 대비)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = com.inspection.enums.NotificationStatus.PENDING, " +
+           "o.claimToken = NULL, o.updatedAt = :now " +
+           "WHERE o.status = com.inspection.enums.NotificationStatus.SENDING AND o.leaseUntil < :now")
+    int releaseExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * 발송 완료 기록 (SENDING -> SENT)
+     * 선점 토큰이 그대로인 경우에만 기록하여, 선점이 만료되어 되돌려졌거나 다른 워커가 다시 선점한 건을 덮어쓰지 않습니다.
+     * @return 기록 성공 시 1, 선점을 잃었으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = com.inspection.enums.NotificationStatus.SENT, " +
+           "o.attemptCount = :attemptCount, o.sentAt = :now, o.providerMessageId = :providerMessageId, " +
+           "o.lastError = NULL, o.claimToken = NULL, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.claimToken = :claimToken " +
+           "AND o.status = com.inspection.enums.NotificationStatus.SENDING")
+    int markSent(@Param("id") Long id, @Param("claimToken") String claimToken,
+                 @Param("attemptCount") int attemptCount, @Param("providerMessageId") String providerMessageId,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 실패 기록 (SENDING -> PENDING 재시도 예약 또는 FAILED)
+     * 선점 토큰이 그대로인 경우에만 기록합니다.
+     * @return 기록 성공 시 1, 선점을 잃었으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.attemptCount = :attemptCount, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError, o.claimToken = NULL, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.claimToken = :claimToken " +
+           "AND o.status = com.inspection.enums.NotificationStatus.SENDING")
+    int markFailure(@Param("id") Long id, @Param("claimToken") String claimToken,
+                    @Param("status") NotificationStatus status, @Param("attemptCount") int attemptCount,
+                    @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 선점 해제 (SENDING -> PENDING, 워커에 배정하지 못한 경우)
+     * @return 해제 성공 시 1
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE NotificationOutbox o SET o.status = com.inspection.enums.NotificationStatus.PENDING, " +
+           "o.claimToken = NULL, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.claimToken = :claimToken " +
+           "AND o.status = com.inspection.enums.NotificationStatus.SENDING")
+    int releaseClaim(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    /**
+     * 상태별 건수
+     */
+    long countByStatus(NotificationStatus status);
+
+    /**
+     * 발송 원인별 아웃박스 조회
+     */
+    List<NotificationOutbox> findByReferenceTypeAndReferenceIdIn(String referenceType, List<Long> referenceIds);
+}
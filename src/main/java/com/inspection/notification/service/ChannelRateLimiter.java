@@ -0,0 +1,41 @@
+package com.inspection.notification.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채널별 발송 속도 제한기 (토큰 버킷)
+ * 초당 허용 건수만큼 발송 권한을 채우고, 최대 1초 분량까지 모아 둡니다.
+ * 권한이 없으면 기다리지 않고 false 를 반환하므로 호출 측은 해당 건을 다음 폴링으로 미룹니다.
+ */
+class ChannelRateLimiter {
+
+    private final double permitsPerNano;
+    private final double maxPermits;
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    ChannelRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("초당 허용 건수는 0보다 커야 합니다: " + permitsPerSecond);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxPermits = Math.max(1.0, permitsPerSecond);
+        this.storedPermits = maxPermits;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 발송 권한 1건 획득 시도 (대기하지 않음)
+     * @return 획득 성공 시 true
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        storedPermits = Math.min(maxPermits, storedPermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        if (storedPermits < 1.0) {
+            return false;
+        }
+        storedPermits -= 1.0;
+        return true;
+    }
+}
@@ -0,0 +1,238 @@
+package com.inspection.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.entity.KakaoAlert;
+import com.inspection.enums.NotificationStatus;
+import com.inspection.enums.NotificationType;
+import com.inspection.notification.client.EonGatewayClient;
+import com.inspection.notification.client.EonGatewayClient.EonResult;
+import com.inspection.notification.entity.NotificationOutbox;
+import com.inspection.notification.repository.NotificationOutboxRepository;
+import com.inspection.repository.KakaoAlertRepository;
+import com.inspection.service.EmailService;
+import com.inspection.util.EncryptionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 아웃박스 발송기
+ * 발송 시각이 도래한 아웃박스 행을 주기적으로 선점하여 notificationTaskExecutor 워커에서 발송합니다.
+ * - 채널별 초당 발송 건수 제한 (notification.rate.*-per-second), 권한이 없는 건은 선점하지 않고 다음 폴링으로 미룸
+ * - 선점 시 토큰과 만료 시각(notification.dispatch.lease-seconds)을 기록하고, 만료된 건만 대기 상태로 되돌림
+ * - 발송 결과(SENT/PENDING/FAILED)는 선점 토큰이 같은 경우에만 기록 (만료 후 되돌려진 건을 덮어쓰지 않음)
+ * - 실패 시 지수 백오프로 재시도, 최대 시도 횟수 초과 시 FAILED
+ * - 알림톡 발송 결과(CPID, 성공/실패)는 KakaoAlert 이력으로 기록
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final int POLL_BATCH_SIZE = 100;
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final long MAX_BACKOFF_SECONDS = 30 * 60;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final KakaoAlertRepository kakaoAlertRepository;
+    private final EonGatewayClient eonGatewayClient;
+    private final EmailService emailService;
+    private final EncryptionUtil encryptionUtil;
+    private final ObjectMapper objectMapper;
+    private final Executor notificationTaskExecutor;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final Map<NotificationType, ChannelRateLimiter> rateLimiters = new EnumMap<>(NotificationType.class);
+
+    public NotificationDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            KakaoAlertRepository kakaoAlertRepository,
+            EonGatewayClient eonGatewayClient,
+            EmailService emailService,
+            EncryptionUtil encryptionUtil,
+            ObjectMapper objectMapper,
+            @Qualifier("notificationTaskExecutor") Executor notificationTaskExecutor,
+            @Value("${notification.max-attempts:5}") int maxAttempts,
+            // 워커 큐 대기 + 게이트웨이/메일 발송 제한 시간보다 충분히 길게 설정
+            @Value("${notification.dispatch.lease-seconds:600}") long leaseSeconds,
+            @Value("${notification.rate.sms-per-second:10}") double smsPerSecond,
+            @Value("${notification.rate.kakao-per-second:10}") double kakaoPerSecond,
+            @Value("${notification.rate.email-per-second:5}") double emailPerSecond) {
+        this.outboxRepository = outboxRepository;
+        this.kakaoAlertRepository = kakaoAlertRepository;
+        this.eonGatewayClient = eonGatewayClient;
+        this.emailService = emailService;
+        this.encryptionUtil = encryptionUtil;
+        this.objectMapper = objectMapper;
+        this.notificationTaskExecutor = notificationTaskExecutor;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        rateLimiters.put(NotificationType.SMS, new ChannelRateLimiter(smsPerSecond));
+        rateLimiters.put(NotificationType.KAKAO, new ChannelRateLimiter(kakaoPerSecond));
+        rateLimiters.put(NotificationType.EMAIL, new ChannelRateLimiter(emailPerSecond));
+    }
+
+    /**
+     * 발송 대상 폴링 및 워커 배정
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.poll-interval-ms:1000}")
+    public void dispatchDue() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int released = outboxRepository.releaseExpired(now);
+        if (released > 0) {
+            log.warn("선점 시간이 만료된 발송 중 알림 {}건을 대기 상태로 되돌렸습니다", released);
+        }
+
+        List<Object[]> due = outboxRepository.findDue(now, PageRequest.of(0, POLL_BATCH_SIZE));
+        for (Object[] row : due) {
+            Long outboxId = (Long) row[0];
+            NotificationType channel = (NotificationType) row[1];
+            if (!rateLimiters.get(channel).tryAcquire()) {
+                continue; // 채널 발송 한도 초과, 선점하지 않고 다음 폴링에서 처리
+            }
+            String claimToken = UUID.randomUUID().toString();
+            LocalDateTime claimedAt = LocalDateTime.now();
+            if (outboxRepository.claim(outboxId, claimToken, claimedAt.plusSeconds(leaseSeconds), claimedAt) != 1) {
+                continue; // 다른 워커/인스턴스가 선점
+            }
+            try {
+                notificationTaskExecutor.execute(() -> deliver(outboxId, claimToken));
+            } catch (RejectedExecutionException e) {
+                // 워커 큐가 가득 찬 경우 다음 폴링에서 다시 처리
+                outboxRepository.releaseClaim(outboxId, claimToken, LocalDateTime.now());
+                log.warn("알림 발송 워커 큐가 가득 차 다음 주기로 미룹니다: 아웃박스ID={}", outboxId);
+                break;
+            }
+        }
+    }
+
+    /**
+     * 단건 발송 (워커 스레드)
+     * 선점 이후 만료되어 다른 워커가 다시 선점한 건은 토큰이 달라지므로 발송하지 않습니다.
+     * 결과는 선점 토큰 조건부 업데이트로 기록하며, 발송 중 선점이 만료되어 기록하지 못하면(0건) 선점을 잃은 것으로 보고 더 기록하지 않습니다.
+     */
+    void deliver(Long outboxId, String claimToken) {
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != NotificationStatus.SENDING
+                || !claimToken.equals(outbox.getClaimToken())) {
+            return;
+        }
+
+        outbox.setAttemptCount(outbox.getAttemptCount() + 1);
+        String recipient = null;
+        Map<String, String> params = null;
+        try {
+            recipient = encryptionUtil.decrypt(outbox.getRecipient());
+            String payload = encryptionUtil.decrypt(outbox.getPayload());
+
+            String providerMessageId = null;
+            if (outbox.getChannel() == NotificationType.EMAIL) {
+                emailService.sendHtmlMessage(recipient, outbox.getSubject(), payload);
+            } else {
+                params = objectMapper.readValue(payload, new TypeReference<LinkedHashMap<String, String>>() {});
+                params.put("DESTPHONE", recipient);
+                EonResult result = eonGatewayClient.send(params);
+                if (!result.success()) {
+                    throw new IllegalStateException("EON 발송 실패: RESULTCODE=" + result.resultCode());
+                }
+                providerMessageId = result.cpId();
+            }
+
+            LocalDateTime sentAt = LocalDateTime.now();
+            if (outboxRepository.markSent(outboxId, claimToken, outbox.getAttemptCount(), providerMessageId, sentAt) != 1) {
+                log.warn("알림은 발송되었으나 선점이 만료되어 결과를 기록하지 못했습니다 (재발송될 수 있음): 채널={}, 아웃박스ID={}",
+                        outbox.getChannel(), outboxId);
+                return;
+            }
+            outbox.setStatus(NotificationStatus.SENT);
+            outbox.setSentAt(sentAt);
+            outbox.setProviderMessageId(providerMessageId);
+            outbox.setLastError(null);
+            outbox.setClaimToken(null);
+            log.info("알림 발송 완료: 채널={}, 아웃박스ID={}, 시도={}", outbox.getChannel(), outboxId, outbox.getAttemptCount());
+
+            if (outbox.getChannel() == NotificationType.KAKAO) {
+                recordKakaoAlert(outbox, recipient, params, null);
+            }
+        } catch (Exception e) {
+            handleFailure(outbox, claimToken, recipient, params, e);
+        }
+    }
+
+    /**
+     * 발송 실패 처리 (재시도 예약 또는 최종 실패)
+     */
+    private void handleFailure(NotificationOutbox outbox, String claimToken, String recipient, Map<String, String> params,
+                               Exception e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        String lastError = error.length() > 1000 ? error.substring(0, 1000) : error;
+        boolean finalFailure = outbox.getAttemptCount() >= maxAttempts;
+        NotificationStatus status = finalFailure ? NotificationStatus.FAILED : NotificationStatus.PENDING;
+        long backoffSeconds = Math.min(BASE_BACKOFF_SECONDS << (outbox.getAttemptCount() - 1), MAX_BACKOFF_SECONDS);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextAttemptAt = finalFailure ? outbox.getNextAttemptAt() : now.plusSeconds(backoffSeconds);
+
+        if (outboxRepository.markFailure(outbox.getId(), claimToken, status, outbox.getAttemptCount(), nextAttemptAt,
+                lastError, now) != 1) {
+            log.warn("선점이 만료되어 발송 실패를 기록하지 못했습니다: 채널={}, 아웃박스ID={}, 오류={}",
+                    outbox.getChannel(), outbox.getId(), error);
+            return;
+        }
+        outbox.setStatus(status);
+        outbox.setNextAttemptAt(nextAttemptAt);
+        outbox.setLastError(lastError);
+        outbox.setClaimToken(null);
+
+        if (finalFailure) {
+            log.error("알림 최종 발송 실패: 채널={}, 아웃박스ID={}, 시도={}, 오류={}",
+                    outbox.getChannel(), outbox.getId(), outbox.getAttemptCount(), error);
+
+            if (outbox.getChannel() == NotificationType.KAKAO) {
+                recordKakaoAlert(outbox, recipient, params, outbox.getLastError());
+            }
+            return;
+        }
+        log.warn("알림 발송 실패, {}초 후 재시도: 채널={}, 아웃박스ID={}, 시도={}, 오류={}",
+                backoffSeconds, outbox.getChannel(), outbox.getId(), outbox.getAttemptCount(), error);
+    }
+
+    /**
+     * 알림톡 발송 결과를 KakaoAlert 이력으로 기록
+     */
+    private void recordKakaoAlert(NotificationOutbox outbox, String recipient, Map<String, String> params, String failureReason) {
+        if (outbox.getRequestedBy() == null) {
+            return;
+        }
+        try {
+            KakaoAlert alert = new KakaoAlert();
+            alert.setUserId(outbox.getRequestedBy());
+            alert.setReceiverPhone(recipient != null ? recipient : "");
+            alert.setMessage(params != null && params.get("TALK_BTN1_URL") != null
+                    ? params.get("TALK_BTN1_URL").replaceFirst("^https?://", "") : outbox.getSubject());
+            alert.setCpId(outbox.getProviderMessageId() != null ? outbox.getProviderMessageId() : "");
+            alert.setSentAt(outbox.getSentAt() != null ? outbox.getSentAt() : LocalDateTime.now());
+            alert.setDeliveryStatus(outbox.getStatus());
+            alert.setAttemptCount(outbox.getAttemptCount());
+            alert.setFailureReason(failureReason);
+            alert.setOutboxId(outbox.getId());
+            kakaoAlertRepository.save(alert);
+        } catch (Exception e) {
+            log.error("알림톡 이력 저장 실패: 아웃박스ID={}, 오류={}", outbox.getId(), e.getMessage());
+        }
+    }
+}
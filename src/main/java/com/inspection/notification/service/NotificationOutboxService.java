@@ -0,0 +1,173 @@
+package com.inspection.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.enums.NotificationStatus;
+import com.inspection.enums.NotificationType;
+import com.inspection.notification.entity.NotificationOutbox;
+import com.inspection.notification.repository.NotificationOutboxRepository;
+import com.inspection.util.EncryptionUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 발송 아웃박스 서비스
+ * 발송 요청을 호출한 업무 트랜잭션 안에서 아웃박스 행으로 저장만 하고 즉시 반환합니다.
+ * 실제 발송은 NotificationDispatcher가 커밋된 행을 읽어 수행하므로, 게이트웨이 지연이 업무 트랜잭션을 붙잡지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    public static final String REFERENCE_PARTICIPANT = "PARTICIPANT";
+    public static final String REFERENCE_TRUSTEE_EXPIRY = "TRUSTEE_EXPIRY";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final EncryptionUtil encryptionUtil;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * SMS/알림톡 발송 요청 등록
+     * @param channel SMS 또는 KAKAO
+     * @param phoneNumber 수신 번호 (평문, 저장 시 암호화)
+     * @param subject 제목 (알림톡)
+     * @param params EON 요청 파라미터 (DESTPHONE 제외, 발송 시점에 채워짐)
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public NotificationOutbox enqueueEon(NotificationType channel, String phoneNumber, String subject,
+            Map<String, String> params, String referenceType, Long referenceId, Long requestedBy) {
+        NotificationOutbox outbox = buildEon(channel, phoneNumber, subject, params, referenceType, referenceId, requestedBy);
+        NotificationOutbox saved = outboxRepository.save(outbox);
+        log.info("알림 발송 요청 등록: 채널={}, 아웃박스ID={}, 참조={}:{}", channel, saved.getId(), referenceType, referenceId);
+        return saved;
+    }
+
+    /**
+     * 이메일 발송 요청 등록
+     * @param email 수신 이메일 (평문, 저장 시 암호화)
+     * @param subject 제목
+     * @param htmlContent HTML 본문 (저장 시 암호화)
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public NotificationOutbox enqueueEmail(String email, String subject, String htmlContent,
+            String referenceType, Long referenceId) {
+        NotificationOutbox outbox = buildEmail(email, subject, htmlContent, referenceType, referenceId);
+        NotificationOutbox saved = outboxRepository.save(outbox);
+        log.info("이메일 발송 요청 등록: 아웃박스ID={}, 참조={}:{}", saved.getId(), referenceType, referenceId);
+        return saved;
+    }
+
+    /**
+     * 여러 발송 요청 일괄 등록 (build* 로 생성한 엔티티)
+     */
+    @Transactional
+    public List<NotificationOutbox> enqueueAll(List<NotificationOutbox> outboxes) {
+        List<NotificationOutbox> saved = outboxRepository.saveAll(outboxes);
+        log.info("알림 발송 요청 {}건 일괄 등록", saved.size());
+        return saved;
+    }
+
+    /**
+     * SMS/알림톡 아웃박스 엔티티 생성 (저장하지 않음)
+     */
+    public NotificationOutbox buildEon(NotificationType channel, String phoneNumber, String subject,
+            Map<String, String> params, String referenceType, Long referenceId, Long requestedBy) {
+        if (channel != NotificationType.SMS && channel != NotificationType.KAKAO) {
+            throw new IllegalArgumentException("EON 발송 채널이 아닙니다: " + channel);
+        }
+        if (phoneNumber == null || phoneNumber.isBlank()) {
+            throw new IllegalArgumentException("수신 번호가 없습니다.");
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 파라미터 직렬화 실패: " + e.getMessage(), e);
+        }
+
+        NotificationOutbox outbox = newOutbox(channel, phoneNumber, subject, payload);
+        outbox.setReferenceType(referenceType);
+        outbox.setReferenceId(referenceId);
+        outbox.setRequestedBy(requestedBy);
+        return outbox;
+    }
+
+    /**
+     * 이메일 아웃박스 엔티티 생성 (저장하지 않음)
+     */
+    public NotificationOutbox buildEmail(String email, String subject, String htmlContent,
+            String referenceType, Long referenceId) {
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("수신 이메일이 없습니다.");
+        }
+
+        NotificationOutbox outbox = newOutbox(NotificationType.EMAIL, email, subject, htmlContent);
+        outbox.setReferenceType(referenceType);
+        outbox.setReferenceId(referenceId);
+        return outbox;
+    }
+
+    /**
+     * 상태별 아웃박스 건수
+     */
+    @Transactional(readOnly = true)
+    public Map<NotificationStatus, Long> getStatusSummary() {
+        Map<NotificationStatus, Long> summary = new EnumMap<>(NotificationStatus.class);
+        for (NotificationStatus status : NotificationStatus.values()) {
+            summary.put(status, outboxRepository.countByStatus(status));
+        }
+        return summary;
+    }
+
+    /**
+     * 아웃박스 ID 목록으로 발송 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, NotificationOutbox> getOutboxes(Collection<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return Map.of();
+        }
+        return outboxRepository.findAllById(outboxIds).stream()
+                .collect(Collectors.toMap(NotificationOutbox::getId, Function.identity()));
+    }
+
+    /**
+     * 이미 발송 요청이 등록된 참조 ID 조회 (중복 등록 방지용)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findEnqueuedReferenceIds(String referenceType, List<Long> referenceIds) {
+        if (referenceIds.isEmpty()) {
+            return Set.of();
+        }
+        return outboxRepository.findByReferenceTypeAndReferenceIdIn(referenceType, referenceIds).stream()
+                .map(NotificationOutbox::getReferenceId)
+                .collect(Collectors.toSet());
+    }
+
+    private NotificationOutbox newOutbox(NotificationType channel, String recipient, String subject, String payload) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.setChannel(channel);
+        outbox.setRecipient(encryptionUtil.encrypt(recipient));
+        outbox.setSubject(subject);
+        outbox.setPayload(encryptionUtil.encrypt(payload));
+        outbox.setStatus(NotificationStatus.PENDING);
+        outbox.setAttemptCount(0);
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        return outbox;
+    }
+}
@@ -0,0 +1,225 @@
+package com.inspection.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.config.ReplicaRoutingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블라인드 인덱스 JDBC 저장소
+ * - 회사/참여자의 암호화 컬럼을 ID 순으로 조회하고 블라인드 인덱스 컬럼을 배치로 갱신합니다 (백필, 일괄 반영 후 재계산).
+ * - 숫자 필드(전화번호, 사업자번호)의 부분 검색 토큰을 blind_index_token 테이블에 (소유 유형, 토큰, 소유 ID) 로 보관하고
+ *   검색어 토큰을 모두 가진 소유 ID 를 (owner_type, token) 인덱스로 찾습니다.
+ *   토큰은 충돌을 허용하므로 결과는 후보이며 호출 측에서 복호화하여 다시 확인합니다.
+ */
+@Slf4j
+@Repository
+public class BlindIndexJdbcRepository {
+
+    public static final String OWNER_COMPANY = "COMPANY";
+    public static final String OWNER_PARTICIPANT = "PARTICIPANT";
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS blind_index_token (" +
+            "owner_type VARCHAR(20) NOT NULL, " +
+            "owner_id BIGINT NOT NULL, " +
+            "token CHAR(16) NOT NULL, " +
+            "PRIMARY KEY (owner_type, token, owner_id), " +
+            "KEY idx_blind_index_token_owner (owner_type, owner_id)" +
+            ") ENGINE=InnoDB DEFAULT CHARSET=ascii";
+
+    private static final String SELECT_COMPANY_SQL =
+            "SELECT id, business_number, phone_number, store_tel_number, email FROM companies ";
+
+    private static final String SELECT_PARTICIPANT_SQL =
+            "SELECT id, phone_number, email FROM contract_participant ";
+
+    // 민감 필드가 있는데 인덱스가 비어 있는 행 (백필 대상)
+    private static final String COMPANY_MISSING_CONDITION =
+            " AND ((business_number IS NOT NULL AND business_number_bidx IS NULL) " +
+            "OR (phone_number IS NOT NULL AND phone_number_bidx IS NULL) " +
+            "OR (store_tel_number IS NOT NULL AND store_tel_number_bidx IS NULL) " +
+            "OR (email IS NOT NULL AND email_bidx IS NULL))";
+
+    private static final String PARTICIPANT_MISSING_CONDITION =
+            " AND ((phone_number IS NOT NULL AND phone_number_bidx IS NULL) " +
+            "OR (email IS NOT NULL AND email_bidx IS NULL))";
+
+    // [id, business_number, phone_number, store_tel_number, email]
+    private static final RowMapper<Object[]> COMPANY_ROW_MAPPER = (rs, rowNum) -> new Object[] {
+            rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5) };
+
+    // [id, phone_number, email]
+    private static final RowMapper<Object[]> PARTICIPANT_ROW_MAPPER = (rs, rowNum) -> new Object[] {
+            rs.getLong(1), rs.getString(2), rs.getString(3) };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile boolean tableReady = false;
+
+    public BlindIndexJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 회사 암호화 컬럼 조회 (ID 순, afterId 초과)
+     * @param onlyMissing true 면 인덱스가 비어 있는 행만
+     * @return [id, business_number, phone_number, store_tel_number, email]
+     */
+    public List<Object[]> findCompanyRows(long afterId, int limit, boolean onlyMissing) {
+        String sql = SELECT_COMPANY_SQL + "WHERE id > ?" + (onlyMissing ? COMPANY_MISSING_CONDITION : "") +
+                " ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, COMPANY_ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * @return [id, business_number, phone_number, store_tel_number, email]
+     */
+    public List<Object[]> findCompanyRowsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(SELECT_COMPANY_SQL + "WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), COMPANY_ROW_MAPPER);
+    }
+
+    /**
+     * 회사 블라인드 인덱스 컬럼 일괄 갱신
+     * @param rows [id, business_number_bidx, phone_number_bidx, store_tel_number_bidx, email_bidx]
+     */
+    public void updateCompanyIndexes(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE companies SET business_number_bidx = ?, phone_number_bidx = ?, " +
+                "store_tel_number_bidx = ?, email_bidx = ? WHERE id = ?",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, (String) row[1]);
+                    ps.setString(2, (String) row[2]);
+                    ps.setString(3, (String) row[3]);
+                    ps.setString(4, (String) row[4]);
+                    ps.setLong(5, (Long) row[0]);
+                });
+    }
+
+    /**
+     * 참여자 암호화 컬럼 조회 (ID 순, afterId 초과)
+     * @return [id, phone_number, email]
+     */
+    public List<Object[]> findParticipantRows(long afterId, int limit, boolean onlyMissing) {
+        String sql = SELECT_PARTICIPANT_SQL + "WHERE id > ?" + (onlyMissing ? PARTICIPANT_MISSING_CONDITION : "") +
+                " ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, PARTICIPANT_ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * @return [id, phone_number, email]
+     */
+    public List<Object[]> findParticipantRowsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(SELECT_PARTICIPANT_SQL + "WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), PARTICIPANT_ROW_MAPPER);
+    }
+
+    /**
+     * 참여자 블라인드 인덱스 컬럼 일괄 갱신
+     * @param rows [id, phone_number_bidx, email_bidx]
+     */
+    public void updateParticipantIndexes(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE contract_participant SET phone_number_bidx = ?, email_bidx = ? WHERE id = ?",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, (String) row[1]);
+                    ps.setString(2, (String) row[2]);
+                    ps.setLong(3, (Long) row[0]);
+                });
+    }
+
+    /**
+     * 소유 ID 들의 부분 검색 토큰 전체 교체 (호출 측 트랜잭션 안에서 실행)
+     * @param tokensByOwner 소유 ID 별 토큰, 토큰이 비어 있으면 해당 소유의 토큰만 삭제
+     */
+    public void replaceTokens(String ownerType, Map<Long, Set<String>> tokensByOwner) {
+        if (tokensByOwner.isEmpty()) {
+            return;
+        }
+        ensureTable();
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM blind_index_token WHERE owner_type = :ownerType AND owner_id IN (:ids)",
+                new MapSqlParameterSource("ownerType", ownerType).addValue("ids", tokensByOwner.keySet()));
+
+        List<Object[]> rows = new ArrayList<>();
+        tokensByOwner.forEach((ownerId, tokens) -> {
+            for (String token : tokens) {
+                rows.add(new Object[] { ownerId, token });
+            }
+        });
+        if (!rows.isEmpty()) {
+            // 같은 소유의 여러 필드가 같은 토큰을 만들 수 있으므로 중복은 무시
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO blind_index_token (owner_type, owner_id, token) VALUES (?, ?, ?)",
+                    rows, BATCH_SIZE, (ps, row) -> {
+                        ps.setString(1, ownerType);
+                        ps.setLong(2, (Long) row[0]);
+                        ps.setString(3, (String) row[1]);
+                    });
+        }
+    }
+
+    /**
+     * 토큰을 모두 가진 소유 ID 조회 (ID 순, afterId 보다 큰 ID 부터 limit 건)
+     */
+    public List<Long> findOwnerIdsByTokens(String ownerType, Collection<String> tokens, long afterId, int limit) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        ensureTable();
+        MapSqlParameterSource params = new MapSqlParameterSource("ownerType", ownerType)
+                .addValue("tokens", tokens)
+                .addValue("tokenCount", tokens.size())
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.queryForList(
+                "SELECT owner_id FROM blind_index_token WHERE owner_type = :ownerType AND token IN (:tokens) " +
+                "AND owner_id > :afterId GROUP BY owner_id HAVING COUNT(*) = :tokenCount ORDER BY owner_id LIMIT :limit",
+                params, Long.class);
+    }
+
+    private void ensureTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (this) {
+            if (tableReady) {
+                return;
+            }
+            // DDL 은 MySQL 에서 암묵적 커밋을 일으키므로 갱신 트랜잭션과 분리된 커넥션에서 실행
+            try (Connection connection = ReplicaRoutingDataSource.primaryOf(jdbcTemplate.getDataSource()).getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE_SQL);
+                tableReady = true;
+                log.info("블라인드 인덱스 토큰 테이블 확인 완료");
+            } catch (SQLException e) {
+                throw new IllegalStateException("blind_index_token 테이블 초기화 중 오류가 발생했습니다", e);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.inspection.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,11 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     @Query("SELECT c FROM Company c LEFT JOIN FETCH c.companyImage WHERE c.active = true")
     List<Company> findAllActiveWithImages();
     
+    // 회사 ID 목록으로 매장명과 지부 그룹 조회 (id, storeName, branchGroupId, branchGroupName)
+    @Query("SELECT c.id, c.storeName, bg.codeId, bg.codeName FROM Company c " +
+           "LEFT JOIN c.branchGroup bg WHERE c.id IN :ids")
+    List<Object[]> findStoreNameAndBranchGroupByIdIn(@Param("ids") Collection<Long> ids);
+    
     // 가장 큰 매장 번호 조회
     @Query("SELECT MAX(c.storeNumber) FROM Company c")
     String findMaxStoreNumber();
@@ -82,6 +88,36 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     Page<Company> findByStoreNameContainingOrBusinessNumberContainingOrStoreCodeContaining(
             String storeNameKeyword, String businessNumberKeyword, String storeCodeKeyword, Pageable pageable);
     
+    // 블라인드 인덱스로 사업자번호 완전 일치 조회
+    List<Company> findByBusinessNumberBidx(String businessNumberBidx);
+    
+    // 매장명/매장코드 부분 일치, 사업자번호/전화번호/이메일 블라인드 인덱스 일치 또는 부분 검색 토큰 일치 ID 로 회사 검색 - 페이징 처리
+    // 인덱스 값이 null 이면 해당 조건은 일치하지 않음, tokenMatchedIds 는 비어 있으면 안 됨 (없으면 searchByKeywordWithExactBlindIndex 사용)
+    @Query("SELECT c FROM Company c WHERE c.storeName LIKE CONCAT('%', :keyword, '%') " +
+           "OR c.storeCode LIKE CONCAT('%', :keyword, '%') " +
+           "OR c.businessNumberBidx = :businessNumberBidx " +
+           "OR c.phoneNumberBidx = :phoneBidx OR c.storeTelNumberBidx = :phoneBidx " +
+           "OR c.emailBidx = :emailBidx " +
+           "OR c.id IN :tokenMatchedIds")
+    Page<Company> searchByKeywordWithBlindIndex(@Param("keyword") String keyword,
+                                                @Param("businessNumberBidx") String businessNumberBidx,
+                                                @Param("phoneBidx") String phoneBidx,
+                                                @Param("emailBidx") String emailBidx,
+                                                @Param("tokenMatchedIds") Collection<Long> tokenMatchedIds,
+                                                Pageable pageable);
+    
+    // 매장명/매장코드 부분 일치, 사업자번호/전화번호/이메일 블라인드 인덱스 일치로 회사 검색 (부분 검색 토큰 일치가 없을 때) - 페이징 처리
+    @Query("SELECT c FROM Company c WHERE c.storeName LIKE CONCAT('%', :keyword, '%') " +
+           "OR c.storeCode LIKE CONCAT('%', :keyword, '%') " +
+           "OR c.businessNumberBidx = :businessNumberBidx " +
+           "OR c.phoneNumberBidx = :phoneBidx OR c.storeTelNumberBidx = :phoneBidx " +
+           "OR c.emailBidx = :emailBidx")
+    Page<Company> searchByKeywordWithExactBlindIndex(@Param("keyword") String keyword,
+                                                     @Param("businessNumberBidx") String businessNumberBidx,
+                                                     @Param("phoneBidx") String phoneBidx,
+                                                     @Param("emailBidx") String emailBidx,
+                                                     Pageable pageable);
+    
     // 사용중인 모든 점번 조회 (자동생성 시 중복 방지용)
     @Query("SELECT c.storeNumber FROM Company c ORDER BY c.storeNumber")
     List<String> findAllStoreNumbers();
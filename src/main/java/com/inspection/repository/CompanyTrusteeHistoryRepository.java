@@ -1,6 +1,8 @@
 package com.inspection.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import com.inspection.entity.Company;
 import com.inspection.entity.CompanyTrusteeHistory;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -52,4 +55,59 @@ public interface CompanyTrusteeHistoryRepository extends JpaRepository<CompanyTr
     // 특정 회사의 모든 수탁자 이력을 계약 및 템플릿 정보와 함께 조회 (시작일 내림차순)
     @Query("SELECT h FROM CompanyTrusteeHistory h LEFT JOIN FETCH h.contract c LEFT JOIN FETCH c.templateMappings tm LEFT JOIN FETCH tm.template WHERE h.company = :company ORDER BY h.startDate DESC")
     List<CompanyTrusteeHistory> findByCompanyWithContractAndTemplatesOrderByStartDateDesc(@Param("company") Company company);
+    
+    // ===== 스케줄러 일괄 처리용 (집합 기반 업데이트) =====
+    
+    // 활성 상태이며 보험 종료일이 지난 이력 ID 조회 (ID 순)
+    @Query("SELECT h.id FROM CompanyTrusteeHistory h WHERE h.isActive = true AND h.insuranceEndDate < :today ORDER BY h.id")
+    List<Long> findExpiredActiveIds(@Param("today") LocalDate today);
+    
+    // 비활성 상태이며 보험 시작일이 오늘인 이력 ID 조회 (ID 순)
+    @Query("SELECT h.id FROM CompanyTrusteeHistory h WHERE h.isActive = false AND h.insuranceStartDate = :today ORDER BY h.id")
+    List<Long> findStartingInactiveIds(@Param("today") LocalDate today);
+    
+    // 이력 ID 목록의 회사 ID 조회
+    @Query("SELECT DISTINCT h.company.id FROM CompanyTrusteeHistory h WHERE h.id IN :ids")
+    List<Long> findCompanyIdsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 이력 ID 목록에서 회사별 최신(가장 큰 ID) 이력 ID 조회 (같은 날 시작하는 이력이 여럿이면 하나만 활성화)
+    @Query("SELECT MAX(h.id) FROM CompanyTrusteeHistory h WHERE h.id IN :ids GROUP BY h.company.id")
+    List<Long> findLatestIdPerCompanyByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 이력 ID 목록 중 연결된 계약이 지정 활성 상태인 계약 ID 조회
+    @Query("SELECT DISTINCT c.id FROM CompanyTrusteeHistory h JOIN h.contract c WHERE h.id IN :ids AND c.active = :active")
+    List<Long> findContractIdsByIdInAndContractActive(@Param("ids") Collection<Long> ids, @Param("active") boolean active);
+    
+    // 이력 활성 상태 일괄 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CompanyTrusteeHistory h SET h.isActive = :active, h.modifiedAt = :now WHERE h.id IN :ids")
+    int updateActiveByIdIn(@Param("ids") Collection<Long> ids, @Param("active") boolean active, @Param("now") LocalDateTime now);
+    
+    // 회사별 기존 활성 이력 일괄 비활성화 (새로 활성화할 이력은 제외)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CompanyTrusteeHistory h SET h.isActive = false, h.modifiedAt = :now " +
+           "WHERE h.isActive = true AND h.company.id IN :companyIds AND h.id NOT IN :excludeIds")
+    int deactivateActiveByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds,
+                                      @Param("excludeIds") Collection<Long> excludeIds,
+                                      @Param("now") LocalDateTime now);
+    
+    // 이력의 수탁자 정보를 회사 테이블에 일괄 반영 (CompanyTrusteeHistory.applyToCompany 와 동일한 컬럼)
+    // ids 에는 회사당 이력이 하나만 있어야 함 (여럿이면 어느 값이 반영될지 정해지지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE companies c JOIN company_trustee_history h ON h.company_id = c.id SET " +
+           "c.trustee = h.trustee, c.trustee_code = h.trustee_code, c.representative_name = h.representative_name, " +
+           "c.manager_name = h.manager_name, c.email = h.email, c.phone_number = h.phone_number, " +
+           "c.business_number = h.business_number, c.sub_business_number = h.sub_business_number, " +
+           "c.company_name = h.company_name, c.store_tel_number = h.store_tel_number, " +
+           "c.business_type = h.business_type, c.business_category = h.business_category, " +
+           "c.insurance_start_date = h.insurance_start_date, c.insurance_end_date = h.insurance_end_date, " +
+           "c.start_date = h.start_date, c.end_date = h.end_date, c.updated_at = :now " +
+           "WHERE h.id IN (:ids)", nativeQuery = true)
+    int applyHistoriesToCompanies(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // 만료 예정 알림 대상 조회 (이력ID, 수탁자, 암호화된 이메일, 보험종료일, 매장명, 계약ID)
+    @Query("SELECT h.id, h.trustee, h.email, h.insuranceEndDate, co.storeName, c.id " +
+           "FROM CompanyTrusteeHistory h JOIN h.company co LEFT JOIN h.contract c " +
+           "WHERE h.isActive = true AND h.insuranceEndDate = :expiryDate ORDER BY h.id")
+    List<Object[]> findExpiryNoticeTargets(@Param("expiryDate") LocalDate expiryDate);
 }
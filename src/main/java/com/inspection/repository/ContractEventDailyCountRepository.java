@@ -0,0 +1,156 @@
+package com.inspection.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.dto.ContractEventDailyCountDTO;
+
+/**
+ * 계약 이벤트 일별 집계 저장소
+ * contract_event_daily_count 테이블에 (일자, 이벤트 타입, 액터) 당 건수 한 행을 보관하여
+ * 대시보드의 기간별 추이를 contract_event_log 를 읽지 않고 조회합니다.
+ * 이벤트 저장 경로에서는 갱신하지 않고(한 행에 쓰기가 몰리지 않도록), 원본 GROUP BY 로 기간을 재계산(rebuild)하여 채웁니다.
+ * 재계산은 인스턴스 간 이름 잠금을 잡은 상태에서 호출해야 합니다(ContractEventStatsService).
+ * 테이블은 Flyway 마이그레이션(V3__contract_event_daily_count.sql)으로 만듭니다.
+ */
+@Repository
+public class ContractEventDailyCountRepository {
+
+    // 액터가 없는 이벤트는 빈 문자열로 보관 (기본 키 컬럼은 NULL 불가)
+    public static final String NO_ACTOR = "";
+
+    // 원본 이벤트 로그의 [from, to) 기간 집계 (event_time 인덱스 범위 조회, 잠금 없는 일관된 읽기)
+    private static final String AGGREGATE_SQL =
+            "SELECT DATE(event_time), event_type_code_id, COALESCE(actor_id, ''), COUNT(*) FROM contract_event_log " +
+            "WHERE event_time >= ? AND event_time < ? AND event_type_code_id IS NOT NULL " +
+            "GROUP BY DATE(event_time), event_type_code_id, COALESCE(actor_id, '')";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO contract_event_daily_count (event_date, event_type_code_id, actor_id, event_count) " +
+            "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE event_count = VALUES(event_count)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM contract_event_daily_count WHERE event_date = ? AND event_type_code_id = ? AND actor_id = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ContractEventDailyCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기간 재계산 [from, to] (호출 측 트랜잭션 안에서 실행)
+     * 원본은 잠금 없이 읽어 GROUP BY 한 뒤 집계 행을 키 단위로 upsert 하고, 원본에서 사라진 키의 행만 삭제합니다.
+     * (INSERT ... SELECT 는 원본 범위에 공유 next-key 잠금을 걸어 이벤트 저장과 충돌하므로 사용하지 않음)
+     * @return 기간 내 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        List<Object[]> counts = jdbcTemplate.query(AGGREGATE_SQL,
+                (rs, rowNum) -> new Object[] { rs.getDate(1).toLocalDate(), rs.getString(2), rs.getString(3), rs.getLong(4) },
+                Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+
+        Set<List<Object>> keys = new HashSet<>();
+        for (Object[] count : counts) {
+            keys.add(key(count[0], count[1], count[2]));
+        }
+        List<Object[]> staleKeys = jdbcTemplate.query(
+                "SELECT event_date, event_type_code_id, actor_id FROM contract_event_daily_count " +
+                "WHERE event_date >= ? AND event_date <= ?",
+                (rs, rowNum) -> new Object[] { rs.getDate(1).toLocalDate(), rs.getString(2), rs.getString(3) },
+                Date.valueOf(from), Date.valueOf(to));
+        staleKeys.removeIf(row -> keys.contains(key(row[0], row[1], row[2])));
+
+        if (!staleKeys.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, staleKeys, BATCH_SIZE, (ps, row) -> {
+                ps.setDate(1, Date.valueOf((LocalDate) row[0]));
+                ps.setString(2, (String) row[1]);
+                ps.setString(3, (String) row[2]);
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, counts, BATCH_SIZE, (ps, row) -> {
+            ps.setDate(1, Date.valueOf((LocalDate) row[0]));
+            ps.setString(2, (String) row[1]);
+            ps.setString(3, (String) row[2]);
+            ps.setLong(4, (Long) row[3]);
+        });
+        return counts.size();
+    }
+
+    /**
+     * 기준일 이전 집계 행 수
+     */
+    public long countBefore(LocalDate date) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM contract_event_daily_count WHERE event_date < ?", Long.class, Date.valueOf(date));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 원본 이벤트 로그의 가장 이른 이벤트 일자 (없으면 null)
+     */
+    public LocalDate findFirstEventDate() {
+        Timestamp first = jdbcTemplate.queryForObject("SELECT MIN(event_time) FROM contract_event_log", Timestamp.class);
+        return first != null ? first.toLocalDateTime().toLocalDate() : null;
+    }
+
+    /**
+     * 이벤트 타입별 전체 건수 [eventTypeCodeId, codeName, count]
+     */
+    public List<Object[]> sumByEventType() {
+        return jdbcTemplate.query(
+                "SELECT d.event_type_code_id, c.code_name, SUM(d.event_count) FROM contract_event_daily_count d " +
+                "LEFT JOIN code c ON c.code_id = d.event_type_code_id GROUP BY d.event_type_code_id, c.code_name",
+                (rs, rowNum) -> new Object[] { rs.getString(1), rs.getString(2), rs.getLong(3) });
+    }
+
+    /**
+     * 일자/타입/액터별 건수 조회 (일자, 타입, 액터 순)
+     * @param eventTypeCodeId 이벤트 타입, null 이면 전체
+     * @param actorId 액터, null 이면 전체
+     */
+    public List<ContractEventDailyCountDTO> findDailyCounts(LocalDate from, LocalDate to, String eventTypeCodeId,
+                                                            String actorId) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT d.event_date, d.event_type_code_id, c.code_name, d.actor_id, d.event_count " +
+                "FROM contract_event_daily_count d LEFT JOIN code c ON c.code_id = d.event_type_code_id " +
+                "WHERE d.event_date >= ? AND d.event_date <= ?");
+        List<Object> args = new ArrayList<>();
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(to));
+        if (eventTypeCodeId != null) {
+            sql.append(" AND d.event_type_code_id = ?");
+            args.add(eventTypeCodeId);
+        }
+        if (actorId != null) {
+            sql.append(" AND d.actor_id = ?");
+            args.add(actorId);
+        }
+        sql.append(" ORDER BY d.event_date, d.event_type_code_id, d.actor_id");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            String actor = rs.getString(4);
+            return ContractEventDailyCountDTO.builder()
+                    .eventDate(rs.getDate(1).toLocalDate())
+                    .eventTypeCodeId(rs.getString(2))
+                    .eventTypeName(rs.getString(3))
+                    .actorId(NO_ACTOR.equals(actor) ? null : actor)
+                    .eventCount(rs.getLong(5))
+                    .build();
+        }, args.toArray());
+    }
+
+    // 집계 키 (일자, 이벤트 타입, 액터)
+    private static List<Object> key(Object eventDate, Object eventTypeCodeId, Object actorId) {
+        return List.of(eventDate, eventTypeCodeId, actorId);
+    }
+}
@@ -0,0 +1,61 @@
+package com.inspection.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.util.IdBlockAllocator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계약 이벤트 로그 JDBC 배치 insert 저장소
+ * 스케줄러처럼 시스템이 여러 계약에 대해 같은 이벤트를 남길 때 한 번의 배치로 저장합니다.
+ * ID 는 JPA 저장(BlockIdGenerator)과 같은 IdBlockAllocator 구간에서 받아 AUTO_INCREMENT 값과 겹치지 않게 합니다.
+ * 일별 집계는 ContractEventStatsService 가 주기적으로 원본에서 다시 집계하므로 여기서는 갱신하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContractEventLogJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+    public static final String SYSTEM_ACTOR = "SYSTEM";
+
+    private static final String INSERT_SYSTEM_EVENT_SQL =
+            "INSERT INTO contract_event_log (id, contract_id, event_type_code_id, event_time, actor_id, description) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    /**
+     * 시스템 이벤트 일괄 insert (ContractEventLog.createSimple 과 같은 형태)
+     * @param contractIds 대상 계약 ID 목록
+     * @param eventTypeCodeId 이벤트 타입 코드
+     * @param description 이벤트 설명
+     */
+    public void insertSystemEvents(List<Long> contractIds, String eventTypeCodeId, String description) {
+        if (contractIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp eventTime = Timestamp.valueOf(now);
+        long firstId = idBlockAllocator.reserveRange("contract_event_log", "id", contractIds.size());
+        List<long[]> rows = new ArrayList<>(contractIds.size());
+        for (int i = 0; i < contractIds.size(); i++) {
+            rows.add(new long[] { firstId + i, contractIds.get(i) });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SYSTEM_EVENT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setLong(2, row[1]);
+            ps.setString(3, eventTypeCodeId);
+            ps.setTimestamp(4, eventTime);
+            ps.setString(5, SYSTEM_ACTOR);
+            ps.setString(6, description);
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.inspection.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.dto.ContractListItemDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계약 목록 키셋 페이징 저장소
+ * 목록 표시 컬럼만 조회하고, 지정된 필터만 WHERE 절에 붙여 (active, id) 인덱스를 id 역순으로 읽습니다.
+ * (필터 값이 없을 때 "? IS NULL OR ..." 형태로 남겨 두면 옵티마이저가 인덱스 범위를 잡지 못함)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContractListJdbcRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT c.id, c.contract_number, c.title, sc.code_id, sc.code_name, ctc.code_name, co.id, co.store_name, " +
+            "th.trustee, c.progress_rate, c.start_date, c.expiry_date, c.insurance_end_date, c.created_at, " +
+            "c.created_by, c.active " +
+            "FROM contract c " +
+            "LEFT JOIN code sc ON sc.code_id = c.status_code_id " +
+            "LEFT JOIN code ctc ON ctc.code_id = c.contract_type_code_id " +
+            "LEFT JOIN companies co ON co.id = c.company_id " +
+            "LEFT JOIN company_trustee_history th ON th.id = c.trustee_history_id " +
+            "WHERE 1 = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 계약 목록 한 페이지 조회 (ID 역순)
+     * @param active 활성 여부, null 이면 전체
+     * @param statusCodeId 계약 상태 코드, null 이면 전체
+     * @param companyId 회사 ID, null 이면 전체
+     * @param keyword 계약명/계약번호/매장명/수탁자 포함 검색어, null 이면 전체
+     *                (부분 일치라 인덱스로 거르지 못하므로 ID 역순으로 읽으면서 limit 건이 찰 때까지 비교)
+     * @param beforeId 이전 페이지 마지막 계약 ID, null 이면 첫 페이지
+     * @param limit 최대 조회 건수
+     */
+    public List<ContractListItemDTO> findPage(Boolean active, String statusCodeId, Long companyId, String keyword,
+                                              Long beforeId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        if (active != null) {
+            sql.append(" AND c.active = ?");
+            args.add(active);
+        }
+        if (statusCodeId != null) {
+            sql.append(" AND c.status_code_id = ?");
+            args.add(statusCodeId);
+        }
+        if (companyId != null) {
+            sql.append(" AND c.company_id = ?");
+            args.add(companyId);
+        }
+        if (keyword != null) {
+            String pattern = "%" + escapeLike(keyword) + "%";
+            sql.append(" AND (c.title LIKE ? ESCAPE '\\\\' OR c.contract_number LIKE ? ESCAPE '\\\\'" +
+                    " OR co.store_name LIKE ? ESCAPE '\\\\' OR th.trustee LIKE ? ESCAPE '\\\\')");
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+        if (beforeId != null) {
+            sql.append(" AND c.id < ?");
+            args.add(beforeId);
+        }
+        sql.append(" ORDER BY c.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            Date startDate = rs.getDate(11);
+            Date expiryDate = rs.getDate(12);
+            Date insuranceEndDate = rs.getDate(13);
+            Timestamp createdAt = rs.getTimestamp(14);
+            return new ContractListItemDTO(
+                    rs.getLong(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getString(5),
+                    rs.getString(6),
+                    rs.getObject(7, Long.class),
+                    rs.getString(8),
+                    rs.getString(9),
+                    rs.getObject(10, Integer.class),
+                    startDate != null ? startDate.toLocalDate() : null,
+                    expiryDate != null ? expiryDate.toLocalDate() : null,
+                    insuranceEndDate != null ? insuranceEndDate.toLocalDate() : null,
+                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                    rs.getString(15),
+                    rs.getBoolean(16));
+        }, args.toArray());
+    }
+
+    /**
+     * LIKE 검색어의 와일드카드 문자(%, _)와 이스케이프 문자(\)를 일반 문자로 처리
+     */
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
\ No newline at end of file
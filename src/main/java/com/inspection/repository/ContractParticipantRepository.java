@@ -17,6 +17,10 @@ public interface ContractParticipantRepository extends JpaRepository<ContractPar
     Optional<ContractParticipant> findByPdfId(String pdfId);
     List<ContractParticipant> findByContractId(Long contractId);
     
+    // 블라인드 인덱스로 이메일/전화번호 완전 일치 조회
+    List<ContractParticipant> findByEmailBidx(String emailBidx);
+    List<ContractParticipant> findByPhoneNumberBidx(String phoneNumberBidx);
+    
     // User ID로 참여자 목록 조회 (직접 연결)
     @Query("SELECT p FROM ContractParticipant p WHERE p.user.id = :userId")
     List<ContractParticipant> findByUserId(@Param("userId") Long userId);
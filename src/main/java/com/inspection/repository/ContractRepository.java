@@ -1,10 +1,14 @@
 package com.inspection.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import com.inspection.entity.Code;
 import com.inspection.entity.Contract;
 
 @Repository
@@ -143,4 +147,18 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
      * 계약 제목과 상태 코드로 검색
      */
     List<Contract> findByTitleContainingAndStatusCodeCodeId(String title, String statusCodeId);
-} 
\ No newline at end of file
+    
+    /**
+     * 계약 활성 상태 일괄 변경 (스케줄러용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Contract c SET c.active = :active, c.lastModifiedAt = :now WHERE c.id IN :ids")
+    int updateActiveByIdIn(@Param("ids") Collection<Long> ids, @Param("active") boolean active, @Param("now") LocalDateTime now);
+    
+    /**
+     * 계약 상태 코드 일괄 변경 (스케줄러용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Contract c SET c.statusCode = :statusCode WHERE c.id IN :ids")
+    int updateStatusCodeByIdIn(@Param("ids") Collection<Long> ids, @Param("statusCode") Code statusCode);
+}
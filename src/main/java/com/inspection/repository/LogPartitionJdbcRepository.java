@@ -0,0 +1,197 @@
+package com.inspection.repository;
+
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.config.ReplicaRoutingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그 테이블 파티션 관리 JDBC 저장소
+ * 월 단위 RANGE COLUMNS 파티션의 조회(information_schema), 생성/분할/삭제 DDL, 파티션 단위 행 스트리밍을 담당합니다.
+ * DDL 은 암묵적 커밋을 일으키므로 호출 측 트랜잭션 밖에서, 항상 주 DB 로 실행합니다.
+ */
+@Slf4j
+@Repository
+public class LogPartitionJdbcRepository {
+
+    // 가장 이른 파티션 (관리 시작 월 이전 행 전체), 미래 파티션 (마지막 월 이후 행 전체)
+    public static final String PARTITION_BEFORE = "p_before";
+    public static final String PARTITION_FUTURE = "p_future";
+
+    private static final Pattern SQL_IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    /**
+     * 파티션 정보 (upperBound 가 null 이면 MAXVALUE)
+     */
+    public record PartitionInfo(String name, LocalDate upperBound, long estimatedRows) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public LogPartitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new JdbcTemplate(ReplicaRoutingDataSource.primaryOf(jdbcTemplate.getDataSource()));
+        // MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 결과를 메모리에 모두 올리지 않고 행 단위로 전달
+        this.streamingJdbcTemplate = new JdbcTemplate(this.jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 파티션 목록 (순서대로)
+     */
+    public List<PartitionInfo> findPartitions(String table) {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new PartitionInfo(rs.getString(1), parseUpperBound(rs.getString(2)), rs.getLong(3)),
+                table);
+    }
+
+    /**
+     * 기존 테이블을 월 파티션 테이블로 변환
+     * MySQL 파티션 테이블은 외래 키를 지원하지 않고 모든 유니크 키에 파티션 컬럼이 있어야 하므로
+     * 외래 키 삭제 → 시간 컬럼 NOT NULL → 기본 키 (id, 시간 컬럼) → 파티션 순으로 변경합니다.
+     * 엔티티 매핑은 외래 키를 유지하므로(파티션 전 무결성 보장) 변환 시점에 JPA 가 만든 외래 키를 모두 삭제하며,
+     * 외래 키용으로 만들어진 인덱스는 남아 조회에 그대로 쓰입니다.
+     * @param months 월 파티션 시작일 목록 (오름차순), 첫 시작일 이전 행은 PARTITION_BEFORE 로
+     */
+    public void convertToPartitioned(String table, String timeColumn, List<LocalDate> months) {
+        validateIdentifier(table);
+        validateIdentifier(timeColumn);
+
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+                String.class, table);
+        for (String foreignKey : foreignKeys) {
+            validateIdentifier(foreignKey);
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP FOREIGN KEY " + foreignKey);
+        }
+
+        int nullRows = jdbcTemplate.update("UPDATE " + table + " SET " + timeColumn + " = '1970-01-01 00:00:00' " +
+                "WHERE " + timeColumn + " IS NULL");
+        if (nullRows > 0) {
+            log.warn("[로그 파티션] {}.{} 이 비어 있는 {}건을 1970-01-01 로 채움 (가장 이른 파티션에 보관)",
+                    table, timeColumn, nullRows);
+        }
+        String columnType = jdbcTemplate.queryForObject(
+                "SELECT COLUMN_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                String.class, table, timeColumn);
+        jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + timeColumn + " " + columnType + " NOT NULL, " +
+                "DROP PRIMARY KEY, ADD PRIMARY KEY (id, " + timeColumn + ")");
+
+        StringBuilder ddl = new StringBuilder("ALTER TABLE ").append(table)
+                .append(" PARTITION BY RANGE COLUMNS(").append(timeColumn).append(") (")
+                .append(partitionDefinition(PARTITION_BEFORE, months.get(0)));
+        for (LocalDate month : months) {
+            ddl.append(", ").append(partitionDefinition(partitionName(month), month.plusMonths(1)));
+        }
+        ddl.append(", PARTITION ").append(PARTITION_FUTURE).append(" VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(ddl.toString());
+        log.info("[로그 파티션] {} 파티션 변환 완료: 외래 키 {}개 제거, 월 파티션 {}개", table, foreignKeys.size(), months.size());
+    }
+
+    /**
+     * 미래 파티션을 나누어 월 파티션 추가 (미래 파티션이 비어 있으면 데이터 이동 없음)
+     */
+    public void addMonths(String table, List<LocalDate> months) {
+        validateIdentifier(table);
+        StringBuilder ddl = new StringBuilder("ALTER TABLE ").append(table)
+                .append(" REORGANIZE PARTITION ").append(PARTITION_FUTURE).append(" INTO (");
+        for (LocalDate month : months) {
+            ddl.append(partitionDefinition(partitionName(month), month.plusMonths(1))).append(", ");
+        }
+        ddl.append("PARTITION ").append(PARTITION_FUTURE).append(" VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(ddl.toString());
+    }
+
+    public void dropPartition(String table, String partition) {
+        validateIdentifier(table);
+        validateIdentifier(partition);
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+    }
+
+    public long countPartition(String table, String partition) {
+        validateIdentifier(table);
+        validateIdentifier(partition);
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " PARTITION (" + partition + ")", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    public LocalDateTime findMinTime(String table, String timeColumn, String partition) {
+        validateIdentifier(table);
+        validateIdentifier(timeColumn);
+        StringBuilder sql = new StringBuilder("SELECT MIN(").append(timeColumn).append(") FROM ").append(table);
+        if (partition != null) {
+            validateIdentifier(partition);
+            sql.append(" PARTITION (").append(partition).append(")");
+        }
+        Timestamp min = jdbcTemplate.queryForObject(sql.toString(), Timestamp.class);
+        return min != null ? min.toLocalDateTime() : null;
+    }
+
+    /**
+     * 파티션의 행을 컬럼명 → 값 맵으로 하나씩 전달 (날짜/시간은 LocalDateTime, id 순)
+     */
+    public void streamPartition(String table, String partition, Consumer<Map<String, Object>> consumer) {
+        validateIdentifier(table);
+        validateIdentifier(partition);
+        streamingJdbcTemplate.query("SELECT * FROM " + table + " PARTITION (" + partition + ") ORDER BY id",
+                (RowCallbackHandler) rs -> {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        Object value = rs.getObject(i);
+                        row.put(metaData.getColumnLabel(i),
+                                value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+                    }
+                    consumer.accept(row);
+                });
+    }
+
+    public static String partitionName(LocalDate month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static String partitionDefinition(String name, LocalDate upperBound) {
+        return "PARTITION " + name + " VALUES LESS THAN ('" + upperBound + " 00:00:00')";
+    }
+
+    // PARTITION_DESCRIPTION 예) '2024-02-01 00:00:00' 또는 MAXVALUE
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+
+    private static void validateIdentifier(String identifier) {
+        if (identifier == null || !SQL_IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("허용되지 않는 식별자입니다: " + identifier);
+        }
+    }
+}
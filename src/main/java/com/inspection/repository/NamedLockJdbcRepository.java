@@ -0,0 +1,53 @@
+package com.inspection.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.config.ReplicaRoutingDataSource;
+
+/**
+ * MySQL 이름 잠금(GET_LOCK) 저장소
+ * 여러 청크 트랜잭션이나 DDL 에 걸친 작업을 여러 인스턴스 중 하나만 실행하도록 할 때 사용합니다.
+ * 이름 잠금은 트랜잭션이 아니라 커넥션에 묶이므로 중간 커밋이나 DDL 의 암묵적 커밋으로 풀리지 않으며,
+ * 작업이 끝날 때까지 주 DB 의 잠금 전용 커넥션 하나를 붙잡아 둡니다.
+ */
+@Repository
+public class NamedLockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NamedLockJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new JdbcTemplate(ReplicaRoutingDataSource.primaryOf(jdbcTemplate.getDataSource()));
+    }
+
+    /**
+     * 이름 잠금을 잡은 동안 작업 실행 (기다리지 않음)
+     * @return 잠금을 얻어 실행했으면 true, 다른 인스턴스가 잡고 있으면 false
+     */
+    public boolean runWithNamedLock(String lockName, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                statement.setString(1, lockName);
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    statement.setString(1, lockName);
+                    statement.execute();
+                }
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+}
@@ -0,0 +1,90 @@
+package com.inspection.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.inspection.entity.ParticipantToken;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 참여자 토큰 JDBC 저장소
+ * - 서명 요청 일괄 발송 시 토큰을 한 건씩 save 하지 않고 JDBC 배치로 저장합니다.
+ * - 만료 토큰 삭제와 token_hash 백필은 ID 구간 단위로 나누어 처리하여 한 번에 긴 잠금을 잡지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ParticipantTokenJdbcRepository {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO participant_tokens (participant_id, token_value, token_hash, token_type, expires_at, " +
+            "created_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 토큰 일괄 insert
+     */
+    public void insertTokens(List<ParticipantToken> tokens) {
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, tokens, BATCH_SIZE, (ps, token) -> {
+            ps.setLong(1, token.getParticipantId());
+            ps.setString(2, token.getTokenValue());
+            ps.setString(3, token.getTokenHash() != null
+                    ? token.getTokenHash() : ParticipantToken.hash(token.getTokenValue()));
+            ps.setString(4, token.getTokenType().name());
+            ps.setTimestamp(5, Timestamp.valueOf(token.getExpiresAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(token.getCreatedAt()));
+            ps.setBoolean(7, token.isActive());
+        });
+    }
+
+    /**
+     * ID 범위 조회
+     * @return [min(id), max(id)], 행이 없으면 null
+     */
+    public long[] findIdRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM participant_tokens", rs -> {
+            if (!rs.next() || rs.getObject(1) == null) {
+                return null;
+            }
+            return new long[] { rs.getLong(1), rs.getLong(2) };
+        });
+    }
+
+    /**
+     * ID 구간 [fromId, toId] 의 만료 토큰 삭제
+     */
+    public int deleteExpiredInRange(long fromId, long toId, LocalDateTime expiredBefore) {
+        return jdbcTemplate.update(
+                "DELETE FROM participant_tokens WHERE id BETWEEN ? AND ? AND expires_at < ?",
+                fromId, toId, Timestamp.valueOf(expiredBefore));
+    }
+
+    /**
+     * token_hash 가 없는 토큰 조회 (ID 순, afterId 초과)
+     * @return [id, token_value]
+     */
+    public List<Object[]> findWithoutHash(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, token_value FROM participant_tokens WHERE id > ? AND token_hash IS NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new Object[] { rs.getLong(1), rs.getString(2) }, afterId, limit);
+    }
+
+    /**
+     * token_hash 일괄 갱신
+     * @param rows [id, token_hash]
+     */
+    public void updateHashes(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("UPDATE participant_tokens SET token_hash = ? WHERE id = ?", rows, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setString(1, (String) row[1]);
+                    ps.setLong(2, (Long) row[0]);
+                });
+    }
+}
@@ -28,6 +28,11 @@ public interface ParticipantTokenRepository extends JpaRepository<ParticipantTok
      */
     Optional<ParticipantToken> findByTokenValue(String tokenValue);
     
+    /**
+     * 토큰 값의 SHA-256 으로 토큰을 조회합니다 (token_hash 유니크 인덱스).
+     */
+    Optional<ParticipantToken> findByTokenHash(String tokenHash);
+    
     /**
      * 참여자 ID로 모든 활성 상태의 장기 토큰을 조회합니다.
      */
@@ -2,30 +2,40 @@ package com.inspection.scheduler;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.inspection.entity.Company;
-import com.inspection.entity.CompanyTrusteeHistory;
-import com.inspection.entity.Contract;
+import com.inspection.entity.Code;
+import com.inspection.notification.entity.NotificationOutbox;
+import com.inspection.notification.service.NotificationOutboxService;
 import com.inspection.repository.CompanyTrusteeHistoryRepository;
-import com.inspection.service.ContractService;
+import com.inspection.repository.ContractEventLogJdbcRepository;
+import com.inspection.service.BlindIndexService;
+import com.inspection.service.EmailService;
 import com.inspection.util.DateProvider;
-import com.inspection.repository.CompanyRepository;
+import com.inspection.util.EncryptionUtil;
 import com.inspection.repository.ContractRepository;
 import com.inspection.repository.CodeRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 계약 상태 관리 스케줄러
  * 매일 0시에 실행되어 계약 상태를 업데이트
+ *
+ * 수탁자 이력/계약/회사 정보는 엔티티를 한 건씩 로딩·저장하지 않고,
+ * 대상 이력 ID를 ID 순으로 청크(CHUNK_SIZE) 단위로 나누어 청크별 트랜잭션에서 일괄 UPDATE 합니다.
+ * 처리 건수와 소요 시간은 contract.scheduler.* 메트릭으로 기록됩니다.
  */
 @Slf4j
 @Component
@@ -34,22 +44,30 @@ public class ContractScheduler {
 
     private final CompanyTrusteeHistoryRepository trusteeHistoryRepository;
     private final DateProvider dateProvider;
-    private final ContractService contractService;
-    private final CompanyRepository companyRepository;
     private final ContractRepository contractRepository;
     private final CodeRepository codeRepository;
-    
+    private final ContractEventLogJdbcRepository eventLogJdbcRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final EmailService emailService;
+    private final BlindIndexService blindIndexService;
+    private final EncryptionUtil encryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
     // 상태 코드 상수 정의
     private static final String CONTRACT_STATUS_EXPIRED = "001002_0007";  // 계약 만료 상태 코드
-    
+    private static final String EVENT_STATUS_CHANGED = "001005_0003";       // 상태 변경
+    private static final String EVENT_CONTRACT_DEACTIVATED = "001005_0006"; // 계약 비활성화
+
+    private static final int CHUNK_SIZE = 500;
+
     /**
      * 매일 0시 5분에 계약 상태를 확인하고 업데이트
      * cron 표현식: 초 분 시 일 월 요일
      */
-    
+
      @Scheduled(cron = "0 5 0 * * *")
     // @Scheduled(cron = "0 * * * * *")
-    @Transactional
     public Map<String, Object> processContractStatus() {
         // 현재 날짜 확인 (테스트를 위해 DateProvider 사용)
         LocalDate today = dateProvider.getCurrentDate();
@@ -59,11 +77,13 @@ public class ContractScheduler {
         Map<String, Object> result = new HashMap<>();
         int deactivatedCount = 0;
         int activatedCount = 0;
+        long startTime = System.nanoTime();
+        String outcome = "success";
 
         try {
             // 1. 보험 종료일이 지난 활성 수탁자 이력 및 관련 계약 비활성화
             deactivatedCount = deactivateExpiredContracts(today);
-            
+
             // 2. 보험 시작일이 된 비활성 수탁자 이력 및 관련 계약 활성화
             activatedCount = activateNewContracts(today);
 
@@ -71,12 +91,20 @@ public class ContractScheduler {
             result.put("date", today.toString());
             result.put("deactivatedCount", deactivatedCount);
             result.put("activatedCount", activatedCount);
-            
+
             log.info("계약 상태 업데이트 완료: 비활성화={}, 활성화={}", deactivatedCount, activatedCount);
         } catch (Exception e) {
+            outcome = "error";
             log.error("계약 상태 업데이트 중 오류 발생", e);
             result.put("status", "error");
             result.put("message", e.getMessage());
+        } finally {
+            long elapsedNanos = System.nanoTime() - startTime;
+            result.put("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            meterRegistry.timer("contract.scheduler.status.duration", "result", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("contract.scheduler.status.deactivated").increment(deactivatedCount);
+            meterRegistry.counter("contract.scheduler.status.activated").increment(activatedCount);
         }
 
         return result;
@@ -86,125 +114,169 @@ public class ContractScheduler {
      * 보험 종료일이 지난 활성 수탁자 이력 및 관련 계약 비활성화
      */
     private int deactivateExpiredContracts(LocalDate today) {
-        // 활성 상태이며 보험 종료일이 오늘 이전인 수탁자 이력 조회
-        List<CompanyTrusteeHistory> expiredHistories = trusteeHistoryRepository.findByIsActiveTrueAndInsuranceEndDateBefore(today);
-        
-        if (expiredHistories.isEmpty()) {
+        // 활성 상태이며 보험 종료일이 오늘 이전인 수탁자 이력 ID 조회
+        List<Long> expiredIds = trusteeHistoryRepository.findExpiredActiveIds(today);
+
+        if (expiredIds.isEmpty()) {
             log.info("종료할 계약이 없습니다: {}", today);
             return 0;
         }
 
         // 계약 만료 상태 코드 조회
-        var expiredStatusCode = codeRepository.findById(CONTRACT_STATUS_EXPIRED)
+        Code expiredStatusCode = codeRepository.findById(CONTRACT_STATUS_EXPIRED)
             .orElse(null);
         if (expiredStatusCode == null) {
             log.warn("계약 만료 상태 코드를 찾을 수 없습니다: {}", CONTRACT_STATUS_EXPIRED);
         }
 
-        for (CompanyTrusteeHistory history : expiredHistories) {
-            // 계약 종료일 로깅
-            log.info("수탁자 이력 종료 처리: 회사={}, 수탁자={}, 보험종료일={}, 이력ID={}",
-                    history.getCompany().getStoreName(),
-                    history.getTrustee(),
-                    history.getInsuranceEndDate(),
-                    history.getId());
-
-            // 비활성화 처리
-            history.setActive(false);
-            trusteeHistoryRepository.save(history);
-            
-            // 관련 계약도 비활성화 처리 (추가)
-            if (history.getContract() != null && history.getContract().isActive()) {
-                Contract contract = history.getContract();
-                contract.setActive(false);
-                contract.setLastModifiedAt(LocalDateTime.now());
-                
-                // 계약 상태 코드를 '계약 만료'로 변경
-                if (expiredStatusCode != null) {
-                    contract.setStatusCode(expiredStatusCode);
-                    log.info("계약 상태 코드 변경: 계약ID={}, 상태='계약 만료'", contract.getId());
+        int contractCount = 0;
+        for (List<Long> chunk : chunk(expiredIds)) {
+            Integer updated = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+
+                // 관련 계약 중 아직 활성인 계약 (상태 변경 전에 조회)
+                List<Long> contractIds = trusteeHistoryRepository.findContractIdsByIdInAndContractActive(chunk, true);
+
+                // 이력 비활성화
+                trusteeHistoryRepository.updateActiveByIdIn(chunk, false, now);
+
+                // 관련 계약 비활성화 + 상태 코드 '계약 만료'
+                if (!contractIds.isEmpty()) {
+                    contractRepository.updateActiveByIdIn(contractIds, false, now);
+                    if (expiredStatusCode != null) {
+                        contractRepository.updateStatusCodeByIdIn(contractIds, expiredStatusCode);
+                    }
+                    eventLogJdbcRepository.insertSystemEvents(contractIds, EVENT_CONTRACT_DEACTIVATED,
+                        "보험 종료일 경과로 계약 만료 처리 (스케줄러)");
                 }
-                
-                contractRepository.save(contract);
-                log.info("계약 비활성화 처리: 계약ID={}, 계약명={}", contract.getId(), contract.getTitle());
-            }
+                return contractIds.size();
+            });
+            contractCount += updated != null ? updated : 0;
+            log.info("수탁자 이력 종료 처리 청크 완료: 이력ID {}~{}, {}건", chunk.get(0), chunk.get(chunk.size() - 1), chunk.size());
         }
 
-        log.info("총 {}개 수탁자 이력 및 관련 계약 종료 처리 완료", expiredHistories.size());
-        return expiredHistories.size();
+        log.info("총 {}개 수탁자 이력 및 관련 계약 {}건 종료 처리 완료", expiredIds.size(), contractCount);
+        return expiredIds.size();
     }
 
     /**
      * 보험 시작일이 된 비활성 수탁자 이력 및 관련 계약 활성화
      */
     private int activateNewContracts(LocalDate today) {
-        // 비활성 상태이며 보험 시작일이 오늘인 수탁자 이력 조회
-        List<CompanyTrusteeHistory> newHistories = trusteeHistoryRepository.findByIsActiveFalseAndInsuranceStartDate(today);
-        
-        if (newHistories.isEmpty()) {
+        // 비활성 상태이며 보험 시작일이 오늘인 수탁자 이력 ID 조회
+        List<Long> newIds = trusteeHistoryRepository.findStartingInactiveIds(today);
+
+        if (newIds.isEmpty()) {
             log.info("활성화할 계약이 없습니다: {}", today);
             return 0;
         }
 
-        for (CompanyTrusteeHistory history : newHistories) {
-            Company company = history.getCompany();
-            
-            log.info("수탁자 이력 활성화 처리: 회사={}, 수탁자={}, 보험시작일={}, 이력ID={}",
-                    company.getStoreName(),
-                    history.getTrustee(),
-                    history.getInsuranceStartDate(),
-                    history.getId());
-
-            // 1. 먼저 기존 활성화된 이력이 있으면 비활성화
-            trusteeHistoryRepository.findByCompanyAndIsActiveTrue(company)
-                .ifPresent(activeHistory -> {
-                    activeHistory.setActive(false);
-                    trusteeHistoryRepository.save(activeHistory);
-                    log.info("기존 활성 이력 비활성화: 회사={}, 수탁자={}, 이력ID={}", 
-                        company.getStoreName(), activeHistory.getTrustee(), activeHistory.getId());
-                });
-
-            // 2. 새 이력 활성화
-            history.setActive(true);
-            
-            // 3. Company 테이블에 수탁자 정보 업데이트
-            history.applyToCompany(company);
-            companyRepository.save(company);
-            log.info("회사 정보 업데이트 완료: 회사ID={}, 수탁자={}", company.getId(), history.getTrustee());
-            
-            // 관련 계약 활성화 처리 (추가)
-            if (history.getContract() != null && !history.getContract().isActive()) {
-                Contract contract = history.getContract();
-                contract.setActive(true);
-                contract.setLastModifiedAt(LocalDateTime.now());
-                contractRepository.save(contract);
-                log.info("계약 활성화 처리: 계약ID={}, 계약명={}", contract.getId(), contract.getTitle());
-            }
-            
-            // 4. 이력 저장
-            trusteeHistoryRepository.save(history);
+        int contractCount = 0;
+        for (List<Long> chunk : chunk(newIds)) {
+            Integer updated = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+
+                // 0. 같은 회사에 같은 날 시작하는 이력이 여럿이면 최신(가장 큰 ID) 이력만 활성화
+                //    (청크 순서도 ID 순이므로 다음 청크의 이력이 있으면 그 이력이 이 청크의 이력을 대체함)
+                List<Long> latestIds = trusteeHistoryRepository.findLatestIdPerCompanyByIdIn(chunk);
+                if (latestIds.size() < chunk.size()) {
+                    log.warn("같은 회사에 같은 날 시작하는 수탁자 이력이 있어 최신 이력만 활성화: 대상 {}건 중 {}건",
+                        chunk.size(), latestIds.size());
+                }
+
+                // 1. 같은 회사의 기존 활성 이력 비활성화
+                List<Long> companyIds = trusteeHistoryRepository.findCompanyIdsByIdIn(latestIds);
+                int previousCount = trusteeHistoryRepository.deactivateActiveByCompanyIdIn(companyIds, latestIds, now);
+
+                // 2. 새 이력 활성화
+                trusteeHistoryRepository.updateActiveByIdIn(latestIds, true, now);
+
+                // 3. Company 테이블에 수탁자 정보 반영 (회사당 이력 하나)
+                int companyCount = trusteeHistoryRepository.applyHistoriesToCompanies(latestIds, now);
+                // 암호화 필드가 일괄 변경되었으므로 블라인드 인덱스 재계산
+                blindIndexService.reindexCompanies(companyIds);
+
+                // 4. 관련 계약 활성화
+                List<Long> contractIds = trusteeHistoryRepository.findContractIdsByIdInAndContractActive(latestIds, false);
+                if (!contractIds.isEmpty()) {
+                    contractRepository.updateActiveByIdIn(contractIds, true, now);
+                    eventLogJdbcRepository.insertSystemEvents(contractIds, EVENT_STATUS_CHANGED,
+                        "보험 시작일 도래로 계약 활성화 (스케줄러)");
+                }
+
+                log.info("수탁자 이력 활성화 청크 완료: 이력ID {}~{}, 기존 이력 비활성화={}, 회사 반영={}, 계약 활성화={}",
+                    chunk.get(0), chunk.get(chunk.size() - 1), previousCount, companyCount, contractIds.size());
+                return contractIds.size();
+            });
+            contractCount += updated != null ? updated : 0;
         }
 
-        log.info("총 {}개 수탁자 이력 및 관련 계약 활성화 처리 완료", newHistories.size());
-        return newHistories.size();
+        log.info("총 {}개 수탁자 이력 및 관련 계약 {}건 활성화 처리 완료", newIds.size(), contractCount);
+        return newIds.size();
     }
 
     /**
-     * 계약 만료 사전 알림 처리 (옵션)
-     * 만료 7일 전 알림 등 필요시 구현
+     * 계약 만료 사전 알림 처리
+     * 보험 만료 7일 전인 수탁자에게 만료 예정 안내 메일을 알림 아웃박스에 일괄 등록
      */
     @Scheduled(cron = "0 10 0 * * *")
     public void notifyExpiringContracts() {
         LocalDate today = dateProvider.getCurrentDate();
         LocalDate expiryDate = today.plusDays(7); // 7일 후 만료 예정
 
-        // 보험 종료일 기준으로 만료 예정 계약 조회로 변경
-        List<CompanyTrusteeHistory> expiringHistories = 
-            trusteeHistoryRepository.findByIsActiveTrueAndInsuranceEndDate(expiryDate);
-        
-        if (!expiringHistories.isEmpty()) {
-            log.info("만료 예정 계약 알림 필요: {}건, 보험만료일={}", expiringHistories.size(), expiryDate);
-            // TODO: 알림 로직 구현 (이메일, SMS 등)
+        // 보험 종료일 기준 만료 예정 대상 (이력ID, 수탁자, 이메일, 보험종료일, 매장명, 계약ID)
+        List<Object[]> targets = trusteeHistoryRepository.findExpiryNoticeTargets(expiryDate);
+        if (targets.isEmpty()) {
+            return;
+        }
+        log.info("만료 예정 계약 알림 필요: {}건, 보험만료일={}", targets.size(), expiryDate);
+
+        List<Long> historyIds = new ArrayList<>(targets.size());
+        for (Object[] row : targets) {
+            historyIds.add((Long) row[0]);
+        }
+        // 재실행 시 중복 발송 방지
+        Set<Long> alreadyQueued = notificationOutboxService.findEnqueuedReferenceIds(
+            NotificationOutboxService.REFERENCE_TRUSTEE_EXPIRY, historyIds);
+
+        List<NotificationOutbox> outboxes = new ArrayList<>();
+        int skipped = 0;
+        for (Object[] row : targets) {
+            Long historyId = (Long) row[0];
+            String trustee = (String) row[1];
+            String encryptedEmail = (String) row[2];
+            LocalDate insuranceEndDate = (LocalDate) row[3];
+            String storeName = (String) row[4];
+
+            if (alreadyQueued.contains(historyId)) {
+                continue;
+            }
+            String email = encryptedEmail != null ? encryptionUtil.decrypt(encryptedEmail) : null;
+            if (email == null || email.isBlank()) {
+                skipped++;
+                continue;
+            }
+
+            outboxes.add(notificationOutboxService.buildEmail(
+                email,
+                "[타이어뱅크] " + storeName + " - 계약 만료 예정 안내",
+                emailService.buildContractExpiryNoticeHtml(trustee, storeName, insuranceEndDate.toString()),
+                NotificationOutboxService.REFERENCE_TRUSTEE_EXPIRY,
+                historyId));
+        }
+
+        if (!outboxes.isEmpty()) {
+            notificationOutboxService.enqueueAll(outboxes);
+        }
+        meterRegistry.counter("contract.scheduler.expiry_notice.queued").increment(outboxes.size());
+        log.info("만료 예정 안내 발송 등록: {}건, 이메일 없음으로 건너뜀: {}건", outboxes.size(), skipped);
+    }
+
+    private List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
         }
+        return chunks;
     }
-} 
\ No newline at end of file
+}
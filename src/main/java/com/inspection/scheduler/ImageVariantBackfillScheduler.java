@@ -0,0 +1,99 @@
+package com.inspection.scheduler;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.inspection.as.repository.ServiceRequestImageRepository;
+import com.inspection.as.service.ServiceRequestImageService;
+import com.inspection.facility.repository.FacilityTransactionImageRepository;
+import com.inspection.facility.repository.ImageRepository;
+import com.inspection.facility.service.FacilityImageService;
+import com.inspection.facility.service.FacilityTransactionImageService;
+import com.inspection.service.CompanyImageStorageService;
+import com.inspection.service.ImageVariantService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 파생본 백필 스케줄러
+ * 파이프라인 도입 이전에 업로드되었거나 작업 큐 초과/오류로 파생본이 없는 이미지의
+ * 썸네일/중간 크기 파생본을 매일 새벽에 생성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantBackfillScheduler {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final ImageVariantService imageVariantService;
+    private final ImageRepository imageRepository;
+    private final ServiceRequestImageRepository serviceRequestImageRepository;
+    private final FacilityTransactionImageRepository transactionImageRepository;
+    private final FacilityImageService facilityImageService;
+    private final ServiceRequestImageService serviceRequestImageService;
+    private final FacilityTransactionImageService transactionImageService;
+    private final CompanyImageStorageService companyImageStorageService;
+
+    /**
+     * 매일 새벽 4시 20분 실행
+     */
+    @Scheduled(cron = "0 20 4 * * *")
+    public void backfillVariants() {
+        long startTime = System.currentTimeMillis();
+
+        int facility = backfill("시설물", imageRepository::findVariantPendingAfter,
+                facilityImageService::resolveImageFile, imageRepository::markVariantsReady);
+        int serviceRequest = backfill("AS 접수", serviceRequestImageRepository::findVariantPendingAfter,
+                serviceRequestImageService::resolveImageFile, serviceRequestImageRepository::markVariantsReady);
+        int transaction = backfill("시설물 트랜잭션", transactionImageRepository::findVariantPendingAfter,
+                transactionImageService::resolveImageFile, transactionImageRepository::markVariantsReady);
+        int company = companyImageStorageService.backfillVariants();
+
+        log.info("이미지 파생본 백필 완료: 시설물={}, AS={}, 트랜잭션={}, 회사={}, {}ms",
+                facility, serviceRequest, transaction, company, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 이미지 ID 순으로 파생본이 없는 이미지를 페이지 단위로 처리
+     * 이미지로 읽을 수 없는 파일은 건너뛰고 다음 ID부터 계속합니다.
+     */
+    private int backfill(String label,
+                         BiFunction<Long, Pageable, List<Object[]>> pendingFinder,
+                         Function<String, Path> fileResolver,
+                         BiFunction<Long, String, Integer> readyMarker) {
+        long lastId = 0L;
+        int generated = 0;
+        int failed = 0;
+        while (true) {
+            List<Object[]> rows = pendingFinder.apply(lastId, PageRequest.of(0, PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                Long imageId = (Long) row[0];
+                String imageUrl = (String) row[1];
+                lastId = imageId;
+
+                if (imageVariantService.generateVariants(fileResolver.apply(imageUrl))) {
+                    readyMarker.apply(imageId, imageUrl);
+                    generated++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+        if (generated > 0 || failed > 0) {
+            log.info("{} 이미지 파생본 백필: 생성 {}건, 실패 {}건", label, generated, failed);
+        }
+        return generated;
+    }
+}
@@ -144,6 +144,17 @@ public class JwtTokenProvider {
      * @throws JwtException 토큰이 유효하지 않을 경우
      */
     public Long getParticipantIdFromToken(String token) {
+        return Long.parseLong(parseParticipantToken(token).getSubject());
+    }
+    
+    /**
+     * 참여자 토큰을 한 번만 파싱하여 서명, 만료, 토큰 타입을 검증하고 클레임을 반환합니다.
+     * 
+     * @param token 검증할 토큰
+     * @return 클레임 (subject: 참여자 ID)
+     * @throws JwtException 토큰이 유효하지 않거나 참여자 토큰이 아닐 경우
+     */
+    public Claims parseParticipantToken(String token) {
         Claims claims = Jwts.parserBuilder()
                 .setSigningKey(Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8)))
                 .build()
@@ -155,7 +166,7 @@ public class JwtTokenProvider {
             throw new JwtException("유효하지 않은 토큰 타입입니다. 참여자 토큰이 아닙니다.");
         }
         
-        return Long.parseLong(claims.getSubject());
+        return claims;
     }
     
     /**
@@ -0,0 +1,289 @@
+package com.inspection.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.entity.Company;
+import com.inspection.entity.ContractParticipant;
+import com.inspection.repository.BlindIndexJdbcRepository;
+import com.inspection.util.BlindIndexUtil;
+import com.inspection.util.EncryptionUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블라인드 인덱스 서비스
+ * 회사(사업자번호, 휴대폰번호, 매장 전화번호, 이메일)와 계약 참여자(전화번호, 이메일)의 암호화 필드에 대해
+ * 완전 일치 검색용 인덱스 컬럼과 회사 숫자 필드의 부분 검색 토큰을 저장 시점에 함께 갱신합니다.
+ * 기존 데이터는 백필 작업이 ID 순으로 나누어 읽어 채우며, 매일 새벽 누락분을 다시 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlindIndexService {
+
+    // 부분 검색 토큰 후보를 한 번에 읽어 복호화로 재확인하는 건수
+    public static final int TOKEN_CANDIDATE_PAGE_SIZE = 1000;
+
+    // 부분 검색으로 반환하는 최대 회사 수 (재확인을 통과한 건 기준)
+    public static final int MAX_TOKEN_MATCHES = 1000;
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final BlindIndexUtil blindIndexUtil;
+    private final EncryptionUtil encryptionUtil;
+    private final BlindIndexJdbcRepository blindIndexJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean backfillRunning = new AtomicBoolean(false);
+
+    /**
+     * 회사 엔티티의 암호화 필드로 완전 일치 인덱스 컬럼 설정 (저장 전 호출)
+     */
+    public void applyToCompany(Company company) {
+        company.setBusinessNumberBidx(
+                blindIndexUtil.exact(BlindIndexUtil.DOMAIN_BUSINESS_NUMBER, decryptOrNull(company.getBusinessNumber())));
+        company.setPhoneNumberBidx(
+                blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, decryptOrNull(company.getPhoneNumber())));
+        company.setStoreTelNumberBidx(
+                blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, decryptOrNull(company.getStoreTelNumber())));
+        company.setEmailBidx(
+                blindIndexUtil.exact(BlindIndexUtil.DOMAIN_EMAIL, decryptOrNull(company.getEmail())));
+    }
+
+    /**
+     * 저장된 회사의 부분 검색 토큰 교체 (저장 후 호출, 호출 측 트랜잭션 안에서 실행)
+     */
+    public void indexCompanyTokens(Company company) {
+        Map<Long, Set<String>> tokens = Map.of(company.getId(), companyTokens(
+                decryptOrNull(company.getBusinessNumber()),
+                decryptOrNull(company.getPhoneNumber()),
+                decryptOrNull(company.getStoreTelNumber())));
+        blindIndexJdbcRepository.replaceTokens(BlindIndexJdbcRepository.OWNER_COMPANY, tokens);
+    }
+
+    /**
+     * 참여자 평문 값으로 완전 일치 인덱스 컬럼 설정 (암호화 직전 평문을 알고 있는 생성 시점에 호출)
+     */
+    public void applyToParticipant(ContractParticipant participant, String email, String phoneNumber) {
+        participant.setEmailBidx(blindIndexUtil.exact(BlindIndexUtil.DOMAIN_EMAIL, email));
+        participant.setPhoneNumberBidx(blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, phoneNumber));
+    }
+
+    /**
+     * 엔티티를 거치지 않고 암호화 컬럼이 바뀐 회사들의 인덱스 재계산 (호출 측 트랜잭션 안에서 실행)
+     * 예: 수탁자 이력의 일괄 반영
+     */
+    public int reindexCompanies(Collection<Long> companyIds) {
+        List<Object[]> rows = blindIndexJdbcRepository.findCompanyRowsByIds(companyIds);
+        indexCompanyRows(rows);
+        return rows.size();
+    }
+
+    /**
+     * 검색어의 완전 일치 인덱스 값 (도메인별, 검색어가 해당 형식이 아니면 null)
+     */
+    public String exactBusinessNumber(String keyword) {
+        return blindIndexUtil.exact(BlindIndexUtil.DOMAIN_BUSINESS_NUMBER, keyword);
+    }
+
+    public String exactPhone(String keyword) {
+        return blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, keyword);
+    }
+
+    public String exactEmail(String keyword) {
+        return keyword != null && keyword.contains("@")
+                ? blindIndexUtil.exact(BlindIndexUtil.DOMAIN_EMAIL, keyword) : null;
+    }
+
+    /**
+     * 숫자 부분 검색 (사업자번호, 휴대폰번호, 매장 전화번호)
+     * 검색어의 숫자가 NGRAM_SIZE 자리 이상이면 토큰 후보를 ID 순으로 나누어 읽고, 복호화하여 실제로 포함하는 회사만 반환합니다.
+     * 후보를 미리 잘라 내지 않으므로 재확인을 통과할 회사가 뒤쪽 후보에 있어도 누락되지 않으며,
+     * 일치 건수가 MAX_TOKEN_MATCHES 에 도달하면 그때 중단합니다.
+     * @return 일치하는 회사 ID (ID 순), 숫자가 부족하면 빈 목록
+     */
+    public List<Long> findCompanyIdsByDigits(String keyword) {
+        String digits = BlindIndexUtil.digitsOnly(keyword);
+        if (digits == null || digits.length() < BlindIndexUtil.NGRAM_SIZE) {
+            return List.of();
+        }
+        // 사업자번호 토큰 조건과 전화번호 토큰 조건은 각각 모든 토큰을 가져야 하므로 따로 조회
+        Set<Long> matched = new TreeSet<>();
+        matchCandidates(blindIndexUtil.ngramTokens(BlindIndexUtil.DOMAIN_BUSINESS_NUMBER, digits), digits, matched);
+        matchCandidates(blindIndexUtil.ngramTokens(BlindIndexUtil.DOMAIN_PHONE, digits), digits, matched);
+        if (matched.size() > MAX_TOKEN_MATCHES) {
+            log.warn("숫자 부분 검색 결과가 {}건을 넘어 앞쪽(ID 순) {}건만 반환합니다.", MAX_TOKEN_MATCHES, MAX_TOKEN_MATCHES);
+            return new ArrayList<>(matched).subList(0, MAX_TOKEN_MATCHES);
+        }
+        return new ArrayList<>(matched);
+    }
+
+    /**
+     * 토큰 후보를 페이지 단위로 읽어 복호화 재확인을 통과한 회사 ID 를 matched 에 추가
+     * (matched 가 MAX_TOKEN_MATCHES 를 넘으면 중단)
+     */
+    private void matchCandidates(Set<String> tokens, String digits, Set<Long> matched) {
+        long afterId = 0L;
+        while (matched.size() <= MAX_TOKEN_MATCHES) {
+            List<Long> candidates = blindIndexJdbcRepository.findOwnerIdsByTokens(
+                    BlindIndexJdbcRepository.OWNER_COMPANY, tokens, afterId, TOKEN_CANDIDATE_PAGE_SIZE);
+            if (candidates.isEmpty()) {
+                return;
+            }
+            for (Object[] row : blindIndexJdbcRepository.findCompanyRowsByIds(candidates)) {
+                if (containsDigits(row[1], digits) || containsDigits(row[2], digits) || containsDigits(row[3], digits)) {
+                    matched.add((Long) row[0]);
+                }
+            }
+            if (candidates.size() < TOKEN_CANDIDATE_PAGE_SIZE) {
+                return;
+            }
+            afterId = candidates.get(candidates.size() - 1);
+        }
+    }
+
+    /**
+     * 블라인드 인덱스 백필 (인덱스가 비어 있는 회사/참여자를 ID 순으로 청크 단위 처리)
+     * 매일 새벽 3시 40분 실행 (누락분 보정)
+     * @return 회사/참여자 처리 건수 (이미 실행 중이면 0)
+     */
+    @Scheduled(cron = "0 40 3 * * *")
+    public Map<String, Object> backfill() {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            log.info("블라인드 인덱스 백필이 이미 실행 중입니다.");
+            return Map.of("companyCount", 0, "participantCount", 0);
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            int companyCount = backfillCompanies();
+            int participantCount = backfillParticipants();
+            log.info("블라인드 인덱스 백필 완료: 회사 {}건, 참여자 {}건, {}ms",
+                    companyCount, participantCount, System.currentTimeMillis() - startTime);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("companyCount", companyCount);
+            result.put("participantCount", participantCount);
+            return result;
+        } finally {
+            backfillRunning.set(false);
+        }
+    }
+
+    /**
+     * 최초 배포 시 기존 데이터 백필 (기동을 막지 않도록 비동기 실행)
+     */
+    @Async("queryTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            backfill();
+        } catch (DataAccessException e) {
+            log.warn("블라인드 인덱스 초기 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    private int backfillCompanies() {
+        int total = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = blindIndexJdbcRepository.findCompanyRows(afterId, BACKFILL_CHUNK_SIZE, true);
+            if (rows.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> indexCompanyRows(rows));
+            total += rows.size();
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return total;
+    }
+
+    private int backfillParticipants() {
+        int total = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = blindIndexJdbcRepository.findParticipantRows(afterId, BACKFILL_CHUNK_SIZE, true);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                updates.add(new Object[] {
+                        row[0],
+                        blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, decryptOrNull((String) row[1])),
+                        blindIndexUtil.exact(BlindIndexUtil.DOMAIN_EMAIL, decryptOrNull((String) row[2])) });
+            }
+            transactionTemplate.executeWithoutResult(status -> blindIndexJdbcRepository.updateParticipantIndexes(updates));
+            total += rows.size();
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return total;
+    }
+
+    /**
+     * @param rows [id, business_number, phone_number, store_tel_number, email] (암호문)
+     */
+    private void indexCompanyRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        Map<Long, Set<String>> tokens = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            String businessNumber = decryptOrNull((String) row[1]);
+            String phoneNumber = decryptOrNull((String) row[2]);
+            String storeTelNumber = decryptOrNull((String) row[3]);
+            String email = decryptOrNull((String) row[4]);
+            updates.add(new Object[] {
+                    id,
+                    blindIndexUtil.exact(BlindIndexUtil.DOMAIN_BUSINESS_NUMBER, businessNumber),
+                    blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, phoneNumber),
+                    blindIndexUtil.exact(BlindIndexUtil.DOMAIN_PHONE, storeTelNumber),
+                    blindIndexUtil.exact(BlindIndexUtil.DOMAIN_EMAIL, email) });
+            tokens.put(id, companyTokens(businessNumber, phoneNumber, storeTelNumber));
+        }
+        blindIndexJdbcRepository.updateCompanyIndexes(updates);
+        blindIndexJdbcRepository.replaceTokens(BlindIndexJdbcRepository.OWNER_COMPANY, tokens);
+    }
+
+    private Set<String> companyTokens(String businessNumber, String phoneNumber, String storeTelNumber) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokens.addAll(blindIndexUtil.ngramTokens(BlindIndexUtil.DOMAIN_BUSINESS_NUMBER, businessNumber));
+        tokens.addAll(blindIndexUtil.ngramTokens(BlindIndexUtil.DOMAIN_PHONE, phoneNumber));
+        tokens.addAll(blindIndexUtil.ngramTokens(BlindIndexUtil.DOMAIN_PHONE, storeTelNumber));
+        return tokens;
+    }
+
+    private boolean containsDigits(Object encrypted, String digits) {
+        String value = BlindIndexUtil.digitsOnly(decryptOrNull((String) encrypted));
+        return value != null && value.contains(digits);
+    }
+
+    // 암호화 이전 데이터 등 복호화할 수 없는 값은 인덱스를 만들지 않음
+    private String decryptOrNull(String encrypted) {
+        if (encrypted == null || encrypted.isEmpty()) {
+            return null;
+        }
+        try {
+            return encryptionUtil.decrypt(encrypted);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -6,7 +6,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -14,12 +17,18 @@ import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.inspection.enums.ImageVariant;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class CompanyImageStorageService {
     
+    private final ImageVariantService imageVariantService;
+    
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
     
@@ -52,6 +61,9 @@ public class CompanyImageStorageService {
             
             log.info("회사 이미지 파일 저장 완료: {}", targetPath);
             
+            // 썸네일/중간 크기 파생본은 비동기 생성 (생성 전에는 원본으로 응답)
+            imageVariantService.generateAfterCommit(targetPath, null);
+            
             // 상대 경로 반환 (DB에 저장) - company/fileName 형식
             return subDir + "/" + fileName;
         } catch (IOException ex) {
@@ -70,6 +82,7 @@ public class CompanyImageStorageService {
             // 실제 파일 경로 (uploads/company-images/company/xxx.jpg)
             Path targetPath = Paths.get(uploadDir, IMAGE_SUBDIR, filePath).toAbsolutePath().normalize();
             Files.deleteIfExists(targetPath);
+            imageVariantService.deleteVariants(targetPath);
             log.info("회사 이미지 파일 삭제 완료: {}", targetPath);
         } catch (IOException ex) {
             log.error("회사 이미지 파일 삭제 실패: {}", ex.getMessage());
@@ -83,9 +96,21 @@ public class CompanyImageStorageService {
      * @return 이미지 파일 Resource
      */
     public Resource loadImageAsResource(String fileName) {
+        return loadImageAsResource(fileName, null);
+    }
+    
+    /**
+     * 이미지 파일의 파생본(썸네일/중간 크기)을 Resource로 로드합니다.
+     * 파생본이 아직 생성되지 않았으면 원본을 반환합니다.
+     * 
+     * @param fileName 파일명 (예: company/xxx.jpg)
+     * @param variant 파생본 종류 (null 이면 원본)
+     * @return 이미지 파일 Resource
+     */
+    public Resource loadImageAsResource(String fileName, ImageVariant variant) {
         try {
             // 실제 파일 경로 (uploads/company-images/fileName)
-            Path filePath = Paths.get(uploadDir, IMAGE_SUBDIR, fileName).normalize();
+            Path filePath = imageVariantService.resolve(Paths.get(uploadDir, IMAGE_SUBDIR, fileName).normalize(), variant);
             log.info("이미지 파일 로드 시도: {}", filePath);
             
             Resource resource = new UrlResource(filePath.toUri());
@@ -102,4 +127,31 @@ public class CompanyImageStorageService {
             throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName, e);
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 파생본이 없는 기존 회사 이미지의 파생본 생성 (백필)
+     * @return 생성한 이미지 수
+     */
+    public int backfillVariants() {
+        Path root = Paths.get(uploadDir, IMAGE_SUBDIR).toAbsolutePath().normalize();
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        int generated = 0;
+        try (Stream<Path> files = Files.walk(root)) {
+            List<Path> originals = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !ImageVariant.isVariantFileName(path.getFileName().toString()))
+                    .filter(path -> !imageVariantService.hasVariants(path))
+                    .collect(Collectors.toList());
+            for (Path original : originals) {
+                if (imageVariantService.generateVariants(original)) {
+                    generated++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("회사 이미지 파생본 백필 중 오류: {}", e.getMessage());
+        }
+        return generated;
+    }
+}
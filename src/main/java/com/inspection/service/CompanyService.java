@@ -1,5 +1,6 @@
 package com.inspection.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Map;
@@ -50,6 +51,7 @@ public class CompanyService {
     private final CompanyImageStorageService companyImageStorageService;
     private final UserRepository userRepository;
     private final EncryptionUtil encryptionUtil;
+    private final BlindIndexService blindIndexService;
     private final CompanyTrusteeHistoryRepository trusteeHistoryRepository;
     private final ObjectMapper objectMapper;
     private final ContractService contractService;
@@ -100,8 +102,10 @@ public class CompanyService {
         
         // 민감한 개인정보 암호화
         encryptCompanySensitiveData(company);
+        blindIndexService.applyToCompany(company);
         
         Company savedCompany = companyRepository.save(company);
+        blindIndexService.indexCompanyTokens(savedCompany);
         
         // CompanyTrusteeHistory 생성 및 저장
         CompanyTrusteeHistory trusteeHistory = new CompanyTrusteeHistory();
@@ -328,10 +332,11 @@ public class CompanyService {
      */
     @Transactional(readOnly = true)
     public List<CompanyDTO> getAllCompanies() {
-        return companyRepository.findAll().stream()
+        List<CompanyDTO> companyDTOs = companyRepository.findAll().stream()
             .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe)
             .collect(Collectors.toList());
+        decryptCompanyDTOsSensitiveData(companyDTOs);
+        return companyDTOs;
     }
     
     /**
@@ -339,10 +344,11 @@ public class CompanyService {
      */
     @Transactional(readOnly = true)
     public List<CompanyDTO> getActiveCompanies() {
-        return companyRepository.findByActiveTrue().stream()
+        List<CompanyDTO> companyDTOs = companyRepository.findByActiveTrue().stream()
             .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe)
             .collect(Collectors.toList());
+        decryptCompanyDTOsSensitiveData(companyDTOs);
+        return companyDTOs;
     }
     
     /**
@@ -441,6 +447,10 @@ public class CompanyService {
             // 기존 등록자 정보 복원 (수정 시에는 등록자 정보를 변경하지 않음)
             company.setCreatedBy(originalCreatedBy);
             
+            // 암호화 필드 검색용 블라인드 인덱스 갱신
+            blindIndexService.applyToCompany(company);
+            blindIndexService.indexCompanyTokens(company);
+            
             Company updatedCompany = companyRepository.save(company);
             log.info("회사 정보 수정 완료: {}", updatedCompany.getStoreName());
             
@@ -571,10 +581,11 @@ public class CompanyService {
      */
     @Transactional(readOnly = true)
     public List<CompanyDTO> searchCompaniesByName(String storeName) {
-        return companyRepository.findByStoreNameContaining(storeName).stream()
+        List<CompanyDTO> companyDTOs = companyRepository.findByStoreNameContaining(storeName).stream()
             .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe)
             .collect(Collectors.toList());
+        decryptCompanyDTOsSensitiveData(companyDTOs);
+        return companyDTOs;
     }
     
     /**
@@ -793,14 +804,20 @@ public class CompanyService {
         // 사업자번호 중복 체크
         if (StringUtils.hasText(request.getBusinessNumber())) {
             try {
-                // 암호화된 사업자번호로 조회
-                String encryptedBusinessNumber = encryptionUtil.encrypt(request.getBusinessNumber());
-                companyRepository.findByBusinessNumber(encryptedBusinessNumber)
-                        .ifPresent(foundCompany -> {
-                            if (isCreating || !foundCompany.getId().equals(existingCompanyId)) {
-                                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 사용 중인 사업자번호입니다: " + request.getBusinessNumber());
-                            }
-                        });
+                // 블라인드 인덱스로 조회 (형식 차이 무시), 백필 전 데이터는 암호문 일치로 한 번 더 확인
+                String businessNumberBidx = blindIndexService.exactBusinessNumber(request.getBusinessNumber());
+                List<Company> foundCompanies = businessNumberBidx != null
+                        ? companyRepository.findByBusinessNumberBidx(businessNumberBidx) : List.of();
+                if (foundCompanies.isEmpty()) {
+                    String encryptedBusinessNumber = encryptionUtil.encrypt(request.getBusinessNumber());
+                    foundCompanies = companyRepository.findByBusinessNumber(encryptedBusinessNumber)
+                            .map(List::of).orElse(List.of());
+                }
+                for (Company foundCompany : foundCompanies) {
+                    if (isCreating || !foundCompany.getId().equals(existingCompanyId)) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미 사용 중인 사업자번호입니다: " + request.getBusinessNumber());
+                    }
+                }
             } catch (Exception e) {
                 if (e instanceof ResponseStatusException) {
                     throw e;
@@ -923,9 +940,10 @@ public class CompanyService {
      */
     @Transactional(readOnly = true)
     public Page<CompanyDTO> getAllCompaniesWithPaging(Pageable pageable) {
-        return companyRepository.findAll(pageable)
-            .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe);
+        Page<CompanyDTO> companyPage = companyRepository.findAll(pageable)
+            .map(CompanyDTO::fromEntity);
+        decryptCompanyDTOsSensitiveData(companyPage.getContent());
+        return companyPage;
     }
     
     /**
@@ -933,9 +951,10 @@ public class CompanyService {
      */
     @Transactional(readOnly = true)
     public Page<CompanyDTO> getActiveCompaniesWithPaging(Pageable pageable) {
-        return companyRepository.findByActiveTrue(pageable)
-            .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe);
+        Page<CompanyDTO> companyPage = companyRepository.findByActiveTrue(pageable)
+            .map(CompanyDTO::fromEntity);
+        decryptCompanyDTOsSensitiveData(companyPage.getContent());
+        return companyPage;
     }
     
     /**
@@ -943,20 +962,30 @@ public class CompanyService {
      */
     @Transactional(readOnly = true)
     public Page<CompanyDTO> searchCompaniesByNameWithPaging(String storeName, Pageable pageable) {
-        return companyRepository.findByStoreNameContaining(storeName, pageable)
-            .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe);
+        Page<CompanyDTO> companyPage = companyRepository.findByStoreNameContaining(storeName, pageable)
+            .map(CompanyDTO::fromEntity);
+        decryptCompanyDTOsSensitiveData(companyPage.getContent());
+        return companyPage;
     }
     
     /**
      * 키워드로 회사를 검색하고 페이징 처리하여 조회합니다.
+     * 매장명/매장코드는 부분 일치, 사업자번호/전화번호/이메일은 블라인드 인덱스 완전 일치,
+     * 숫자 4자리 이상은 사업자번호/전화번호 부분 검색 토큰으로 찾습니다.
      */
     @Transactional(readOnly = true)
     public Page<CompanyDTO> searchCompaniesByKeywordWithPaging(String keyword, Pageable pageable) {
-        return companyRepository.findByStoreNameContainingOrBusinessNumberContainingOrStoreCodeContaining(
-                keyword, keyword, keyword, pageable)
-            .map(CompanyDTO::fromEntity)
-            .map(this::decryptCompanyDTOSensitiveDataSafe);
+        List<Long> tokenMatchedIds = blindIndexService.findCompanyIdsByDigits(keyword);
+        String businessNumberBidx = blindIndexService.exactBusinessNumber(keyword);
+        String phoneBidx = blindIndexService.exactPhone(keyword);
+        String emailBidx = blindIndexService.exactEmail(keyword);
+        Page<Company> companies = tokenMatchedIds.isEmpty()
+            ? companyRepository.searchByKeywordWithExactBlindIndex(keyword, businessNumberBidx, phoneBidx, emailBidx, pageable)
+            : companyRepository.searchByKeywordWithBlindIndex(keyword, businessNumberBidx, phoneBidx, emailBidx,
+                tokenMatchedIds, pageable);
+        Page<CompanyDTO> companyPage = companies.map(CompanyDTO::fromEntity);
+        decryptCompanyDTOsSensitiveData(companyPage.getContent());
+        return companyPage;
     }
 
     /**
@@ -1025,6 +1054,48 @@ public class CompanyService {
         }
     }
 
+    /**
+     * 회사 DTO 목록의 민감한 정보를 한 번에 복호화합니다.
+     * 모든 행의 암호화 필드를 모아 EncryptionUtil.decryptAll 로 처리하며,
+     * 일괄 복호화에 실패하면 건별로 안전하게 복호화합니다.
+     */
+    private void decryptCompanyDTOsSensitiveData(List<CompanyDTO> companyDTOs) {
+        List<String> encryptedValues = new ArrayList<>(companyDTOs.size() * 5);
+        for (CompanyDTO dto : companyDTOs) {
+            encryptedValues.add(emptyToNull(dto.getPhoneNumber()));
+            encryptedValues.add(emptyToNull(dto.getEmail()));
+            encryptedValues.add(emptyToNull(dto.getStoreTelNumber()));
+            encryptedValues.add(emptyToNull(dto.getAddress()));
+            encryptedValues.add(emptyToNull(dto.getBusinessNumber()));
+        }
+        
+        List<String> decryptedValues;
+        try {
+            decryptedValues = encryptionUtil.decryptAll(encryptedValues);
+        } catch (Exception e) {
+            log.warn("회사 정보 일괄 복호화 실패, 건별 복호화로 처리: {}", e.getMessage());
+            companyDTOs.forEach(this::decryptCompanyDTOSensitiveDataSafe);
+            return;
+        }
+        
+        int index = 0;
+        for (CompanyDTO dto : companyDTOs) {
+            dto.setPhoneNumber(valueOrOriginal(decryptedValues.get(index++), dto.getPhoneNumber()));
+            dto.setEmail(valueOrOriginal(decryptedValues.get(index++), dto.getEmail()));
+            dto.setStoreTelNumber(valueOrOriginal(decryptedValues.get(index++), dto.getStoreTelNumber()));
+            dto.setAddress(valueOrOriginal(decryptedValues.get(index++), dto.getAddress()));
+            dto.setBusinessNumber(valueOrOriginal(decryptedValues.get(index++), dto.getBusinessNumber()));
+        }
+    }
+    
+    private String emptyToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+    
+    private String valueOrOriginal(String decrypted, String original) {
+        return decrypted != null ? decrypted : original;
+    }
+
     /**
      * 회사 DTO의 민감한 정보를 안전하게 복호화합니다.
      * 복호화 중 오류가 발생하면 원본 값을 유지합니다.
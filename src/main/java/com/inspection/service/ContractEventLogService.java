@@ -1,16 +1,24 @@
 package com.inspection.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.inspection.dto.ContractEventLogDTO;
+import com.inspection.entity.Code;
 import com.inspection.entity.ContractEventLog;
+import com.inspection.repository.ContractEventDailyCountRepository;
 import com.inspection.repository.ContractEventLogRepository;
 import com.inspection.repository.CodeRepository;
 
@@ -20,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 계약 이벤트 로그 서비스
  * 계약 및 참여자 관련 작업 이력을 조회하고 관리하는 서비스
+ * 보관(LogPartitionService)되어 테이블에서 삭제된 기간은 includeArchived 검색 시 보관 파일에서 함께 읽습니다.
  */
 @Slf4j
 @Service
@@ -27,8 +36,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ContractEventLogService {
 
+    // 보관 파일에서 읽는 최대 건수 (파일 전체를 읽어 필터링하므로 기간을 좁혀 조회)
+    public static final int MAX_ARCHIVED_RESULTS = 5000;
+
     private final ContractEventLogRepository eventLogRepository;
+    private final ContractEventDailyCountRepository dailyCountRepository;
     private final CodeRepository codeRepository;
+    private final LogPartitionService logPartitionService;
     
     /**
      * 특정 계약에 대한 이벤트 로그 조회
@@ -92,21 +106,106 @@ public class ContractEventLogService {
     }
     
     /**
-     * 이벤트 타입별 통계 조회
+     * 복합 조건 이벤트 로그 검색 (보관 기간 포함 여부 선택)
+     * 보관 파일의 행은 계약/참여자/사용자 이름 없이 ID 와 코드명만 채워 반환합니다.
+     * @param includeArchived true 면 기간과 겹치는 보관 파일도 읽어 최신순으로 합침
      */
-    public Map<String, Long> getEventTypeStatistics() {
-        List<ContractEventLog> allLogs = eventLogRepository.findAll();
+    public List<ContractEventLogDTO> searchEventLogs(
+            Long contractId,
+            Long participantId,
+            String eventTypeCodeId,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            boolean includeArchived) {
         
-        Map<String, Long> statistics = new HashMap<>();
+        List<ContractEventLogDTO> logs = searchEventLogs(
+                contractId, participantId, eventTypeCodeId, startDateTime, endDateTime);
+        if (!includeArchived) {
+            return logs;
+        }
         
-        // 이벤트 타입별로 그룹화하여 개수 집계
-        allLogs.forEach(log -> {
-            if (log.getEventTypeCode() != null) {
-                String eventTypeName = log.getEventTypeCode().getCodeName();
-                statistics.put(eventTypeName, statistics.getOrDefault(eventTypeName, 0L) + 1);
-            }
-        });
+        List<Map<String, Object>> archivedRows = logPartitionService.readArchived(
+                LogPartitionService.CONTRACT_EVENT_LOG, startDateTime, endDateTime,
+                row -> matchesId(row.get("contract_id"), contractId)
+                        && matchesId(row.get("participant_id"), participantId)
+                        && (eventTypeCodeId == null || eventTypeCodeId.equals(row.get("event_type_code_id")))
+                        && isWithin(toDateTime(row.get("event_time")), startDateTime, endDateTime),
+                MAX_ARCHIVED_RESULTS);
+        if (archivedRows.isEmpty()) {
+            return logs;
+        }
+        if (archivedRows.size() >= MAX_ARCHIVED_RESULTS) {
+            log.warn("보관 이벤트 로그 조회 건수 제한({}) 도달, 기간을 좁혀 조회해야 합니다.", MAX_ARCHIVED_RESULTS);
+        }
         
+        // 보관 행의 이벤트/액터 타입 코드명은 한 번에 조회
+        Set<String> codeIds = new HashSet<>();
+        for (Map<String, Object> row : archivedRows) {
+            codeIds.add((String) row.get("event_type_code_id"));
+            codeIds.add((String) row.get("actor_type_code_id"));
+        }
+        codeIds.remove(null);
+        Map<String, String> codeNames = codeRepository.findAllById(codeIds).stream()
+                .collect(Collectors.toMap(Code::getCodeId, Code::getCodeName));
+        
+        List<ContractEventLogDTO> merged = new ArrayList<>(logs);
+        for (Map<String, Object> row : archivedRows) {
+            merged.add(fromArchivedRow(row, codeNames::get));
+        }
+        merged.sort(Comparator.comparing(ContractEventLogDTO::getEventTime,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return merged;
+    }
+    
+    private static ContractEventLogDTO fromArchivedRow(Map<String, Object> row, Function<String, String> codeName) {
+        String eventTypeCodeId = (String) row.get("event_type_code_id");
+        String actorTypeCodeId = (String) row.get("actor_type_code_id");
+        String actorId = (String) row.get("actor_id");
+        return ContractEventLogDTO.builder()
+                .id(toLong(row.get("id")))
+                .contractId(toLong(row.get("contract_id")))
+                .participantId(toLong(row.get("participant_id")))
+                .eventTypeCodeId(eventTypeCodeId)
+                .eventTypeName(eventTypeCodeId != null ? codeName.apply(eventTypeCodeId) : null)
+                .eventTime(toDateTime(row.get("event_time")))
+                .actorId(actorId)
+                .actorName(actorId)
+                .actorTypeCodeId(actorTypeCodeId)
+                .actorTypeName(actorTypeCodeId != null ? codeName.apply(actorTypeCodeId) : null)
+                .additionalData((String) row.get("additional_data"))
+                .ipAddress((String) row.get("ip_address"))
+                .documentId((String) row.get("document_id"))
+                .description((String) row.get("description"))
+                .build();
+    }
+    
+    private static boolean matchesId(Object value, Long expected) {
+        return expected == null || Objects.equals(toLong(value), expected);
+    }
+    
+    private static boolean isWithin(LocalDateTime time, LocalDateTime start, LocalDateTime end) {
+        return time != null && (start == null || !time.isBefore(start)) && (end == null || !time.isAfter(end));
+    }
+    
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+    
+    // 보관 파일의 날짜/시간은 ISO 문자열
+    private static LocalDateTime toDateTime(Object value) {
+        return value instanceof String text ? LocalDateTime.parse(text) : null;
+    }
+    
+    /**
+     * 이벤트 타입별 통계 조회 (원본 로그 대신 일별 집계 합계, 오늘 건수는 집계 갱신 주기만큼 늦게 반영됨)
+     * @return 이벤트 타입명별 개수
+     */
+    public Map<String, Long> getEventTypeStatistics() {
+        Map<String, Long> statistics = new HashMap<>();
+        // [eventTypeCodeId, codeName, count] - 같은 이름의 코드가 여럿이면 합산
+        for (Object[] row : dailyCountRepository.sumByEventType()) {
+            statistics.merge((String) row[1], (Long) row[2], Long::sum);
+        }
         return statistics;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,202 @@
+package com.inspection.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.dto.ContractEventDailyCountDTO;
+import com.inspection.repository.ContractEventDailyCountRepository;
+import com.inspection.repository.NamedLockJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 계약 이벤트 일별 집계 서비스
+ * 일별 집계(일자, 이벤트 타입, 액터별 건수)로 대시보드 추이를 조회합니다.
+ * 이벤트 저장 시에는 집계를 건드리지 않고(동시 저장이 같은 집계 행을 두고 줄 서지 않도록),
+ * 오늘 집계는 contract-event-stats.refresh-interval-ms 마다 원본 이벤트 로그의 오늘 범위에서 다시 만들며,
+ * 자정 전후 저장 건을 위해 매일 새벽 지난 이틀을 다시 집계합니다.
+ * 재집계는 이름 잠금(REBUILD_LOCK)을 잡은 인스턴스 하나에서만 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContractEventStatsService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    // 최초 생성 시 한 트랜잭션에서 재집계할 기간
+    private static final int REBUILD_CHUNK_DAYS = 31;
+
+    // 인스턴스 간 재집계 이름 잠금
+    private static final String REBUILD_LOCK = "contract_event_daily_count_rebuild";
+
+    private final ContractEventDailyCountRepository dailyCountRepository;
+    private final NamedLockJdbcRepository namedLockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+    private final AtomicBoolean todayRefreshRunning = new AtomicBoolean(false);
+
+    /**
+     * 일자/타입/액터별 이벤트 건수
+     * @param eventTypeCodeId 이벤트 타입, null 이면 전체
+     * @param actorId 액터, null 이면 전체
+     */
+    @Transactional(readOnly = true)
+    public List<ContractEventDailyCountDTO> getDailyCounts(LocalDate from, LocalDate to, String eventTypeCodeId,
+                                                           String actorId) {
+        validateRange(from, to);
+        return dailyCountRepository.findDailyCounts(from, to, eventTypeCodeId, actorId);
+    }
+
+    /**
+     * 기간 내 이벤트 타입별 합계 (일별 집계 기준)
+     * @return 이벤트 타입 ID 별 건수 (타입 ID 순)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getEventTypeTotals(LocalDate from, LocalDate to, String actorId) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (ContractEventDailyCountDTO count : getDailyCounts(from, to, null, actorId)) {
+            totals.merge(count.getEventTypeCodeId(), count.getEventCount(), Long::sum);
+        }
+        return totals;
+    }
+
+    /**
+     * 오늘 집계 재생성 (원본 이벤트 로그의 오늘 범위만 event_time 인덱스로 읽음)
+     * 기본 1분 간격 실행
+     */
+    @Scheduled(fixedDelayString = "${contract-event-stats.refresh-interval-ms:60000}")
+    public void refreshToday() {
+        if (!todayRefreshRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            if (rebuildWithLock(today, today) == null) {
+                log.debug("계약 이벤트 오늘 집계 갱신을 다른 서버에서 실행 중이라 건너뜁니다.");
+            }
+        } catch (DataAccessException e) {
+            log.warn("계약 이벤트 오늘 집계 갱신 실패 (다음 주기에 재시도): {}", e.getMessage());
+        } finally {
+            todayRefreshRunning.set(false);
+        }
+    }
+
+    /**
+     * 전날과 그 전날 재집계
+     * 매일 0시 50분 실행 (자정 전후 저장 건 및 집계 갱신 실패분 보정)
+     */
+    @Scheduled(cron = "0 50 0 * * *")
+    public int reconcileRecentDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Integer count = rebuildWithLock(yesterday.minusDays(1), yesterday);
+        if (count == null) {
+            log.info("계약 이벤트 일별 집계 보정을 다른 서버에서 실행 중이라 건너뜁니다.");
+            return 0;
+        }
+        return count;
+    }
+
+    /**
+     * 기간 재집계 [from, to] (오늘까지)
+     * @return 생성된 집계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (to.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("재집계는 오늘까지만 가능합니다.");
+        }
+        Integer count = rebuildWithLock(from, to);
+        if (count == null) {
+            throw new IllegalStateException("계약 이벤트 일별 집계 재계산이 다른 서버에서 실행 중입니다.");
+        }
+        log.info("계약 이벤트 일별 집계 재계산 완료: {} ~ {}, {}행", from, to, count);
+        return count;
+    }
+
+    /**
+     * 이름 잠금을 잡고 기간 재집계
+     * @return 생성된 집계 행 수, 다른 인스턴스가 재집계 중이면 null
+     */
+    private Integer rebuildWithLock(LocalDate from, LocalDate to) {
+        long startTime = System.currentTimeMillis();
+        AtomicInteger count = new AtomicInteger();
+        boolean ran = namedLockRepository.runWithNamedLock(REBUILD_LOCK, () -> {
+            Integer rebuilt = transactionTemplate.execute(status -> dailyCountRepository.rebuild(from, to));
+            count.set(rebuilt != null ? rebuilt : 0);
+        });
+        if (!ran) {
+            return null;
+        }
+        log.debug("계약 이벤트 일별 집계 재계산 완료: {} ~ {}, {}행, {}ms",
+                from, to, count.get(), System.currentTimeMillis() - startTime);
+        return count.get();
+    }
+
+    /**
+     * 일별 집계가 비어 있으면(최초 배포) 전날까지의 이력을 기간별로 나누어 생성 (기동을 막지 않도록 비동기 실행)
+     */
+    @Async("queryTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now();
+            // 오늘 행은 기동 직후 오늘 집계 갱신으로 생길 수 있으므로 전날까지의 행으로 판단
+            if (dailyCountRepository.countBefore(today) > 0) {
+                return;
+            }
+            LocalDate first = dailyCountRepository.findFirstEventDate();
+            LocalDate yesterday = today.minusDays(1);
+            if (first == null || first.isAfter(yesterday)) {
+                return;
+            }
+            int total = 0;
+            for (LocalDate from = first; !from.isAfter(yesterday); from = from.plusDays(REBUILD_CHUNK_DAYS)) {
+                LocalDate chunkEnd = from.plusDays(REBUILD_CHUNK_DAYS - 1).isAfter(yesterday)
+                        ? yesterday : from.plusDays(REBUILD_CHUNK_DAYS - 1);
+                Integer count = rebuildWithLock(from, chunkEnd);
+                if (count == null) {
+                    log.info("계약 이벤트 일별 집계 최초 생성을 다른 서버에서 실행 중이라 중단합니다.");
+                    return;
+                }
+                total += count;
+            }
+            log.info("계약 이벤트 일별 집계 최초 생성 완료: {} ~ {}, {}행", first, yesterday, total);
+        } catch (DataAccessException e) {
+            log.warn("계약 이벤트 일별 집계 최초 생성 실패: {}", e.getMessage());
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간을 입력해 주세요.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.inspection.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,7 @@ public class ContractLogService {
 
     private final CompanyRepository companyRepository;
     private final ContractRepository contractRepository;
+    private final BlindIndexService blindIndexService;
     
     /**
      * 회사 목록 조회 (간략 정보)
@@ -36,9 +38,17 @@ public class ContractLogService {
         
         List<Company> companies;
         if (keyword != null && !keyword.trim().isEmpty()) {
-            // 키워드 검색 (매장명, 사업자번호, 매장코드 등으로 검색)
-            companies = companyRepository.findByStoreNameContainingOrBusinessNumberContainingOrStoreCodeContaining(
-                    keyword, keyword, keyword);
+            // 키워드 검색 (매장명, 매장코드 부분 일치, 사업자번호/전화번호는 블라인드 인덱스로 검색)
+            List<Long> tokenMatchedIds = blindIndexService.findCompanyIdsByDigits(keyword);
+            String businessNumberBidx = blindIndexService.exactBusinessNumber(keyword);
+            String phoneBidx = blindIndexService.exactPhone(keyword);
+            String emailBidx = blindIndexService.exactEmail(keyword);
+            companies = (tokenMatchedIds.isEmpty()
+                    ? companyRepository.searchByKeywordWithExactBlindIndex(
+                            keyword, businessNumberBidx, phoneBidx, emailBidx, Pageable.unpaged())
+                    : companyRepository.searchByKeywordWithBlindIndex(
+                            keyword, businessNumberBidx, phoneBidx, emailBidx, tokenMatchedIds, Pageable.unpaged()))
+                    .getContent();
         } else {
             // 전체 목록 조회 (활성화된 회사만)
             companies = companyRepository.findByActiveTrue();
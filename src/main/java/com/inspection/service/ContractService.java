@@ -1,20 +1,26 @@
 package com.inspection.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.inspection.dto.ContractListItemDTO;
 import com.inspection.dto.CreateContractRequest;
+import com.inspection.dto.KeysetPageDTO;
 import com.inspection.dto.CreateParticipantRequest;
 import com.inspection.dto.ParticipantDetailDTO;
+import com.inspection.dto.ParticipantDTO;
 import com.inspection.entity.Code;
 import com.inspection.entity.Company;
 import com.inspection.entity.CompanyTrusteeHistory;
@@ -31,6 +37,7 @@ import com.inspection.enums.NotificationType;
 import com.inspection.repository.CodeRepository;
 import com.inspection.repository.CompanyRepository;
 import com.inspection.repository.CompanyTrusteeHistoryRepository;
+import com.inspection.repository.ContractListJdbcRepository;
 import com.inspection.repository.ContractParticipantRepository;
 import com.inspection.repository.ContractPdfFieldRepository;
 import com.inspection.repository.ContractRepository;
@@ -52,12 +59,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ContractService {
     private final ContractRepository contractRepository;
+    private final ContractListJdbcRepository contractListJdbcRepository;
     private final ContractTemplateRepository templateRepository;
     private final ContractParticipantRepository participantRepository;
     private final ContractPdfFieldRepository contractPdfFieldRepository;
     private final CompanyRepository companyRepository;
     private final PdfService pdfService;
     private final EncryptionUtil encryptionUtil;
+    private final BlindIndexService blindIndexService;
     private final CodeRepository codeRepository;
     private final EmailService emailService;
     private final SMSService smsService;
@@ -463,6 +472,7 @@ public class ContractService {
         // 이메일, 전화번호 암호화
         participant.setEmail(encryptionUtil.encrypt(participantRequest.getEmail()));
         participant.setPhoneNumber(encryptionUtil.encrypt(participantRequest.getPhoneNumber()));
+        blindIndexService.applyToParticipant(participant, participantRequest.getEmail(), participantRequest.getPhoneNumber());
         
         participant.setNotifyType(participantRequest.getNotifyType());
         participant.setContract(contract);
@@ -1235,6 +1245,33 @@ public class ContractService {
         return participant;
     }
 
+    /**
+     * 전화번호 또는 이메일로 참여자를 조회합니다 (블라인드 인덱스 완전 일치).
+     * 
+     * @param phoneNumber 전화번호 (하이픈 등 숫자 외 문자 무시)
+     * @param email 이메일 (대소문자 무시)
+     * @return 참여자 목록 (ID 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ParticipantDTO> searchParticipants(String phoneNumber, String email) {
+        String phoneNumberBidx = blindIndexService.exactPhone(phoneNumber);
+        String emailBidx = blindIndexService.exactEmail(email);
+        if (phoneNumberBidx == null && emailBidx == null) {
+            throw new IllegalArgumentException("전화번호 또는 이메일을 입력해주세요.");
+        }
+        
+        Map<Long, ContractParticipant> participants = new TreeMap<>();
+        if (phoneNumberBidx != null) {
+            participantRepository.findByPhoneNumberBidx(phoneNumberBidx).forEach(p -> participants.put(p.getId(), p));
+        }
+        if (emailBidx != null) {
+            participantRepository.findByEmailBidx(emailBidx).forEach(p -> participants.put(p.getId(), p));
+        }
+        return participants.values().stream()
+            .map(participant -> new ParticipantDTO(participant, encryptionUtil))
+            .collect(Collectors.toList());
+    }
+    
     /**
      * 특정 참여자의 재서명 이력을 조회합니다.
      * 
@@ -1293,6 +1330,68 @@ public class ContractService {
         }
     }
 
+    /**
+     * 계약 목록 키셋 페이징 조회 (목록 표시 컬럼만 프로젝션, 최신 등록 순 = ID 역순)
+     * @param status 계약 활성 상태 (all: 전체, active: 활성화, inactive: 만료됨)
+     * @param statusCodeId 계약 상태 코드 (선택)
+     * @param companyId 회사 ID (선택)
+     * @param keyword 계약명/계약번호/매장명/수탁자 검색어 (선택)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~100)
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<ContractListItemDTO> getContractListPage(String status, String statusCodeId, Long companyId,
+            String keyword, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+
+        Boolean active;
+        switch (status == null ? "active" : status.toLowerCase()) {
+            case "inactive":
+                active = false;
+                break;
+            case "all":
+                active = null;
+                break;
+            case "active":
+            default:
+                active = true;
+                break;
+        }
+
+        // 커서는 이전 페이지 마지막 계약 ID (ID 는 등록 순으로 증가하므로 작성일 역순과 같은 순서)
+        // 이전 형식("작성일시|ID")의 커서도 마지막 ID 부분만 사용
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                cursorId = Long.parseLong(decoded.substring(decoded.lastIndexOf('|') + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ContractListItemDTO> rows = contractListJdbcRepository.findPage(
+            active,
+            statusCodeId != null && !statusCodeId.isBlank() ? statusCodeId : null,
+            companyId,
+            keyword != null && !keyword.isBlank() ? keyword.trim() : null,
+            cursorId,
+            pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ContractListItemDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ContractListItemDTO last = content.get(content.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                String.valueOf(last.id()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return new KeysetPageDTO<>(new ArrayList<>(content), content.size(), hasNext, nextCursor);
+    }
+
     /**
      * 수탁자 정보를 포함한 계약 목록을 조회합니다.
      * 계약과 연결된 CompanyTrusteeHistory의 정보를 함께 반환합니다.
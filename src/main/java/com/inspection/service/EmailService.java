@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.inspection.entity.ContractParticipant;
+import com.inspection.notification.service.NotificationOutboxService;
 
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class EmailService {
     
     private final JavaMailSender emailSender;
     private final ParticipantTokenService participantTokenService;
+    private final NotificationOutboxService notificationOutboxService;
     
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -74,6 +76,58 @@ public class EmailService {
         }
     }
 
+    /**
+     * 서명 요청 이메일 제목 생성
+     */
+    public String buildSignatureRequestSubject(String contractTitle) {
+        return "[타이어뱅크] " + contractTitle + " - 계약서 서명 요청";
+    }
+
+    /**
+     * 서명 요청 이메일 HTML 본문 생성
+     */
+    public String buildSignatureRequestHtml(String name, String contractTitle, String signatureLink) {
+        return "<html><body style='font-family: Arial, sans-serif;'>" +
+            "<div style='max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #ddd;'>" +
+            "<h2 style='color: #333;'>계약서 서명 요청</h2>" +
+            "<p>안녕하세요, <strong>" + name + "</strong>님</p>" +
+            "<p>" + contractTitle + " 계약서의 서명이 요청되었습니다.</p>" +
+            "<p>아래 링크를 클릭하여 서명을 진행해주세요.</p>" +
+            "<p><strong>※ 본 링크는 120시간(5일) 동안 유효합니다.</strong></p>" +
+            "<div style='margin: 30px 0;'>" +
+            "<a href='" + signatureLink + "' style='background-color: #3182F6; color: white; padding: 12px 20px; " +
+            "text-decoration: none; border-radius: 4px; font-weight: bold;'>계약서 서명하기</a>" +
+            "</div>" +
+            "<p>문의사항은 044-850-1078로 연락주시기 바랍니다.</p>" +
+            "<p>감사합니다.<br>타이어뱅크 드림</p>" +
+            getEmailFooter() +
+            "</div></body></html>";
+    }
+
+    /**
+     * 계약(하자보증증권) 만료 예정 안내 메일 HTML 본문 생성
+     */
+    public String buildContractExpiryNoticeHtml(String trustee, String storeName, String insuranceEndDate) {
+        return "<html><body style='font-family: Arial, sans-serif;'>" +
+            "<div style='max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #ddd;'>" +
+            "<h2 style='color: #333;'>계약 만료 예정 안내</h2>" +
+            "<p>안녕하세요, <strong>" + trustee + "</strong>님</p>" +
+            "<p><strong>" + storeName + "</strong> 수탁 계약의 하자보증증권 보험기간이 " +
+            "<strong>" + insuranceEndDate + "</strong>에 종료될 예정입니다.</p>" +
+            "<p>계약 갱신이 필요한 경우 담당자에게 문의해주세요.</p>" +
+            "<p>문의사항은 044-850-1078로 연락주시기 바랍니다.</p>" +
+            "<p>감사합니다.<br>타이어뱅크 드림</p>" +
+            getEmailFooter() +
+            "</div></body></html>";
+    }
+
+    /**
+     * 알림 메일 발송 요청 등록 (알림 아웃박스를 통해 비동기 발송)
+     */
+    private void queueHtmlMessage(String to, String subject, String htmlContent) {
+        notificationOutboxService.enqueueEmail(to, subject, htmlContent, null, null);
+    }
+
     public void sendMessageWithAttachment(
             String to, 
             String subject, 
@@ -129,27 +183,13 @@ public class EmailService {
             String signatureLink = baseUrl + "/contract-sign?token=" + token;
             
             // 3. 이메일 제목
-            String subject = "[타이어뱅크] " + contractTitle + " - 계약서 서명 요청";
+            String subject = buildSignatureRequestSubject(contractTitle);
             
             // 4. HTML 이메일 본문 생성
-            String htmlContent = "<html><body style='font-family: Arial, sans-serif;'>" +
-                "<div style='max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #ddd;'>" +
-                "<h2 style='color: #333;'>계약서 서명 요청</h2>" +
-                "<p>안녕하세요, <strong>" + name + "</strong>님</p>" +
-                "<p>" + contractTitle + " 계약서의 서명이 요청되었습니다.</p>" +
-                "<p>아래 링크를 클릭하여 서명을 진행해주세요.</p>" +
-                "<p><strong>※ 본 링크는 120시간(5일) 동안 유효합니다.</strong></p>" +
-                "<div style='margin: 30px 0;'>" +
-                "<a href='" + signatureLink + "' style='background-color: #3182F6; color: white; padding: 12px 20px; " +
-                "text-decoration: none; border-radius: 4px; font-weight: bold;'>계약서 서명하기</a>" +
-                "</div>" +
-                "<p>문의사항은 044-850-1078로 연락주시기 바랍니다.</p>" +
-                "<p>감사합니다.<br>타이어뱅크 드림</p>" +
-                getEmailFooter() +
-                "</div></body></html>";
+            String htmlContent = buildSignatureRequestHtml(name, contractTitle, signatureLink);
             
             // 5. 이메일 전송
-            sendHtmlMessage(email, subject, htmlContent);
+            queueHtmlMessage(email, subject, htmlContent);
             log.info("서명 요청 이메일 발송 성공 - 참여자ID: {}, 수신자: {}, 계약: {}", participantId, email, contractTitle);
             
             return token;
@@ -197,7 +237,7 @@ public class EmailService {
                 "</div></body></html>";
             
             // 이메일 전송
-            sendHtmlMessage(participant.getEmail(), subject, htmlContent);
+            queueHtmlMessage(participant.getEmail(), subject, htmlContent);
             log.info("재서명 완료 이메일 발송 성공 - 참여자ID: {}, 수신자: {}, 계약: {}", 
                     participant.getId(), participant.getEmail(), contractTitle);
             
@@ -244,7 +284,7 @@ public class EmailService {
                 "</div></body></html>";
             
             // 이메일 전송
-            sendHtmlMessage(participant.getEmail(), subject, htmlContent);
+            queueHtmlMessage(participant.getEmail(), subject, htmlContent);
             log.info("계약 완료 이메일 발송 성공 - 참여자ID: {}, 수신자: {}, 계약: {}", 
                     participant.getId(), participant.getEmail(), contractTitle);
             
@@ -300,7 +340,7 @@ public class EmailService {
                 "</div></body></html>";
             
             // 5. 이메일 전송
-            sendHtmlMessage(email, subject, htmlContent);
+            queueHtmlMessage(email, subject, htmlContent);
             log.info("재서명 요청 이메일 발송 성공 - 참여자ID: {}, 수신자: {}, 계약: {}", participantId, email, contractTitle);
             
             return token;
@@ -347,7 +387,7 @@ public class EmailService {
                 "</div></body></html>";
             
             // 이메일 전송
-            sendHtmlMessage(email, subject, htmlContent);
+            queueHtmlMessage(email, subject, htmlContent);
             log.info("PDF 암호 이메일 발송 성공 - 수신자: {}, PDF ID: {}", 
                     email.replaceAll("(?<=.{3}).(?=.*@)", "*"), pdfId);
             
@@ -407,7 +447,7 @@ public class EmailService {
                 "</div></body></html>";
             
             // 이메일 전송
-            sendHtmlMessage(participant.getEmail(), subject, htmlContent);
+            queueHtmlMessage(participant.getEmail(), subject, htmlContent);
             log.info("계약 완료 이메일(암호 포함) 발송 성공 - 참여자ID: {}, 수신자: {}, 계약: {}", 
                     participant.getId(), participant.getEmail(), contractTitle);
             
@@ -465,7 +505,7 @@ public class EmailService {
                         .replace("{{fieldCount}}", String.valueOf(fieldCount))
                         .replace("{{correctionUrl}}", correctionUrl);
                 
-                sendHtmlMessage(email, subject, htmlTemplate);
+                queueHtmlMessage(email, subject, htmlTemplate);
                 log.info("재서명 요청 이메일 발송 성공 - 수신자: {}, 계약서: {}", email, contractTitle);
             } else {
                 // 템플릿 로드 실패시 인라인 HTML 사용
@@ -488,7 +528,7 @@ public class EmailService {
                     getEmailFooter() +
                     "</div></body></html>";
                 
-                sendHtmlMessage(email, subject, htmlContent);
+                queueHtmlMessage(email, subject, htmlContent);
                 log.info("재서명 요청 이메일 발송 성공 (인라인 HTML) - 수신자: {}, 계약서: {}", email, contractTitle);
             }
         } catch (Exception e) {
@@ -0,0 +1,285 @@
+package com.inspection.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.imgscalr.Scalr;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.inspection.enums.ImageVariant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지 파생본(썸네일/중간 크기) 생성 서비스
+ * 원본은 업로드 요청에서 그대로 저장하고, 파생본은 커밋 이후 imageTaskExecutor 에서
+ * EXIF 방향을 보정하고 축소한 JPEG 로 원본 옆에 생성합니다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final Executor imageTaskExecutor;
+
+    public ImageVariantService(@Qualifier("imageTaskExecutor") Executor imageTaskExecutor) {
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 파생본 생성 작업 등록
+     * @param original 원본 파일 경로
+     * @param onComplete 생성 성공 시 실행 (예: 엔티티의 파생본 생성 여부 갱신)
+     */
+    public void generateAfterCommit(Path original, Runnable onComplete) {
+        Runnable submit = () -> submit(original, onComplete);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    /**
+     * 파생본 동기 생성 (백필용)
+     * @return 생성 성공 여부 (이미지로 읽을 수 없는 파일이면 false)
+     */
+    public boolean generateVariants(Path original) {
+        if (!Files.isRegularFile(original)) {
+            log.warn("파생본 생성 대상 원본 파일이 없습니다: {}", original);
+            return false;
+        }
+        try {
+            BufferedImage source;
+            try (InputStream in = Files.newInputStream(original)) {
+                source = ImageIO.read(in);
+            }
+            if (source == null) {
+                log.warn("이미지로 읽을 수 없는 파일이라 파생본을 만들지 않습니다: {}", original);
+                return false;
+            }
+            int orientation = readExifOrientation(original);
+
+            // 중간 크기를 먼저 만들고 썸네일은 중간 크기에서 축소
+            BufferedImage medium = resize(source, ImageVariant.MEDIUM.getMaxSize());
+            source = null;
+            BufferedImage thumbnail = resize(medium, ImageVariant.THUMBNAIL.getMaxSize());
+
+            writeJpeg(applyOrientation(medium, orientation), variantOf(original, ImageVariant.MEDIUM));
+            writeJpeg(applyOrientation(thumbnail, orientation), variantOf(original, ImageVariant.THUMBNAIL));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("이미지 파생본 생성 실패: {}, {}", original, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 파생본이 있으면 파생본, 없으면 원본 경로 반환
+     */
+    public Path resolve(Path original, ImageVariant variant) {
+        if (variant == null) {
+            return original;
+        }
+        Path variantPath = variantOf(original, variant);
+        return Files.exists(variantPath) ? variantPath : original;
+    }
+
+    /**
+     * 원본 삭제 시 파생본도 함께 삭제
+     */
+    public void deleteVariants(Path original) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(variantOf(original, variant));
+            } catch (IOException e) {
+                log.warn("이미지 파생본 삭제 실패: {}, {}", original, e.getMessage());
+            }
+        }
+    }
+
+    public boolean hasVariants(Path original) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(variantOf(original, variant))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Path variantOf(Path original, ImageVariant variant) {
+        return original.resolveSibling(variant.pathFor(original.getFileName().toString()));
+    }
+
+    private void submit(Path original, Runnable onComplete) {
+        try {
+            imageTaskExecutor.execute(() -> {
+                if (generateVariants(original) && onComplete != null) {
+                    try {
+                        onComplete.run();
+                    } catch (RuntimeException e) {
+                        log.error("이미지 파생본 생성 후처리 실패: {}, {}", original, e.getMessage());
+                    }
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 작업 큐가 가득 찬 경우 원본으로 서비스하고 백필 작업에서 생성
+            log.warn("이미지 파생본 생성 작업 큐 초과, 백필로 처리 예정: {}", original);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage image, int maxSize) {
+        if (Math.max(image.getWidth(), image.getHeight()) <= maxSize) {
+            return image;
+        }
+        return Scalr.resize(image, Scalr.Method.QUALITY, Scalr.Mode.AUTOMATIC, maxSize);
+    }
+
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        switch (orientation) {
+            case 2: return Scalr.rotate(image, Scalr.Rotation.FLIP_HORZ);
+            case 3: return Scalr.rotate(image, Scalr.Rotation.CW_180);
+            case 4: return Scalr.rotate(image, Scalr.Rotation.FLIP_VERT);
+            case 5: return Scalr.rotate(Scalr.rotate(image, Scalr.Rotation.CW_90), Scalr.Rotation.FLIP_HORZ);
+            case 6: return Scalr.rotate(image, Scalr.Rotation.CW_90);
+            case 7: return Scalr.rotate(Scalr.rotate(image, Scalr.Rotation.CW_270), Scalr.Rotation.FLIP_HORZ);
+            case 8: return Scalr.rotate(image, Scalr.Rotation.CW_270);
+            default: return image;
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        // JPEG 은 알파 채널을 지원하지 않으므로 흰 배경의 RGB 로 변환
+        BufferedImage rgb = image;
+        if (image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_3BYTE_BGR) {
+            rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = rgb.createGraphics();
+            try {
+                g.drawImage(image, 0, 0, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+        }
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG ImageWriter 를 찾을 수 없습니다");
+        }
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        // 임시 파일에 쓴 뒤 이동하여 부분적으로 쓰인 파생본이 서비스되지 않도록 함
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 Orientation 태그(0x0112) 조회
+     * @return 1~8, 정보가 없거나 JPEG 가 아니면 1
+     */
+    static int readExifOrientation(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                // SOS 이후는 이미지 데이터이므로 탐색 종료
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return 1;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return 1;
+                }
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length];
+                    in.readFully(segment);
+                    int orientation = parseExifOrientation(segment);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    private static int parseExifOrientation(byte[] d) {
+        // "Exif\0\0" 헤더가 아니면 (XMP 등) 다음 세그먼트 탐색
+        if (d.length < 14 || d[0] != 'E' || d[1] != 'x' || d[2] != 'i' || d[3] != 'f' || d[4] != 0 || d[5] != 0) {
+            return 0;
+        }
+        int tiff = 6;
+        boolean littleEndian = d[tiff] == 'I' && d[tiff + 1] == 'I';
+        long ifdOffset = readInt(d, tiff + 4, littleEndian);
+        int ifd = tiff + (int) ifdOffset;
+        if (ifdOffset < 8 || ifd + 2 > d.length) {
+            return 1;
+        }
+        int entries = readShort(d, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > d.length) {
+                break;
+            }
+            if (readShort(d, entry, littleEndian) == 0x0112) {
+                int value = readShort(d, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] d, int offset, boolean littleEndian) {
+        int b0 = d[offset] & 0xFF;
+        int b1 = d[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] d, int offset, boolean littleEndian) {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = d[offset + (littleEndian ? 3 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+}
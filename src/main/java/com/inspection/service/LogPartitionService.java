@@ -0,0 +1,326 @@
+package com.inspection.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.repository.LogPartitionJdbcRepository;
+import com.inspection.repository.LogPartitionJdbcRepository.PartitionInfo;
+import com.inspection.repository.NamedLockJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그 테이블 월 파티션 및 보관(archive) 서비스 (log-partition.enabled=true 일 때만 동작)
+ *
+ * 계속 쌓이기만 하는 contract_event_log(event_time), nice_authentication_log(created_at)를 월 RANGE 파티션으로 관리합니다.
+ * - 기동 시 파티션 테이블이 아니면 변환하고, 매일 새벽 log-partition.months-ahead 개월 앞까지 파티션을 미리 만듭니다.
+ * - log-partition.retention-months 개월보다 오래된 파티션은 gzip NDJSON 파일(한 줄에 한 행)로 내보낸 뒤
+ *   행 수를 확인하고 파티션을 삭제합니다. 파일명에 보관 기간 [시작일, 종료일) 이 들어갑니다.
+ * - readArchived 로 보관 파일의 행을 조건에 맞게 다시 읽을 수 있습니다 (ContractEventLogService 보관 조회).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogPartitionService {
+
+    public static final String CONTRACT_EVENT_LOG = "contract_event_log";
+    public static final String NICE_AUTHENTICATION_LOG = "nice_authentication_log";
+
+    private static final String ARCHIVE_SUFFIX = ".ndjson.gz";
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern ARCHIVE_FILE = Pattern.compile("(\\w+?)_(\\d{8})_(\\d{8})\\.ndjson\\.gz");
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+    private static final String MAINTENANCE_LOCK = "log_partition_maintenance";
+
+    private record PartitionedTable(String name, String timeColumn) {}
+
+    private static final List<PartitionedTable> TABLES = List.of(
+            new PartitionedTable(CONTRACT_EVENT_LOG, "event_time"),
+            new PartitionedTable(NICE_AUTHENTICATION_LOG, "created_at"));
+
+    /**
+     * 보관 파일 (기간 [from, to))
+     */
+    public record ArchiveFile(Path path, LocalDate from, LocalDate to) {}
+
+    private final LogPartitionJdbcRepository partitionRepository;
+    private final NamedLockJdbcRepository namedLockRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean maintenanceRunning = new AtomicBoolean(false);
+
+    @Value("${log-partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${log-partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${log-partition.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${log-partition.archive-dir:./archive/logs}")
+    private String archiveDir;
+
+    /**
+     * 파티션 관리 (변환, 미래 파티션 생성, 오래된 파티션 보관 후 삭제)
+     * 매일 새벽 2시 20분 실행, 여러 인스턴스가 동시에 DDL/보관을 하지 않도록 DB 이름 잠금을 잡은 인스턴스만 실행
+     */
+    @Scheduled(cron = "0 20 2 * * *")
+    public void maintain() {
+        if (!enabled || !maintenanceRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            boolean ran = namedLockRepository.runWithNamedLock(MAINTENANCE_LOCK, () -> {
+                LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+                for (PartitionedTable table : TABLES) {
+                    try {
+                        maintainTable(table, currentMonth);
+                    } catch (DataAccessException | IOException | IllegalStateException e) {
+                        // 한 테이블 실패가 다른 테이블 관리를 막지 않도록 기록 후 계속
+                        log.error("[로그 파티션] {} 관리 실패: {}", table.name(), e.getMessage(), e);
+                    }
+                }
+            });
+            if (!ran) {
+                log.info("[로그 파티션] 다른 인스턴스에서 관리 작업이 진행 중이어서 건너뜁니다.");
+            }
+        } catch (DataAccessException e) {
+            log.error("[로그 파티션] 관리 잠금 획득 실패: {}", e.getMessage(), e);
+        } finally {
+            maintenanceRunning.set(false);
+        }
+    }
+
+    /**
+     * 기동 시 파티션 변환/보정 (테이블 재구성이 오래 걸릴 수 있어 비동기 실행)
+     */
+    @Async("queryTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    /**
+     * 보관 파일 중 [from, to] 기간과 겹치는 파일 (기간 순)
+     * @param from null 이면 처음부터
+     * @param to null 이면 끝까지
+     */
+    public List<ArchiveFile> findArchives(String table, LocalDateTime from, LocalDateTime to) {
+        Path directory = Paths.get(archiveDir, table);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<ArchiveFile> archives = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Matcher matcher = ARCHIVE_FILE.matcher(path.getFileName().toString());
+                if (!matcher.matches() || !matcher.group(1).equals(table)) {
+                    return;
+                }
+                ArchiveFile archive = new ArchiveFile(path, LocalDate.parse(matcher.group(2), FILE_DATE),
+                        LocalDate.parse(matcher.group(3), FILE_DATE));
+                boolean overlaps = (to == null || !archive.from().atStartOfDay().isAfter(to))
+                        && (from == null || archive.to().atStartOfDay().isAfter(from));
+                if (overlaps) {
+                    archives.add(archive);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("보관 파일 목록 조회 중 오류가 발생했습니다: " + directory, e);
+        }
+        archives.sort((a, b) -> a.from().compareTo(b.from()));
+        return archives;
+    }
+
+    /**
+     * 보관 파일에서 조건에 맞는 행을 최신순으로 읽기
+     * 행은 컬럼명 → 값 맵이며 날짜/시간 컬럼은 ISO 문자열입니다.
+     * 조회 결과는 최신순으로 정렬되어 쓰이므로 파일은 최근 기간부터 읽고,
+     * 파일 안의 행은 ID(오래된) 순으로 기록되어 있어 파일마다 마지막 일치 행들을 남깁니다.
+     * @param filter 행 조건 (기간 조건은 호출 측에서 포함)
+     * @param limit 최대 건수 (채워지면 더 오래된 파일은 읽지 않음)
+     * @return 최신순 행 목록
+     */
+    public List<Map<String, Object>> readArchived(String table, LocalDateTime from, LocalDateTime to,
+                                                  Predicate<Map<String, Object>> filter, int limit) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<ArchiveFile> archives = new ArrayList<>(findArchives(table, from, to));
+        Collections.reverse(archives);
+        for (ArchiveFile archive : archives) {
+            int remaining = limit - rows.size();
+            if (remaining <= 0) {
+                break;
+            }
+            Deque<Map<String, Object>> latest = new ArrayDeque<>(Math.min(remaining, 1024));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(archive.path())), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    Map<String, Object> row = objectMapper.readValue(line, ROW_TYPE);
+                    if (filter.test(row)) {
+                        latest.addLast(row);
+                        if (latest.size() > remaining) {
+                            latest.pollFirst();
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("보관 파일 읽기 중 오류가 발생했습니다: " + archive.path(), e);
+            }
+            latest.descendingIterator().forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private void maintainTable(PartitionedTable table, LocalDate currentMonth) throws IOException {
+        LocalDate lastMonth = currentMonth.plusMonths(monthsAhead);
+
+        if (!partitionRepository.isPartitioned(table.name())) {
+            LocalDateTime minTime = partitionRepository.findMinTime(table.name(), table.timeColumn(), null);
+            LocalDate firstMonth = minTime != null && minTime.toLocalDate().isBefore(currentMonth)
+                    ? minTime.toLocalDate().withDayOfMonth(1) : currentMonth;
+            long startTime = System.currentTimeMillis();
+            partitionRepository.convertToPartitioned(table.name(), table.timeColumn(), months(firstMonth, lastMonth));
+            log.info("[로그 파티션] {} 변환 소요 {}ms", table.name(), System.currentTimeMillis() - startTime);
+        }
+
+        List<PartitionInfo> partitions = partitionRepository.findPartitions(table.name());
+        LocalDate coveredUntil = partitions.stream()
+                .map(PartitionInfo::upperBound)
+                .filter(upperBound -> upperBound != null)
+                .max(LocalDate::compareTo)
+                .orElse(currentMonth);
+        if (!coveredUntil.isAfter(lastMonth)) {
+            List<LocalDate> newMonths = months(coveredUntil, lastMonth);
+            partitionRepository.addMonths(table.name(), newMonths);
+            log.info("[로그 파티션] {} 월 파티션 추가: {} ~ {}", table.name(),
+                    newMonths.get(0), newMonths.get(newMonths.size() - 1));
+        }
+
+        LocalDate cutoff = currentMonth.minusMonths(retentionMonths);
+        LocalDate lowerBound = null;
+        for (PartitionInfo partition : partitions) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                break;
+            }
+            archivePartition(table, partition, lowerBound);
+            lowerBound = partition.upperBound();
+        }
+    }
+
+    /**
+     * 파티션을 보관 파일로 내보낸 뒤 행 수가 일치하면 삭제
+     * @param lowerBound 이전 파티션의 상한 (가장 이른 파티션이면 null)
+     */
+    private void archivePartition(PartitionedTable table, PartitionInfo partition, LocalDate lowerBound)
+            throws IOException {
+        long expected = partitionRepository.countPartition(table.name(), partition.name());
+        if (expected == 0) {
+            partitionRepository.dropPartition(table.name(), partition.name());
+            log.info("[로그 파티션] {}.{} 빈 파티션 삭제", table.name(), partition.name());
+            return;
+        }
+        LocalDate from = lowerBound;
+        if (from == null) {
+            from = partitionRepository.findMinTime(table.name(), table.timeColumn(), partition.name()).toLocalDate();
+        }
+
+        Path directory = Paths.get(archiveDir, table.name());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(table.name() + "_" + from.format(FILE_DATE) + "_"
+                + partition.upperBound().format(FILE_DATE) + ARCHIVE_SUFFIX);
+        Path temp = target.resolveSibling(target.getFileName() + ".part");
+
+        long startTime = System.currentTimeMillis();
+        long[] written = {0L};
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            partitionRepository.streamPartition(table.name(), partition.name(), row -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (written[0] != expected) {
+            Files.deleteIfExists(temp);
+            throw new IllegalStateException(String.format("%s.%s 보관 행 수 불일치: 예상 %d, 기록 %d",
+                    table.name(), partition.name(), expected, written[0]));
+        }
+        restrictPermissions(temp);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        partitionRepository.dropPartition(table.name(), partition.name());
+        log.info("[로그 파티션] {}.{} 보관 후 삭제: {}건 -> {}, {}ms", table.name(), partition.name(),
+                expected, target, System.currentTimeMillis() - startTime);
+    }
+
+    // 인증 로그(CI 포함)가 들어 있으므로 소유자만 읽을 수 있게 함 (POSIX 미지원 파일 시스템은 무시)
+    private static void restrictPermissions(Path path) throws IOException {
+        try {
+            Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            log.debug("보관 파일 권한 설정 미지원: {}", path);
+        }
+    }
+
+    // [from, to] 의 월 시작일 목록
+    private static List<LocalDate> months(LocalDate from, LocalDate to) {
+        List<LocalDate> months = new ArrayList<>();
+        for (LocalDate month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
@@ -2,30 +2,69 @@ package com.inspection.service;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.inspection.entity.ParticipantToken;
 import com.inspection.entity.ParticipantToken.TokenType;
+import com.inspection.repository.ParticipantTokenJdbcRepository;
 import com.inspection.repository.ParticipantTokenRepository;
 import com.inspection.security.JwtTokenProvider;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 계약 참여자를 위한 토큰 생성 및 관리 서비스
+ * 
+ * 토큰은 token_hash(SHA-256) 유니크 인덱스로 조회하고 JWT 는 한 번만 파싱합니다.
+ * 최근 검증된 토큰은 VALIDATION_CACHE_TTL_MILLIS 동안 메모리에 보관하여 서명 페이지의 반복 요청에서
+ * DB 조회와 JWT 파싱을 생략하며, 토큰 비활성화 시 해당 참여자의 캐시 항목을 제거합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ParticipantTokenService {
+    
+    private static final long VALIDATION_CACHE_TTL_MILLIS = 60_000L;
+    private static final int MAX_CACHED_TOKENS = 10_000;
+    private static final int PURGE_RANGE_SIZE = 5_000;
+    
     private final JwtTokenProvider jwtTokenProvider;
     private final ParticipantTokenRepository tokenRepository;
+    private final ParticipantTokenJdbcRepository tokenJdbcRepository;
+    
+    // 토큰 해시 -> 검증 결과 (참여자 ID, 캐시 만료 시각)
+    private final Map<String, ValidatedToken> validationCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, ValidatedToken>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ValidatedToken> eldest) {
+                    return size() > MAX_CACHED_TOKENS;
+                }
+            });
+    
+    // token_hash 백필이 끝나기 전에는 해시로 찾지 못한 토큰을 토큰 값으로 한 번 더 조회
+    private volatile boolean legacyLookupEnabled = true;
+    
+    private record ValidatedToken(Long participantId, long cachedUntil) {}
     
     /**
      * 참여자 ID 기반으로 서명용 토큰을 생성합니다.
@@ -61,19 +100,8 @@ public class ParticipantTokenService {
             throw new IllegalArgumentException("토큰이 제공되지 않았습니다.");
         }
         
-        // DB에서 토큰의 활성 상태 확인
-        if (!isTokenActive(token)) {
-            throw new JwtException("비활성화된 토큰입니다.");
-        }
-        
-        // 토큰 검증
-        if (!jwtTokenProvider.validateParticipantToken(token)) {
-            throw new JwtException("유효하지 않은 토큰입니다.");
-        }
-        
-        // 참여자 ID 추출
-        Long participantId = jwtTokenProvider.getParticipantIdFromToken(token);
-        log.info("토큰에서 참여자 ID {}를 추출했습니다.", participantId);
+        Long participantId = resolveParticipantId(token);
+        log.debug("토큰에서 참여자 ID {}를 추출했습니다.", participantId);
         
         return participantId;
     }
@@ -114,19 +142,7 @@ public class ParticipantTokenService {
         }
         
         try {
-            // DB에서 토큰의 활성 상태 확인
-            if (!isTokenActive(token)) {
-                log.warn("비활성화된 장기 토큰입니다.");
-                return null;
-            }
-            
-            // 토큰 검증
-            if (!jwtTokenProvider.validateParticipantToken(token)) {
-                return null;
-            }
-            
-            // 참여자 ID 추출
-            return jwtTokenProvider.getParticipantIdFromToken(token);
+            return resolveParticipantId(token);
         } catch (Exception e) {
             log.warn("장기 보관용 토큰 검증 실패: {}", e.getMessage());
             return null;
@@ -151,21 +167,130 @@ public class ParticipantTokenService {
             tokenRepository.save(token);
             log.info("장기 토큰 비활성화: 토큰ID={}, 참여자ID={}", token.getId(), participantId);
         }
+        evictParticipant(participantId);
         
         // 2. 새 장기 토큰 생성
         return generateLongTermToken(participantId);
     }
     
     /**
-     * 토큰이 활성 상태인지 확인합니다.
+     * 만료된 토큰을 ID 구간 단위로 삭제합니다.
+     * 매일 새벽 4시 30분 실행
      * 
-     * @param token 확인할 토큰
-     * @return 활성 상태면 true, 비활성 상태면 false
+     * @return 삭제 건수
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public int purgeExpiredTokens() {
+        long[] idRange = tokenJdbcRepository.findIdRange();
+        if (idRange == null) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        for (long fromId = idRange[0]; fromId <= idRange[1]; fromId += PURGE_RANGE_SIZE) {
+            deleted += tokenJdbcRepository.deleteExpiredInRange(fromId, fromId + PURGE_RANGE_SIZE - 1, now);
+        }
+        log.info("만료 참여자 토큰 삭제 완료: {}건 (ID {}~{})", deleted, idRange[0], idRange[1]);
+        return deleted;
+    }
+    
+    /**
+     * token_hash 가 없는 기존 토큰의 해시를 채웁니다 (기동 시 비동기 실행).
+     * 모두 채워지면 토큰 값으로 조회하는 대체 경로를 끕니다.
      */
-    private boolean isTokenActive(String token) {
-        return tokenRepository.findByTokenValue(token)
-                .map(ParticipantToken::isActive)
-                .orElse(false);
+    @Async("queryTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTokenHashes() {
+        try {
+            int total = 0;
+            long afterId = 0L;
+            while (true) {
+                List<Object[]> rows = tokenJdbcRepository.findWithoutHash(afterId, ParticipantTokenJdbcRepository.BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Object[]> updates = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    updates.add(new Object[] { row[0], ParticipantToken.hash((String) row[1]) });
+                }
+                tokenJdbcRepository.updateHashes(updates);
+                total += rows.size();
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+            legacyLookupEnabled = false;
+            if (total > 0) {
+                log.info("참여자 토큰 해시 백필 완료: {}건", total);
+            }
+        } catch (DataAccessException e) {
+            log.warn("참여자 토큰 해시 백필 실패, 토큰 값 조회를 유지합니다: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 토큰의 활성 상태와 JWT 를 검증하고 참여자 ID 를 반환합니다.
+     * 최근 검증된 토큰은 캐시에서 바로 반환합니다.
+     * 
+     * @throws JwtException 비활성화되었거나 유효하지 않은 토큰인 경우
+     */
+    private Long resolveParticipantId(String token) {
+        String tokenHash = ParticipantToken.hash(token);
+        long now = System.currentTimeMillis();
+        ValidatedToken cached = validationCache.get(tokenHash);
+        if (cached != null) {
+            if (cached.cachedUntil() > now) {
+                return cached.participantId();
+            }
+            validationCache.remove(tokenHash);
+        }
+        
+        // DB에서 토큰의 활성 상태 확인
+        if (!findToken(token, tokenHash).map(ParticipantToken::isActive).orElse(false)) {
+            throw new JwtException("비활성화된 토큰입니다.");
+        }
+        
+        // 토큰 검증 및 참여자 ID 추출 (한 번만 파싱)
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseParticipantToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("참여자 토큰 검증 실패: {}", e.getMessage());
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        Long participantId = Long.parseLong(claims.getSubject());
+        
+        // JWT 만료 시각을 넘겨 캐시하지 않음
+        long cachedUntil = Math.min(now + VALIDATION_CACHE_TTL_MILLIS, claims.getExpiration().getTime());
+        validationCache.put(tokenHash, new ValidatedToken(participantId, cachedUntil));
+        return participantId;
+    }
+    
+    private Optional<ParticipantToken> findToken(String token, String tokenHash) {
+        Optional<ParticipantToken> found = tokenRepository.findByTokenHash(tokenHash);
+        if (found.isEmpty() && legacyLookupEnabled) {
+            return tokenRepository.findByTokenValue(token);
+        }
+        return found;
+    }
+    
+    /**
+     * 참여자의 검증 캐시 제거
+     * 커밋 전에 다른 요청이 비활성화 이전 상태를 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 제거합니다.
+     */
+    private void evictParticipant(Long participantId) {
+        Runnable evict = () -> {
+            synchronized (validationCache) {
+                validationCache.values().removeIf(cached -> cached.participantId().equals(participantId));
+            }
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
     }
     
     /**
@@ -184,6 +309,7 @@ public class ParticipantTokenService {
         ParticipantToken tokenEntity = ParticipantToken.builder()
                 .participantId(participantId)
                 .tokenValue(token)
+                .tokenHash(ParticipantToken.hash(token))
                 .tokenType(tokenType)
                 .expiresAt(expiresAt)
                 .isActive(true)
@@ -214,4 +340,41 @@ public class ParticipantTokenService {
         
         return token;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 여러 참여자의 서명용 토큰을 한 번에 생성합니다.
+     * 토큰은 메모리에서 모두 발급한 뒤 JDBC 배치 insert 한 번으로 저장합니다.
+     * 
+     * @param participantIds 참여자 ID 목록
+     * @param tokenType SIGNATURE(5일) 또는 SIGNATURE_KAKAO(24시간)
+     * @return 참여자 ID별 생성된 토큰 (입력 순서 유지)
+     */
+    @Transactional
+    public Map<Long, String> generateParticipantTokens(Collection<Long> participantIds, TokenType tokenType) {
+        long validityInMilliseconds = tokenType == TokenType.SIGNATURE_KAKAO
+                ? 24L * 60 * 60 * 1000
+                : 5L * 24 * 60 * 60 * 1000;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(validityInMilliseconds / 1000);
+
+        Map<Long, String> tokens = new LinkedHashMap<>();
+        List<ParticipantToken> entities = new ArrayList<>(participantIds.size());
+        for (Long participantId : participantIds) {
+            String token = jwtTokenProvider.createParticipantToken(participantId, validityInMilliseconds);
+            tokens.put(participantId, token);
+            entities.add(ParticipantToken.builder()
+                    .participantId(participantId)
+                    .tokenValue(token)
+                    .tokenHash(ParticipantToken.hash(token))
+                    .tokenType(tokenType)
+                    .expiresAt(expiresAt)
+                    .createdAt(now)
+                    .isActive(true)
+                    .build());
+        }
+
+        tokenJdbcRepository.insertTokens(entities);
+        log.info("참여자 토큰 {}건 일괄 생성: 토큰타입={}, 만료일={}", entities.size(), tokenType, expiresAt);
+        return tokens;
+    }
+}
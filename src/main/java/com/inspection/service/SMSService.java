@@ -1,15 +1,16 @@
 package com.inspection.service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.inspection.entity.ContractParticipant;
+import com.inspection.enums.NotificationType;
+import com.inspection.notification.client.EonGatewayClient;
+import com.inspection.notification.client.EonGatewayClient.EonResult;
+import com.inspection.notification.service.NotificationOutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,30 +19,25 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class SMSService {
-    
+
     @Value("${eon.sender-phone}")
     private String senderPhone;
 
-    @Value("${eon.license-key}")
-    private String licenseKey;
-    
     @Value("${frontend.base-url}")
     private String frontendBaseUrl;
-    
+
     private final ParticipantTokenService participantTokenService;
+    private final EonGatewayClient eonGatewayClient;
+    private final NotificationOutboxService notificationOutboxService;
 
+    /**
+     * SMS 즉시 발송 (관리자 수동 발송용, 게이트웨이 응답을 그대로 반환)
+     */
     public String sendSMS(String name, String phone, String content, String link) {
         try {
-            Hashtable<String, String> param = new Hashtable<>();
-            
-            param.put("STYPE", "1");
-            param.put("RESERVETIME", "");
-            param.put("SENDPHONE", senderPhone);
-            param.put("DESTPHONE", phone);
-            
             String baseUrl = frontendBaseUrl.replace("http://", "").replace("https://", "");
             String domainUrl = String.format("%s/contract-sign/%s", baseUrl, link);
-            
+
             String message = String.format(
                 "[Web발신]\n" +
                 "[타이어 뱅크]\n" +
@@ -53,15 +49,14 @@ public class SMSService {
                 name,
                 domainUrl
             );
-            param.put("MSG", new String(message.getBytes("KSC5601"), "8859_1"));
 
-            String response = sendEonRequest(
-                "http://blue3.eonmail.co.kr:8081/weom/servlet/api.EONASP6", 
-                param
-            );
-            
-            log.info("SMS 발송 결과: {}", response);
-            return response;
+            Map<String, String> param = createSmsParams(message);
+            param.put("DESTPHONE", phone);
+
+            EonResult result = eonGatewayClient.send(param);
+
+            log.info("SMS 발송 결과: {}", result.rawResponse());
+            return result.rawResponse();
 
         } catch (Exception e) {
             log.error("SMS 발송 실패: ", e);
@@ -69,45 +64,10 @@ public class SMSService {
         }
     }
 
-    private String sendEonRequest(String urlStr, Hashtable<String, String> params) throws Exception {
-        StringBuilder postData = new StringBuilder();
-        for (String key : params.keySet()) {
-            if (postData.length() != 0) postData.append('&');
-            postData.append(key).append('=').append(params.get(key));
-        }
-
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        
-        try {
-            byte[] postDataBytes = postData.toString().getBytes("8859_1");
-
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-            conn.setRequestProperty("Content-Length", String.valueOf(postDataBytes.length));
-            conn.setRequestProperty("eon_licencekey", licenseKey);
-            conn.setDoOutput(true);
-            conn.getOutputStream().write(postDataBytes);
-
-            BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream(), "KSC5601"));
-            StringBuilder response = new StringBuilder();
-            String line;
-            
-            while ((line = in.readLine()) != null) {
-                response.append(line);
-            }
-            
-            in.close();
-            return response.toString();
-            
-        } finally {
-            conn.disconnect();
-        }
-    }
-
     /**
      * 계약 참여자에게 토큰이 포함된 서명 요청 SMS를 발송합니다.
-     * 
+     * 발송은 알림 아웃박스에 등록되어 호출 트랜잭션 커밋 후 비동기로 처리됩니다.
+     *
      * @param participant 서명 참여자
      * @param baseUrl 서명 페이지 기본 URL (예: http://example.com)
      * @param contractTitle 계약 제목 (선택적)
@@ -117,40 +77,18 @@ public class SMSService {
         try {
             // 1. 참여자 ID로 토큰 생성
             String token = participantTokenService.generateParticipantToken(participant.getId());
-            
+
             // 2. 토큰을 포함한 서명 링크 생성
             String signatureLink = baseUrl + "/contract-sign?token=" + token;
-            
-            Hashtable<String, String> param = new Hashtable<>();
-            
-            param.put("STYPE", "1");
-            param.put("RESERVETIME", "");
-            param.put("SENDPHONE", senderPhone);
-            param.put("DESTPHONE", participant.getDecryptedPhoneNumber());
-            
+
             // 3. SMS 메시지 생성 (토큰 포함 링크)
-            String message = String.format(
-                "[Web발신]\n" +
-                "[타이어 뱅크]\n" +
-                "안녕하세요, %s님\n" +
-                "%s 계약서 서명이 요청되었습니다.\n\n" +
-                "본 링크는 24시간 동안 유효합니다.\n" +
-                "문의사항: 044-850-1078\n\n" +
-                "▣ 계약서 서명하기: %s",
-                participant.getName(),
-                contractTitle != null ? contractTitle : "",
-                signatureLink
-            );
-            
-            param.put("MSG", new String(message.getBytes("KSC5601"), "8859_1"));
+            String message = buildSignatureMessage(participant.getName(), contractTitle, signatureLink);
 
-            // 4. SMS 발송
-            String response = sendEonRequest(
-                "http://blue3.eonmail.co.kr:8081/weom/servlet/api.EONASP6", 
-                param
-            );
-            
-            log.info("서명 요청 SMS 발송 성공 - 참여자: {}, 계약: {}", participant.getName(), contractTitle);
+            // 4. 발송 요청 등록
+            notificationOutboxService.enqueueEon(NotificationType.SMS, participant.getDecryptedPhoneNumber(), null,
+                    createSmsParams(message), NotificationOutboxService.REFERENCE_PARTICIPANT, participant.getId(), null);
+
+            log.info("서명 요청 SMS 발송 등록 - 참여자: {}, 계약: {}", participant.getName(), contractTitle);
             return token;
 
         } catch (Exception e) {
@@ -161,7 +99,7 @@ public class SMSService {
 
     /**
      * 서명 완료 후 계약 참여자에게 장기 보관용 토큰이 포함된 결과 페이지 링크를 SMS로 발송합니다.
-     * 
+     *
      * @param participant 계약 참여자 객체
      * @param signedContractUrl 서명된 계약 조회 URL (토큰 포함)
      * @param contractTitle 계약 제목
@@ -173,14 +111,7 @@ public class SMSService {
                 log.warn("참여자 휴대폰 번호 없음 (ID: {}) - 계약 완료 SMS 전송 건너뜀", participant.getId());
                 return;
             }
-            
-            Hashtable<String, String> param = new Hashtable<>();
-            
-            param.put("STYPE", "1");
-            param.put("RESERVETIME", "");
-            param.put("SENDPHONE", senderPhone);
-            param.put("DESTPHONE", participant.getDecryptedPhoneNumber());
-            
+
             // SMS 메시지 생성 (장기 토큰 포함 링크)
             String message = String.format(
                 "[Web발신]\n" +
@@ -195,19 +126,44 @@ public class SMSService {
                 contractTitle != null ? contractTitle : "",
                 signedContractUrl
             );
-            
-            param.put("MSG", new String(message.getBytes("KSC5601"), "8859_1"));
 
-            // SMS 발송
-            String response = sendEonRequest(
-                "http://blue3.eonmail.co.kr:8081/weom/servlet/api.EONASP6", 
-                param
-            );
-            
-            log.info("계약 완료 SMS 발송 성공 - 참여자: {}, 계약: {}", participant.getName(), contractTitle);
+            notificationOutboxService.enqueueEon(NotificationType.SMS, participant.getDecryptedPhoneNumber(), null,
+                    createSmsParams(message), NotificationOutboxService.REFERENCE_PARTICIPANT, participant.getId(), null);
+
+            log.info("계약 완료 SMS 발송 등록 - 참여자: {}, 계약: {}", participant.getName(), contractTitle);
         } catch (Exception e) {
             log.error("계약 완료 SMS 발송 실패: {}", e.getMessage(), e);
             // SMS 실패는 Critical 오류가 아니므로 예외를 던지지 않고 로그만 기록
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 서명 요청 SMS 본문 생성
+     */
+    public String buildSignatureMessage(String name, String contractTitle, String signatureLink) {
+        return String.format(
+            "[Web발신]\n" +
+            "[타이어 뱅크]\n" +
+            "안녕하세요, %s님\n" +
+            "%s 계약서 서명이 요청되었습니다.\n\n" +
+            "본 링크는 24시간 동안 유효합니다.\n" +
+            "문의사항: 044-850-1078\n\n" +
+            "▣ 계약서 서명하기: %s",
+            name,
+            contractTitle != null ? contractTitle : "",
+            signatureLink
+        );
+    }
+
+    /**
+     * SMS 공통 파라미터 생성 (DESTPHONE은 발송 시점에 채워짐)
+     */
+    public Map<String, String> createSmsParams(String message) {
+        Map<String, String> param = new LinkedHashMap<>();
+        param.put("STYPE", "1");
+        param.put("RESERVETIME", "");
+        param.put("SENDPHONE", senderPhone);
+        param.put("MSG", message);
+        return param;
+    }
+}
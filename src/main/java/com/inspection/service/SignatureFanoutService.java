@@ -0,0 +1,349 @@
+package com.inspection.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.dto.SignatureFanoutJobDTO;
+import com.inspection.dto.SignatureFanoutJobDTO.ParticipantProgress;
+import com.inspection.entity.Contract;
+import com.inspection.entity.ContractParticipant;
+import com.inspection.entity.ParticipantToken.TokenType;
+import com.inspection.enums.NotificationStatus;
+import com.inspection.enums.NotificationType;
+import com.inspection.notification.entity.NotificationOutbox;
+import com.inspection.notification.service.NotificationOutboxService;
+import com.inspection.repository.ContractParticipantRepository;
+import com.inspection.repository.ContractRepository;
+import com.inspection.repository.UserRepository;
+import com.inspection.util.EncryptionUtil;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서명 요청 일괄 발송 서비스
+ * 참여자가 많은 계약의 서명 요청을 요청 스레드/트랜잭션을 잡지 않고 백그라운드 작업으로 처리합니다.
+ * - 참여자 토큰은 청크 단위로 일괄 생성 (JDBC 배치 insert)
+ * - 발송 메시지는 청크 단위로 알림 아웃박스에 일괄 등록 (실제 발송은 NotificationDispatcher)
+ * - 작업 ID로 참여자별 진행 상태(등록/발송/실패) 조회
+ *
+ * 작업 상태는 이 인스턴스 메모리에만 보관합니다(완료 후 24시간).
+ * 서버가 재시작되거나 다른 인스턴스로 조회하면 작업을 찾을 수 없으며, 진행 중이던 작업은 이어서 처리되지 않습니다.
+ * 이미 아웃박스에 등록된 메시지는 DB에 남아 있으므로 재시작 후에도 발송되고, 발송 결과는 아웃박스에서 확인합니다.
+ */
+@Slf4j
+@Service
+public class SignatureFanoutService {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final long JOB_RETENTION_HOURS = 24;
+    private static final DateTimeFormatter DEADLINE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ContractRepository contractRepository;
+    private final ContractParticipantRepository participantRepository;
+    private final UserRepository userRepository;
+    private final ParticipantTokenService participantTokenService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final EmailService emailService;
+    private final SMSService smsService;
+    private final KakaoAlertService kakaoAlertService;
+    private final EncryptionUtil encryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor fanoutExecutor;
+
+    @Value("${frontend.base-url}")
+    private String frontendBaseUrl;
+
+    private final Map<String, FanoutJob> jobs = new ConcurrentHashMap<>();
+
+    public SignatureFanoutService(
+            ContractRepository contractRepository,
+            ContractParticipantRepository participantRepository,
+            UserRepository userRepository,
+            ParticipantTokenService participantTokenService,
+            NotificationOutboxService notificationOutboxService,
+            EmailService emailService,
+            SMSService smsService,
+            KakaoAlertService kakaoAlertService,
+            EncryptionUtil encryptionUtil,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("queryTaskExecutor") Executor fanoutExecutor) {
+        this.contractRepository = contractRepository;
+        this.participantRepository = participantRepository;
+        this.userRepository = userRepository;
+        this.participantTokenService = participantTokenService;
+        this.notificationOutboxService = notificationOutboxService;
+        this.emailService = emailService;
+        this.smsService = smsService;
+        this.kakaoAlertService = kakaoAlertService;
+        this.encryptionUtil = encryptionUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fanoutExecutor = fanoutExecutor;
+    }
+
+    /**
+     * 계약의 서명 대기 참여자 전원에게 서명 요청 일괄 발송 시작
+     * @param contractId 계약 ID
+     * @param requestedBy 요청 사용자 ID (알림톡 이력 기록용, null 가능)
+     * @return 작업 상태 (즉시 반환)
+     */
+    public SignatureFanoutJobDTO startFanout(Long contractId, Long requestedBy) {
+        if (!contractRepository.existsById(contractId)) {
+            throw new EntityNotFoundException("계약을 찾을 수 없습니다: " + contractId);
+        }
+
+        evictExpiredJobs();
+
+        FanoutJob job = new FanoutJob(UUID.randomUUID().toString(), contractId, requestedBy);
+        jobs.put(job.jobId, job);
+        try {
+            fanoutExecutor.execute(() -> runFanout(job));
+        } catch (TaskRejectedException e) {
+            // 작업 큐가 가득 차 시작하지 못한 작업은 QUEUED 로 남기지 않고 실패 처리
+            job.status = "FAILED";
+            job.errorMessage = "작업 대기열이 가득 차 발송을 시작하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+            job.completedAt = LocalDateTime.now();
+            log.warn("서명 요청 일괄 발송 작업 큐 초과: 작업ID={}, 계약ID={}", job.jobId, contractId);
+            return toDTO(job);
+        }
+
+        log.info("서명 요청 일괄 발송 작업 등록: 작업ID={}, 계약ID={}", job.jobId, contractId);
+        return toDTO(job);
+    }
+
+    /**
+     * 작업 진행 상태 조회 (참여자별 발송 상태 포함)
+     * 작업은 메모리에만 보관되므로 서버 재시작 이후에는 찾을 수 없습니다.
+     */
+    public SignatureFanoutJobDTO getJob(String jobId) {
+        FanoutJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EntityNotFoundException("서명 요청 발송 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return toDTO(job);
+    }
+
+    private void runFanout(FanoutJob job) {
+        job.status = "RUNNING";
+        long startTime = System.currentTimeMillis();
+        try {
+            Contract contract = contractRepository.findById(job.contractId)
+                    .orElseThrow(() -> new EntityNotFoundException("계약을 찾을 수 없습니다: " + job.contractId));
+            String requesterName = job.requestedBy != null
+                    ? userRepository.findById(job.requestedBy).map(user -> user.getUserName()).orElse("")
+                    : "";
+
+            List<ContractParticipant> targets = new ArrayList<>();
+            for (ContractParticipant participant : participantRepository.findByContractId(job.contractId)) {
+                ParticipantProgress progress = job.register(participant);
+                if (participant.isSigned()) {
+                    progress.setStatus("SKIPPED");
+                    progress.setMessage("이미 서명 완료된 참여자");
+                } else if (participant.getNotifyType() == null) {
+                    progress.setStatus("SKIPPED");
+                    progress.setMessage("알림 유형 없음");
+                } else {
+                    targets.add(participant);
+                }
+            }
+
+            for (int from = 0; from < targets.size(); from += CHUNK_SIZE) {
+                List<ContractParticipant> chunk = targets.subList(from, Math.min(from + CHUNK_SIZE, targets.size()));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> enqueueChunk(job, contract, requesterName, chunk));
+                } catch (Exception e) {
+                    log.error("서명 요청 청크 등록 실패: 작업ID={}, 청크 시작={}, 오류={}", job.jobId, from, e.getMessage(), e);
+                    for (ContractParticipant participant : chunk) {
+                        ParticipantProgress progress = job.progress.get(participant.getId());
+                        progress.setStatus(NotificationStatus.FAILED.name());
+                        progress.setMessage("발송 등록 실패: " + e.getMessage());
+                        job.outboxIds.remove(participant.getId());
+                    }
+                }
+            }
+
+            job.status = "COMPLETED";
+            log.info("서명 요청 일괄 발송 등록 완료: 작업ID={}, 대상={}명, 등록={}건, 소요시간={}ms",
+                    job.jobId, job.progress.size(), job.outboxIds.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            job.status = "FAILED";
+            job.errorMessage = e.getMessage();
+            log.error("서명 요청 일괄 발송 작업 실패: 작업ID={}, 오류={}", job.jobId, e.getMessage(), e);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 청크 단위 토큰 생성 + 아웃박스 등록 (하나의 트랜잭션)
+     */
+    private void enqueueChunk(FanoutJob job, Contract contract, String requesterName, List<ContractParticipant> chunk) {
+        // 1. 토큰 유형별 일괄 생성
+        Map<TokenType, List<Long>> idsByTokenType = new EnumMap<>(TokenType.class);
+        for (ContractParticipant participant : chunk) {
+            TokenType tokenType = participant.getNotifyType() == NotificationType.KAKAO
+                    ? TokenType.SIGNATURE_KAKAO : TokenType.SIGNATURE;
+            idsByTokenType.computeIfAbsent(tokenType, key -> new ArrayList<>()).add(participant.getId());
+        }
+        Map<Long, String> tokens = new LinkedHashMap<>();
+        idsByTokenType.forEach((tokenType, ids) ->
+                tokens.putAll(participantTokenService.generateParticipantTokens(ids, tokenType)));
+
+        // 2. 채널별 메시지 생성
+        String baseUrlWithoutScheme = frontendBaseUrl.replace("http://", "").replace("https://", "");
+        String kakaoDeadline = LocalDateTime.now().plusHours(24).format(DEADLINE_FORMATTER);
+
+        List<NotificationOutbox> outboxes = new ArrayList<>(chunk.size());
+        List<Long> outboxParticipantIds = new ArrayList<>(chunk.size());
+        for (ContractParticipant participant : chunk) {
+            ParticipantProgress progress = job.progress.get(participant.getId());
+            String token = tokens.get(participant.getId());
+            String signatureLink = frontendBaseUrl + "/contract-sign?token=" + token;
+
+            String recipient = participant.getNotifyType() == NotificationType.EMAIL
+                    ? decrypt(participant.getEmail())
+                    : decrypt(participant.getPhoneNumber());
+            if (recipient == null || recipient.isBlank()) {
+                progress.setStatus("SKIPPED");
+                progress.setMessage("연락처 정보 없음");
+                continue;
+            }
+
+            NotificationOutbox outbox;
+            switch (participant.getNotifyType()) {
+                case EMAIL:
+                    outbox = notificationOutboxService.buildEmail(recipient,
+                            emailService.buildSignatureRequestSubject(contract.getTitle()),
+                            emailService.buildSignatureRequestHtml(participant.getName(), contract.getTitle(), signatureLink),
+                            NotificationOutboxService.REFERENCE_PARTICIPANT, participant.getId());
+                    break;
+                case KAKAO:
+                    Map<String, String> kakaoParams = kakaoAlertService.buildSignatureAlertParams(
+                            participant.getName(), contract.getTitle(), requesterName, kakaoDeadline,
+                            baseUrlWithoutScheme + "/contract-sign?token=" + token);
+                    outbox = notificationOutboxService.buildEon(NotificationType.KAKAO, recipient, kakaoParams.get("SUBJECT"),
+                            kakaoParams, NotificationOutboxService.REFERENCE_PARTICIPANT, participant.getId(), job.requestedBy);
+                    break;
+                default:
+                    outbox = notificationOutboxService.buildEon(NotificationType.SMS, recipient, null,
+                            smsService.createSmsParams(smsService.buildSignatureMessage(
+                                    participant.getName(), contract.getTitle(), signatureLink)),
+                            NotificationOutboxService.REFERENCE_PARTICIPANT, participant.getId(), job.requestedBy);
+                    break;
+            }
+            outboxes.add(outbox);
+            outboxParticipantIds.add(participant.getId());
+        }
+
+        // 3. 아웃박스 일괄 등록
+        List<NotificationOutbox> saved = notificationOutboxService.enqueueAll(outboxes);
+        for (int i = 0; i < saved.size(); i++) {
+            Long participantId = outboxParticipantIds.get(i);
+            job.outboxIds.put(participantId, saved.get(i).getId());
+            job.progress.get(participantId).setStatus(NotificationStatus.PENDING.name());
+        }
+    }
+
+    private String decrypt(String value) {
+        return value != null ? encryptionUtil.decrypt(value) : null;
+    }
+
+    /**
+     * 작업 상태 DTO 변환 (등록된 건은 아웃박스의 현재 발송 상태를 반영)
+     */
+    private SignatureFanoutJobDTO toDTO(FanoutJob job) {
+        Map<Long, NotificationOutbox> outboxes = notificationOutboxService.getOutboxes(job.outboxIds.values());
+
+        SignatureFanoutJobDTO dto = new SignatureFanoutJobDTO();
+        dto.setJobId(job.jobId);
+        dto.setContractId(job.contractId);
+        dto.setStatus(job.status);
+        dto.setErrorMessage(job.errorMessage);
+        dto.setCreatedAt(job.createdAt);
+        dto.setCompletedAt(job.completedAt);
+        dto.setTotalCount(job.progress.size());
+
+        for (ParticipantProgress source : job.progress.values()) {
+            ParticipantProgress progress = new ParticipantProgress();
+            progress.setParticipantId(source.getParticipantId());
+            progress.setName(source.getName());
+            progress.setChannel(source.getChannel());
+            progress.setStatus(source.getStatus());
+            progress.setMessage(source.getMessage());
+
+            Long outboxId = job.outboxIds.get(source.getParticipantId());
+            NotificationOutbox outbox = outboxId != null ? outboxes.get(outboxId) : null;
+            if (outbox != null) {
+                progress.setStatus(outbox.getStatus().name());
+                progress.setAttemptCount(outbox.getAttemptCount());
+                progress.setMessage(outbox.getLastError());
+            }
+
+            if ("SKIPPED".equals(progress.getStatus())) {
+                dto.setSkippedCount(dto.getSkippedCount() + 1);
+            } else if (NotificationStatus.FAILED.name().equals(progress.getStatus())) {
+                dto.setFailedCount(dto.getFailedCount() + 1);
+            } else if (NotificationStatus.SENT.name().equals(progress.getStatus())) {
+                dto.setSentCount(dto.getSentCount() + 1);
+            }
+            if (outbox != null) {
+                dto.setQueuedCount(dto.getQueuedCount() + 1);
+            }
+            dto.getParticipants().add(progress);
+        }
+        dto.getParticipants().sort(Comparator.comparing(ParticipantProgress::getParticipantId));
+        return dto;
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(threshold));
+    }
+
+    /**
+     * 일괄 발송 작업 (메모리 보관, 재시작 시 유실)
+     */
+    private static class FanoutJob {
+        private final String jobId;
+        private final Long contractId;
+        private final Long requestedBy;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final Map<Long, ParticipantProgress> progress = new ConcurrentHashMap<>();
+        private final Map<Long, Long> outboxIds = new ConcurrentHashMap<>();
+        private volatile String status = "QUEUED";
+        private volatile String errorMessage;
+        private volatile LocalDateTime completedAt;
+
+        private FanoutJob(String jobId, Long contractId, Long requestedBy) {
+            this.jobId = jobId;
+            this.contractId = contractId;
+            this.requestedBy = requestedBy;
+        }
+
+        private ParticipantProgress register(ContractParticipant participant) {
+            ParticipantProgress item = new ParticipantProgress();
+            item.setParticipantId(participant.getId());
+            item.setName(participant.getName());
+            item.setChannel(participant.getNotifyType() != null ? participant.getNotifyType().name() : null);
+            item.setStatus("WAITING");
+            progress.put(participant.getId(), item);
+            return item;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.inspection.util;
+
+import java.util.function.Consumer;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 업무 트랜잭션 커밋 이후 실행하는 보조 작업 유틸 (검색 문서/기한 인덱스 갱신 등)
+ * 커밋된 데이터 기준으로 별도 트랜잭션에서 실행하고, DB 오류는 업무 처리로 전파하지 않고 onFailure 로 넘깁니다.
+ * 트랜잭션 동기화가 없으면(트랜잭션 밖 호출) 바로 실행합니다.
+ */
+public final class AfterCommitTasks {
+
+    private AfterCommitTasks() {
+    }
+
+    /**
+     * 커밋 이후 작업 실행 등록
+     * @param requiresNew 작업을 실행할 트랜잭션 템플릿 (PROPAGATION_REQUIRES_NEW)
+     * @param task 실행할 작업
+     * @param onFailure 작업 중 DataAccessException 발생 시 호출 (재반영 대상 기록, 로그 등)
+     */
+    public static void runAfterCommit(TransactionTemplate requiresNew, Runnable task,
+            Consumer<DataAccessException> onFailure) {
+        Runnable safeTask = () -> {
+            try {
+                requiresNew.executeWithoutResult(status -> task.run());
+            } catch (DataAccessException e) {
+                onFailure.accept(e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.inspection.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 블라인드 인덱스 유틸
+ *
+ * 암호화된 필드를 복호화하지 않고 찾을 수 있도록 정규화한 평문의 HMAC-SHA256 값을 만듭니다.
+ * - exact: 완전 일치 검색용 (16바이트, hex 32자)
+ * - ngramTokens: 숫자 필드 부분 검색용 NGRAM_SIZE 자리 조각별 토큰 (8바이트, hex 16자)
+ * 도메인(사업자번호/전화번호/이메일)을 HMAC 입력에 포함하여 같은 값이라도 도메인이 다르면 다른 값이 됩니다.
+ * 토큰은 의도적으로 짧게 잘라 충돌을 허용하므로 부분 검색 결과는 복호화하여 다시 확인해야 합니다.
+ */
+@Component
+public class BlindIndexUtil {
+
+    public static final String DOMAIN_BUSINESS_NUMBER = "bizno";
+    public static final String DOMAIN_PHONE = "phone";
+    public static final String DOMAIN_EMAIL = "email";
+
+    public static final int NGRAM_SIZE = 4;
+
+    private static final int EXACT_BYTES = 16;
+    private static final int TOKEN_BYTES = 8;
+
+    @Value("${encryption.key}")
+    private String encryptionKey;
+
+    // 별도 키가 없으면 encryption.key 에서 파생
+    @Value("${encryption.blind-index-key:}")
+    private String blindIndexKey;
+
+    private SecretKeySpec macKey;
+    private ThreadLocal<Mac> mac;
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes;
+        if (blindIndexKey != null && !blindIndexKey.isBlank()) {
+            keyBytes = Base64.getDecoder().decode(blindIndexKey);
+        } else {
+            keyBytes = hmac(new SecretKeySpec(Base64.getDecoder().decode(encryptionKey), "HmacSHA256"),
+                    "blind-index".getBytes(StandardCharsets.UTF_8));
+        }
+        macKey = new SecretKeySpec(keyBytes, "HmacSHA256");
+        mac = ThreadLocal.withInitial(() -> newMac(macKey));
+    }
+
+    /**
+     * 완전 일치 검색용 인덱스 값
+     * @return 정규화 후 값이 없으면 null
+     */
+    public String exact(String domain, String plaintext) {
+        String normalized = normalize(domain, plaintext);
+        if (normalized == null) {
+            return null;
+        }
+        return digest(domain + ":" + normalized, EXACT_BYTES);
+    }
+
+    /**
+     * 숫자 필드 부분 검색용 토큰 (숫자만 남긴 값의 NGRAM_SIZE 자리 연속 조각마다 하나)
+     */
+    public Set<String> ngramTokens(String domain, String plaintext) {
+        Set<String> tokens = new LinkedHashSet<>();
+        String digits = digitsOnly(plaintext);
+        if (digits == null) {
+            return tokens;
+        }
+        for (int i = 0; i + NGRAM_SIZE <= digits.length(); i++) {
+            tokens.add(digest(domain + "#" + digits.substring(i, i + NGRAM_SIZE), TOKEN_BYTES));
+        }
+        return tokens;
+    }
+
+    /**
+     * 도메인별 정규화 (사업자번호/전화번호는 숫자만, 이메일은 공백 제거 후 소문자)
+     */
+    public static String normalize(String domain, String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        if (DOMAIN_EMAIL.equals(domain)) {
+            String email = plaintext.trim().toLowerCase(Locale.ROOT);
+            return email.isEmpty() ? null : email;
+        }
+        return digitsOnly(plaintext);
+    }
+
+    public static String digitsOnly(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.length() > 0 ? digits.toString() : null;
+    }
+
+    private String digest(String input, int length) {
+        byte[] result = mac.get().doFinal(input.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(result, 0, length);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] input) {
+        return newMac(key).doFinal(input);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac instance = Mac.getInstance("HmacSHA256");
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("블라인드 인덱스 키 초기화 중 오류가 발생했습니다.", e);
+        }
+    }
+}
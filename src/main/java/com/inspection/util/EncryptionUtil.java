@@ -1,60 +1,178 @@
 package com.inspection.util;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 필드 암호화 유틸
+ *
+ * 암호문 형식
+ * - v1 (헤더 없음): Base64(AES/ECB/PKCS5Padding) - 기존 데이터 형식, 같은 평문은 같은 암호문
+ * - v2: "v2:" + Base64(IV 12바이트 + AES/GCM 암호문 + 인증 태그)
+ * 복호화는 헤더로 형식을 구분하므로 두 형식이 섞여 있어도 되며,
+ * encryption.write-version 으로 새로 저장하는 값의 형식을 선택합니다 (기본 v1).
+ *
+ * 키는 기동 시 한 번만 만들고, Cipher 는 스레드별로 보관하여 호출마다 생성하지 않습니다.
+ */
 @Component
 public class EncryptionUtil {
-    
+
+    public static final String VERSION_V1 = "v1";
+    public static final String VERSION_V2 = "v2";
+
+    private static final String V2_PREFIX = VERSION_V2 + ":";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+
+    // 이 건수 이상이면 decryptAll 을 여러 코어로 나누어 처리
+    private static final int PARALLEL_THRESHOLD = 256;
+
     @Value("${encryption.key}")
     private String encryptionKey;
-    
+
+    @Value("${encryption.write-version:v1}")
+    private String writeVersion;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private SecretKeySpec secretKey;
+    private ThreadLocal<Cipher> ecbEncryptCipher;
+    private ThreadLocal<Cipher> ecbDecryptCipher;
+    private final ThreadLocal<Cipher> gcmCipher = ThreadLocal.withInitial(() -> newCipher("AES/GCM/NoPadding"));
+
+    @PostConstruct
+    void init() {
+        if (!VERSION_V1.equals(writeVersion) && !VERSION_V2.equals(writeVersion)) {
+            throw new IllegalStateException("지원하지 않는 encryption.write-version 입니다: " + writeVersion);
+        }
+        secretKey = new SecretKeySpec(getKeyBytes(), "AES");
+        // ECB 는 IV 가 없으므로 초기화된 Cipher 를 doFinal 이후에도 그대로 재사용
+        ecbEncryptCipher = ThreadLocal.withInitial(() -> initCipher("AES", Cipher.ENCRYPT_MODE));
+        ecbDecryptCipher = ThreadLocal.withInitial(() -> initCipher("AES", Cipher.DECRYPT_MODE));
+    }
+
     private byte[] getKeyBytes() {
         // Base64로 인코딩된 키를 디코딩
         byte[] keyBytes = Base64.getDecoder().decode(encryptionKey);
         // 키 길이가 16, 24, 32바이트가 되도록 패딩
         if (keyBytes.length < 16) {
-            byte[] paddedKey = new byte[16];
-            System.arraycopy(keyBytes, 0, paddedKey, 0, keyBytes.length);
-            return paddedKey;
+            return Arrays.copyOf(keyBytes, 16);
         } else if (keyBytes.length < 24) {
-            byte[] paddedKey = new byte[24];
-            System.arraycopy(keyBytes, 0, paddedKey, 0, keyBytes.length);
-            return paddedKey;
+            return Arrays.copyOf(keyBytes, 24);
         } else if (keyBytes.length < 32) {
-            byte[] paddedKey = new byte[32];
-            System.arraycopy(keyBytes, 0, paddedKey, 0, keyBytes.length);
-            return paddedKey;
+            return Arrays.copyOf(keyBytes, 32);
         }
         return keyBytes;
     }
-    
+
     public String encrypt(String value) {
         try {
-            SecretKeySpec secretKey = new SecretKeySpec(getKeyBytes(), "AES");
-            Cipher cipher = Cipher.getInstance("AES");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            byte[] encryptedBytes = cipher.doFinal(value.getBytes());
+            if (VERSION_V2.equals(writeVersion)) {
+                return encryptV2(value);
+            }
+            // v1 은 기존 데이터와 같은 결과가 나오도록 플랫폼 기본 문자셋을 그대로 사용
+            byte[] encryptedBytes = ecbEncryptCipher.get().doFinal(value.getBytes());
             return Base64.getEncoder().encodeToString(encryptedBytes);
         } catch (Exception e) {
+            ecbEncryptCipher.remove();  // 예외 후 Cipher 상태를 신뢰하지 않고 다음 호출에서 새로 생성
             throw new RuntimeException("암호화 중 오류가 발생했습니다.", e);
         }
     }
-    
+
     public String decrypt(String encrypted) {
         try {
-            SecretKeySpec secretKey = new SecretKeySpec(getKeyBytes(), "AES");
-            Cipher cipher = Cipher.getInstance("AES");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encrypted));
+            if (encrypted.startsWith(V2_PREFIX)) {
+                return decryptV2(encrypted);
+            }
+            byte[] decryptedBytes = ecbDecryptCipher.get().doFinal(Base64.getDecoder().decode(encrypted));
             return new String(decryptedBytes);
         } catch (Exception e) {
+            ecbDecryptCipher.remove();
             throw new RuntimeException("복호화 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 값 일괄 복호화 (입력 순서 유지, null 은 null 로 반환)
+     * PARALLEL_THRESHOLD 건 이상이면 공용 ForkJoinPool 로 나누어 처리합니다.
+     * 하나라도 복호화에 실패하면 decrypt 와 같은 예외를 던집니다.
+     */
+    public List<String> decryptAll(Collection<String> encryptedValues) {
+        String[] source = encryptedValues.toArray(new String[0]);
+        String[] result = new String[source.length];
+        IntStream indexes = IntStream.range(0, source.length);
+        if (source.length >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> result[i] = source[i] != null ? decrypt(source[i]) : null);
+        return new ArrayList<>(Arrays.asList(result));
+    }
+
+    /**
+     * 값이 현재 저장 형식(encryption.write-version)과 다른 형식으로 암호화되어 있는지 여부
+     * (점진적 재암호화 대상 판별용)
+     */
+    public boolean needsReencryption(String encrypted) {
+        boolean isV2 = encrypted.startsWith(V2_PREFIX);
+        return VERSION_V2.equals(writeVersion) != isV2;
+    }
+
+    private String encryptV2(String value) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        // GCM 은 같은 키/IV 재사용이 금지되므로 호출마다 새 IV 로 다시 초기화
+        Cipher cipher = gcmCipher.get();
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] encryptedBytes = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer buffer = ByteBuffer.allocate(iv.length + encryptedBytes.length);
+        buffer.put(iv).put(encryptedBytes);
+        return V2_PREFIX + Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private String decryptV2(String encrypted) throws GeneralSecurityException {
+        byte[] payload = Base64.getDecoder().decode(encrypted.substring(V2_PREFIX.length()));
+        if (payload.length <= GCM_IV_LENGTH) {
+            throw new GeneralSecurityException("v2 암호문 길이가 올바르지 않습니다.");
+        }
+        Cipher cipher = gcmCipher.get();
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_BITS, payload, 0, GCM_IV_LENGTH));
+        byte[] decryptedBytes = cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
+    }
+
+    private Cipher initCipher(String transformation, int mode) {
+        Cipher cipher = newCipher(transformation);
+        try {
+            cipher.init(mode, secretKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("암호화 키 초기화 중 오류가 발생했습니다.", e);
+        }
+        return cipher;
+    }
+
+    private static Cipher newCipher(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cipher 생성 중 오류가 발생했습니다: " + transformation, e);
+        }
+    }
+}
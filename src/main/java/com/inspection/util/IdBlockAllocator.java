@@ -0,0 +1,284 @@
+package com.inspection.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.stereotype.Component;
+
+import com.inspection.config.ReplicaRoutingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 테이블 기반 ID 블록 할당기
+ * IDENTITY 전략은 Hibernate의 insert 배치를 비활성화하므로, id_blocks 테이블에서 ID 구간을 예약하여
+ * JPA 저장(BlockIdGenerator)과 JDBC 배치 insert가 같은 채번을 공유하도록 합니다.
+ * 구간 예약은 별도 커넥션에서 즉시 커밋되며, JVM 기동 후 최초 예약 시 대상 테이블의 MAX(id)로 시작값을 보정합니다.
+ * 읽기 복제본을 사용하는 경우에도 예약은 항상 주 DB 커넥션으로 합니다.
+ * 테이블 ID 외에 전표번호 같은 이름 있는 일련번호도 같은 테이블의 세그먼트 행으로 예약합니다(reserveSequence).
+ * 세그먼트 행은 잠그기 전에 먼저 만들어 두고(없는 행을 잠글 때의 갭 잠금 교착 방지), 교착/잠금 대기 초과는 재시도합니다.
+ */
+@Slf4j
+@Component
+public class IdBlockAllocator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 50;
+
+    private static final Pattern SQL_IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+    private static final int MAX_SEGMENT_NAME_LENGTH = 64;
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 20;
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final String SQL_STATE_RETRY = "40001";
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS id_blocks (" +
+            "segment_name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+            "next_val BIGINT NOT NULL)";
+
+    private final DataSource dataSource;
+
+    // 세그먼트(테이블)별로 메모리에 보관 중인 단건 발급용 구간
+    private final Map<String, IdRange> cachedRanges = new ConcurrentHashMap<>();
+
+    // 이 JVM에서 MAX(id) 보정을 마친 세그먼트
+    private final Set<String> alignedSegments = ConcurrentHashMap.newKeySet();
+
+    // 이 JVM에서 id_blocks 행 존재를 확인한 세그먼트
+    private final Set<String> knownSegments = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean tableReady = false;
+
+    public IdBlockAllocator(DataSource dataSource) {
+        this.dataSource = ReplicaRoutingDataSource.primaryOf(dataSource);
+    }
+
+    /**
+     * 단건 ID 발급 (JPA 식별자 생성기에서 사용)
+     * 메모리 구간이 소진되면 DEFAULT_BLOCK_SIZE 만큼 새로 예약합니다.
+     */
+    public long nextId(String tableName, String idColumn) {
+        IdRange range = cachedRanges.computeIfAbsent(tableName, key -> new IdRange());
+        synchronized (range) {
+            if (!range.hasNext()) {
+                long start = reserve(tableName, idColumn, DEFAULT_BLOCK_SIZE);
+                range.reset(start, start + DEFAULT_BLOCK_SIZE);
+            }
+            return range.next++;
+        }
+    }
+
+    /**
+     * 연속된 ID 구간 예약 (JDBC 배치 insert용)
+     * @return 예약된 구간의 첫 번째 ID (start ~ start + count - 1 사용 가능)
+     */
+    public long reserveRange(String tableName, String idColumn, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("예약할 ID 개수는 1 이상이어야 합니다: " + count);
+        }
+        return reserve(tableName, idColumn, count);
+    }
+
+    /**
+     * 이름 있는 일련번호 구간 예약 (전표번호 등)
+     * 세그먼트 행을 잠근 뒤 즉시 커밋하므로 동시에 예약한 구간은 겹치지 않으며, 호출 측 트랜잭션이 롤백되면 번호가 비게 됩니다.
+     * @param segmentName 세그먼트 이름 (최대 64자)
+     * @param initialValue 세그먼트 행이 없을 때의 첫 번호 (이 JVM 에서 처음 예약할 때 한 번 호출)
+     * @return 예약된 구간의 첫 번호 (start ~ start + count - 1 사용 가능)
+     */
+    public long reserveSequence(String segmentName, int count, LongSupplier initialValue) {
+        if (count < 1) {
+            throw new IllegalArgumentException("예약할 번호 개수는 1 이상이어야 합니다: " + count);
+        }
+        if (segmentName == null || segmentName.isEmpty() || segmentName.length() > MAX_SEGMENT_NAME_LENGTH) {
+            throw new IllegalArgumentException("유효하지 않은 세그먼트 이름입니다: " + segmentName);
+        }
+        ensureTable();
+        return reserveSegment(segmentName, count, initialValue, connection -> selectForUpdate(connection, segmentName));
+    }
+
+    private long reserve(String tableName, String idColumn, int count) {
+        validateIdentifier(tableName);
+        validateIdentifier(idColumn);
+        ensureTable();
+        // 테이블 세그먼트는 첫 예약 시 MAX(id) 로 보정하므로 행은 1 로 만들어 둠
+        return reserveSegment(tableName, count, () -> 1L, connection -> lockSegment(connection, tableName, idColumn));
+    }
+
+    /**
+     * 세그먼트 행을 잠가 시작값을 구하고 count 만큼 늘린 뒤 커밋 (교착 상태/잠금 대기 초과 시 재시도)
+     */
+    private long reserveSegment(String segmentName, int count, LongSupplier initialValue, SegmentLocker locker) {
+        SQLException lastError = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                ensureSegment(segmentName, initialValue);
+                long start = lockAndAdvance(segmentName, count, locker);
+                log.debug("구간 예약: {} [{} ~ {}]", segmentName, start, start + count - 1);
+                return start;
+            } catch (SQLException e) {
+                if (!isRetryable(e)) {
+                    throw new IllegalStateException("구간 예약 중 오류가 발생했습니다: " + segmentName, e);
+                }
+                lastError = e;
+                log.warn("구간 예약 재시도 ({}/{}): {}, {}", attempt, MAX_ATTEMPTS, segmentName, e.getMessage());
+                sleepBeforeRetry(attempt);
+            }
+        }
+        throw new IllegalStateException("구간 예약 재시도 횟수를 초과했습니다: " + segmentName, lastError);
+    }
+
+    /**
+     * 세그먼트 행이 없으면 먼저 만들어 둠 (자동 커밋 단건 insert)
+     * 없는 행을 SELECT ... FOR UPDATE 로 잠그면 두 트랜잭션이 같은 갭 잠금을 잡은 뒤 서로의 insert 를 기다리며 교착되므로,
+     * 행 생성은 잠금 트랜잭션 밖에서 INSERT IGNORE 로 하고 잠금은 항상 존재하는 행에만 겁니다.
+     */
+    private void ensureSegment(String segmentName, LongSupplier initialValue) throws SQLException {
+        if (knownSegments.contains(segmentName)) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     "INSERT IGNORE INTO id_blocks (segment_name, next_val) VALUES (?, ?)")) {
+            connection.setAutoCommit(true);
+            ps.setString(1, segmentName);
+            ps.setLong(2, initialValue.getAsLong());
+            ps.executeUpdate();
+        }
+        knownSegments.add(segmentName);
+    }
+
+    private long lockAndAdvance(String segmentName, int count, SegmentLocker locker) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long start = locker.lock(connection);
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "UPDATE id_blocks SET next_val = ? WHERE segment_name = ?")) {
+                    ps.setLong(1, start + count);
+                    ps.setString(2, segmentName);
+                    ps.executeUpdate();
+                }
+                connection.commit();
+                // 커밋이 성공한 뒤에만 보정 완료로 표시 (실패하면 다음 예약에서 다시 보정)
+                alignedSegments.add(segmentName);
+                return start;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 행을 잠그고 현재 시작값을 반환 (행은 ensureSegment 에서 생성됨)
+     */
+    private long lockSegment(Connection connection, String tableName, String idColumn) throws SQLException {
+        long stored = selectForUpdate(connection, tableName);
+
+        // 기동 후 첫 예약: IDENTITY 등 다른 경로로 삽입된 행과 겹치지 않도록 보정
+        if (!alignedSegments.contains(tableName)) {
+            stored = Math.max(stored, selectMaxId(connection, tableName, idColumn) + 1);
+        }
+        return stored;
+    }
+
+    private long selectForUpdate(Connection connection, String segmentName) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT next_val FROM id_blocks WHERE segment_name = ? FOR UPDATE")) {
+            ps.setString(1, segmentName);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    // 다른 경로로 행이 삭제된 경우 다음 시도에서 다시 생성
+                    knownSegments.remove(segmentName);
+                    throw new SQLException("id_blocks 세그먼트 행이 없습니다: " + segmentName, SQL_STATE_RETRY);
+                }
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private long selectMaxId(Connection connection, String tableName, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + tableName)) {
+            return rs.next() ? rs.getLong(1) : 0L;
+        }
+    }
+
+    // 교착 상태(1213), 잠금 대기 초과(1205), 직렬화 실패(40001)는 재시도
+    private static boolean isRetryable(SQLException e) {
+        return e.getErrorCode() == MYSQL_DEADLOCK || e.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT
+                || SQL_STATE_RETRY.equals(e.getSQLState());
+    }
+
+    private static void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("구간 예약 재시도 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void ensureTable() {
+        if (tableReady) {
+            return;
+        }
+        synchronized (this) {
+            if (tableReady) {
+                return;
+            }
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_TABLE_SQL);
+                tableReady = true;
+            } catch (SQLException e) {
+                throw new IllegalStateException("id_blocks 테이블 초기화 중 오류가 발생했습니다", e);
+            }
+        }
+    }
+
+    private void validateIdentifier(String identifier) {
+        if (identifier == null || !SQL_IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 테이블/컬럼명입니다: " + identifier);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentLocker {
+        long lock(Connection connection) throws SQLException;
+    }
+
+    /**
+     * 메모리에 보관하는 ID 구간 [next, end)
+     */
+    private static final class IdRange {
+        private long next;
+        private long end;
+
+        boolean hasNext() {
+            return next < end;
+        }
+
+        void reset(long start, long end) {
+            this.next = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.inspection.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 JDBC 문장을 현재 스레드 단위로 수집하는 StatementInspector
+ * 쿼리 실행 계획 점검 모드(QueryPlanCheckConfig)에서만 등록되며, 운영 설정에는 포함되지 않습니다.
+ * 수집 중이 아닐 때는 ThreadLocal 조회만 하고 그대로 반환합니다.
+ *
+ * 사용 예)
+ * {@code try (JdbcStatementCounter.Capture capture = JdbcStatementCounter.capture()) {
+ *     repository.findAll();
+ *     log.info("select {}회", capture.count("select"));
+ * }}
+ */
+public class JdbcStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Deque<Capture>> ACTIVE_CAPTURES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * 현재 스레드의 문장 수집 시작 (중첩 가능, close 시 종료)
+     */
+    public static Capture capture() {
+        Capture capture = new Capture();
+        ACTIVE_CAPTURES.get().push(capture);
+        return capture;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Deque<Capture> captures = ACTIVE_CAPTURES.get();
+        if (!captures.isEmpty()) {
+            for (Capture capture : captures) {
+                capture.statements.add(sql);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * 수집 구간
+     */
+    public static final class Capture implements AutoCloseable {
+
+        private final List<String> statements = new ArrayList<>();
+
+        private Capture() {
+        }
+
+        public List<String> getStatements() {
+            return List.copyOf(statements);
+        }
+
+        public int count() {
+            return statements.size();
+        }
+
+        /**
+         * 지정한 종류(select, insert, update, delete)로 시작하는 문장 수
+         */
+        public int count(String statementType) {
+            String prefix = statementType.toLowerCase(Locale.ROOT);
+            return (int) statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(prefix))
+                    .count();
+        }
+
+        @Override
+        public void close() {
+            Deque<Capture> captures = ACTIVE_CAPTURES.get();
+            captures.remove(this);
+            if (captures.isEmpty()) {
+                ACTIVE_CAPTURES.remove();
+            }
+        }
+    }
+}
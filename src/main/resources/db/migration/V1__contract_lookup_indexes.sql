@@ -0,0 +1,31 @@
+-- 계약/참여자/서명 필드/이벤트 로그 조회용 인덱스
+-- 테이블은 JPA 스키마 갱신으로 만들어지므로 이 마이그레이션은 EntityManagerFactory 초기화 이후 실행됨 (FlywayConfig)
+-- FK 컬럼 단독 인덱스(contract_id, participant_id 등)는 외래키 생성 시 MySQL 이 자동으로 만들기 때문에 제외
+
+-- ContractRepository.findContractNumbersByPrefix / ByYear (계약번호 접두어 LIKE)
+CREATE INDEX idx_contract_contract_number ON contract (contract_number);
+
+-- ContractParticipantRepository.findByPdfId, 서명 완료 PDF 조회
+CREATE INDEX idx_contract_participant_pdf_id ON contract_participant (pdf_id);
+CREATE INDEX idx_contract_participant_signed_pdf_id ON contract_participant (signed_pdf_id);
+
+-- ParticipantTemplateMappingRepository.findByPdfId / findBySignedPdfId / findByResignedPdfId
+CREATE INDEX idx_participant_template_mappings_pdf_id ON participant_template_mappings (pdf_id);
+CREATE INDEX idx_participant_template_mappings_signed_pdf_id ON participant_template_mappings (signed_pdf_id);
+CREATE INDEX idx_participant_template_mappings_resigned_pdf_id ON participant_template_mappings (resigned_pdf_id);
+
+-- ParticipantPdfFieldRepository.findByPdfId / findByPdfIdAndFieldName / deleteByPdfId
+CREATE INDEX idx_participant_pdf_fields_pdf_field ON participant_pdf_fields (pdf_id, field_name);
+-- ParticipantPdfFieldRepository.findByParticipantIdAndPdfId
+CREATE INDEX idx_participant_pdf_fields_participant_pdf ON participant_pdf_fields (participant_id, pdf_id);
+
+-- ContractPdfFieldRepository.findByPdfId / findByPdfIdAndFieldName / deleteByPdfId
+CREATE INDEX idx_contract_pdf_fields_pdf_field ON contract_pdf_fields (pdf_id, field_name);
+
+-- ContractEventLogRepository: 계약/참여자/이벤트 유형/행위자별 최신순 조회, 기간 조회
+CREATE INDEX idx_contract_event_log_contract_time ON contract_event_log (contract_id, event_time);
+CREATE INDEX idx_contract_event_log_contract_type_time ON contract_event_log (contract_id, event_type_code_id, event_time);
+CREATE INDEX idx_contract_event_log_participant_time ON contract_event_log (participant_id, event_time);
+CREATE INDEX idx_contract_event_log_type_time ON contract_event_log (event_type_code_id, event_time);
+CREATE INDEX idx_contract_event_log_actor_time ON contract_event_log (actor_id, event_time);
+CREATE INDEX idx_contract_event_log_event_time ON contract_event_log (event_time);
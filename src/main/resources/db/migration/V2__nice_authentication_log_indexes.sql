@@ -0,0 +1,19 @@
+-- NICE 본인인증 이력 조회용 인덱스
+-- 외래 키가 있으면 MySQL 이 FK 컬럼 인덱스를 자동으로 만들지만, 월 파티션 변환(LogPartitionJdbcRepository.convertToPartitioned) 시
+-- 외래 키를 삭제하므로 조회에 필요한 인덱스는 명시적으로 관리함 (FK 컬럼이 앞에 오는 인덱스가 있으면 자동 인덱스는 대체됨)
+
+-- NiceAuthenticationLogRepository.findByContractOrderByCreatedAtDesc, countSuccessfulAuthByContract
+CREATE INDEX idx_nice_authentication_log_contract_created ON nice_authentication_log (contract_id, created_at);
+
+-- NiceAuthenticationLogRepository.findByParticipantOrderByCreatedAtDesc
+CREATE INDEX idx_nice_authentication_log_participant_created ON nice_authentication_log (contract_participant_id, created_at);
+
+-- NiceAuthenticationLogRepository.findLast/FirstSuccessfulAuthByParticipant, countSuccessfulAuthByParticipant
+CREATE INDEX idx_nice_authentication_log_participant_result_auth
+    ON nice_authentication_log (contract_participant_id, result_code, authenticated_at);
+
+-- NiceAuthenticationLogRepository.findByCiAndResultCodeOrderByCreatedAtDesc
+CREATE INDEX idx_nice_authentication_log_ci_result_created ON nice_authentication_log (ci, result_code, created_at);
+
+-- NiceAuthenticationLogRepository.findByAuthenticatedAtBetween
+CREATE INDEX idx_nice_authentication_log_authenticated_at ON nice_authentication_log (authenticated_at);
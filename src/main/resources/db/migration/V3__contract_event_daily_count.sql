@@ -0,0 +1,12 @@
+-- 계약 이벤트 일별 집계 테이블 (ContractEventDailyCountRepository, ContractEventStatsService 가 주기적으로 재계산)
+-- 엔티티가 없는 테이블이라 JPA 스키마 갱신 대상이 아니므로 마이그레이션으로 관리
+-- 이전에 애플리케이션이 기동 시 직접 만든 테이블이 있으면 그대로 사용 (IF NOT EXISTS)
+CREATE TABLE IF NOT EXISTS contract_event_daily_count (
+    event_date DATE NOT NULL,
+    event_type_code_id VARCHAR(255) NOT NULL,
+    actor_id VARCHAR(255) NOT NULL,
+    event_count BIGINT NOT NULL,
+    PRIMARY KEY (event_date, event_type_code_id, actor_id),
+    KEY idx_event_daily_count_type_date (event_type_code_id, event_date),
+    KEY idx_event_daily_count_actor_date (actor_id, event_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
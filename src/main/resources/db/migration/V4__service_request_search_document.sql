@@ -0,0 +1,10 @@
+-- AS 접수 검색 문서 테이블 (ServiceRequestSearchRepository, ServiceRequestSearchIndexService 가 갱신/재색인)
+-- 엔티티가 없는 테이블이라 JPA 스키마 갱신 대상이 아니므로 마이그레이션으로 관리
+-- 이전에 애플리케이션이 기동 시 직접 만든 테이블이 있으면 그대로 사용 (IF NOT EXISTS)
+-- FULLTEXT 인덱스는 ngram parser 사용 (한글 부분 일치 검색, ngram_token_size 기본값 2)
+CREATE TABLE IF NOT EXISTS service_request_search_document (
+    service_request_id BIGINT NOT NULL PRIMARY KEY,
+    search_text TEXT NOT NULL,
+    updated_at DATETIME NOT NULL,
+    FULLTEXT KEY ft_service_request_search (search_text) WITH PARSER ngram
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,186 @@
+package com.inspection.as.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import com.inspection.as.dto.ServiceRequestDTO;
+import com.inspection.as.entity.ServiceRequest;
+import com.inspection.config.ApplicationContextProvider;
+import com.inspection.entity.Code;
+import com.inspection.entity.CodeGroup;
+import com.inspection.entity.Company;
+import com.inspection.entity.Role;
+import com.inspection.entity.User;
+import com.inspection.facility.entity.Facility;
+import com.inspection.util.IdBlockAllocator;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * AS 접수 목록 조회 쿼리 수 테스트 (Hibernate 통계)
+ * 목록 DTO 변환 중 연관 엔티티가 건별로 추가 조회되지 않는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:service_request;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ IdBlockAllocator.class, ApplicationContextProvider.class })
+class ServiceRequestRepositoryTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    private Long facilityId;
+    private Long requesterId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        CodeGroup group = new CodeGroup();
+        group.setGroupId("999");
+        group.setGroupName("테스트");
+        group.setLevel(1);
+        entityManager.persist(group);
+
+        Code brand = code(group, "999_0001", "브랜드");
+        Code facilityType = code(group, "999_0002", "리프트");
+        Code serviceType = code(group, "999_0003", "일반수리");
+        Code priority = code(group, "999_0004", "일반");
+        Code status = code(group, "999_0005", "접수중");
+        Code branchGroup = code(group, "999_0006", "북부지부");
+
+        User requester = new User();
+        requester.setUserId("requester");
+        requester.setPassword("password");
+        requester.setRole(Role.USER);
+        requester.setUserName("요청자");
+        entityManager.persist(requester);
+        requesterId = requester.getId();
+
+        Company company = new Company();
+        company.setStoreCode("S00001");
+        company.setStoreNumber("001");
+        company.setStoreName("강남점");
+        company.setBranchGroup(branchGroup);
+        entityManager.persist(company);
+
+        Facility facility = new Facility();
+        facility.setBrand(brand);
+        facility.setFacilityType(facilityType);
+        facility.setLocationCompany(company);
+        facility.setOwnerCompany(company);
+        entityManager.persist(facility);
+        facilityId = facility.getFacilityId();
+
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(ServiceRequest.builder()
+                    .requestNumber("AS-" + i)
+                    .facility(facility)
+                    .requestDate(LocalDateTime.now())
+                    .isReceived(false)
+                    .requestContent("점검 요청 " + i)
+                    .requester(requester)
+                    .isCompleted(false)
+                    .serviceType(serviceType)
+                    .priority(priority)
+                    .status(status)
+                    .originalLocationCompanyId(company.getId())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listByFacilityIsSingleQuery() {
+        assertSingleQuery(serviceRequestRepository.findByFacilityFacilityIdOrderByServiceRequestIdDesc(facilityId));
+    }
+
+    @Test
+    void listByRequesterIsSingleQuery() {
+        assertSingleQuery(serviceRequestRepository.findByRequesterId(requesterId));
+    }
+
+    @Test
+    void incompleteListIsSingleQuery() {
+        assertSingleQuery(serviceRequestRepository.findByIsCompletedFalse());
+    }
+
+    @Test
+    void findAllIsSingleQuery() {
+        assertSingleQuery(serviceRequestRepository.findAll());
+    }
+
+    @Test
+    void pagedListIsSelectAndCountOnly() {
+        List<ServiceRequest> page = serviceRequestRepository.findAll(PageRequest.of(0, 2)).getContent();
+        page.forEach(ServiceRequestDTO::fromEntity);
+
+        assertThat(page).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void detailIsSingleQuery() {
+        Long id = serviceRequestRepository.findAll().get(0).getServiceRequestId();
+        entityManager.clear();
+        statistics.clear();
+
+        ServiceRequest serviceRequest = serviceRequestRepository.findWithAssociationsByServiceRequestId(id).orElseThrow();
+        ServiceRequestDTO dto = ServiceRequestDTO.fromEntity(serviceRequest);
+
+        assertThat(dto.getBranchGroupName()).isEqualTo("북부지부");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * 목록 DTO 변환까지 포함해 쿼리가 한 번만 실행되었는지 확인
+     */
+    private void assertSingleQuery(List<ServiceRequest> serviceRequests) {
+        List<ServiceRequestDTO> dtos = serviceRequests.stream().map(ServiceRequestDTO::fromEntity).toList();
+
+        assertThat(dtos).hasSize(ROWS);
+        assertThat(dtos).allSatisfy(dto -> {
+            assertThat(dto.getCompanyName()).isEqualTo("강남점");
+            assertThat(dto.getBranchGroupName()).isEqualTo("북부지부");
+            assertThat(dto.getRequesterName()).isEqualTo("요청자");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Code code(CodeGroup group, String codeId, String codeName) {
+        Code code = new Code();
+        code.setCodeId(codeId);
+        code.setCodeName(codeName);
+        code.setCodeGroup(group);
+        code.setSortOrder(1);
+        entityManager.persist(code);
+        return code;
+    }
+}
@@ -0,0 +1,80 @@
+package com.inspection.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.inspection.entity.ContractEventLog;
+import com.inspection.repository.ContractEventLogRepository;
+import com.inspection.util.IdBlockAllocator;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate JDBC 배치 설정 테스트 (Hibernate 통계)
+ * 블록 ID 엔티티의 saveAll 이 건별 insert 가 아닌 배치 단위로 준비되는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hibernate_batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ HibernateBatchConfig.class, IdBlockAllocator.class, ApplicationContextProvider.class })
+class HibernateBatchConfigTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ContractEventLogRepository contractEventLogRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void batchSettingsAreApplied() {
+        assertThat(entityManagerFactory.getProperties())
+                .containsEntry("hibernate.jdbc.batch_size", String.valueOf(IdBlockAllocator.DEFAULT_BLOCK_SIZE))
+                .containsEntry("hibernate.order_inserts", "true")
+                .doesNotContainKey("hibernate.session_factory.statement_inspector");
+    }
+
+    @Test
+    void saveAllIsSentInBatches() {
+        List<ContractEventLog> logs = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            logs.add(ContractEventLog.createSimple(null, null, "배치 테스트 " + i));
+        }
+
+        contractEventLogRepository.saveAll(logs);
+        entityManager.flush();
+
+        // 배치 크기(ID 블록 크기) 단위로 insert 문장이 준비됨: 120건 -> 3회
+        int expectedBatches = (ROWS + IdBlockAllocator.DEFAULT_BLOCK_SIZE - 1) / IdBlockAllocator.DEFAULT_BLOCK_SIZE;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(expectedBatches);
+        assertThat(contractEventLogRepository.count()).isEqualTo(ROWS);
+    }
+}
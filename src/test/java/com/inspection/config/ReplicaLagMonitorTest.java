@@ -0,0 +1,107 @@
+package com.inspection.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.inspection.config.ReadReplicaConfig.ReplicaLagMonitor;
+
+/**
+ * 복제 지연 점검에 따른 복제본 라우팅 전환 테스트
+ */
+class ReplicaLagMonitorTest {
+
+    private JdbcTemplate replicaJdbcTemplate;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = mock(JdbcTemplate.class);
+        routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class));
+        monitor = new ReplicaLagMonitor(routingDataSource, replicaJdbcTemplate, null);
+        ReflectionTestUtils.setField(monitor, "maxLagSeconds", 5L);
+    }
+
+    @Test
+    void replicaWithinMaxLagIsUsed() {
+        when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+                .thenReturn(List.of(Map.of("Seconds_Behind_Source", 2L)));
+
+        monitor.check();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+                .thenReturn(List.of(Map.of("Seconds_Behind_Source", 30L)));
+
+        monitor.check();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void emptyReplicaStatusFallsBackToPrimary() {
+        routingDataSource.setReplicaAvailable(true);
+        when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS")).thenReturn(List.of());
+
+        monitor.check();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void stoppedReplicationFallsBackToPrimary() {
+        // 복제 SQL 스레드가 멈추면 Seconds_Behind_Source 가 NULL
+        Map<String, Object> row = new HashMap<>();
+        row.put("Seconds_Behind_Source", null);
+        routingDataSource.setReplicaAvailable(true);
+        when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS")).thenReturn(List.of(row));
+
+        monitor.check();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void legacyStatusCommandIsUsedOnOlderServers() {
+        when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+                .thenThrow(new BadSqlGrammarException("lag", "SHOW REPLICA STATUS", new SQLException()));
+        when(replicaJdbcTemplate.queryForList("SHOW SLAVE STATUS"))
+                .thenReturn(List.of(Map.of("Seconds_Behind_Master", 1L)));
+
+        monitor.check();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        routingDataSource.setReplicaAvailable(true);
+        when(replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        when(replicaJdbcTemplate.queryForList("SHOW SLAVE STATUS"))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        monitor.check();
+
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+}
@@ -0,0 +1,154 @@
+package com.inspection.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.inspection.config.ReadReplicaConfig.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기 복제본 라우팅 테스트 (replica-test 프로필: 주 DB / 복제본을 별도 H2 인메모리 DB 로 구성)
+ * 각 DB 의 db_marker 테이블에 서로 다른 이름을 넣어 두고, 실제로 연결된 DB 를 조회 결과로 확인합니다.
+ */
+@SpringBootTest(classes = { ReadReplicaConfig.class, ReplicaRoutingDataSourceTest.RoutingTestConfig.class })
+@ActiveProfiles("replica-test")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String MARKER_SQL = "SELECT name FROM db_marker";
+
+    @TestConfiguration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class RoutingTestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        initMarker(primaryDataSource, ReplicaRoutingDataSource.PRIMARY);
+        initMarker(replicaDataSource, ReplicaRoutingDataSource.REPLICA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        routingDataSource.setReplicaAvailable(true);
+    }
+
+    @Test
+    void dataSourceIsLazyProxyOverRouting() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isSameAs(routingDataSource);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(inTransaction(true, () -> jdbcTemplate.queryForObject(MARKER_SQL, String.class)))
+                .isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        inTransaction(false, () -> jdbcTemplate.update("INSERT INTO routing_write (id) VALUES (1)"));
+
+        assertThat(inTransaction(false, () -> jdbcTemplate.queryForObject(MARKER_SQL, String.class)))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(countWrites(primaryDataSource)).isEqualTo(1);
+        assertThat(countWrites(replicaDataSource)).isZero();
+    }
+
+    @Test
+    void callOutsideTransactionUsesPrimary() {
+        assertThat(jdbcTemplate.queryForObject(MARKER_SQL, String.class)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void primaryOfBypassesRoutingInReadOnlyTransaction() {
+        JdbcTemplate primaryJdbcTemplate = new JdbcTemplate(ReplicaRoutingDataSource.primaryOf(dataSource));
+
+        assertThat(ReplicaRoutingDataSource.primaryOf(dataSource)).isSameAs(primaryDataSource);
+        assertThat(inTransaction(true, () -> primaryJdbcTemplate.queryForObject(MARKER_SQL, String.class)))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void laggingReplicaSendsReadsToPrimary() {
+        JdbcTemplate statusJdbcTemplate = mock(JdbcTemplate.class);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(routingDataSource, statusJdbcTemplate, null);
+        ReflectionTestUtils.setField(monitor, "maxLagSeconds", 5L);
+
+        when(statusJdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+                .thenReturn(List.of(Map.of("Seconds_Behind_Source", 30L)));
+        monitor.check();
+        assertThat(inTransaction(true, () -> jdbcTemplate.queryForObject(MARKER_SQL, String.class)))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        when(statusJdbcTemplate.queryForList("SHOW REPLICA STATUS"))
+                .thenReturn(List.of(Map.of("Seconds_Behind_Source", 1L)));
+        monitor.check();
+        assertThat(inTransaction(true, () -> jdbcTemplate.queryForObject(MARKER_SQL, String.class)))
+                .isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    private static void initMarker(DataSource target, String name) {
+        JdbcTemplate template = new JdbcTemplate(target);
+        template.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20) NOT NULL)");
+        template.execute("CREATE TABLE IF NOT EXISTS routing_write (id BIGINT NOT NULL)");
+        template.execute("DELETE FROM db_marker");
+        template.execute("DELETE FROM routing_write");
+        template.update("INSERT INTO db_marker (name) VALUES (?)", name);
+    }
+
+    private static int countWrites(DataSource target) {
+        Integer count = new JdbcTemplate(target).queryForObject("SELECT COUNT(*) FROM routing_write", Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.inspection.facility.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.inspection.facility.repository.FacilityRepository;
+
+/**
+ * QR 코드 라벨 PDF 생성 스모크 테스트 (폰트 리소스 로드 및 한글 라벨 출력)
+ */
+class FacilityQrCodeServiceTest {
+
+    @TempDir
+    Path uploadPath;
+
+    private FacilityRepository facilityRepository;
+    private FacilityQrCodeService service;
+
+    @BeforeEach
+    void setUp() {
+        facilityRepository = mock(FacilityRepository.class);
+        // 병렬 렌더링 대신 호출 스레드에서 바로 실행
+        service = new FacilityQrCodeService(facilityRepository, Runnable::run);
+        ReflectionTestUtils.setField(service, "detailUrlPrefix", "https://example.com/facility-detail/");
+        ReflectionTestUtils.setField(service, "uploadPath", uploadPath.toString());
+        service.init();
+    }
+
+    @Test
+    void createLabelPdfBuildsOneLabel() throws Exception {
+        List<Object[]> rows = List.<Object[]>of(new Object[] { 1L, "TB-0001", "타이어뱅크 강남점" });
+        when(facilityRepository.findQrLabelInfoByIdIn(anyCollection())).thenReturn(rows);
+
+        byte[] pdf = service.createLabelPdf(List.of(1L));
+
+        assertThat(pdf).isNotEmpty();
+        try (PDDocument document = PDDocument.load(pdf)) {
+            assertThat(document.getNumberOfPages()).isEqualTo(1);
+        }
+    }
+}
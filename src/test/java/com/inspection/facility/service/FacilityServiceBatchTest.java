@@ -0,0 +1,144 @@
+package com.inspection.facility.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import com.inspection.as.service.ServiceRequestSearchIndexService;
+import com.inspection.config.ApplicationContextProvider;
+import com.inspection.entity.Code;
+import com.inspection.entity.CodeGroup;
+import com.inspection.facility.dto.FacilityBatchCreateRequest;
+import com.inspection.facility.dto.FacilityDTO;
+import com.inspection.facility.repository.FacilityJdbcRepository;
+import com.inspection.facility.repository.FacilityRepository;
+import com.inspection.util.EncryptionUtil;
+import com.inspection.util.IdBlockAllocator;
+
+/**
+ * 시설물 대량 등록 테스트 (H2 MySQL 모드)
+ * 수량별(1/100/10,000건) 처리 시간을 기록하고, 관리번호가 일련번호 행으로 겹치지 않게 예약되는지 확인합니다.
+ * 처리 시간은 내장 DB 기준이므로 운영 DB 수치가 아니라 수량에 따른 증가 추세 비교용입니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:facility_batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ FacilityService.class, FacilityJdbcRepository.class, IdBlockAllocator.class, ApplicationContextProvider.class })
+class FacilityServiceBatchTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FacilityServiceBatchTest.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FacilityService facilityService;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @MockBean
+    private FacilityTransactionService facilityTransactionService;
+
+    @MockBean
+    private FacilityImageService facilityImageService;
+
+    @MockBean
+    private EncryptionUtil encryptionUtil;
+
+    @MockBean
+    private ServiceRequestSearchIndexService serviceRequestSearchIndexService;
+
+    @MockBean
+    private UpcomingDeadlineService upcomingDeadlineService;
+
+    @BeforeEach
+    void setUp() {
+        CodeGroup group = new CodeGroup();
+        group.setGroupId("998");
+        group.setGroupName("테스트");
+        group.setLevel(1);
+        entityManager.persist(group);
+
+        code(group, "998_0001", "브랜드");
+        code(group, "002001_0001", "리프트");
+        code(group, "998_0002", "사용중");
+        entityManager.flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 100, 10_000 })
+    void createFacilityBatchThroughput(int quantity) {
+        FacilityBatchCreateRequest request = request(quantity, "TP" + quantity);
+
+        long startTime = System.nanoTime();
+        List<FacilityDTO> created = facilityService.createFacilityBatch(request);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+        log.info("시설물 배치 생성 {}건: {}ms, {}건/초", quantity, elapsedMillis,
+                String.format("%.1f", quantity * 1000.0 / elapsedMillis));
+        assertThat(created).hasSize(quantity);
+        assertThat(facilityRepository.findManagementNumbersByPrefix("TP" + quantity + "-")).hasSize(quantity);
+    }
+
+    @Test
+    void managementNumbersContinueAfterExistingAndDoNotOverlap() {
+        List<String> first = managementNumbers(facilityService.createFacilityBatch(request(3, "MN")));
+        List<String> second = managementNumbers(facilityService.createFacilityBatch(request(2, "MN")));
+
+        assertThat(first).containsExactly("MN-001", "MN-002", "MN-003");
+        assertThat(second).containsExactly("MN-004", "MN-005");
+    }
+
+    @Test
+    void autoManagementNumbersUseTypePrefix() {
+        List<String> numbers = managementNumbers(facilityService.createFacilityBatch(request(2, null)));
+
+        assertThat(numbers).hasSize(2).allMatch(number -> number.matches("RE-\\d{8}-\\d{3}"));
+        assertThat(numbers.get(0)).isNotEqualTo(numbers.get(1));
+    }
+
+    private FacilityBatchCreateRequest request(int quantity, String managementNumberPrefix) {
+        FacilityBatchCreateRequest request = new FacilityBatchCreateRequest();
+        request.setBrandCode("998_0001");
+        request.setFacilityTypeCode("002001_0001");
+        request.setStatusCode("998_0002");
+        request.setInstallationDate(LocalDateTime.now());
+        request.setAcquisitionCost(BigDecimal.valueOf(1_000_000));
+        request.setUsefulLifeMonths(60);
+        request.setQuantity(quantity);
+        request.setManagementNumberPrefix(managementNumberPrefix);
+        return request;
+    }
+
+    private static List<String> managementNumbers(List<FacilityDTO> facilities) {
+        return facilities.stream().map(FacilityDTO::getManagementNumber).collect(Collectors.toList());
+    }
+
+    private void code(CodeGroup group, String codeId, String codeName) {
+        Code code = new Code();
+        code.setCodeId(codeId);
+        code.setCodeName(codeName);
+        code.setCodeGroup(group);
+        code.setSortOrder(1);
+        entityManager.persist(code);
+    }
+}
@@ -0,0 +1,124 @@
+package com.inspection.nice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.nice.service.NiceCryptoTokenManager.CryptoTokenKey;
+import com.inspection.nice.util.NiceUtil;
+
+/**
+ * NICE 암호화 토큰 캐시 테스트 (NICE API 는 MockRestServiceServer 로 대체)
+ */
+class NiceCryptoTokenManagerTest {
+
+    private static final String TOKEN_URL = "https://nice.test/digital/niceid/api/v1.0/common/crypto/token";
+    private static final String TOKEN_RESPONSE = "{\"dataHeader\":{\"GW_RSLT_CD\":\"1200\"},"
+            + "\"dataBody\":{\"rsp_cd\":\"P000\",\"site_code\":\"SITE\",\"token_version_id\":\"%s\","
+            + "\"token_val\":\"TOKENVAL\",\"period\":3600}}";
+
+    private MockRestServiceServer server;
+    private ExecutorService executor;
+    private NiceCryptoTokenManager manager;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        executor = Executors.newSingleThreadExecutor();
+
+        NiceUtil niceUtil = mock(NiceUtil.class);
+        when(niceUtil.getApiUrl()).thenReturn("https://nice.test");
+        when(niceUtil.getClientId()).thenReturn("client");
+        when(niceUtil.getProductId()).thenReturn("product");
+        NiceAuthService niceAuthService = mock(NiceAuthService.class);
+        when(niceAuthService.getAccessTokenValue()).thenReturn("access-token");
+
+        manager = new NiceCryptoTokenManager(niceUtil, niceAuthService, restTemplate, new ObjectMapper(), executor);
+        ReflectionTestUtils.setField(manager, "defaultPeriodSeconds", 3600L);
+        ReflectionTestUtils.setField(manager, "refreshBeforeSeconds", 900L);
+        ReflectionTestUtils.setField(manager, "waitTimeoutSeconds", 5L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void tokenIsIssuedOnceAndReused() throws Exception {
+        expectToken("V1");
+
+        CryptoTokenKey first = manager.getToken();
+        CryptoTokenKey second = manager.getToken();
+
+        server.verify();
+        assertThat(second).isSameAs(first);
+        assertThat(first.tokenVersionId()).isEqualTo("V1");
+        assertThat(first.siteCode()).isEqualTo("SITE");
+
+        // 유도 키는 SHA-256(req_dtim + req_no + token_val) 의 Base64 값에서 잘라냄
+        String original = first.reqDtim() + first.reqNo() + "TOKENVAL";
+        String hash = Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(original.getBytes(Charset.forName("EUC-KR"))));
+        assertThat(first.key()).isEqualTo(hash.substring(0, 16));
+        assertThat(first.iv()).isEqualTo(hash.substring(hash.length() - 16));
+        assertThat(first.hmacKey()).isEqualTo(hash.substring(0, 32));
+    }
+
+    @Test
+    void invalidateDropsOnlyMatchingVersion() {
+        expectToken("V1");
+        expectToken("V2");
+
+        CryptoTokenKey first = manager.getToken();
+        manager.invalidate("OTHER");
+        assertThat(manager.getToken()).isSameAs(first);
+
+        manager.invalidate("V1");
+        CryptoTokenKey renewed = manager.getToken();
+
+        server.verify();
+        assertThat(renewed.tokenVersionId()).isEqualTo("V2");
+    }
+
+    @Test
+    void issueFailureIsReportedAndNotCached() {
+        server.expect(once(), requestTo(TOKEN_URL)).andRespond(withServerError());
+        expectToken("V1");
+
+        assertThatThrownBy(manager::getToken).hasMessageContaining("암호화 토큰 요청 오류");
+        assertThat(manager.getToken().tokenVersionId()).isEqualTo("V1");
+        server.verify();
+    }
+
+    private void expectToken(String tokenVersionId) {
+        server.expect(once(), requestTo(TOKEN_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("productID", "product"))
+                .andRespond(withSuccess(String.format(TOKEN_RESPONSE, tokenVersionId), MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,203 @@
+package com.inspection.nice.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.github.fppt.jedismock.operations.server.MockExecutor;
+import com.github.fppt.jedismock.server.Response;
+import com.github.fppt.jedismock.server.ServiceOptions;
+import com.inspection.nice.dto.NiceSessionDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NICE 세션 저장소 테스트 (프로세스 내 Redis 서버 jedis-mock 에 Lettuce 로 연결)
+ */
+class NiceSessionStoreTest {
+
+    private static final String KEY_PREFIX = "NICE_SESSION:";
+
+    private RedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void saveAndFindRoundTripBinaryFormatWithNullFields() throws IOException {
+        startServer(ServiceOptions.defaultOptions());
+        NiceSessionStore store = store(0);
+        NiceSessionDto session = session("S-1");
+        session.setIv(null);
+        session.setHmacKey(null);
+
+        store.save("S-1", session, 60);
+
+        byte[] stored = redisTemplate.opsForValue().get(KEY_PREFIX + "S-1");
+        assertThat(stored).isNotNull();
+        assertThat(stored[0]).isEqualTo((byte) 1); // 형식 버전
+        NiceSessionDto found = store.find("S-1");
+        assertThat(found).usingRecursiveComparison().isEqualTo(session);
+        assertThat(found.getIv()).isNull();
+        assertThat(found.getHmacKey()).isNull();
+        assertThat(store.find("S-1")).isNotNull(); // 조회는 삭제하지 않음
+    }
+
+    @Test
+    void consumeReturnsSessionExactlyOnceAcrossInstances() throws Exception {
+        startServer(ServiceOptions.defaultOptions());
+        NiceSessionStore first = store(0);
+        NiceSessionStore second = store(0);
+        first.save("S-2", session("S-2"), 60);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<NiceSessionDto>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                NiceSessionStore store = i % 2 == 0 ? first : second;
+                futures.add(executor.submit((Callable<NiceSessionDto>) () -> {
+                    start.await();
+                    return store.consume("S-2");
+                }));
+            }
+            start.countDown();
+            int consumed = 0;
+            for (Future<NiceSessionDto> future : futures) {
+                if (future.get(10, TimeUnit.SECONDS) != null) {
+                    consumed++;
+                }
+            }
+            assertThat(consumed).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "S-2")).isFalse();
+    }
+
+    @Test
+    void consumeFallsBackToMultiExecWhenGetDelIsUnknown() throws IOException {
+        AtomicInteger getDelCalls = new AtomicInteger();
+        // Redis 6.2 미만 서버 흉내: GETDEL 을 알 수 없는 명령으로 응답
+        startServer(ServiceOptions.withInterceptor((state, command, params) -> {
+            if ("getdel".equalsIgnoreCase(command)) {
+                getDelCalls.incrementAndGet();
+                return Response.error("ERR unknown command 'GETDEL'");
+            }
+            return MockExecutor.proceed(state, command, params);
+        }));
+        NiceSessionStore store = store(0);
+        store.save("S-3", session("S-3"), 60);
+        store.save("S-4", session("S-4"), 60);
+
+        assertThat(store.consume("S-3")).isNotNull();
+        assertThat(store.consume("S-3")).isNull();
+        assertThat(store.consume("S-4")).isNotNull();
+
+        // 최초 실패 이후에는 GETDEL 을 다시 보내지 않음
+        assertThat(getDelCalls).hasValue(1);
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "S-3")).isFalse();
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "S-4")).isFalse();
+    }
+
+    @Test
+    void nearCacheServesFindAndConsumeStillDeletesInRedis() throws IOException {
+        startServer(ServiceOptions.defaultOptions());
+        NiceSessionStore store = store(120);
+        NiceSessionDto session = session("S-5");
+        store.save("S-5", session, 60);
+
+        assertThat(store.find("S-5")).isSameAs(session);
+        assertThat(meterRegistry.counter("nice.session.near_cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.find("nice.session.redis").tag("op", "get").timer()).isNull();
+
+        // 로컬 캐시에 있어도 소비 여부는 Redis 삭제 결과로 판단
+        assertThat(store.consume("S-5")).isSameAs(session);
+        assertThat(redisTemplate.hasKey(KEY_PREFIX + "S-5")).isFalse();
+        assertThat(store.consume("S-5")).isNull();
+        assertThat(store.find("S-5")).isNull();
+    }
+
+    @Test
+    void cachedConsumeFailsWhenAnotherInstanceConsumedFirst() throws IOException {
+        startServer(ServiceOptions.defaultOptions());
+        NiceSessionStore preparing = store(120);
+        NiceSessionStore other = store(120);
+        preparing.save("S-6", session("S-6"), 60);
+
+        assertThat(other.consume("S-6")).isNotNull();
+        assertThat(preparing.consume("S-6")).isNull();
+    }
+
+    private void startServer(ServiceOptions options) throws IOException {
+        server = RedisServer.newRedisServer().setOptions(options).start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        // NiceRedisConfig.niceSessionRedisTemplate 과 같은 직렬화
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private NiceSessionStore store(long nearCacheSeconds) {
+        NiceSessionStore store = new NiceSessionStore(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(store, "nearCacheSeconds", nearCacheSeconds);
+        return store;
+    }
+
+    private static NiceSessionDto session(String sessionId) {
+        NiceSessionDto session = NiceSessionDto.builder()
+                .sessionId(sessionId)
+                .symmetricKey("0123456789abcdef")
+                .iv("fedcba9876543210")
+                .tokenVersionId("TV-1")
+                .tokenVal("TOKENVAL")
+                .siteCode("SITE")
+                .reqDtim("20260101120000")
+                .reqNo("REQ" + sessionId)
+                .originalString("원본 문자열")
+                .hashBase64("aGFzaA==")
+                .hmacKey("hmac")
+                .build();
+        // 직렬화는 createdAtStr 만 보관하고 createdAt 은 그 값으로 복원하므로 같은 값으로 맞춰 둠
+        session.setCreatedAt(LocalDateTime.parse(session.getCreatedAtStr()));
+        return session;
+    }
+}
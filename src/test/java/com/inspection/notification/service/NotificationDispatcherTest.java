@@ -0,0 +1,196 @@
+package com.inspection.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspection.enums.NotificationStatus;
+import com.inspection.enums.NotificationType;
+import com.inspection.notification.client.EonGatewayClient;
+import com.inspection.notification.client.EonGatewayClient.EonResult;
+import com.inspection.notification.entity.NotificationOutbox;
+import com.inspection.notification.repository.NotificationOutboxRepository;
+import com.inspection.repository.KakaoAlertRepository;
+import com.inspection.service.EmailService;
+import com.inspection.util.EncryptionUtil;
+
+/**
+ * 알림 발송기 테스트 (EON 게이트웨이는 스텁, 워커는 호출 스레드에서 실행)
+ */
+class NotificationDispatcherTest {
+
+    private NotificationOutboxRepository outboxRepository;
+    private EonGatewayClient eonGatewayClient;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(NotificationOutboxRepository.class);
+        eonGatewayClient = mock(EonGatewayClient.class);
+        EncryptionUtil encryptionUtil = mock(EncryptionUtil.class);
+        when(encryptionUtil.decrypt(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 알림톡 초당 1건, 나머지 채널은 여유 있게
+        dispatcher = new NotificationDispatcher(outboxRepository, mock(KakaoAlertRepository.class), eonGatewayClient,
+                mock(EmailService.class), encryptionUtil, new ObjectMapper(), Runnable::run,
+                3, 600, 100, 1, 100);
+    }
+
+    @Test
+    void claimedOutboxIsSentThroughGateway() throws Exception {
+        NotificationOutbox outbox = outbox(1L, NotificationType.KAKAO);
+        stubDue(outbox);
+        when(eonGatewayClient.send(any())).thenReturn(new EonResult(true, "200", "CP-1", "{}"));
+
+        dispatcher.dispatchDue();
+
+        ArgumentCaptor<Map<String, String>> params = paramsCaptor();
+        verify(eonGatewayClient).send(params.capture());
+        assertThat(params.getValue()).containsEntry("DESTPHONE", "01012345678");
+        assertThat(outbox.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(outbox.getProviderMessageId()).isEqualTo("CP-1");
+        assertThat(outbox.getAttemptCount()).isEqualTo(1);
+        assertThat(outbox.getClaimToken()).isNull();
+    }
+
+    @Test
+    void gatewayFailureSchedulesRetry() throws Exception {
+        NotificationOutbox outbox = outbox(1L, NotificationType.KAKAO);
+        stubDue(outbox);
+        when(eonGatewayClient.send(any())).thenReturn(new EonResult(false, "500", null, "{}"));
+
+        dispatcher.dispatchDue();
+
+        assertThat(outbox.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(outbox.getLastError()).contains("RESULTCODE=500");
+    }
+
+    @Test
+    void rateLimitedChannelIsNotClaimed() throws Exception {
+        NotificationOutbox first = outbox(1L, NotificationType.KAKAO);
+        NotificationOutbox second = outbox(2L, NotificationType.KAKAO);
+        stubDue(first, second);
+        when(eonGatewayClient.send(any())).thenReturn(new EonResult(true, "200", "CP-1", "{}"));
+
+        dispatcher.dispatchDue();
+
+        // 초당 1건 한도이므로 두 번째 건은 선점하지 않고 대기 상태로 남음
+        verify(outboxRepository, times(1)).claim(eq(1L), anyString(), any(), any());
+        verify(outboxRepository, never()).claim(eq(2L), anyString(), any(), any());
+        verify(eonGatewayClient, times(1)).send(any());
+        assertThat(second.getStatus()).isEqualTo(NotificationStatus.PENDING);
+    }
+
+    @Test
+    void reclaimedOutboxIsNotSentByPreviousWorker() throws Exception {
+        NotificationOutbox outbox = outbox(1L, NotificationType.KAKAO);
+        outbox.setStatus(NotificationStatus.SENDING);
+        outbox.setClaimToken("new-owner");
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        dispatcher.deliver(1L, "previous-owner");
+
+        verify(eonGatewayClient, never()).send(any());
+        assertThat(outbox.getAttemptCount()).isZero();
+    }
+
+    @Test
+    void resultIsNotWrittenAfterLeaseIsLost() throws Exception {
+        NotificationOutbox outbox = outbox(1L, NotificationType.KAKAO);
+        stubDue(outbox);
+        when(eonGatewayClient.send(any())).thenAnswer(invocation -> {
+            // 발송 중 선점이 만료되어 대기 상태로 되돌려짐
+            outbox.setStatus(NotificationStatus.PENDING);
+            outbox.setClaimToken(null);
+            return new EonResult(false, "500", null, "{}");
+        });
+
+        dispatcher.dispatchDue();
+
+        verify(outboxRepository).markFailure(eq(1L), anyString(), eq(NotificationStatus.PENDING), eq(1), any(), anyString(), any());
+        verify(outboxRepository, never()).save(any());
+        assertThat(outbox.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(outbox.getLastError()).isNull();
+    }
+
+    private NotificationOutbox outbox(Long id, NotificationType channel) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.setId(id);
+        outbox.setChannel(channel);
+        outbox.setRecipient("01012345678");
+        outbox.setSubject("테스트");
+        outbox.setPayload("{\"STYPE\":\"1\"}");
+        outbox.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        return outbox;
+    }
+
+    /**
+     * 폴링 결과와 조건부 선점(claim)/결과 기록을 저장소 대신 엔티티 상태로 흉내냄
+     */
+    private void stubDue(NotificationOutbox... outboxes) {
+        List<Object[]> due = new ArrayList<>();
+        for (NotificationOutbox outbox : outboxes) {
+            due.add(new Object[] { outbox.getId(), outbox.getChannel() });
+            when(outboxRepository.findById(outbox.getId())).thenReturn(Optional.of(outbox));
+            when(outboxRepository.claim(eq(outbox.getId()), anyString(), any(), any())).thenAnswer(invocation -> {
+                if (outbox.getStatus() != NotificationStatus.PENDING) {
+                    return 0;
+                }
+                outbox.setStatus(NotificationStatus.SENDING);
+                outbox.setClaimToken(invocation.getArgument(1));
+                outbox.setLeaseUntil(invocation.getArgument(2));
+                return 1;
+            });
+            when(outboxRepository.markSent(eq(outbox.getId()), anyString(), anyInt(), any(), any())).thenAnswer(invocation -> {
+                if (!holdsClaim(outbox, invocation.getArgument(1))) {
+                    return 0;
+                }
+                outbox.setStatus(NotificationStatus.SENT);
+                outbox.setProviderMessageId(invocation.getArgument(3));
+                outbox.setClaimToken(null);
+                return 1;
+            });
+            when(outboxRepository.markFailure(eq(outbox.getId()), anyString(), any(), anyInt(), any(), any(), any()))
+                    .thenAnswer(invocation -> {
+                        if (!holdsClaim(outbox, invocation.getArgument(1))) {
+                            return 0;
+                        }
+                        outbox.setStatus(invocation.getArgument(2));
+                        outbox.setNextAttemptAt(invocation.getArgument(4));
+                        outbox.setLastError(invocation.getArgument(5));
+                        outbox.setClaimToken(null);
+                        return 1;
+                    });
+        }
+        when(outboxRepository.findDue(any(), any())).thenReturn(due);
+        when(outboxRepository.releaseExpired(any())).thenReturn(0);
+    }
+
+    private static boolean holdsClaim(NotificationOutbox outbox, String claimToken) {
+        return outbox.getStatus() == NotificationStatus.SENDING && claimToken.equals(outbox.getClaimToken());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Map<String, String>> paramsCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+}
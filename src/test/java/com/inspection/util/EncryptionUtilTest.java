@@ -0,0 +1,76 @@
+package com.inspection.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 필드 암호화 형식 호환성 테스트
+ */
+class EncryptionUtilTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString("test-key-0123456789".getBytes());
+
+    @Test
+    void v1MatchesLegacyCiphertext() throws Exception {
+        EncryptionUtil encryptionUtil = encryptionUtil(EncryptionUtil.VERSION_V1);
+
+        // 기존 구현(호출마다 Cipher 생성)과 같은 암호문이어야 블라인드 조회/동등 비교가 유지됨
+        byte[] keyBytes = Arrays.copyOf(Base64.getDecoder().decode(KEY), 24);
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(keyBytes, "AES"));
+        String legacy = Base64.getEncoder().encodeToString(cipher.doFinal("010-1234-5678".getBytes()));
+
+        assertThat(encryptionUtil.encrypt("010-1234-5678")).isEqualTo(legacy);
+        assertThat(encryptionUtil.decrypt(legacy)).isEqualTo("010-1234-5678");
+    }
+
+    @Test
+    void v2RoundTripsAndV1RemainsReadable() {
+        EncryptionUtil v1 = encryptionUtil(EncryptionUtil.VERSION_V1);
+        EncryptionUtil v2 = encryptionUtil(EncryptionUtil.VERSION_V2);
+
+        String encrypted = v2.encrypt("서울시 강남구");
+        assertThat(encrypted).startsWith("v2:");
+        assertThat(v2.encrypt("서울시 강남구")).isNotEqualTo(encrypted);
+        assertThat(v2.decrypt(encrypted)).isEqualTo("서울시 강남구");
+        assertThat(v2.decrypt(v1.encrypt("서울시 강남구"))).isEqualTo("서울시 강남구");
+
+        assertThat(v2.needsReencryption(v1.encrypt("a"))).isTrue();
+        assertThat(v2.needsReencryption(encrypted)).isFalse();
+    }
+
+    @Test
+    void decryptAllKeepsOrderAndNulls() {
+        EncryptionUtil encryptionUtil = encryptionUtil(EncryptionUtil.VERSION_V1);
+        // 병렬 처리 기준(256건)을 넘는 입력
+        List<String> plain = IntStream.range(0, 300).mapToObj(i -> "value-" + i).collect(Collectors.toList());
+        List<String> encrypted = plain.stream().map(encryptionUtil::encrypt).collect(Collectors.toList());
+        encrypted.set(10, null);
+
+        List<String> decrypted = encryptionUtil.decryptAll(encrypted);
+
+        assertThat(decrypted).hasSize(300);
+        assertThat(decrypted.get(10)).isNull();
+        assertThat(decrypted.get(0)).isEqualTo("value-0");
+        assertThat(decrypted.get(299)).isEqualTo("value-299");
+    }
+
+    private static EncryptionUtil encryptionUtil(String writeVersion) {
+        EncryptionUtil encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "encryptionKey", KEY);
+        ReflectionTestUtils.setField(encryptionUtil, "writeVersion", writeVersion);
+        encryptionUtil.init();
+        return encryptionUtil;
+    }
+}
@@ -0,0 +1,90 @@
+package com.inspection.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * ID/일련번호 구간 예약 테스트 (H2 MySQL 모드)
+ */
+class IdBlockAllocatorTest {
+
+    private static final int THREADS = 8;
+    private static final int RESERVATIONS_PER_THREAD = 25;
+
+    private JdbcTemplate jdbcTemplate;
+    private IdBlockAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:id_blocks_" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE vouchers (voucher_id BIGINT PRIMARY KEY)");
+        allocator = new IdBlockAllocator(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void firstTableReservationStartsAfterExistingRows() {
+        jdbcTemplate.update("INSERT INTO vouchers (voucher_id) VALUES (41), (42)");
+
+        assertThat(allocator.reserveRange("vouchers", "voucher_id", 10)).isEqualTo(43);
+        assertThat(allocator.reserveRange("vouchers", "voucher_id", 1)).isEqualTo(53);
+    }
+
+    @Test
+    void firstSequenceReservationUsesInitialValue() {
+        assertThat(allocator.reserveSequence("voucher_no_SL20260101", 3, () -> 7L)).isEqualTo(7);
+        // 행이 생긴 뒤에는 초기값과 관계없이 이어서 예약
+        assertThat(allocator.reserveSequence("voucher_no_SL20260101", 1, () -> 1L)).isEqualTo(10);
+    }
+
+    @Test
+    void concurrentFirstReservationsDoNotOverlap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> reserved = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < RESERVATIONS_PER_THREAD; i++) {
+                        long first = allocator.reserveSequence("voucher_no_SL20260102", 2, () -> 1L);
+                        assertThat(reserved.add(first)).isTrue();
+                        assertThat(reserved.add(first + 1)).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(reserved).hasSize(THREADS * RESERVATIONS_PER_THREAD * 2);
+        assertThat(reserved).allMatch(value -> value >= 1 && value <= THREADS * RESERVATIONS_PER_THREAD * 2);
+    }
+}